@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.benchmarks;
+
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.NoopSampler;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+import java.util.StringJoiner;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * The base state of benchmarks that operate on a {@link SyntheticClusterModel}. The layout of the cluster is controlled
+ * by the JMH parameters, which can be overridden from the command line -- e.g. {@code -p numBrokers=5000 -p numReplicas=2000000}.
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractClusterModelBenchmark {
+  protected static final long SEED = 3140L;
+
+  @Param({"100", "1000", "5000"})
+  protected int numBrokers;
+
+  @Param({"100000", "500000", "2000000"})
+  protected int numReplicas;
+
+  @Param({"3"})
+  protected int numRacks;
+
+  @Param({"3"})
+  protected int replicationFactor;
+
+  @Param({"1"})
+  protected int numDisksPerBroker;
+
+  @Param({"UNIFORM", "EXPONENTIAL"})
+  protected ReplicaDistribution distribution;
+
+  /**
+   * @return A new synthetic cluster model with the layout specified by the benchmark parameters.
+   */
+  protected ClusterModel newClusterModel() {
+    return SyntheticClusterModel.generate(numRacks, numBrokers, numReplicas, replicationFactor, numDisksPerBroker,
+                                          distribution, SEED);
+  }
+
+  /**
+   * Get the Cruise Control config to use in benchmarks. The replica capacity of brokers is sized to fit the skewed
+   * layouts, and the broker sets (used by {@link com.linkedin.kafka.cruisecontrol.analyzer.goals.BrokerSetAwareGoal})
+   * map each rack to a broker set.
+   *
+   * @return Cruise Control config to use in benchmarks.
+   */
+  protected KafkaCruiseControlConfig newConfig() throws IOException {
+    Properties props = new Properties();
+    props.setProperty(MonitorConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
+    props.setProperty(ExecutorConfig.ZOOKEEPER_CONNECT_CONFIG, "localhost:2181");
+    props.setProperty(MonitorConfig.METRIC_SAMPLER_CLASS_CONFIG, NoopSampler.class.getName());
+    props.setProperty(AnalyzerConfig.MAX_REPLICAS_PER_BROKER_CONFIG, Long.toString(4L * numReplicas / numBrokers + 1));
+    props.setProperty(AnalyzerConfig.BROKER_SET_CONFIG_FILE_CONFIG, writeBrokerSetsFile().getAbsolutePath());
+    return new KafkaCruiseControlConfig(props);
+  }
+
+  private File writeBrokerSetsFile() throws IOException {
+    StringJoiner brokerSets = new StringJoiner(",", "{\"brokerSets\":[", "]}");
+    for (int rack = 0; rack < numRacks; rack++) {
+      StringJoiner brokerIds = new StringJoiner(",", "[", "]");
+      for (int brokerId = rack; brokerId < numBrokers; brokerId += numRacks) {
+        brokerIds.add(Integer.toString(brokerId));
+      }
+      brokerSets.add(String.format("{\"brokerSetId\":\"brokerSet%d\",\"brokerIds\":%s}", rack, brokerIds));
+    }
+    File brokerSetsFile = File.createTempFile("brokerSets", ".json");
+    brokerSetsFile.deleteOnExit();
+    Files.write(brokerSetsFile.toPath(), brokerSets.toString().getBytes(StandardCharsets.UTF_8));
+    return brokerSetsFile;
+  }
+}
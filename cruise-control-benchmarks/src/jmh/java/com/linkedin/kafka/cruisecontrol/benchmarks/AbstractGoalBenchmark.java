@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.benchmarks;
+
+import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizationOptions;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.Goal;
+import com.linkedin.kafka.cruisecontrol.exception.KafkaCruiseControlException;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures {@link Goal#optimize(ClusterModel, Set, OptimizationOptions)} of a single goal on its own -- i.e. with no
+ * previously optimized goals -- over a fresh cluster model in each iteration.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public abstract class AbstractGoalBenchmark extends AbstractClusterModelBenchmark {
+  private static final OptimizationOptions OPTIMIZATION_OPTIONS = new OptimizationOptions(Collections.emptySet(),
+                                                                                          Collections.emptySet(),
+                                                                                          Collections.emptySet());
+  private Goal _goal;
+  private ClusterModel _clusterModel;
+
+  /**
+   * @return Case insensitive name of the goal to benchmark.
+   */
+  protected abstract String goalName();
+
+  /**
+   * Create and configure the goal to benchmark.
+   */
+  @Setup(Level.Trial)
+  public void setUpTrial() throws IOException {
+    _goal = AnalyzerUtils.getCaseInsensitiveGoalsByName(newConfig()).get(goalName());
+    if (_goal == null) {
+      throw new IllegalArgumentException("Goal " + goalName() + " is not among the configured goals.");
+    }
+  }
+
+  /**
+   * Generate a fresh cluster model, as the optimization modifies the cluster model in place.
+   */
+  @Setup(Level.Iteration)
+  public void setUpIteration() {
+    _clusterModel = newClusterModel();
+  }
+
+  /**
+   * Release the cluster model of the last iteration, so that the next one is not measured with it in the heap.
+   */
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() {
+    _goal.finish();
+    _clusterModel = null;
+  }
+
+  /**
+   * @return {@code true} if the goal is met after the optimization, {@code false} otherwise.
+   */
+  @Benchmark
+  public boolean optimize() throws KafkaCruiseControlException {
+    return _goal.optimize(_clusterModel, Collections.emptySet(), OPTIMIZATION_OPTIONS);
+  }
+}
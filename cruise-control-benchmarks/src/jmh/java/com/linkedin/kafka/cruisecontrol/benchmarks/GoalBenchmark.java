@@ -0,0 +1,26 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+
+
+/**
+ * Measures the optimization of each built-in inter-broker goal on its own.
+ */
+public class GoalBenchmark extends AbstractGoalBenchmark {
+  @Param({"BrokerSetAwareGoal", "RackAwareGoal", "RackAwareDistributionGoal", "MinTopicLeadersPerBrokerGoal",
+          "ReplicaCapacityGoal", "DiskCapacityGoal", "NetworkInboundCapacityGoal", "NetworkOutboundCapacityGoal",
+          "CpuCapacityGoal", "ReplicaDistributionGoal", "PotentialNwOutGoal", "DiskUsageDistributionGoal",
+          "NetworkInboundUsageDistributionGoal", "NetworkOutboundUsageDistributionGoal", "CpuUsageDistributionGoal",
+          "TopicReplicaDistributionGoal", "LeaderReplicaDistributionGoal", "LeaderBytesInDistributionGoal",
+          "PreferredLeaderElectionGoal"})
+  protected String goal;
+
+  @Override
+  protected String goalName() {
+    return goal;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.benchmarks;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.GoalOptimizer;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizerResult;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.Goal;
+import com.linkedin.kafka.cruisecontrol.async.progress.OperationProgress;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
+import com.linkedin.kafka.cruisecontrol.exception.KafkaCruiseControlException;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.common.utils.SystemTime;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures {@link GoalOptimizer#optimizations(ClusterModel, List, OperationProgress)} end to end with the default goals.
+ * <p>
+ * A single optimization run takes from seconds to minutes on large clusters, hence each iteration optimizes a fresh
+ * cluster model exactly once. Use {@code -prof gc} to get the allocation rate and the GC cost of a run.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class GoalOptimizerBenchmark extends AbstractClusterModelBenchmark {
+  private AdminClient _adminClient;
+  private GoalOptimizer _goalOptimizer;
+  private List<Goal> _goalsByPriority;
+  private ClusterModel _clusterModel;
+
+  /**
+   * Create the goal optimizer and the default goals.
+   */
+  @Setup(Level.Trial)
+  public void setUpTrial() throws IOException {
+    KafkaCruiseControlConfig config = newConfig();
+    // The goal optimizer does not use the admin client to compute optimizations. It never connects to the given server.
+    _adminClient = AdminClient.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG,
+                                             config.getList(MonitorConfig.BOOTSTRAP_SERVERS_CONFIG)));
+    _goalOptimizer = new GoalOptimizer(config, null, new SystemTime(), new MetricRegistry(), null, _adminClient);
+    _goalsByPriority = AnalyzerUtils.getDefaultGoalsByPriority(config);
+  }
+
+  /**
+   * Generate a fresh cluster model, as the optimization modifies the cluster model in place.
+   */
+  @Setup(Level.Iteration)
+  public void setUpIteration() {
+    _clusterModel = newClusterModel();
+  }
+
+  /**
+   * Release the cluster model of the last iteration, so that the next one is not measured with it in the heap.
+   */
+  @TearDown(Level.Iteration)
+  public void tearDownIteration() {
+    _clusterModel = null;
+  }
+
+  /**
+   * Close the admin client.
+   */
+  @TearDown(Level.Trial)
+  public void tearDownTrial() {
+    _adminClient.close(Duration.ZERO);
+  }
+
+  /**
+   * @return Result of the optimization with the default goals.
+   */
+  @Benchmark
+  public OptimizerResult optimizations() throws KafkaCruiseControlException {
+    return _goalOptimizer.optimizations(_clusterModel, _goalsByPriority, new OperationProgress());
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.benchmarks;
+
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import org.openjdk.jmh.annotations.Param;
+
+
+/**
+ * Measures the optimization of each built-in intra-broker goal on its own. Intra-broker goals only apply to JBOD brokers,
+ * hence a layout with a single disk per broker is benchmarked with {@link #MIN_NUM_DISKS_PER_BROKER} disks per broker.
+ */
+public class IntraBrokerGoalBenchmark extends AbstractGoalBenchmark {
+  public static final int MIN_NUM_DISKS_PER_BROKER = 4;
+
+  @Param({"IntraBrokerDiskCapacityGoal", "IntraBrokerDiskUsageDistributionGoal"})
+  protected String goal;
+
+  @Override
+  protected String goalName() {
+    return goal;
+  }
+
+  @Override
+  protected ClusterModel newClusterModel() {
+    return SyntheticClusterModel.generate(numRacks, numBrokers, numReplicas, replicationFactor,
+                                          Math.max(numDisksPerBroker, MIN_NUM_DISKS_PER_BROKER), distribution, SEED);
+  }
+}
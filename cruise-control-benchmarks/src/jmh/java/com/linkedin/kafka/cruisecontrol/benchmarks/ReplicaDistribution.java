@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.benchmarks;
+
+/**
+ * The skew of the initial replica placement over brokers in a synthetic cluster.
+ * <ul>
+ *   <li>{@link #UNIFORM}: Each broker is equally likely to host a replica.</li>
+ *   <li>{@link #LINEAR}: The likelihood of a broker to host a replica grows linearly with its id -- i.e. the most loaded
+ *   broker hosts about twice the replicas of an average broker.</li>
+ *   <li>{@link #EXPONENTIAL}: The likelihood of a broker to host a replica grows exponentially with its id -- i.e. a small
+ *   set of brokers is significantly more loaded than the rest.</li>
+ * </ul>
+ */
+public enum ReplicaDistribution {
+  UNIFORM, LINEAR, EXPONENTIAL;
+
+  /**
+   * @param brokerIndex Index of the broker in the cluster.
+   * @param numBrokers Number of brokers in the cluster.
+   * @return The relative weight of the broker with the given index to host a replica.
+   */
+  double weight(int brokerIndex, int numBrokers) {
+    switch (this) {
+      case UNIFORM:
+        return 1.0;
+      case LINEAR:
+        return brokerIndex + 1.0;
+      case EXPONENTIAL:
+        return Math.exp((double) brokerIndex / numBrokers);
+      default:
+        throw new IllegalStateException("Unsupported replica distribution " + this);
+    }
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.benchmarks;
+
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.AggregatedMetricValues;
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.MetricValues;
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.config.BrokerCapacityInfo;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.apache.kafka.common.TopicPartition;
+
+
+/**
+ * A generator of synthetic cluster models for benchmarking the analyzer. The generated models are deterministic for a
+ * given set of arguments, so that consecutive runs (and releases) can be compared against each other.
+ * <p>
+ * Broker capacities are derived from the generated load so that the average broker utilization of each resource is
+ * {@link #AVERAGE_UTILIZATION}. This keeps every layout feasible for the hard goals, while skewed layouts still give
+ * the distribution goals plenty of work.
+ */
+public final class SyntheticClusterModel {
+  public static final double AVERAGE_UTILIZATION = 0.35;
+  public static final int NUM_PARTITIONS_PER_TOPIC = 32;
+  public static final String TOPIC_PREFIX = "topic-";
+  public static final String LOGDIR_PREFIX = "/mnt/i";
+  // Mean replica load for each resource -- CPU in percentage, network in KB/s, and disk in MB.
+  private static final Map<Resource, Double> MEAN_REPLICA_LOAD = Map.of(Resource.CPU, 0.05,
+                                                                        Resource.NW_IN, 100.0,
+                                                                        Resource.NW_OUT, 150.0,
+                                                                        Resource.DISK, 1000.0);
+  private static final List<Long> WINDOWS = Collections.singletonList(1L);
+  private static final int MAX_PLACEMENT_ATTEMPTS = 100;
+
+  private SyntheticClusterModel() {
+
+  }
+
+  /**
+   * Generate a synthetic cluster model with the given topology and replica layout.
+   *
+   * @param numRacks Number of racks in the cluster.
+   * @param numBrokers Number of brokers in the cluster, assigned to racks in a round-robin fashion.
+   * @param numReplicas Total number of replicas in the cluster. It is rounded down to a multiple of the replication factor.
+   * @param replicationFactor Replication factor of every partition.
+   * @param numDisksPerBroker Number of disks (i.e. logdirs) per broker. Replica placement over disks is populated for JBOD
+   *                          layouts, i.e. when there is more than one disk per broker.
+   * @param distribution The skew of the initial replica placement over brokers.
+   * @param seed The seed of the random number generator.
+   * @return A synthetic cluster model with the given topology and replica layout.
+   */
+  public static ClusterModel generate(int numRacks,
+                                      int numBrokers,
+                                      int numReplicas,
+                                      int replicationFactor,
+                                      int numDisksPerBroker,
+                                      ReplicaDistribution distribution,
+                                      long seed) {
+    if (numRacks <= 0 || numBrokers < numRacks || replicationFactor <= 0 || replicationFactor > numBrokers
+        || numReplicas < replicationFactor || numDisksPerBroker <= 0) {
+      throw new IllegalArgumentException(String.format("Invalid synthetic cluster layout [racks: %d, brokers: %d, replicas: %d, "
+                                                       + "replication factor: %d, disks per broker: %d].", numRacks, numBrokers,
+                                                       numReplicas, replicationFactor, numDisksPerBroker));
+    }
+    Random random = new Random(seed);
+    int numPartitions = numReplicas / replicationFactor;
+    boolean jbod = numDisksPerBroker > 1;
+
+    // Generate the replica load upfront to derive broker capacities from it.
+    double[][] loadByResource = new double[Resource.cachedValues().size()][numPartitions * replicationFactor];
+    double[] totalLoad = new double[Resource.cachedValues().size()];
+    for (int p = 0; p < numPartitions; p++) {
+      double popularity = exponential(1.0, random);
+      for (int r = 0; r < replicationFactor; r++) {
+        int replicaIndex = p * replicationFactor + r;
+        for (Resource resource : Resource.cachedValues()) {
+          // Only leaders serve the outbound traffic.
+          double load = resource == Resource.NW_OUT && r != 0 ? 0.0 : exponential(MEAN_REPLICA_LOAD.get(resource) * popularity, random);
+          loadByResource[resource.id()][replicaIndex] = load;
+          totalLoad[resource.id()] += load;
+        }
+      }
+    }
+
+    ClusterModel clusterModel = new ClusterModel(new ModelGeneration(0, 0L), 1.0);
+    for (int rack = 0; rack < numRacks; rack++) {
+      clusterModel.createRack(Integer.toString(rack));
+    }
+    for (int brokerId = 0; brokerId < numBrokers; brokerId++) {
+      clusterModel.createBroker(Integer.toString(brokerId % numRacks), "host-" + brokerId, brokerId,
+                                brokerCapacity(totalLoad, numBrokers, numDisksPerBroker), jbod);
+    }
+
+    // Cumulative broker weights to pick brokers for replicas with the requested skew.
+    double[] cumulativeWeights = new double[numBrokers];
+    double totalWeight = 0.0;
+    for (int i = 0; i < numBrokers; i++) {
+      totalWeight += distribution.weight(i, numBrokers);
+      cumulativeWeights[i] = totalWeight;
+    }
+
+    boolean rackAware = replicationFactor <= numRacks;
+    int[] replicaBrokerIds = new int[replicationFactor];
+    for (int p = 0; p < numPartitions; p++) {
+      TopicPartition tp = new TopicPartition(TOPIC_PREFIX + p / NUM_PARTITIONS_PER_TOPIC, p % NUM_PARTITIONS_PER_TOPIC);
+      for (int r = 0; r < replicationFactor; r++) {
+        int brokerId = pickBroker(cumulativeWeights, totalWeight, random);
+        int attempts = 0;
+        while (isConflicting(brokerId, replicaBrokerIds, r, rackAware && attempts < MAX_PLACEMENT_ATTEMPTS, numRacks)) {
+          brokerId = attempts < MAX_PLACEMENT_ATTEMPTS ? pickBroker(cumulativeWeights, totalWeight, random) : (brokerId + 1) % numBrokers;
+          attempts++;
+        }
+        replicaBrokerIds[r] = brokerId;
+        String logdir = jbod ? logdir(random.nextInt(numDisksPerBroker)) : null;
+        clusterModel.createReplica(Integer.toString(brokerId % numRacks), brokerId, tp, r, r == 0, false, logdir, false);
+      }
+      // Set the load once all replicas of the partition exist, so that the potential leadership load is accounted.
+      for (int r = 0; r < replicationFactor; r++) {
+        int replicaIndex = p * replicationFactor + r;
+        AggregatedMetricValues metricValues = new AggregatedMetricValues();
+        for (Resource resource : Resource.cachedValues()) {
+          setValueForResource(metricValues, resource, loadByResource[resource.id()][replicaIndex]);
+        }
+        clusterModel.setReplicaLoad(Integer.toString(replicaBrokerIds[r] % numRacks), replicaBrokerIds[r], tp, metricValues, WINDOWS);
+      }
+    }
+    return clusterModel;
+  }
+
+  /**
+   * @param diskIndex Index of the disk on a broker.
+   * @return The logdir of the disk with the given index -- the same on all brokers.
+   */
+  public static String logdir(int diskIndex) {
+    return String.format("%s%02d", LOGDIR_PREFIX, diskIndex);
+  }
+
+  private static BrokerCapacityInfo brokerCapacity(double[] totalLoad, int numBrokers, int numDisksPerBroker) {
+    Map<Resource, Double> capacity = new HashMap<>();
+    for (Resource resource : Resource.cachedValues()) {
+      capacity.put(resource, totalLoad[resource.id()] / numBrokers / AVERAGE_UTILIZATION);
+    }
+    if (numDisksPerBroker == 1) {
+      return new BrokerCapacityInfo(capacity);
+    }
+    Map<String, Double> diskCapacityByLogdir = new HashMap<>();
+    for (int i = 0; i < numDisksPerBroker; i++) {
+      diskCapacityByLogdir.put(logdir(i), capacity.get(Resource.DISK) / numDisksPerBroker);
+    }
+    return new BrokerCapacityInfo(capacity, diskCapacityByLogdir);
+  }
+
+  private static int pickBroker(double[] cumulativeWeights, double totalWeight, Random random) {
+    int index = Arrays.binarySearch(cumulativeWeights, random.nextDouble() * totalWeight);
+    return Math.min(index >= 0 ? index : -index - 1, cumulativeWeights.length - 1);
+  }
+
+  private static boolean isConflicting(int brokerId, int[] replicaBrokerIds, int numPlacedReplicas, boolean rackAware, int numRacks) {
+    for (int i = 0; i < numPlacedReplicas; i++) {
+      if (replicaBrokerIds[i] == brokerId || (rackAware && replicaBrokerIds[i] % numRacks == brokerId % numRacks)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static double exponential(double mean, Random random) {
+    return -mean * Math.log(1.0 - random.nextDouble());
+  }
+
+  /**
+   * Set the utilization of a resource in the given metric values. The first metric of the resource has the full
+   * utilization, all the rest of the metrics have 0.
+   */
+  private static void setValueForResource(AggregatedMetricValues aggregatedMetricValues, Resource resource, double value) {
+    boolean set = false;
+    for (short id : KafkaMetricDef.resourceToMetricIds(resource)) {
+      MetricValues metricValues = new MetricValues(WINDOWS.size());
+      if (!set) {
+        metricValues.set(0, value);
+        set = true;
+      }
+      aggregatedMetricValues.add(id, metricValues);
+    }
+  }
+}
@@ -11,11 +11,11 @@ import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapola
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import org.apache.commons.math3.stat.descriptive.rank.Percentile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,7 +37,8 @@ import static com.linkedin.cruisecontrol.common.utils.Utils.validateNotNull;
  */
 public abstract class PercentileMetricAnomalyFinder<E extends Entity> implements MetricAnomalyFinder<E> {
   private static final Logger LOG = LoggerFactory.getLogger(PercentileMetricAnomalyFinder.class);
-  private final Percentile _percentile;
+  // Percentiles of the history metric values by metric id by entity, which are updated incrementally as the windows roll.
+  private final Map<E, Map<Short, WindowedPercentile>> _historyPercentilesByEntity;
   protected double _anomalyUpperMargin;
   protected double _anomalyLowerMargin;
   protected Double _anomalyUpperPercentile;
@@ -46,7 +47,7 @@ public abstract class PercentileMetricAnomalyFinder<E extends Entity> implements
   protected int _numRecentAnomalies;
 
   public PercentileMetricAnomalyFinder() {
-    _percentile = new Percentile();
+    _historyPercentilesByEntity = new HashMap<>();
     _numRecentAnomalies = 0;
   }
 
@@ -70,15 +71,17 @@ public abstract class PercentileMetricAnomalyFinder<E extends Entity> implements
       // No history metric values exist for the given metricId.
       return null;
     }
-    _percentile.setData(historyMetricValues.doubleArray());
+    WindowedPercentile historyPercentile = _historyPercentilesByEntity.computeIfAbsent(entity, e -> new HashMap<>())
+                                                                     .computeIfAbsent(metricId, id -> new WindowedPercentile());
+    historyPercentile.update(history.windows(), history.windowGenerations(), historyMetricValues.length(), historyMetricValues::get);
 
-    double upperPercentileMetricValue = _percentile.evaluate(_anomalyUpperPercentile);
+    double upperPercentileMetricValue = historyPercentile.percentile(_anomalyUpperPercentile);
     if (upperPercentileMetricValue <= SIGNIFICANT_METRIC_VALUE_THRESHOLD) {
       return null;
     }
 
     double upperThreshold = upperPercentileMetricValue * (1 + _anomalyUpperMargin);
-    double lowerThreshold = _percentile.evaluate(_anomalyLowerPercentile) * _anomalyLowerMargin;
+    double lowerThreshold = historyPercentile.percentile(_anomalyLowerPercentile) * _anomalyLowerMargin;
     double currentMetricValue = current.metricValues().valuesFor(metricId).latest();
 
     long currentWindow = current.window(0);
@@ -142,6 +145,8 @@ public abstract class PercentileMetricAnomalyFinder<E extends Entity> implements
 
     validateNotNull(metricsHistoryByEntity, "Metrics history cannot be null.");
     validateNotNull(currentMetricsByEntity, "Current metrics cannot be null.");
+    // Drop the history percentiles of entities without history metric values.
+    _historyPercentilesByEntity.keySet().retainAll(metricsHistoryByEntity.keySet());
 
     if (metricsHistoryByEntity.isEmpty() || !isDataSufficient(metricsHistoryByEntity.values().iterator().next().metricValues().length(),
                                                               _anomalyUpperPercentile, _anomalyLowerPercentile)) {
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.cruisecontrol.detector.metricanomaly;
+
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapolations;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+
+/**
+ * Percentiles of the values of a metric over a sliding range of time windows. The values are kept sorted, and updated
+ * incrementally as the windows roll -- i.e. only the values of the windows newer than the newest known window are added,
+ * only the values of the windows that rolled out are removed, and only the values of the known windows whose generation
+ * changed are read again. Hence, the cost of an update depends on the number of windows that rolled or changed rather than
+ * on sorting all the values, a percentile query takes constant time regardless of the number of windows, and neither
+ * allocates once the arrays have grown to the number of windows.
+ * <p>
+ *   Percentiles are estimated in the same way as the default {@link org.apache.commons.math3.stat.descriptive.rank.Percentile}
+ *   -- i.e. using the legacy estimation, and ignoring {@link Double#NaN} values.
+ * </p>
+ * <p>
+ *   This class is not thread-safe.
+ * </p>
+ */
+public class WindowedPercentile {
+  private static final int INITIAL_CAPACITY = 16;
+  // Known windows, their generations and values from the oldest to the newest, in circular buffers starting at _firstIndex.
+  // The NaN values are kept to keep track of the windows that have been added.
+  private long[] _windows;
+  private long[] _generations;
+  private double[] _values;
+  private int _firstIndex;
+  private int _numWindows;
+  // Whether the known windows are in order and evenly spaced -- i.e. they can be updated incrementally.
+  private boolean _hasOrderedWindows;
+  // Sorted non-NaN values of the windows in _sortedValues[0, _numValues).
+  private double[] _sortedValues;
+  private int _numValues;
+
+  public WindowedPercentile() {
+    _windows = new long[INITIAL_CAPACITY];
+    _generations = new long[INITIAL_CAPACITY];
+    _values = new double[INITIAL_CAPACITY];
+    _sortedValues = new double[INITIAL_CAPACITY];
+    clear();
+  }
+
+  /**
+   * Update the values to the given values of windows. Values of windows that are older than the given windows are evicted.
+   *
+   * @param windows Evenly spaced windows of the given values from the newest to the oldest, or {@code null} if the windows are
+   *                unknown. If the windows are unknown, or they are not consistent with the known windows -- e.g. a window is
+   *                missing within the range of the given windows, all values are replaced.
+   * @param windowGenerations Generations of the given windows in the same order (see
+   *                          {@link ValuesAndExtrapolations#windowGenerations()}), or {@code null} if the generations are
+   *                          unknown. The value of a known window is read again if its generation changed or is
+   *                          {@link ValuesAndExtrapolations#UNSTABLE_WINDOW_GENERATION}. If the generations are unknown,
+   *                          all values are replaced.
+   * @param numValues Number of the given values.
+   * @param valueForIndex Function to get the value at the given index, which belongs to the window at the same index of the
+   *                      given windows. A {@link Double#NaN} value is ignored in percentile estimation.
+   */
+  public void update(List<Long> windows, List<Long> windowGenerations, int numValues, IntToDoubleFunction valueForIndex) {
+    if (windows == null || windows.size() != numValues || windowGenerations == null || windowGenerations.size() != numValues
+        || numValues == 0 || !_hasOrderedWindows) {
+      replace(windows, windowGenerations, numValues, valueForIndex);
+      return;
+    }
+    // Evict the windows that rolled out of the range of the given windows.
+    long oldestWindow = windows.get(numValues - 1);
+    while (_numWindows > 0 && window(0) < oldestWindow) {
+      removeSorted(_values[_firstIndex]);
+      _firstIndex = (_firstIndex + 1) % _windows.length;
+      _numWindows--;
+    }
+    // Add the windows that are newer than the newest known window, from the oldest to the newest.
+    long newestKnownWindow = _numWindows == 0 ? Long.MIN_VALUE : window(_numWindows - 1);
+    int numNewWindows = 0;
+    while (numNewWindows < numValues && windows.get(numNewWindows) > newestKnownWindow) {
+      numNewWindows++;
+    }
+    for (int i = numNewWindows - 1; i >= 0; i--) {
+      long window = windows.get(i);
+      if (!isNextWindow(window)) {
+        replace(windows, windowGenerations, numValues, valueForIndex);
+        return;
+      }
+      add(window, windowGenerations.get(i), valueForIndex.applyAsDouble(i));
+    }
+    // As the known windows are evenly spaced, the given windows are the same as the known windows if they have the same range
+    // and number of windows.
+    if (_numWindows != numValues || window(0) != oldestWindow || window(_numWindows - 1) != windows.get(0)) {
+      // Some windows are missing within the range of the given windows.
+      replace(windows, windowGenerations, numValues, valueForIndex);
+      return;
+    }
+    // Read the values of the known windows whose generation changed again -- e.g. a late sample has been added to the window.
+    for (int i = numNewWindows; i < numValues; i++) {
+      long generation = windowGenerations.get(i);
+      int index = (_firstIndex + _numWindows - 1 - i) % _windows.length;
+      if (generation != _generations[index] || generation == ValuesAndExtrapolations.UNSTABLE_WINDOW_GENERATION) {
+        _generations[index] = generation;
+        double value = valueForIndex.applyAsDouble(i);
+        if (Double.compare(value, _values[index]) != 0) {
+          removeSorted(_values[index]);
+          _values[index] = value;
+          insertSorted(value);
+        }
+      }
+    }
+  }
+
+  /**
+   * @return Number of non-NaN values.
+   */
+  public int numValues() {
+    return _numValues;
+  }
+
+  /**
+   * Get an estimate for the given percentile of the values.
+   *
+   * @param percentile The requested percentile, which must be in (0, 100].
+   * @return An estimate for the given percentile of the values, or {@link Double#NaN} if there is no value.
+   */
+  public double percentile(double percentile) {
+    if (percentile <= 0 || percentile > 100) {
+      throw new IllegalArgumentException(String.format("Percentile %f is out of range (0, 100].", percentile));
+    }
+    if (_numValues == 0) {
+      return Double.NaN;
+    }
+    if (_numValues == 1) {
+      return _sortedValues[0];
+    }
+    double quantile = percentile / 100;
+    double pos = Double.compare(quantile, 1.0) == 0 ? _numValues : quantile * (_numValues + 1);
+    if (pos < 1) {
+      return _sortedValues[0];
+    }
+    if (pos >= _numValues) {
+      return _sortedValues[_numValues - 1];
+    }
+    double fpos = Math.floor(pos);
+    int intPos = (int) fpos;
+    double lower = _sortedValues[intPos - 1];
+    double upper = _sortedValues[intPos];
+    return lower + (pos - fpos) * (upper - lower);
+  }
+
+  /**
+   * Remove all values.
+   */
+  public void clear() {
+    _firstIndex = 0;
+    _numWindows = 0;
+    _hasOrderedWindows = false;
+    _numValues = 0;
+  }
+
+  private void replace(List<Long> windows, List<Long> windowGenerations, int numValues, IntToDoubleFunction valueForIndex) {
+    clear();
+    _hasOrderedWindows = windows != null && windowGenerations != null;
+    for (int i = numValues - 1; i >= 0; i--) {
+      long window = windows == null ? numValues - 1 - i : windows.get(i);
+      if (!isNextWindow(window)) {
+        _hasOrderedWindows = false;
+      }
+      long generation = windowGenerations == null ? ValuesAndExtrapolations.UNSTABLE_WINDOW_GENERATION : windowGenerations.get(i);
+      add(window, generation, valueForIndex.applyAsDouble(i));
+    }
+  }
+
+  /**
+   * @param window Window to check.
+   * @return {@code true} if the given window can follow the newest known window, keeping the known windows in order and evenly
+   * spaced, {@code false} otherwise.
+   */
+  private boolean isNextWindow(long window) {
+    if (_numWindows == 0) {
+      return true;
+    }
+    long newestKnownWindow = window(_numWindows - 1);
+    return window > newestKnownWindow && (_numWindows == 1 || window - newestKnownWindow == window(1) - window(0));
+  }
+
+  private long window(int index) {
+    return _windows[(_firstIndex + index) % _windows.length];
+  }
+
+  private void add(long window, long generation, double value) {
+    if (_numWindows == _windows.length) {
+      long[] windows = new long[_windows.length * 2];
+      long[] generations = new long[_generations.length * 2];
+      double[] values = new double[_values.length * 2];
+      for (int i = 0; i < _numWindows; i++) {
+        int index = (_firstIndex + i) % _windows.length;
+        windows[i] = _windows[index];
+        generations[i] = _generations[index];
+        values[i] = _values[index];
+      }
+      _windows = windows;
+      _generations = generations;
+      _values = values;
+      _firstIndex = 0;
+    }
+    int index = (_firstIndex + _numWindows) % _windows.length;
+    _windows[index] = window;
+    _generations[index] = generation;
+    _values[index] = value;
+    _numWindows++;
+    insertSorted(value);
+  }
+
+  private void insertSorted(double value) {
+    if (Double.isNaN(value)) {
+      return;
+    }
+    if (_numValues == _sortedValues.length) {
+      _sortedValues = Arrays.copyOf(_sortedValues, _sortedValues.length * 2);
+    }
+    int index = Arrays.binarySearch(_sortedValues, 0, _numValues, value);
+    if (index < 0) {
+      index = -index - 1;
+    }
+    System.arraycopy(_sortedValues, index, _sortedValues, index + 1, _numValues - index);
+    _sortedValues[index] = value;
+    _numValues++;
+  }
+
+  private void removeSorted(double value) {
+    if (Double.isNaN(value)) {
+      return;
+    }
+    int index = Arrays.binarySearch(_sortedValues, 0, _numValues, value);
+    if (index < 0) {
+      throw new IllegalStateException(String.format("Value %f to remove is missing.", value));
+    }
+    System.arraycopy(_sortedValues, index + 1, _sortedValues, index, _numValues - index - 1);
+    _numValues--;
+  }
+}
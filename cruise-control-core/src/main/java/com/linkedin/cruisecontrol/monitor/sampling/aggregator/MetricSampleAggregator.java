@@ -21,7 +21,7 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,7 +74,9 @@ import org.slf4j.LoggerFactory;
  *   ratio) and entity group coverage (valid entity group ratio) meet the requirements.
  * </p>
  *
- * <p>This class is thread safe.</p>
+ * <p>This class is thread safe. Rolling out new windows is the only operation that requires exclusive access to the
+ * windows. Adding samples, aggregating and checking the completeness share the windows with each other, hence the
+ * sampling threads do not wait for ongoing aggregations unless they have to roll out a new window.</p>
  *
  * @param <G> The aggregation entity group class. Note that the entity group will be used as a key to HashMaps,
  *           so it must have a valid {@link Object#hashCode()} and {@link Object#equals(Object)} implementation.
@@ -86,7 +88,8 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
 
   private final ConcurrentMap<E, RawMetricValues> _rawMetrics;
   private final MetricSampleAggregatorState<G, E> _aggregatorState;
-  private final ReentrantLock _windowRollingLock;
+  // The write lock is held while rolling out new windows, the read lock while the window range must remain stable.
+  private final ReentrantReadWriteLock _windowRollingLock;
   private final ConcurrentMap<E, E> _identityEntityMap;
 
   protected final int _numWindows;
@@ -124,7 +127,7 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
     // We keep one more window for the active window.
     _numWindowsToKeep = _numWindows + 1;
     _minSamplesPerWindow = minSamplesPerWindow;
-    _windowRollingLock = new ReentrantLock();
+    _windowRollingLock = new ReentrantReadWriteLock();
     _metricDef = metricDef;
     _aggregatorState = new MetricSampleAggregatorState<>(numWindows, _windowMs, completenessCacheSize);
     _oldestWindowIndex = 0L;
@@ -153,13 +156,13 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
         _rawMetrics.computeIfAbsent(identity(sample.entity()), k -> {
           // Need to grab the lock to make sure the raw value for this partition is updated correctly when
           // the raw values was created in an existing window while a new window is being rolled out.
-          _windowRollingLock.lock();
+          _windowRollingLock.readLock().lock();
           try {
             RawMetricValues rawValues = new RawMetricValues(_numWindowsToKeep, _minSamplesPerWindow, _metricDef.size());
             rawValues.updateOldestWindowIndex(_oldestWindowIndex);
             return rawValues;
           } finally {
-            _windowRollingLock.unlock();
+            _windowRollingLock.readLock().unlock();
           }
         });
     LOG.trace("Adding sample {} to window index {}", sample, windowIndex);
@@ -193,7 +196,7 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
   public MetricSampleAggregationResult<G, E> aggregate(long from, long to, AggregationOptions<G, E> options)
       throws NotEnoughValidWindowsException {
     // prevent window rolling.
-    _windowRollingLock.lock();
+    _windowRollingLock.readLock().lock();
     try {
       // Ensure the range is valid.
       long fromWindowIndex = Math.max(windowIndex(from), _oldestWindowIndex);
@@ -212,8 +215,10 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
       // We use the original time from and to here because they are only for logging purpose.
       validateCompleteness(from, to, completeness, interpretedOptions);
 
-      // Perform the aggregation.
+      // Perform the aggregation. The window generations are read before the raw values, so that a sample added concurrently
+      // is either included in the values, or changes the generation of its window in the next aggregation.
       List<Long> windows = toWindows(completeness.validWindowIndices());
+      List<Long> windowGenerations = toWindowGenerations(completeness.validWindowIndices());
       MetricSampleAggregationResult<G, E> result = new MetricSampleAggregationResult<>(generation(), completeness);
       Set<E> entitiesToInclude =
           interpretedOptions.includeInvalidEntities() ? interpretedOptions.interestedEntities() : completeness.validEntities();
@@ -225,12 +230,14 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
           ValuesAndExtrapolations
               valuesAndExtrapolations = ValuesAndExtrapolations.empty(completeness.validWindowIndices().size(), _metricDef);
           valuesAndExtrapolations.setWindows(windows);
+          valuesAndExtrapolations.setWindowGenerations(windowGenerations);
           result.addResult(entity, valuesAndExtrapolations);
           result.recordInvalidEntity(entity);
         } else {
           ValuesAndExtrapolations
               valuesAndExtrapolations = rawValues.aggregate(completeness.validWindowIndices(), _metricDef);
           valuesAndExtrapolations.setWindows(windows);
+          valuesAndExtrapolations.setWindowGenerations(windowGenerations);
           result.addResult(entity, valuesAndExtrapolations);
           if (!rawValues.isValid(options.maxAllowedExtrapolationsPerEntity())) {
             result.recordInvalidEntity(entity);
@@ -239,7 +246,7 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
       }
       return result;
     } finally {
-      _windowRollingLock.unlock();
+      _windowRollingLock.readLock().unlock();
     }
   }
 
@@ -250,18 +257,19 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
    */
   public Map<E, ValuesAndExtrapolations> peekCurrentWindow() {
     // prevent window rolling.
-    _windowRollingLock.lock();
+    _windowRollingLock.readLock().lock();
     try {
       Map<E, ValuesAndExtrapolations> result = new HashMap<>();
       _rawMetrics.forEach((entity, rawMetric) -> {
         ValuesAndExtrapolations vae = rawMetric.peekCurrentWindow(_currentWindowIndex, _metricDef);
         SortedSet<Long> currentWindows = new TreeSet<>(Collections.singleton(_currentWindowIndex));
         vae.setWindows(toWindows(currentWindows));
+        vae.setWindowGenerations(Collections.singletonList(ValuesAndExtrapolations.UNSTABLE_WINDOW_GENERATION));
         result.put(entity, vae);
       });
       return result;
     } finally {
-      _windowRollingLock.unlock();
+      _windowRollingLock.readLock().unlock();
     }
   }
 
@@ -275,7 +283,7 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
    * @return The {@link MetricSampleCompleteness} of the MetricSampleAggregator.
    */
   public MetricSampleCompleteness<G, E> completeness(long from, long to, AggregationOptions<G, E> options) {
-    _windowRollingLock.lock();
+    _windowRollingLock.readLock().lock();
     try {
       long fromWindowIndex = Math.max(windowIndex(from), _oldestWindowIndex);
       long toWindowIndex = Math.min(windowIndex(to), _currentWindowIndex - 1);
@@ -288,7 +296,7 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
                                            interpretAggregationOptions(options),
                                            generation());
     } finally {
-      _windowRollingLock.unlock();
+      _windowRollingLock.readLock().unlock();
     }
   }
 
@@ -362,6 +370,29 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
     return _rawMetrics.values().stream().mapToInt(RawMetricValues::numSamples).sum();
   }
 
+  /**
+   * Visit the raw values of each entity in each window that has samples of the entity, from the oldest window to the
+   * current active window. See {@link RawMetricValues#rawValuesAtWindowIndex(long, float[])} for the raw values.
+   *
+   * <p>The raw values are read directly from the MetricSampleAggregator, which keeps accepting samples and rolling out
+   * windows meanwhile. Hence, the values of each entity in each window are consistent, but the visited windows of different
+   * entities may reflect different points in time.</p>
+   *
+   * @param visitor the visitor of the raw values. The array of values passed to the visitor is reused across the visits.
+   */
+  public void forEachRawValues(RawValuesVisitor<E> visitor) {
+    float[] values = new float[_metricDef.size()];
+    long currentWindowIndex = _currentWindowIndex;
+    for (long windowIndex = _oldestWindowIndex; windowIndex <= currentWindowIndex; windowIndex++) {
+      for (Map.Entry<E, RawMetricValues> entry : _rawMetrics.entrySet()) {
+        byte numSamples = entry.getValue().rawValuesAtWindowIndex(windowIndex, values);
+        if (numSamples > 0) {
+          visitor.visit(windowIndex, entry.getKey(), numSamples, values);
+        }
+      }
+    }
+  }
+
   /**
    * Keep the given set of entities in the MetricSampleAggregator and remove the rest of the entities.
    *
@@ -414,13 +445,13 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
    * Clear the MetricSampleAggregator.
    */
   public void clear() {
-    _windowRollingLock.lock();
+    _windowRollingLock.writeLock().lock();
     try {
       _rawMetrics.clear();
       _aggregatorState.clear();
       _generation.incrementAndGet();
     } finally {
-      _windowRollingLock.unlock();
+      _windowRollingLock.writeLock().unlock();
     }
   }
 
@@ -435,7 +466,7 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
 
   // both from and to window indices are inclusive.
   private List<Long> getWindowList(long fromWindowIndex, long toWindowIndex) {
-    _windowRollingLock.lock();
+    _windowRollingLock.readLock().lock();
     try {
       if (_rawMetrics.isEmpty()) {
         return Collections.emptyList();
@@ -446,7 +477,7 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
       }
       return windows;
     } finally {
-      _windowRollingLock.unlock();
+      _windowRollingLock.readLock().unlock();
     }
   }
 
@@ -475,7 +506,7 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
 
   private boolean maybeRollOutNewWindow(long windowIndex) {
     if (_currentWindowIndex < windowIndex) {
-      _windowRollingLock.lock();
+      _windowRollingLock.writeLock().lock();
       try {
         if (_currentWindowIndex < windowIndex) {
           // find out how many windows we need to reset in the raw metrics.
@@ -501,7 +532,7 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
           return true;
         }
       } finally {
-        _windowRollingLock.unlock();
+        _windowRollingLock.writeLock().unlock();
       }
     }
     return false;
@@ -563,6 +594,29 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
     return windows;
   }
 
+  /**
+   * Get the generations of the given windows, which change whenever the aggregated values of the windows may change. The value
+   * of a window depends on the samples of the window and -- for {@link Extrapolation#AVG_ADJACENT} -- its adjacent windows.
+   * The extrapolation of the oldest and the last stable windows also changes as the windows roll; hence, their generation
+   * is {@link ValuesAndExtrapolations#UNSTABLE_WINDOW_GENERATION}.
+   *
+   * @param windowIndices The sorted set of stable window indices.
+   * @return The generations of the given windows in the same order.
+   */
+  private List<Long> toWindowGenerations(SortedSet<Long> windowIndices) {
+    List<Long> windowGenerations = new ArrayList<>(windowIndices.size());
+    for (long windowIndex : windowIndices) {
+      if (windowIndex == _oldestWindowIndex || windowIndex == _currentWindowIndex - 1) {
+        windowGenerations.add(ValuesAndExtrapolations.UNSTABLE_WINDOW_GENERATION);
+      } else {
+        windowGenerations.add(Math.max(_aggregatorState.windowGeneration(windowIndex),
+                                       Math.max(_aggregatorState.windowGeneration(windowIndex - 1),
+                                                _aggregatorState.windowGeneration(windowIndex + 1))));
+      }
+    }
+    return windowGenerations;
+  }
+
   /**
    * @param timeMs Time in milliseconds.
    * @return The absolute window index of the given timestamp.
@@ -620,4 +674,20 @@ public class MetricSampleAggregator<G, E extends Entity<G>> extends LongGenerati
     BROKER,
     PARTITION
   }
+
+  /**
+   * A visitor of the raw values of an entity in a window. See {@link #forEachRawValues(RawValuesVisitor)}.
+   *
+   * @param <E> The entity class.
+   */
+  @FunctionalInterface
+  public interface RawValuesVisitor<E> {
+    /**
+     * @param windowIndex the window index of the raw values.
+     * @param entity the entity of the raw values.
+     * @param numSamples the number of samples of the entity in the window.
+     * @param values the raw value of each metric, indexed by metric id. The array is only valid during the visit.
+     */
+    void visit(long windowIndex, E entity, byte numSamples, float[] values);
+  }
 }
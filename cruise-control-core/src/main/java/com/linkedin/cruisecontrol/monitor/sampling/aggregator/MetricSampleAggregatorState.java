@@ -82,14 +82,18 @@ class MetricSampleAggregatorState<G, E extends Entity<G>> extends WindowIndexedA
   }
 
   /**
-   * Update the state of a window.
+   * Update the state of a window. The window states may be computed concurrently by multiple readers, hence a window
+   * state is not replaced by a state of an older generation.
    *
    * @param windowIndex the index of the window to update.
    * @param windowState the new state of the window.
    */
   synchronized void updateWindowState(long windowIndex, WindowState<G, E> windowState) {
     if (windowIndex >= _oldestWindowIndex) {
-      _windowStates.put(windowIndex, windowState);
+      WindowState<G, E> existingWindowState = _windowStates.get(windowIndex);
+      if (windowState.compareGeneration(existingWindowState) >= 0) {
+        _windowStates.put(windowIndex, windowState);
+      }
     }
   }
 
@@ -185,6 +189,14 @@ class MetricSampleAggregatorState<G, E extends Entity<G>> extends WindowIndexedA
     return _windowStates;
   }
 
+  /**
+   * @param windowIndex the index of the window.
+   * @return The generation of the given window.
+   */
+  long windowGeneration(long windowIndex) {
+    return _windowGenerations[arrayIndex(windowIndex)].get();
+  }
+
   /**
    * @return The generation of all the windows.
    */
@@ -31,8 +31,11 @@ public class RawMetricValues extends WindowIndexedArrays {
   // The minimum required samples for a window to not involve any extrapolation.
   private final byte _minSamplesPerWindow;
   private final byte _halfMinRequiredSamples;
-  // The metric id to value array mapping. The array is a cyclic buffer. Each array slot represents a window.
-  private final Map<Short, float[]> _windowValuesByMetricId;
+  // The values of all metrics, laid out metric by metric: the values of a metric are stored contiguously in a cyclic buffer
+  // starting at metricId * length(). Each slot of a cyclic buffer represents a window.
+  private final float[] _windowValues;
+  // A bit set to indicate whether a given metric id has any value or not.
+  private final BitSet _metricIdsWithValues;
   // The number of samples per window. The array is a cyclic buffer. Each array slot represents a window.
   private final byte[] _counts;
   // A bit set to indicate whether a given window has extrapolation or not.
@@ -45,14 +48,15 @@ public class RawMetricValues extends WindowIndexedArrays {
    *
    * @param numWindowsToKeep the total number of windows to keep track of.
    * @param minSamplesPerWindow the minimum required samples for a window to not involve any {@link Extrapolation}.
-   * @param numMetricTypesInSample the total number of raw metric types stored by {@link #_windowValuesByMetricId}
+   * @param numMetricTypesInSample the total number of raw metric types stored by {@link #_windowValues}
    */
   public RawMetricValues(int numWindowsToKeep, byte minSamplesPerWindow, int numMetricTypesInSample) {
     if (numWindowsToKeep <= 1) {
       throw new IllegalArgumentException("The number of windows should be at least 2 because at least one available"
                                          + " window and one current window are needed.");
     }
-    _windowValuesByMetricId = new HashMap<>();
+    _windowValues = new float[numMetricTypesInSample * numWindowsToKeep];
+    _metricIdsWithValues = new BitSet(numMetricTypesInSample);
     _counts = new byte[numWindowsToKeep];
     _extrapolations = new BitSet(numWindowsToKeep);
     _validity = new BitSet(numWindowsToKeep);
@@ -61,6 +65,22 @@ public class RawMetricValues extends WindowIndexedArrays {
     _oldestWindowIndex = Long.MAX_VALUE;
   }
 
+  /**
+   * Construct a point-in-time copy of the given RawMetricValues. The caller must hold the monitor of the given instance.
+   *
+   * @param other the RawMetricValues to copy.
+   */
+  private RawMetricValues(RawMetricValues other) {
+    _windowValues = other._windowValues.clone();
+    _metricIdsWithValues = (BitSet) other._metricIdsWithValues.clone();
+    _counts = other._counts.clone();
+    _extrapolations = (BitSet) other._extrapolations.clone();
+    _validity = (BitSet) other._validity.clone();
+    _minSamplesPerWindow = other._minSamplesPerWindow;
+    _halfMinRequiredSamples = other._halfMinRequiredSamples;
+    _oldestWindowIndex = other._oldestWindowIndex;
+  }
+
   @Override
   protected int length() {
     return _counts.length;
@@ -97,12 +117,12 @@ public class RawMetricValues extends WindowIndexedArrays {
    * @param sample The metric sample to add.
    * @param windowIndex the window index of the metric sample.
    * @param metricDef the metric definitions.
-   * @return Array index of the cyclic buffers used for {@link #_counts} and {@link #_windowValuesByMetricId}.
+   * @return Array index of the cyclic buffers used for {@link #_counts} and {@link #_windowValues}.
    */
   private int updateWindowValueAndCount(MetricSample<?, ?> sample, long windowIndex, MetricDef metricDef) {
     int arrayIndex = arrayIndex(windowIndex);
     for (Map.Entry<Short, Double> entry : sample.allMetricValues().entrySet()) {
-      _windowValuesByMetricId.computeIfAbsent(entry.getKey(), k -> new float[_counts.length]);
+      _metricIdsWithValues.set(entry.getKey());
       updateWindowValueForMetric(entry.getValue(), metricDef.metricInfo(entry.getKey()), arrayIndex);
     }
     // Update the count of samples in the window with the given index.
@@ -213,6 +233,30 @@ public class RawMetricValues extends WindowIndexedArrays {
     return _counts[arrayIndex(windowIndex)];
   }
 
+  /**
+   * Get the raw values of the window at the given window index, i.e. the sum, maximum, or latest value of each metric in
+   * the window depending on its aggregation function. Unlike the aggregated values, the raw values are neither averaged
+   * nor extrapolated.
+   *
+   * @param windowIndex the window index to get the raw values for, which may be the current window index.
+   * @param values the array to copy the raw value of each metric to, indexed by metric id. The metrics that have no value
+   *               are set to {@link Float#NaN}.
+   * @return The number of samples in the window, or 0 if the window is out of the range of this RawMetricValues, in which
+   * case the given array is not modified.
+   */
+  public synchronized byte rawValuesAtWindowIndex(long windowIndex, float[] values) {
+    if (windowIndex < _oldestWindowIndex || windowIndex > currentWindowIndex()) {
+      return 0;
+    }
+    int arrayIndex = arrayIndex(windowIndex);
+    if (_counts[arrayIndex] > 0) {
+      for (short metricId = 0; metricId < values.length; metricId++) {
+        values[metricId] = _metricIdsWithValues.get(metricId) ? _windowValues[valueOffset(metricId) + arrayIndex] : Float.NaN;
+      }
+    }
+    return _counts[arrayIndex];
+  }
+
   public synchronized void sanityCheckWindowIndex(long windowIndex) {
     validateWindowIndex(windowIndex);
   }
@@ -263,19 +307,29 @@ public class RawMetricValues extends WindowIndexedArrays {
    * @param metricDef the metric definitions.
    * @return The aggregated values and extrapolations of the given sorted set of windows in that order.
    */
-  public synchronized ValuesAndExtrapolations aggregate(SortedSet<Long> windowIndices, MetricDef metricDef) {
-    return aggregate(windowIndices, metricDef, true);
+  public ValuesAndExtrapolations aggregate(SortedSet<Long> windowIndices, MetricDef metricDef) {
+    return snapshot().aggregate(windowIndices, metricDef, true);
+  }
+
+  /**
+   * The aggregation works on a snapshot, so that the sampling threads adding samples to this RawMetricValues only wait
+   * for the arrays to be copied rather than for the entire aggregation to finish.
+   *
+   * @return A point-in-time copy of this RawMetricValues.
+   */
+  private synchronized RawMetricValues snapshot() {
+    return new RawMetricValues(this);
   }
 
   private ValuesAndExtrapolations aggregate(SortedSet<Long> windowIndices, MetricDef metricDef, boolean checkWindow) {
-    if (_windowValuesByMetricId.isEmpty()) {
+    if (_metricIdsWithValues.isEmpty()) {
       return ValuesAndExtrapolations.empty(windowIndices.size(), metricDef);
     }
     Map<Short, MetricValues> aggValues = new HashMap<>();
     SortedMap<Integer, Extrapolation> extrapolations = new TreeMap<>();
-    for (Map.Entry<Short, float[]> entry : _windowValuesByMetricId.entrySet()) {
-      short metricId = entry.getKey();
-      float[] values = entry.getValue();
+    for (int id = _metricIdsWithValues.nextSetBit(0); id >= 0; id = _metricIdsWithValues.nextSetBit(id + 1)) {
+      short metricId = (short) id;
+      int offset = valueOffset(metricId);
       MetricInfo info = metricDef.metricInfo(metricId);
 
       MetricValues aggValuesForMetric = new MetricValues(windowIndices.size());
@@ -291,7 +345,7 @@ public class RawMetricValues extends WindowIndexedArrays {
         int arrayIndex = arrayIndex(windowIndex);
         // Sufficient samples
         if (_counts[arrayIndex] >= _halfMinRequiredSamples) {
-          aggValuesForMetric.set(resultIndex, getValue(info, arrayIndex, values));
+          aggValuesForMetric.set(resultIndex, getValue(info, arrayIndex, offset));
           if (_counts[arrayIndex] < _minSamplesPerWindow) {
             // Though not quite sufficient, but have some available.
             extrapolations.putIfAbsent(resultIndex, Extrapolation.AVG_AVAILABLE);
@@ -304,9 +358,8 @@ public class RawMetricValues extends WindowIndexedArrays {
           extrapolations.putIfAbsent(resultIndex, Extrapolation.AVG_ADJACENT);
           int prevArrayIndex = prevArrayIndex(arrayIndex);
           int nextArrayIndex = nextArrayIndex(arrayIndex);
-          double total = _windowValuesByMetricId.get(metricId)[prevArrayIndex] + (_counts[arrayIndex] == 0 ? 0 : _windowValuesByMetricId
-              .get(metricId)[arrayIndex])
-                         + _windowValuesByMetricId.get(metricId)[nextArrayIndex];
+          double total = _windowValues[offset + prevArrayIndex] + (_counts[arrayIndex] == 0 ? 0 : _windowValues[offset + arrayIndex])
+                         + _windowValues[offset + nextArrayIndex];
           switch (info.aggregationFunction()) {
             case AVG:
               aggValuesForMetric.set(resultIndex, total / (_counts[prevArrayIndex] + _counts[arrayIndex] + _counts[nextArrayIndex]));
@@ -321,7 +374,7 @@ public class RawMetricValues extends WindowIndexedArrays {
           }
           // Neighbor not available, use the insufficient samples.
         } else if (_counts[arrayIndex] > 0) {
-          aggValuesForMetric.set(resultIndex, getValue(info, arrayIndex, values));
+          aggValuesForMetric.set(resultIndex, getValue(info, arrayIndex, offset));
           extrapolations.putIfAbsent(resultIndex, Extrapolation.FORCED_INSUFFICIENT);
           // Nothing is available, just return all 0 and NO_VALID_EXTRAPOLATION.
         } else {
@@ -341,10 +394,10 @@ public class RawMetricValues extends WindowIndexedArrays {
    * @param metricDef the metric definitions.
    * @return The aggregated values and extrapolations of the given sorted set of windows in that order.
    */
-  public synchronized ValuesAndExtrapolations peekCurrentWindow(long currentWindowIndex, MetricDef metricDef) {
+  public ValuesAndExtrapolations peekCurrentWindow(long currentWindowIndex, MetricDef metricDef) {
     SortedSet<Long> window = new TreeSet<>();
     window.add(currentWindowIndex);
-    return aggregate(window, metricDef, false);
+    return snapshot().aggregate(window, metricDef, false);
   }
 
   /**
@@ -358,48 +411,56 @@ public class RawMetricValues extends WindowIndexedArrays {
     return count;
   }
 
-  private float getValue(MetricInfo info, int index, float[] values) {
+  /**
+   * @param metricId Metric id.
+   * @return The index of the cyclic buffer of the given metric in {@link #_windowValues}.
+   */
+  private int valueOffset(short metricId) {
+    return metricId * _counts.length;
+  }
+
+  private float getValue(MetricInfo info, int index, int offset) {
     if (_counts[index] == 0) {
       return 0;
     }
     switch (info.aggregationFunction()) {
       case AVG:
-        return values[index] / _counts[index];
+        return _windowValues[offset + index] / _counts[index];
       case MAX:
       case LATEST:
-        return values[index];
+        return _windowValues[offset + index];
       default:
         throw new IllegalStateException("Should never be here.");
     }
   }
 
   private void updateWindowValueForMetric(double newValue, MetricInfo info, int arrayIndex) {
+    int valueIndex = valueOffset(info.id()) + arrayIndex;
     switch (info.aggregationFunction()) {
       case AVG:
-        add(newValue, info.id(), arrayIndex);
+        add(newValue, valueIndex, arrayIndex);
         break;
       case MAX:
-        max(newValue, info.id(), arrayIndex);
+        max(newValue, valueIndex, arrayIndex);
         break;
       case LATEST:
-        latest(newValue, info.id(), arrayIndex);
+        latest(newValue, valueIndex);
         break;
       default:
         throw new IllegalStateException("Should never be here");
     }
   }
 
-  private void add(double newValue, short metricId, int index) {
-    _windowValuesByMetricId.get(metricId)[index] = (float) (_counts[index] == 0 ? newValue : _windowValuesByMetricId.get(metricId)[index] + newValue);
+  private void add(double newValue, int valueIndex, int arrayIndex) {
+    _windowValues[valueIndex] = (float) (_counts[arrayIndex] == 0 ? newValue : _windowValues[valueIndex] + newValue);
   }
 
-  private void max(double newValue, short metricId, int index) {
-    _windowValuesByMetricId.get(metricId)[index] = (float) (_counts[index] == 0 ? newValue : Math.max(
-        _windowValuesByMetricId.get(metricId)[index], newValue));
+  private void max(double newValue, int valueIndex, int arrayIndex) {
+    _windowValues[valueIndex] = (float) (_counts[arrayIndex] == 0 ? newValue : Math.max(_windowValues[valueIndex], newValue));
   }
 
-  private void latest(double newValue, short metricId, int index) {
-    _windowValuesByMetricId.get(metricId)[index] = (float) newValue;
+  private void latest(double newValue, int valueIndex) {
+    _windowValues[valueIndex] = (float) newValue;
   }
 
   /**
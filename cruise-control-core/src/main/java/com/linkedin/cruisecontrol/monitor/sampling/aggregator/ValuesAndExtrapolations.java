@@ -15,9 +15,15 @@ import java.util.Map;
  * The aggregated metrics for all the windows and the extrapolation information if there is any extrapolation used.
  */
 public class ValuesAndExtrapolations {
+  /**
+   * The generation of a window whose value may change without a change in the generation of any window -- e.g. a window
+   * on the edge of the window range, whose extrapolation changes as the windows roll.
+   */
+  public static final long UNSTABLE_WINDOW_GENERATION = -1L;
   private final AggregatedMetricValues _metricValues;
   private final Map<Integer, Extrapolation> _extrapolations;
   private List<Long> _windows;
+  private List<Long> _windowGenerations;
 
   /**
    * Construct the values and extrapolations.
@@ -81,6 +87,27 @@ public class ValuesAndExtrapolations {
     _windows = windows;
   }
 
+  /**
+   * Get the window generation list for the metric values. The generation of a window is the generation of the
+   * {@link MetricSampleAggregator} when the value of the window at the same index of the list returned by
+   * {@link #windows()} may have last changed -- e.g. a sample has been added to the window or to an adjacent window used
+   * for its extrapolation. Hence, the value of a window with an unchanged generation has not changed, unless its generation
+   * is {@link #UNSTABLE_WINDOW_GENERATION}.
+   *
+   * @return The window generation list associated with the metric values, or {@code null} if the window generations are unknown.
+   */
+  public List<Long> windowGenerations() {
+    return _windowGenerations == null ? null : Collections.unmodifiableList(_windowGenerations);
+  }
+
+  /**
+   * Method to set the window generations array.
+   * @param windowGenerations the generations of the windows for the values.
+   */
+  public void setWindowGenerations(List<Long> windowGenerations) {
+    _windowGenerations = windowGenerations;
+  }
+
   /**
    * Create an empty ValuesAndExtrapolations.
    * @param numWindows the number of windows.
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.cruisecontrol.detector.metricanomaly;
+
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapolations;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.math3.stat.descriptive.rank.Percentile;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link WindowedPercentile}.
+ */
+public class WindowedPercentileTest {
+  private static final double[] PERCENTILES = {1.0, 10.0, 25.0, 50.0, 75.0, 90.0, 95.0, 99.0, 100.0};
+  private static final int NUM_WINDOWS = 20;
+  private static final double DELTA = 1E-9;
+
+  @Test
+  public void testEmpty() {
+    WindowedPercentile windowedPercentile = new WindowedPercentile();
+    assertEquals(0, windowedPercentile.numValues());
+    assertTrue(Double.isNaN(windowedPercentile.percentile(50.0)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPercentile() {
+    new WindowedPercentile().percentile(0.0);
+  }
+
+  @Test
+  public void testRollingWindowsMatchPercentile() {
+    Random random = new Random(0);
+    List<Double> valueByWindow = new ArrayList<>();
+    WindowedPercentile windowedPercentile = new WindowedPercentile();
+    for (long firstWindow = 0; firstWindow < 100; firstWindow++) {
+      // Roll the windows by one, and use some NaN and duplicate values.
+      while (valueByWindow.size() < firstWindow + NUM_WINDOWS) {
+        int nextValue = random.nextInt(20);
+        valueByWindow.add(nextValue == 0 ? Double.NaN : nextValue);
+      }
+      List<Long> windows = new ArrayList<>(NUM_WINDOWS);
+      double[] values = new double[NUM_WINDOWS];
+      for (int i = 0; i < NUM_WINDOWS; i++) {
+        // The most recent window comes first.
+        long window = firstWindow + NUM_WINDOWS - 1 - i;
+        windows.add(window);
+        values[i] = valueByWindow.get((int) window);
+      }
+      // The value of a window does not change; hence, neither does its generation.
+      windowedPercentile.update(windows, windows, NUM_WINDOWS, i -> values[i]);
+      assertMatchesPercentile(values, windowedPercentile);
+    }
+  }
+
+  @Test
+  public void testUpdateWithChangedAndUnknownWindows() {
+    WindowedPercentile windowedPercentile = new WindowedPercentile();
+    double[] values = {3.0, 1.0, 2.0, 5.0};
+    windowedPercentile.update(List.of(3L, 2L, 1L, 0L), List.of(1L, 1L, 1L, 1L), values.length, i -> values[i]);
+    assertMatchesPercentile(values, windowedPercentile);
+
+    // The values of the windows whose generation changed are read again -- e.g. a late sample has been added to window 2.
+    double[] changedValues = {3.0, 6.0, 2.0, 5.0};
+    windowedPercentile.update(List.of(3L, 2L, 1L, 0L), List.of(1L, 2L, 1L, 1L), changedValues.length, i -> changedValues[i]);
+    assertMatchesPercentile(changedValues, windowedPercentile);
+
+    // The values of the unstable windows are always read again.
+    long unstable = ValuesAndExtrapolations.UNSTABLE_WINDOW_GENERATION;
+    double[] unstableValues = {4.0, 6.0, 2.0, Double.NaN};
+    windowedPercentile.update(List.of(3L, 2L, 1L, 0L), List.of(unstable, 2L, 1L, unstable), unstableValues.length,
+                              i -> unstableValues[i]);
+    assertMatchesPercentile(unstableValues, windowedPercentile);
+    windowedPercentile.update(List.of(3L, 2L, 1L, 0L), List.of(unstable, 2L, 1L, unstable), values.length, i -> {
+      assertTrue(String.format("The value of the stable window at index %d is read again.", i), i == 0 || i == 3);
+      return values[i];
+    });
+    assertMatchesPercentile(new double[]{3.0, 6.0, 2.0, 5.0}, windowedPercentile);
+
+    // The oldest window rolls out without a new window.
+    double[] evictedValues = {3.0, 6.0, 2.0};
+    windowedPercentile.update(List.of(3L, 2L, 1L), List.of(unstable, 2L, 1L), evictedValues.length, i -> evictedValues[i]);
+    assertMatchesPercentile(evictedValues, windowedPercentile);
+
+    // A window is missing within the range of the given windows.
+    double[] gapValues = {7.0, 9.0, 1.0, 5.0};
+    windowedPercentile.update(List.of(4L, 3L, 1L, 0L), List.of(1L, 1L, 1L, 1L), gapValues.length, i -> gapValues[i]);
+    assertMatchesPercentile(gapValues, windowedPercentile);
+
+    // The windows are not evenly spaced, hence the next update replaces all values even if the windows roll by one.
+    double[] rolledGapValues = {8.0, 7.0, 9.0, 1.0};
+    windowedPercentile.update(List.of(5L, 4L, 3L, 1L), List.of(1L, 1L, 1L, 1L), rolledGapValues.length, i -> rolledGapValues[i]);
+    assertMatchesPercentile(rolledGapValues, windowedPercentile);
+
+    // The generations are unknown.
+    double[] unknownGenerationValues = {2.0, 8.0, 7.0, 9.0};
+    windowedPercentile.update(List.of(6L, 5L, 4L, 3L), null, unknownGenerationValues.length, i -> unknownGenerationValues[i]);
+    assertMatchesPercentile(unknownGenerationValues, windowedPercentile);
+
+    // The windows are unknown.
+    double[] unknownWindowValues = {6.0, 8.0};
+    windowedPercentile.update(null, null, unknownWindowValues.length, i -> unknownWindowValues[i]);
+    assertMatchesPercentile(unknownWindowValues, windowedPercentile);
+  }
+
+  private static void assertMatchesPercentile(double[] values, WindowedPercentile windowedPercentile) {
+    Percentile percentile = new Percentile();
+    percentile.setData(values);
+    int numValues = 0;
+    for (double value : values) {
+      if (!Double.isNaN(value)) {
+        numValues++;
+      }
+    }
+    assertEquals(numValues, windowedPercentile.numValues());
+    for (double p : PERCENTILES) {
+      assertEquals(percentile.evaluate(p), windowedPercentile.percentile(p), DELTA);
+    }
+  }
+}
@@ -10,6 +10,7 @@ import com.linkedin.cruisecontrol.exception.NotEnoughValidWindowsException;
 import com.linkedin.cruisecontrol.metricdef.MetricDef;
 import com.linkedin.cruisecontrol.metricdef.MetricInfo;
 import com.linkedin.cruisecontrol.metricdef.AggregationFunction;
+import com.linkedin.cruisecontrol.monitor.sampling.MetricSample;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,6 +26,7 @@ import static com.linkedin.cruisecontrol.monitor.sampling.aggregator.Extrapolati
 import static com.linkedin.cruisecontrol.monitor.sampling.aggregator.Extrapolation.NO_VALID_EXTRAPOLATION;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -129,6 +131,48 @@ public class MetricSampleAggregatorTest {
     assertEquals(initGeneration + 1, aggregator.generation().longValue());
   }
 
+  @Test
+  public void testWindowGenerations() throws NotEnoughValidWindowsException {
+    MetricSampleAggregator<String, IntegerEntity> aggregator =
+        new MetricSampleAggregator<>(NUM_WINDOWS, WINDOW_MS, MIN_SAMPLES_PER_WINDOW,
+                                     0, _metricDef);
+    CruiseControlUnitTestUtils.populateSampleAggregator(NUM_WINDOWS + 1, MIN_SAMPLES_PER_WINDOW,
+                                                        aggregator, ENTITY1, 0, WINDOW_MS,
+                                                        _metricDef);
+    AggregationOptions<String, IntegerEntity> options =
+        new AggregationOptions<>(1, 1, NUM_WINDOWS, 5,
+                                 Collections.emptySet(), AggregationOptions.Granularity.ENTITY_GROUP, true);
+    ValuesAndExtrapolations initValues = aggregator.aggregate(-1, Long.MAX_VALUE, options).valuesAndExtrapolations().get(ENTITY1);
+    List<Long> initGenerations = initValues.windowGenerations();
+    int numWindows = initValues.windows().size();
+    assertEquals(numWindows, initGenerations.size());
+    // The windows on the edges are unstable.
+    assertEquals(ValuesAndExtrapolations.UNSTABLE_WINDOW_GENERATION, initGenerations.get(0).longValue());
+    assertEquals(ValuesAndExtrapolations.UNSTABLE_WINDOW_GENERATION, initGenerations.get(numWindows - 1).longValue());
+
+    // Add a late sample to a window in the middle.
+    int lateWindowIndex = numWindows / 2;
+    MetricSample<String, IntegerEntity> lateSample = new MetricSample<>(ENTITY1);
+    _metricDef.all().forEach(info -> lateSample.record(info, 1000));
+    lateSample.close(initValues.window(lateWindowIndex) - 1);
+    assertTrue(aggregator.addSample(lateSample));
+
+    // The generations of the late window and its adjacent windows change, and the value of the late window is updated.
+    ValuesAndExtrapolations values = aggregator.aggregate(-1, Long.MAX_VALUE, options).valuesAndExtrapolations().get(ENTITY1);
+    assertEquals(initValues.windows(), values.windows());
+    for (int i = 0; i < numWindows; i++) {
+      if (Math.abs(i - lateWindowIndex) <= 1) {
+        assertNotEquals(initGenerations.get(i), values.windowGenerations().get(i));
+      } else {
+        assertEquals(initGenerations.get(i), values.windowGenerations().get(i));
+      }
+    }
+    for (MetricInfo info : _metricDef.all()) {
+      assertTrue(values.metricValues().valuesFor(info.id()).get(lateWindowIndex)
+                 > initValues.metricValues().valuesFor(info.id()).get(lateWindowIndex));
+    }
+  }
+
   @Test
   public void testEarliestWindow() {
     MetricSampleAggregator<String, IntegerEntity> aggregator =
@@ -421,6 +465,44 @@ public class MetricSampleAggregatorTest {
     }
   }
 
+  @Test
+  public void testAddSamplesDuringAggregation() throws NotEnoughValidWindowsException, InterruptedException {
+    final int numThreads = 4;
+    final int numEntitiesPerThread = 50;
+    final MetricSampleAggregator<String, IntegerEntity> aggregator =
+        new MetricSampleAggregator<>(NUM_WINDOWS, WINDOW_MS, MIN_SAMPLES_PER_WINDOW, 0, _metricDef);
+    populateSampleAggregator(NUM_WINDOWS + 1, MIN_SAMPLES_PER_WINDOW, aggregator);
+
+    // Keep adding samples of new entities to the active window while the aggregations are in progress.
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      final int threadId = i;
+      threads.add(new Thread(() -> {
+        for (int j = 0; j < numEntitiesPerThread; j++) {
+          IntegerEntity entity = new IntegerEntity(ENTITY_GROUP_2, threadId * numEntitiesPerThread + j);
+          CruiseControlUnitTestUtils.populateSampleAggregator(1, MIN_SAMPLES_PER_WINDOW, aggregator, entity,
+                                                              NUM_WINDOWS, WINDOW_MS, _metricDef);
+        }
+      }));
+    }
+    threads.forEach(Thread::start);
+    AggregationOptions<String, IntegerEntity> options =
+        new AggregationOptions<>(0.0, 0.0, NUM_WINDOWS, 5, Collections.singleton(ENTITY1),
+                                 AggregationOptions.Granularity.ENTITY, true);
+    while (threads.stream().anyMatch(Thread::isAlive)) {
+      MetricSampleAggregationResult<String, IntegerEntity> aggResult = aggregator.aggregate(-1, Long.MAX_VALUE, options);
+      assertEquals(NUM_WINDOWS, aggResult.valuesAndExtrapolations().get(ENTITY1).windows().size());
+      assertTrue(aggResult.invalidEntities().isEmpty());
+      aggregator.peekCurrentWindow();
+    }
+    for (Thread t : threads) {
+      t.join();
+    }
+    assertEquals(NUM_WINDOWS + 1, aggregator.allWindows().size());
+    assertEquals((NUM_WINDOWS + 1 + numThreads * numEntitiesPerThread) * MIN_SAMPLES_PER_WINDOW, aggregator.numSamples());
+    assertEquals(1 + numThreads * numEntitiesPerThread, aggregator.peekCurrentWindow().size());
+  }
+
   /**
    * Entity 1: valid in all the windows, extrapolated in window 11 and 14.
    * Entity 2: no data
@@ -12,6 +12,7 @@ import com.linkedin.cruisecontrol.monitor.sampling.MetricSample;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import org.junit.Assert;
@@ -140,6 +141,22 @@ public class RawMetricValuesTest {
     assertEquals(0, valuesAndExtrapolations.extrapolations().size());
   }
 
+  @Test
+  public void testAggregateOnlyMetricsWithValues() {
+    RawMetricValues rawValues = new RawMetricValues(2, MIN_SAMPLES_PER_WINDOW, NUM_RAW_METRICS);
+    rawValues.updateOldestWindowIndex(0);
+    MetricSample<String, IntegerEntity> m = new MetricSample<>(new IntegerEntity("group", 0));
+    m.record(_metricDef.metricInfo("metric1"), 10);
+    m.record(_metricDef.metricInfo("metric3"), 6);
+    m.close(0);
+    addSample(rawValues, m, 0);
+
+    ValuesAndExtrapolations valuesAndExtrapolations = aggregate(rawValues, new TreeSet<>(Collections.singleton(0L)));
+    assertEquals(Set.of((short) 0, (short) 2), valuesAndExtrapolations.metricValues().metricIds());
+    assertEquals(10, valuesAndExtrapolations.metricValues().valuesFor((short) 0).get(0), EPSILON);
+    assertEquals(6, valuesAndExtrapolations.metricValues().valuesFor((short) 2).get(0), EPSILON);
+  }
+
   @Test
   public void testAggregateMultipleWindows() {
     for (int i = 0; i < NUM_WINDOWS * 2; i++) {
@@ -221,6 +221,9 @@ public class KafkaCruiseControl {
   public void startUp() {
     LOG.info("Starting Kafka Cruise Control...");
     _loadMonitor.startUp();
+    if (_executor.maybeResumeExecution(_loadMonitor)) {
+      LOG.info("Resumed the execution interrupted by a restart.");
+    }
     _anomalyDetectorManager.startDetection();
     _goalOptimizerExecutor.execute(_goalOptimizer);
     LOG.info("Kafka Cruise Control started.");
@@ -347,6 +350,24 @@ public class KafkaCruiseControl {
     return _loadMonitor.clusterModel(timeMs(), requirements, allowCapacityEstimation, operationProgress);
   }
 
+  /**
+   * Get the cluster model cutting off at the current timestamp for read-only access. If the cluster model cache is enabled,
+   * the cached cluster model is returned without being copied, hence the caller must not modify it.
+   * @param requirements the model completeness requirements.
+   * @param allowCapacityEstimation whether allow capacity estimation in cluster model if the underlying live broker capacity is unavailable.
+   * @param operationProgress the progress of the job to report.
+   * @return The cluster workload model, which must not be modified.
+   * @throws NotEnoughValidWindowsException If there is not enough sample to generate cluster model.
+   * @throws TimeoutException If broker capacity resolver is unable to resolve broker capacity in time.
+   * @throws BrokerCapacityResolutionException If broker capacity resolver fails to resolve broker capacity.
+   */
+  public ClusterModel readOnlyClusterModel(ModelCompletenessRequirements requirements,
+                                           boolean allowCapacityEstimation,
+                                           OperationProgress operationProgress)
+      throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
+    return _loadMonitor.readOnlyClusterModel(timeMs(), requirements, allowCapacityEstimation, operationProgress);
+  }
+
   /**
    * Get the cluster model for a given time window.
    * @param from the start time of the window
@@ -855,6 +876,13 @@ public class KafkaCruiseControl {
     return _loadMonitor.kafkaCluster();
   }
 
+  /**
+   * @return The cluster information from Kafka metadata and its generation, without refreshing the metadata.
+   */
+  public MetadataClient.ClusterAndGeneration kafkaClusterAndGeneration() {
+    return _loadMonitor.kafkaClusterAndGeneration();
+  }
+
   /**
    * @return The topic config provider.
    */
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.analyzer;
+
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.Goal;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * A cache of the {@link Goal#actionAcceptance(BalancingAction, ClusterModel)} results of the already optimized goals during
+ * an optimization. While a goal is optimized, the same balancing action is typically checked against the same optimized
+ * goals many times, whereas only a few of these checks follow a change to the brokers or partitions involved in the action.
+ *
+ * <p>A cached acceptance is valid as long as the hosts of the source and destination brokers, as well as the partitions
+ * of the action, are unchanged -- i.e. their {@link com.linkedin.kafka.cruisecontrol.model.Host#epoch()} and
+ * {@link com.linkedin.kafka.cruisecontrol.model.Partition#epoch()} are the same as when the acceptance was computed.
+ * Hence, the cache assumes that the acceptance of an action by an optimized goal depends only on the state of these hosts
+ * and partitions, and on the state of the goal fixed at the end of its optimization, which holds for the built-in goals.
+ * Only inter-broker replica movements, replica swaps, and leadership movements are cached.</p>
+ *
+ * <p>The cache keeps up to the given number of acceptances, evicting the least recently used one beyond that.
+ * This class is not thread safe, as a cluster model is optimized by a single thread.</p>
+ */
+public class ActionAcceptanceCache {
+  private final int _maxNumCachedAcceptances;
+  private final LinkedHashMap<Key, Entry> _acceptances;
+  private long _numHits;
+  private long _numMisses;
+  private long _numInvalidations;
+
+  /**
+   * @param maxNumCachedAcceptances The maximum number of action acceptances to cache.
+   */
+  public ActionAcceptanceCache(int maxNumCachedAcceptances) {
+    if (maxNumCachedAcceptances <= 0) {
+      throw new IllegalArgumentException("The maximum number of cached action acceptances must be positive (provided: "
+                                         + maxNumCachedAcceptances + ").");
+    }
+    _maxNumCachedAcceptances = maxNumCachedAcceptances;
+    _acceptances = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        return size() > _maxNumCachedAcceptances;
+      }
+    };
+    _numHits = 0L;
+    _numMisses = 0L;
+    _numInvalidations = 0L;
+  }
+
+  /**
+   * Get the acceptance of the given action by the given optimized goal, from the cache if the cached acceptance is still
+   * valid, or from the goal otherwise.
+   *
+   * @param optimizedGoal An optimized goal.
+   * @param action Balancing action to check.
+   * @param clusterModel The state of the cluster.
+   * @return The acceptance of the given action by the given goal.
+   */
+  public ActionAcceptance actionAcceptance(Goal optimizedGoal, BalancingAction action, ClusterModel clusterModel) {
+    switch (action.balancingAction()) {
+      case INTER_BROKER_REPLICA_MOVEMENT:
+      case INTER_BROKER_REPLICA_SWAP:
+      case LEADERSHIP_MOVEMENT:
+        break;
+      default:
+        return optimizedGoal.actionAcceptance(action, clusterModel);
+    }
+    Key key = new Key(optimizedGoal, action);
+    long sourceHostEpoch = clusterModel.broker(action.sourceBrokerId()).host().epoch();
+    long destinationHostEpoch = clusterModel.broker(action.destinationBrokerId()).host().epoch();
+    long partitionEpoch = clusterModel.partition(action.topicPartition()).epoch();
+    long destinationPartitionEpoch = action.destinationTopicPartition() == null
+                                     ? -1L : clusterModel.partition(action.destinationTopicPartition()).epoch();
+
+    Entry entry = _acceptances.get(key);
+    if (entry != null) {
+      if (entry._sourceHostEpoch == sourceHostEpoch && entry._destinationHostEpoch == destinationHostEpoch
+          && entry._partitionEpoch == partitionEpoch && entry._destinationPartitionEpoch == destinationPartitionEpoch) {
+        _numHits++;
+        return entry._acceptance;
+      }
+      _numInvalidations++;
+    } else {
+      _numMisses++;
+    }
+    ActionAcceptance acceptance = optimizedGoal.actionAcceptance(action, clusterModel);
+    _acceptances.put(key, new Entry(acceptance, sourceHostEpoch, destinationHostEpoch, partitionEpoch, destinationPartitionEpoch));
+    return acceptance;
+  }
+
+  /**
+   * @return The number of acceptances served from the cache.
+   */
+  public long numHits() {
+    return _numHits;
+  }
+
+  /**
+   * @return The number of acceptances computed because no acceptance of the same action by the same goal was cached.
+   */
+  public long numMisses() {
+    return _numMisses;
+  }
+
+  /**
+   * @return The number of acceptances recomputed because the involved hosts or partitions changed since they were cached.
+   */
+  public long numInvalidations() {
+    return _numInvalidations;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("{hits: %d, misses: %d, invalidations: %d, cached: %d}", _numHits, _numMisses, _numInvalidations,
+                         _acceptances.size());
+  }
+
+  /**
+   * The key of a cached acceptance. Goals are compared by identity, as the acceptance of an action depends on the state of
+   * the goal instance.
+   */
+  private static final class Key {
+    private final Goal _goal;
+    private final BalancingAction _action;
+
+    Key(Goal goal, BalancingAction action) {
+      _goal = goal;
+      _action = action;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return _goal == other._goal && _action.equals(other._action);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(_goal), _action);
+    }
+  }
+
+  private static final class Entry {
+    private final ActionAcceptance _acceptance;
+    private final long _sourceHostEpoch;
+    private final long _destinationHostEpoch;
+    private final long _partitionEpoch;
+    private final long _destinationPartitionEpoch;
+
+    Entry(ActionAcceptance acceptance,
+          long sourceHostEpoch,
+          long destinationHostEpoch,
+          long partitionEpoch,
+          long destinationPartitionEpoch) {
+      _acceptance = acceptance;
+      _sourceHostEpoch = sourceHostEpoch;
+      _destinationHostEpoch = destinationHostEpoch;
+      _partitionEpoch = partitionEpoch;
+      _destinationPartitionEpoch = destinationPartitionEpoch;
+    }
+  }
+}
@@ -10,9 +10,11 @@ import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig;
 import com.linkedin.kafka.cruisecontrol.executor.ExecutionProposal;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.model.Partition;
 import com.linkedin.kafka.cruisecontrol.model.RawAndDerivedResource;
 import com.linkedin.kafka.cruisecontrol.model.Replica;
 import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementJournal;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -71,27 +73,105 @@ public final class AnalyzerUtils {
     Set<ExecutionProposal> diff = new HashSet<>();
     for (Map.Entry<TopicPartition, List<ReplicaPlacementInfo>> entry : initialReplicaDistribution.entrySet()) {
       TopicPartition tp = entry.getKey();
-      List<ReplicaPlacementInfo> initialReplicas = entry.getValue();
-      List<ReplicaPlacementInfo> finalReplicas = finalReplicaDistribution.get(tp);
-      Replica finalLeader = optimizedClusterModel.partition(tp).leader();
-      ReplicaPlacementInfo finalLeaderPlacementInfo = new ReplicaPlacementInfo(finalLeader.broker().id(),
-                                                                               finalLeader.disk() == null ? null : finalLeader.disk().logDir());
-      // The partition has no change.
-      if (finalReplicas.equals(initialReplicas) && initialLeaderDistribution.get(tp).equals(finalLeaderPlacementInfo)) {
-        continue;
+      ExecutionProposal proposal = proposal(tp, entry.getValue(), initialLeaderDistribution.get(tp),
+                                            finalReplicaDistribution.get(tp), optimizedClusterModel);
+      if (proposal != null) {
+        diff.add(proposal);
       }
-      // We need to adjust the final broker list order to ensure the final leader is the first replica.
-      if (finalLeaderPlacementInfo != finalReplicas.get(0)) {
-        int leaderPos = finalReplicas.indexOf(finalLeaderPlacementInfo);
-        finalReplicas.set(leaderPos, finalReplicas.get(0));
-        finalReplicas.set(0, finalLeaderPlacementInfo);
+    }
+    return diff;
+  }
+
+  /**
+   * Get the diff represented by the set of balancing proposals to move from the replica placement recorded in the given
+   * journal to the current distribution of the cluster model. Partitions that are not in the journal are not touched
+   * since the journal has been opened, hence only the recorded partitions are compared with the cluster model.
+   *
+   * The result is the same as {@link #getDiff(Map, Map, ClusterModel, boolean)} with the replica and leader distribution
+   * of the cluster model at the time the journal was opened, but the cost is proportional to the number of touched
+   * partitions. The journal must cover all changes to the cluster model since the initial distribution -- i.e. it must
+   * have been opened before any change.
+   *
+   * @param journal Replica placement journal opened on the given cluster model before the optimization.
+   * @param optimizedClusterModel The optimized cluster model.
+   * @param skipReplicationFactorChangeCheck Whether skip sanity check of topic partition's replication factor change before
+   *                                         and after optimization.
+   * @return The diff represented by the set of balancing proposals to move from initial to final distribution.
+   */
+  public static Set<ExecutionProposal> getDiff(ReplicaPlacementJournal journal,
+                                               ClusterModel optimizedClusterModel,
+                                               boolean skipReplicationFactorChangeCheck) {
+    Map<TopicPartition, ReplicaPlacementInfo> initialLeaderDistribution = journal.initialLeaderDistribution();
+    Set<ExecutionProposal> diff = new HashSet<>();
+    for (Map.Entry<TopicPartition, List<ReplicaPlacementInfo>> entry : journal.initialReplicaDistribution().entrySet()) {
+      TopicPartition tp = entry.getKey();
+      List<ReplicaPlacementInfo> finalReplicas = finalReplicas(tp, entry.getValue(), optimizedClusterModel,
+                                                               skipReplicationFactorChangeCheck);
+      ExecutionProposal proposal = proposal(tp, entry.getValue(), initialLeaderDistribution.get(tp), finalReplicas, optimizedClusterModel);
+      if (proposal != null) {
+        diff.add(proposal);
       }
-      double partitionSize = optimizedClusterModel.partition(tp).leader().load().expectedUtilizationFor(Resource.DISK);
-      diff.add(new ExecutionProposal(tp, (int) partitionSize, initialLeaderDistribution.get(tp), initialReplicas, finalReplicas));
     }
     return diff;
   }
 
+  /**
+   * Get the execution proposal to move the given partition from the initial to the final placement.
+   *
+   * @param tp Topic partition.
+   * @param initialReplicas Initial placement of replicas of the partition.
+   * @param initialLeader Initial placement of the leader of the partition.
+   * @param finalReplicas Final placement of replicas of the partition, may be reordered to have the final leader first.
+   * @param optimizedClusterModel The optimized cluster model.
+   * @return The execution proposal, or {@code null} if the partition has no change.
+   */
+  private static ExecutionProposal proposal(TopicPartition tp,
+                                            List<ReplicaPlacementInfo> initialReplicas,
+                                            ReplicaPlacementInfo initialLeader,
+                                            List<ReplicaPlacementInfo> finalReplicas,
+                                            ClusterModel optimizedClusterModel) {
+    Replica finalLeader = optimizedClusterModel.partition(tp).leader();
+    ReplicaPlacementInfo finalLeaderPlacementInfo = new ReplicaPlacementInfo(finalLeader.broker().id(),
+                                                                             finalLeader.disk() == null ? null : finalLeader.disk().logDir());
+    // The partition has no change.
+    if (finalReplicas.equals(initialReplicas) && initialLeader.equals(finalLeaderPlacementInfo)) {
+      return null;
+    }
+    // We need to adjust the final broker list order to ensure the final leader is the first replica.
+    if (finalLeaderPlacementInfo != finalReplicas.get(0)) {
+      int leaderPos = finalReplicas.indexOf(finalLeaderPlacementInfo);
+      finalReplicas.set(leaderPos, finalReplicas.get(0));
+      finalReplicas.set(0, finalLeaderPlacementInfo);
+    }
+    double partitionSize = finalLeader.load().expectedUtilizationFor(Resource.DISK);
+    return new ExecutionProposal(tp, (int) partitionSize, initialLeader, initialReplicas, finalReplicas);
+  }
+
+  /**
+   * Get the current placement of replicas of the given partition in the cluster model, and (optionally) ensure that the
+   * replication factor of the partition is the same as in its initial placement.
+   *
+   * @param tp Topic partition.
+   * @param initialReplicas Initial placement of replicas of the partition.
+   * @param clusterModel The cluster model.
+   * @param skipReplicationFactorChangeCheck Whether skip sanity check of topic partition's replication factor change.
+   * @return The current placement of replicas of the given partition.
+   */
+  private static List<ReplicaPlacementInfo> finalReplicas(TopicPartition tp,
+                                                          List<ReplicaPlacementInfo> initialReplicas,
+                                                          ClusterModel clusterModel,
+                                                          boolean skipReplicationFactorChangeCheck) {
+    Partition partition = clusterModel.partition(tp);
+    if (partition == null) {
+      throw new IllegalArgumentException("Attempt to diff distributions with different partitions.");
+    }
+    List<ReplicaPlacementInfo> finalReplicas = partition.replicaPlacementInfos();
+    if (!skipReplicationFactorChangeCheck && finalReplicas.size() != initialReplicas.size()) {
+      throw new IllegalArgumentException("Attempt to diff distributions with modified replication factor.");
+    }
+    return finalReplicas;
+  }
+
   /**
    * Sanity check to ensure that
    * <ul>
@@ -158,7 +238,31 @@ public final class AnalyzerUtils {
   }
 
   /**
-   * Check whether the given proposal is acceptable for all of the given optimized goals.
+   * Get whether there is any diff between the replica placement recorded in the given journal and the current distribution
+   * of the cluster model. Same as {@link #hasDiff(Map, Map, ClusterModel)} with the replica and leader distribution of the
+   * cluster model at the time the journal was opened, but the cost is proportional to the number of touched partitions.
+   *
+   * @param journal Replica placement journal opened on the given cluster model before the optimization.
+   * @param optimizedClusterModel The optimized cluster model.
+   * @return {@code true} if there is any diff, {@code false} otherwise.
+   */
+  public static boolean hasDiff(ReplicaPlacementJournal journal, ClusterModel optimizedClusterModel) {
+    Map<TopicPartition, ReplicaPlacementInfo> initialLeaderDistribution = journal.initialLeaderDistribution();
+    for (Map.Entry<TopicPartition, List<ReplicaPlacementInfo>> entry : journal.initialReplicaDistribution().entrySet()) {
+      TopicPartition tp = entry.getKey();
+      List<ReplicaPlacementInfo> initialReplicas = entry.getValue();
+      if (!finalReplicas(tp, initialReplicas, optimizedClusterModel, false).equals(initialReplicas)
+          || !initialLeaderDistribution.get(tp).equals(optimizedClusterModel.partition(tp).leaderPlacementInfo())) {
+        return true;
+      }
+      // The partition has no change.
+    }
+    return false;
+  }
+
+  /**
+   * Check whether the given proposal is acceptable for all of the given optimized goals. If the given cluster model has an
+   * {@link ClusterModel#actionAcceptanceCache()}, the acceptances are served from the cache whenever they are still valid.
    *
    * @param optimizedGoals Optimized goals to check whether they accept the given proposal.
    * @param proposal       Proposal to be checked for acceptance.
@@ -169,8 +273,11 @@ public final class AnalyzerUtils {
   public static ActionAcceptance isProposalAcceptableForOptimizedGoals(Set<Goal> optimizedGoals,
                                                                        BalancingAction proposal,
                                                                        ClusterModel clusterModel) {
+    ActionAcceptanceCache actionAcceptanceCache = clusterModel.actionAcceptanceCache();
     for (Goal optimizedGoal : optimizedGoals) {
-      ActionAcceptance actionAcceptance = optimizedGoal.actionAcceptance(proposal, clusterModel);
+      ActionAcceptance actionAcceptance = actionAcceptanceCache == null
+                                          ? optimizedGoal.actionAcceptance(proposal, clusterModel)
+                                          : actionAcceptanceCache.actionAcceptance(optimizedGoal, proposal, clusterModel);
       if (actionAcceptance != ACCEPT) {
         return actionAcceptance;
       }
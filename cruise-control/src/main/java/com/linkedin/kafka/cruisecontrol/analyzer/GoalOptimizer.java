@@ -5,9 +5,11 @@
 package com.linkedin.kafka.cruisecontrol.analyzer;
 
 import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.linkedin.kafka.cruisecontrol.common.Utils;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.AbstractGoal;
 import com.linkedin.kafka.cruisecontrol.analyzer.goals.Goal;
 import com.linkedin.kafka.cruisecontrol.config.BrokerSetResolver;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
@@ -22,12 +24,15 @@ import com.linkedin.kafka.cruisecontrol.executor.Executor;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModelStats;
 import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementJournal;
 import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
 import com.linkedin.kafka.cruisecontrol.monitor.ModelCompletenessRequirements;
 import com.linkedin.kafka.cruisecontrol.monitor.MonitorUtils;
 import com.linkedin.kafka.cruisecontrol.monitor.task.LoadMonitorTaskRunner;
 import com.linkedin.kafka.cruisecontrol.servlet.response.stats.BrokerStats;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -90,6 +95,15 @@ public class GoalOptimizer implements Runnable {
   private final double _strictnessWeight;
   private final OptimizationOptionsGenerator _optimizationOptionsGenerator;
   private volatile boolean _hasUnfixableProposalOptimization;
+  private final KafkaCruiseControlConfig _config;
+  private final int _numOptimizationStarts;
+  private final ExecutorService _multiStartExecutor;
+  private final Set<String> _intraBrokerGoalClassNames;
+  private final int _numCachedActionAcceptances;
+  private final Meter _actionAcceptanceCacheHitRate;
+  private final Meter _actionAcceptanceCacheMissRate;
+  private final Meter _actionAcceptanceCacheInvalidationRate;
+  private final Meter _optimizationStartRate;
 
   /**
    * Constructor for Goal Optimizer takes the goals as input. The order of the list determines the priority of goals
@@ -117,6 +131,15 @@ public class GoalOptimizer implements Runnable {
     _proposalPrecomputingExecutor =
         Executors.newScheduledThreadPool(numProposalComputingThreads(),
                                          new KafkaCruiseControlThreadFactory("ProposalPrecomputingExecutor", false, LOG));
+    _config = config;
+    _numOptimizationStarts = config.getInt(AnalyzerConfig.NUM_OPTIMIZATION_STARTS_CONFIG);
+    // The first start of each optimization runs in the caller thread, the additional starts run in the multi-start executor.
+    _multiStartExecutor = _numOptimizationStarts > 1
+                          ? Executors.newFixedThreadPool(_numOptimizationStarts - 1,
+                                                         new KafkaCruiseControlThreadFactory("MultiStartOptimizationExecutor", true, LOG))
+                          : null;
+    _intraBrokerGoalClassNames = new HashSet<>(config.getList(AnalyzerConfig.INTRA_BROKER_GOALS_CONFIG));
+    _numCachedActionAcceptances = config.getInt(AnalyzerConfig.NUM_CACHED_ACTION_ACCEPTANCES_CONFIG);
     _loadMonitor = loadMonitor;
     _time = time;
     _cacheLock = new ReentrantLock();
@@ -126,6 +149,13 @@ public class GoalOptimizer implements Runnable {
     _proposalGenerationException = new AtomicReference<>();
     _proposalPrecomputingProgress = new OperationProgress();
     _proposalComputationTimer = dropwizardMetricRegistry.timer(MetricRegistry.name(GOAL_OPTIMIZER_SENSOR, "proposal-computation-timer"));
+    _actionAcceptanceCacheHitRate = dropwizardMetricRegistry.meter(MetricRegistry.name(GOAL_OPTIMIZER_SENSOR,
+                                                                                       "action-acceptance-cache-hit-rate"));
+    _actionAcceptanceCacheMissRate = dropwizardMetricRegistry.meter(MetricRegistry.name(GOAL_OPTIMIZER_SENSOR,
+                                                                                        "action-acceptance-cache-miss-rate"));
+    _actionAcceptanceCacheInvalidationRate = dropwizardMetricRegistry.meter(MetricRegistry.name(GOAL_OPTIMIZER_SENSOR,
+                                                                                                "action-acceptance-cache-invalidation-rate"));
+    _optimizationStartRate = dropwizardMetricRegistry.meter(MetricRegistry.name(GOAL_OPTIMIZER_SENSOR, "optimization-start-rate"));
 
     // The cluster is identified as unfixable if combined goals can not be fixed
     dropwizardMetricRegistry.register(MetricRegistry.name(GOAL_OPTIMIZER_SENSOR, "has-unfixable-proposal-optimization"),
@@ -245,6 +275,9 @@ public class GoalOptimizer implements Runnable {
     LOG.info("Shutting down goal optimizer.");
     _shutdown = true;
     _proposalPrecomputingExecutor.shutdown();
+    if (_multiStartExecutor != null) {
+      _multiStartExecutor.shutdownNow();
+    }
 
     try {
       _proposalPrecomputingExecutor.awaitTermination(30000L, TimeUnit.MILLISECONDS);
@@ -430,7 +463,9 @@ public class GoalOptimizer implements Runnable {
    *                                                     replicas are tentatively deleted/added in cluster model before
    *                                                     passing it in to generate proposals.
    * @param optimizationOptions Optimization options.
-   * @return Results of optimization containing the proposals and stats.
+   * @return Results of optimization containing the proposals and stats. If {@link AnalyzerConfig#NUM_OPTIMIZATION_STARTS_CONFIG}
+   * is greater than 1, the result may have been computed over a copy of the given cluster model -- see
+   * {@link OptimizerResult#clusterModelStats()} and {@link OptimizerResult#brokerStatsAfterOptimization()} for its final state.
    */
   public OptimizerResult optimizations(ClusterModel clusterModel,
                                        List<Goal> goalsByPriority,
@@ -438,10 +473,181 @@ public class GoalOptimizer implements Runnable {
                                        Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistributionForProposalGeneration,
                                        OptimizationOptions optimizationOptions)
       throws KafkaCruiseControlException {
+    // Additional starts copy the cluster model, whose initial replica distribution must hence be deducible from the model itself.
+    List<Future<OptimizerResult>> additionalStarts = initReplicaDistributionForProposalGeneration == null
+                                                     ? submitAdditionalStarts(clusterModel, goalsByPriority, optimizationOptions)
+                                                     : Collections.emptyList();
+    OptimizerResult result;
+    try {
+      result = optimizationsForStart(clusterModel, goalsByPriority, operationProgress, initReplicaDistributionForProposalGeneration,
+                                     optimizationOptions);
+    } catch (OptimizationFailureException ofe) {
+      additionalStarts.forEach(additionalStart -> additionalStart.cancel(true));
+      setHasUnfixableProposalOptimization(true, goalsByPriority);
+      throw ofe;
+    } catch (KafkaCruiseControlException | RuntimeException e) {
+      additionalStarts.forEach(additionalStart -> additionalStart.cancel(true));
+      throw e;
+    }
+    // Only the selected result determines whether the optimization is fixable -- additional starts must not update it concurrently.
+    OptimizerResult selectedResult = additionalStarts.isEmpty() ? result : bestResult(result, additionalStarts, goalsByPriority);
+    setHasUnfixableProposalOptimization(false, goalsByPriority);
+    return selectedResult;
+  }
+
+  /**
+   * Submit the additional starts of a multi-start optimization to {@link #_multiStartExecutor}. Each additional start
+   * optimizes its own copy of the given cluster model with its own instances of the given goals, and goes over the brokers
+   * in a different (but deterministic) order than the other starts.
+   *
+   * There are no additional starts if (1) multi-start optimization is disabled, (2) none of the given goals depends on the
+   * order of brokers to balance -- i.e. inter-broker goals, (3) any of the given goals cannot be instantiated from the
+   * configuration -- e.g. goals with request-specific constructor arguments, or (4) the cluster model has been modified
+   * since its creation.
+   *
+   * @param clusterModel The state of the cluster.
+   * @param goalsByPriority The goals ordered by priority.
+   * @param optimizationOptions Optimization options.
+   * @return Futures of the results of the additional starts.
+   */
+  private List<Future<OptimizerResult>> submitAdditionalStarts(ClusterModel clusterModel,
+                                                               List<Goal> goalsByPriority,
+                                                               OptimizationOptions optimizationOptions) {
+    if (_multiStartExecutor == null || goalsByPriority.stream().noneMatch(this::dependsOnBrokerOrder)) {
+      return Collections.emptyList();
+    }
+    List<Future<OptimizerResult>> additionalStarts = new ArrayList<>(_numOptimizationStarts - 1);
+    for (int start = 1; start < _numOptimizationStarts; start++) {
+      List<Goal> goalsForStart = goalsForAdditionalStart(goalsByPriority);
+      if (goalsForStart == null) {
+        LOG.debug("Skip additional optimization starts, because goals {} cannot be instantiated from the configuration.", goalsByPriority);
+        break;
+      }
+      ClusterModel clusterModelForStart;
+      try {
+        clusterModelForStart = clusterModel.copy();
+      } catch (IllegalStateException ise) {
+        LOG.debug("Skip additional optimization starts, because the cluster model cannot be copied.", ise);
+        break;
+      }
+      OptimizationOptions optimizationOptionsForStart = OptimizationOptions.withBrokerShuffleSeed(optimizationOptions, (long) start);
+      additionalStarts.add(_multiStartExecutor.submit(() -> optimizationsForStart(clusterModelForStart, goalsForStart, new OperationProgress(),
+                                                                                  null, optimizationOptionsForStart)));
+    }
+    return additionalStarts;
+  }
+
+  /**
+   * @param goal Goal to check.
+   * @return {@code true} if the optimization of the given goal may depend on the order of brokers to balance, {@code false} otherwise.
+   */
+  private boolean dependsOnBrokerOrder(Goal goal) {
+    return goal instanceof AbstractGoal && !_intraBrokerGoalClassNames.contains(goal.getClass().getName());
+  }
+
+  /**
+   * @param goalsByPriority The goals ordered by priority.
+   * @return New instances of the given goals configured from the configuration, or {@code null} if any of the given goals is
+   * not among the configured goals.
+   */
+  private List<Goal> goalsForAdditionalStart(List<Goal> goalsByPriority) {
+    Map<String, Goal> goalsByName = AnalyzerUtils.getCaseInsensitiveGoalsByName(_config);
+    List<Goal> goalsForStart = new ArrayList<>(goalsByPriority.size());
+    for (Goal goal : goalsByPriority) {
+      Goal goalForStart = goalsByName.get(goal.name());
+      if (goalForStart == null || goalForStart.getClass() != goal.getClass()) {
+        return null;
+      }
+      goalsForStart.add(goalForStart);
+    }
+    return goalsForStart;
+  }
+
+  /**
+   * Wait for the additional starts of a multi-start optimization, and get the best result among the given result and the
+   * results of the additional starts. Additional starts that fail are ignored. A result is better than another if it has
+   * (1) a higher on-demand balancedness score after optimization, or (2) better cluster model stats with respect to the goal
+   * with the highest priority that prefers one of them, or (3) fewer replica and leadership movements, or (4) less data to move.
+   * The given result is kept unless another result is strictly better.
+   *
+   * @param result The result of the first start.
+   * @param additionalStarts Futures of the results of the additional starts.
+   * @param goalsByPriority The goals ordered by priority.
+   * @return The best result.
+   */
+  private OptimizerResult bestResult(OptimizerResult result, List<Future<OptimizerResult>> additionalStarts, List<Goal> goalsByPriority) {
+    OptimizerResult bestResult = result;
+    int bestStart = 0;
+    for (int i = 0; i < additionalStarts.size(); i++) {
+      try {
+        OptimizerResult resultForStart = additionalStarts.get(i).get();
+        if (compareResults(resultForStart, bestResult, goalsByPriority) > 0) {
+          bestResult = resultForStart;
+          bestStart = i + 1;
+        }
+      } catch (ExecutionException ee) {
+        LOG.warn("Ignoring the result of optimization start {}, which failed.", i + 1, ee.getCause());
+      } catch (InterruptedException ie) {
+        LOG.warn("Interrupted while waiting for additional optimization starts. Ignoring the remaining starts.");
+        additionalStarts.subList(i, additionalStarts.size()).forEach(additionalStart -> additionalStart.cancel(true));
+        break;
+      }
+    }
+    LOG.info("Selected the result of optimization start {} out of {} starts.", bestStart, additionalStarts.size() + 1);
+    return bestResult;
+  }
+
+  /**
+   * @param result1 The first result to compare.
+   * @param result2 The second result to compare.
+   * @param goalsByPriority The goals ordered by priority.
+   * @return A positive value if the first result is better, a negative value if the second result is better, 0 otherwise.
+   */
+  private static int compareResults(OptimizerResult result1, OptimizerResult result2, List<Goal> goalsByPriority) {
+    int comparison = Double.compare(result1.onDemandBalancednessScoreAfter(), result2.onDemandBalancednessScoreAfter());
+    if (comparison != 0) {
+      return comparison;
+    }
+    for (Goal goal : goalsByPriority) {
+      comparison = goal.clusterModelStatsComparator().compare(result1.clusterModelStats(), result2.clusterModelStats());
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    comparison = Integer.compare(numMovements(result2.goalProposals()), numMovements(result1.goalProposals()));
+    if (comparison != 0) {
+      return comparison;
+    }
+    return Long.compare(dataToMoveInMB(result2.goalProposals()), dataToMoveInMB(result1.goalProposals()));
+  }
+
+  private static int numMovements(Set<ExecutionProposal> proposals) {
+    int numMovements = 0;
+    for (ExecutionProposal proposal : proposals) {
+      numMovements += proposal.replicasToAdd().size() + proposal.replicasToMoveBetweenDisksByBroker().size()
+                      + (proposal.hasLeaderAction() ? 1 : 0);
+    }
+    return numMovements;
+  }
+
+  private static long dataToMoveInMB(Set<ExecutionProposal> proposals) {
+    return proposals.stream().mapToLong(ExecutionProposal::dataToMoveInMB).sum();
+  }
+
+  private OptimizerResult optimizationsForStart(ClusterModel clusterModel,
+                                                List<Goal> goalsByPriority,
+                                                OperationProgress operationProgress,
+                                                Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistributionForProposalGeneration,
+                                                OptimizationOptions optimizationOptions)
+      throws KafkaCruiseControlException {
+    _optimizationStartRate.mark();
     LOG.trace("Cluster before optimization is {}", clusterModel);
     BrokerStats brokerStatsBeforeOptimization = clusterModel.brokerStats(null);
-    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
-    Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+    // If the initial replica distribution is given, the cluster model may differ from it by more than the changes made by
+    // the goals (e.g. replicas added or deleted to change the replication factor). Hence, in that case the proposals are
+    // generated from the initial distribution of the whole cluster rather than the replica placement journal.
+    Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution =
+        initReplicaDistributionForProposalGeneration != null ? clusterModel.getLeaderDistribution() : null;
     boolean isSelfHealing = !clusterModel.selfHealingEligibleReplicas().isEmpty();
 
     // Set of balancing proposals that will be applied to the given cluster state to satisfy goals (leadership
@@ -450,54 +656,65 @@ public class GoalOptimizer implements Runnable {
     Set<String> violatedGoalNamesBeforeOptimization = new HashSet<>();
     Set<String> violatedGoalNamesAfterOptimization = new HashSet<>();
     LinkedHashMap<Goal, ClusterModelStats> statsByGoalPriority = new LinkedHashMap<>(goalsByPriority.size());
-    Map<TopicPartition, List<ReplicaPlacementInfo>> preOptimizedReplicaDistribution = null;
-    Map<TopicPartition, ReplicaPlacementInfo> preOptimizedLeaderDistribution = null;
 
     ProvisionResponse provisionResponse = new ProvisionResponse(ProvisionStatus.UNDECIDED);
     Map<String, Duration> optimizationDurationByGoal = new HashMap<>();
-    for (Goal goal : goalsByPriority) {
-      preOptimizedReplicaDistribution = preOptimizedReplicaDistribution == null ? initReplicaDistribution : clusterModel.getReplicaDistribution();
-      preOptimizedLeaderDistribution = preOptimizedLeaderDistribution == null ? initLeaderDistribution : clusterModel.getLeaderDistribution();
-      OptimizationForGoal step = new OptimizationForGoal(goal.name());
-      operationProgress.addStep(step);
-      LOG.debug("Optimizing goal {}", goal.name());
-      long startTimeMs = _time.milliseconds();
-      boolean succeeded;
-      try {
-        succeeded = goal.optimize(clusterModel, optimizedGoals, optimizationOptions);
-      } catch (OptimizationFailureException e) {
-        setHasUnfixableProposalOptimization(true, goalsByPriority);
-        throw e;
-      }
-      optimizedGoals.add(goal);
-      statsByGoalPriority.put(goal, clusterModel.getClusterStats(_balancingConstraint, optimizationOptions));
-      optimizationDurationByGoal.put(goal.name(), Duration.ofMillis(_time.milliseconds() - startTimeMs));
+    // Journals keep track of the partitions touched by the whole optimization and by each goal, so that only the touched
+    // partitions are compared with their initial placement rather than every partition in the cluster.
+    ReplicaPlacementJournal optimizationJournal = clusterModel.openReplicaPlacementJournal();
+    ActionAcceptanceCache actionAcceptanceCache = _numCachedActionAcceptances > 0
+                                                  ? new ActionAcceptanceCache(_numCachedActionAcceptances) : null;
+    clusterModel.setActionAcceptanceCache(actionAcceptanceCache);
+    try {
+      for (Goal goal : goalsByPriority) {
+        OptimizationForGoal step = new OptimizationForGoal(goal.name());
+        operationProgress.addStep(step);
+        LOG.debug("Optimizing goal {}", goal.name());
+        long startTimeMs = _time.milliseconds();
+        ReplicaPlacementJournal goalJournal = clusterModel.openReplicaPlacementJournal();
+        boolean succeeded;
+        try {
+          succeeded = goal.optimize(clusterModel, optimizedGoals, optimizationOptions);
+        } finally {
+          clusterModel.closeReplicaPlacementJournal(goalJournal);
+        }
+        optimizedGoals.add(goal);
+        statsByGoalPriority.put(goal, clusterModel.getClusterStats(_balancingConstraint, optimizationOptions));
+        optimizationDurationByGoal.put(goal.name(), Duration.ofMillis(_time.milliseconds() - startTimeMs));
 
-      boolean hasDiff = AnalyzerUtils.hasDiff(preOptimizedReplicaDistribution, preOptimizedLeaderDistribution, clusterModel);
-      if (hasDiff || !succeeded) {
-        violatedGoalNamesBeforeOptimization.add(goal.name());
-      }
-      if (!succeeded) {
-        violatedGoalNamesAfterOptimization.add(goal.name());
-      }
+        boolean hasDiff = AnalyzerUtils.hasDiff(goalJournal, clusterModel);
+        if (hasDiff || !succeeded) {
+          violatedGoalNamesBeforeOptimization.add(goal.name());
+        }
+        if (!succeeded) {
+          violatedGoalNamesAfterOptimization.add(goal.name());
+        }
 
-      step.done();
-      if (LOG.isDebugEnabled()) {
-        LOG.debug("Broker level stats after optimization: {}", clusterModel.brokerStats(null));
+        step.done();
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Broker level stats after optimization: {}", clusterModel.brokerStats(null));
+        }
+        provisionResponse.aggregate(goal.provisionResponse());
+        LOG.info("[{}/{}] Generated {} proposals for {}{}. Provision status: {}; aggregated provision status: {}",
+                 optimizedGoals.size(),
+                 _goalsByPriority.size(),
+                 hasDiff ? "some" : "no",
+                 isSelfHealing ? "self-healing " : "",
+                 goal.name(),
+                 goal.provisionResponse().status(),
+                 provisionResponse.status());
+      }
+    } finally {
+      clusterModel.closeReplicaPlacementJournal(optimizationJournal);
+      clusterModel.setActionAcceptanceCache(null);
+      if (actionAcceptanceCache != null) {
+        _actionAcceptanceCacheHitRate.mark(actionAcceptanceCache.numHits());
+        _actionAcceptanceCacheMissRate.mark(actionAcceptanceCache.numMisses());
+        _actionAcceptanceCacheInvalidationRate.mark(actionAcceptanceCache.numInvalidations());
+        LOG.debug("Action acceptance cache of the optimization: {}", actionAcceptanceCache);
       }
-      provisionResponse.aggregate(goal.provisionResponse());
-      LOG.info("[{}/{}] Generated {} proposals for {}{}. Provision status: {}; aggregated provision status: {}",
-               optimizedGoals.size(),
-               _goalsByPriority.size(),
-               hasDiff ? "some" : "no",
-               isSelfHealing ? "self-healing " : "",
-               goal.name(),
-               goal.provisionResponse().status(),
-               provisionResponse.status());
     }
 
-    setHasUnfixableProposalOptimization(false, goalsByPriority);
-
     // Broker level stats in the final cluster state.
     if (LOG.isTraceEnabled()) {
       LOG.trace("Broker level stats after optimization: {}%n", clusterModel.brokerStats(null));
@@ -506,11 +723,9 @@ public class GoalOptimizer implements Runnable {
     // Skip replication factor change check here since in above iteration we already check for each goal it does not change
     // any partition's replication factor.
     Set<ExecutionProposal> proposals =
-        AnalyzerUtils.getDiff(initReplicaDistributionForProposalGeneration != null ? initReplicaDistributionForProposalGeneration
-                                                                                   : initReplicaDistribution,
-                              initLeaderDistribution,
-                              clusterModel,
-                              true);
+        initReplicaDistributionForProposalGeneration != null
+        ? AnalyzerUtils.getDiff(initReplicaDistributionForProposalGeneration, initLeaderDistribution, clusterModel, true)
+        : AnalyzerUtils.getDiff(optimizationJournal, clusterModel, true);
     return new OptimizerResult(statsByGoalPriority,
                                violatedGoalNamesBeforeOptimization,
                                violatedGoalNamesAfterOptimization,
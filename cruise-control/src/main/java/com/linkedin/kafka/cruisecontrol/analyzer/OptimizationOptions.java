@@ -21,6 +21,7 @@ public class OptimizationOptions {
   private final Set<Integer> _requestedDestinationBrokerIds;
   private final boolean _onlyMoveImmigrantReplicas;
   private final boolean _fastMode;
+  private final Long _brokerShuffleSeed;
 
   /**
    * Default value for {@link #_isTriggeredByGoalViolation} is false.
@@ -67,7 +68,7 @@ public class OptimizationOptions {
   }
 
   /**
-   * The optimization options intended to be used during optimization of goals.
+   * Default value for {@link #_brokerShuffleSeed} is {@code null}.
    */
   public OptimizationOptions(Set<String> excludedTopics,
                              Set<Integer> excludedBrokersForLeadership,
@@ -76,6 +77,21 @@ public class OptimizationOptions {
                              Set<Integer> requestedDestinationBrokerIds,
                              boolean onlyMoveImmigrantReplicas,
                              boolean fastMode) {
+    this(excludedTopics, excludedBrokersForLeadership, excludedBrokersForReplicaMove, isTriggeredByGoalViolation,
+         requestedDestinationBrokerIds, onlyMoveImmigrantReplicas, fastMode, null);
+  }
+
+  /**
+   * The optimization options intended to be used during optimization of goals.
+   */
+  public OptimizationOptions(Set<String> excludedTopics,
+                             Set<Integer> excludedBrokersForLeadership,
+                             Set<Integer> excludedBrokersForReplicaMove,
+                             boolean isTriggeredByGoalViolation,
+                             Set<Integer> requestedDestinationBrokerIds,
+                             boolean onlyMoveImmigrantReplicas,
+                             boolean fastMode,
+                             Long brokerShuffleSeed) {
     _excludedTopics = validateNotNull(excludedTopics, "Excluded topics cannot be null.");
     _excludedBrokersForLeadership = validateNotNull(excludedBrokersForLeadership, "Excluded brokers for leadership cannot be null.");
     _excludedBrokersForReplicaMove = validateNotNull(excludedBrokersForReplicaMove, "Excluded brokers for replica move cannot be null.");
@@ -83,6 +99,21 @@ public class OptimizationOptions {
     _requestedDestinationBrokerIds = validateNotNull(requestedDestinationBrokerIds, "Requested destination broker ids cannot be null.");
     _onlyMoveImmigrantReplicas = onlyMoveImmigrantReplicas;
     _fastMode = fastMode;
+    _brokerShuffleSeed = brokerShuffleSeed;
+  }
+
+  /**
+   * Create a copy of the given optimization options with the given broker shuffle seed.
+   *
+   * @param optimizationOptions Optimization options to copy.
+   * @param brokerShuffleSeed Seed to shuffle the order in which goals balance brokers, or {@code null} to keep their natural order.
+   * @return A copy of the given optimization options with the given broker shuffle seed.
+   */
+  public static OptimizationOptions withBrokerShuffleSeed(OptimizationOptions optimizationOptions, Long brokerShuffleSeed) {
+    return new OptimizationOptions(optimizationOptions._excludedTopics, optimizationOptions._excludedBrokersForLeadership,
+                                   optimizationOptions._excludedBrokersForReplicaMove, optimizationOptions._isTriggeredByGoalViolation,
+                                   optimizationOptions._requestedDestinationBrokerIds, optimizationOptions._onlyMoveImmigrantReplicas,
+                                   optimizationOptions._fastMode, brokerShuffleSeed);
   }
 
   /**
@@ -134,11 +165,19 @@ public class OptimizationOptions {
     return _fastMode;
   }
 
+  /**
+   * @return Seed to shuffle the order in which goals balance brokers, or {@code null} to balance them in their natural order.
+   */
+  public Long brokerShuffleSeed() {
+    return _brokerShuffleSeed;
+  }
+
   @Override
   public String toString() {
     return String.format("[excludedTopics=%s,excludedBrokersForLeadership=%s,excludedBrokersForReplicaMove=%s,"
-                         + "isTriggeredByGoalViolation=%s,requestedDestinationBrokerIds=%s,onlyMoveImmigrantReplicas=%s,fastMode=%s]",
+                         + "isTriggeredByGoalViolation=%s,requestedDestinationBrokerIds=%s,onlyMoveImmigrantReplicas=%s,fastMode=%s,"
+                         + "brokerShuffleSeed=%s]",
                          _excludedTopics, _excludedBrokersForLeadership, _excludedBrokersForReplicaMove, _isTriggeredByGoalViolation,
-                         _requestedDestinationBrokerIds, _onlyMoveImmigrantReplicas, _fastMode);
+                         _requestedDestinationBrokerIds, _onlyMoveImmigrantReplicas, _fastMode, _brokerShuffleSeed);
   }
 }
@@ -165,6 +165,13 @@ public class OptimizerResult {
     return Collections.unmodifiableSet(_violatedGoalNamesAfterOptimization);
   }
 
+  /**
+   * @return On-demand balancedness score after optimization.
+   */
+  public double onDemandBalancednessScoreAfter() {
+    return _onDemandBalancednessScoreAfter;
+  }
+
   /**
    * @return The model generation.
    */
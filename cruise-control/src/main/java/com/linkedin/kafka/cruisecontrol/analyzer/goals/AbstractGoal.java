@@ -21,8 +21,11 @@ import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModelStats;
 import com.linkedin.kafka.cruisecontrol.model.Disk;
 import com.linkedin.kafka.cruisecontrol.model.Replica;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.SortedSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,8 +98,10 @@ public abstract class AbstractGoal implements Goal {
       SortedSet<Broker> brokenBrokers = clusterModel.brokenBrokers();
       boolean originallyHasExcludedBrokersForReplicaMoveWithReplicas = hasExcludedBrokersForReplicaMoveWithReplicas(clusterModel,
                                                                                                                     optimizationOptions);
+      Long brokerShuffleSeed = optimizationOptions.brokerShuffleSeed();
+      Random brokerShuffleRandom = brokerShuffleSeed == null ? null : new Random(brokerShuffleSeed);
       while (!_finished) {
-        for (Broker broker : brokersToBalance(clusterModel)) {
+        for (Broker broker : brokersInBalancingOrder(clusterModel, brokerShuffleRandom)) {
           rebalanceForBroker(broker, clusterModel, optimizedGoals, optimizationOptions);
         }
         updateGoalState(clusterModel, optimizationOptions);
@@ -134,6 +139,55 @@ public abstract class AbstractGoal implements Goal {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   *   Initializes the goal state as the optimization does, and checks
+   *   {@link #isViolatedOnBroker(Broker, ClusterModel, OptimizationOptions)} for each broker to balance. A failure to
+   *   initialize the goal state indicates a violation that the optimization cannot fix.
+   * </p>
+   */
+  @Override
+  public boolean isViolated(ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    // The provision status cannot be decided without optimization; hence, avoid reporting a stale provision response.
+    _provisionResponse = new ProvisionResponse(UNDECIDED);
+    try {
+      initGoalState(clusterModel, optimizationOptions);
+      for (Broker broker : brokersToBalance(clusterModel)) {
+        if (isViolatedOnBroker(broker, clusterModel, optimizationOptions)) {
+          LOG.debug("Goal {} is violated on broker {}.", name(), broker.id());
+          return true;
+        }
+      }
+      return false;
+    } catch (OptimizationFailureException ofe) {
+      LOG.debug("Goal {} is violated: {}", name(), ofe.getMessage());
+      return true;
+    } finally {
+      // Clear any sorted replicas tracked in the process of initializing the goal state.
+      clusterModel.clearSortedReplicas();
+    }
+  }
+
+  /**
+   * Check whether the requirements of this goal are violated on the given broker -- i.e. whether
+   * {@link #rebalanceForBroker(Broker, ClusterModel, Set, OptimizationOptions)} would attempt to apply balancing actions
+   * to it. The goal state is initialized before this check. The implementation must not modify the given cluster model.
+   * <p>
+   *   The default implementation conservatively considers the goal as violated on every broker.
+   * </p>
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal may be violated on the given broker, {@code false} otherwise.
+   * @throws OptimizationFailureException If the violation cannot be fixed by the optimization.
+   */
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions)
+      throws OptimizationFailureException {
+    return true;
+  }
+
   /**
    * A default implementation
    * @return Dynamically obtained simple name of the class.  Works even with sub-classing
@@ -169,6 +223,25 @@ public abstract class AbstractGoal implements Goal {
     return clusterModel.brokers();
   }
 
+  /**
+   * Get the brokers to balance in the order that the rebalance process will go over them. Brokers are in their natural order
+   * unless a random is given to shuffle them -- e.g. to explore a different optimization path in each start of a
+   * multi-start optimization.
+   *
+   * @param clusterModel The state of the cluster.
+   * @param brokerShuffleRandom Random to shuffle the brokers to balance, or {@code null} to keep their natural order.
+   * @return Brokers to balance in the order that the rebalance process will go over them.
+   */
+  private Collection<Broker> brokersInBalancingOrder(ClusterModel clusterModel, Random brokerShuffleRandom) {
+    SortedSet<Broker> brokersToBalance = brokersToBalance(clusterModel);
+    if (brokerShuffleRandom == null) {
+      return brokersToBalance;
+    }
+    List<Broker> brokers = new ArrayList<>(brokersToBalance);
+    Collections.shuffle(brokers, brokerShuffleRandom);
+    return brokers;
+  }
+
   /**
    * Check if requirements of this goal are not violated if this action is applied to the given cluster state,
    * {@code false} otherwise.
@@ -240,7 +313,14 @@ public abstract class AbstractGoal implements Goal {
       LOG.trace("Applying {} to an online replica in in self-healing mode.", action);
     }
     List<Broker> eligibleBrokers = eligibleBrokers(clusterModel, replica, candidateBrokers, action, optimizationOptions);
+    // Skip the brokers without the headroom for the replica upfront, as the capacity goals would reject them anyway.
+    CandidateBrokerFilter candidateBrokerFilter = action == ActionType.INTER_BROKER_REPLICA_MOVEMENT
+                                                  ? CandidateBrokerFilter.forReplicaMovement(replica, this, optimizedGoals) : null;
     for (Broker broker : eligibleBrokers) {
+      if (candidateBrokerFilter != null && !candidateBrokerFilter.hasHeadroom(broker)) {
+        LOG.trace("Broker {} lacks the headroom to take replica {}.", broker.id(), replica);
+        continue;
+      }
       BalancingAction proposal = new BalancingAction(replica.topicPartition(), replica.broker().id(), broker.id(), action);
       // A replica should be moved if:
       // 0. The move is legit.
@@ -130,6 +130,25 @@ public abstract class AbstractRackAwareGoal extends AbstractGoal {
                                                                     Replica sourceReplica,
                                                                     Broker destinationBroker);
 
+  /**
+   * The goal is violated on a broker if any of its replicas to balance is offline, resides in a dead broker, or should not
+   * stay in the current broker due to the specific requirements of this custom rack aware goal.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    for (Replica replica : broker.trackedSortedReplicas(replicaSortName(this, false, false)).sortedReplicas(false)) {
+      if (!broker.isAlive() || broker.currentOfflineReplicas().contains(replica) || !shouldKeepInTheCurrentBroker(replica, clusterModel)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Rebalance the given broker without violating the constraints of this custom rack aware goal and optimized goals.
    *
@@ -198,6 +198,28 @@ public class BrokerSetAwareGoal extends AbstractGoal {
     }
   }
 
+  /**
+   * The goal is violated on a broker if it is dead and has replicas to balance, or any of its replicas to balance is not
+   * eligible to reside in the broker set of the broker.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions)
+      throws OptimizationFailureException {
+    String currentBrokerSetId = _brokerSetResolutionHelper.brokerSetId(broker.id());
+    for (Replica replica : broker.trackedSortedReplicas(replicaSortName(this, false, false)).sortedReplicas(false)) {
+      if (!broker.isAlive() || !_replicaToBrokerSetMappingPolicy.brokerSetIdForReplica(replica, clusterModel, _brokerSetResolutionHelper)
+                                                                 .equals(currentBrokerSetId)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * brokerSet-awareness violations can be resolved with replica movements.
    *
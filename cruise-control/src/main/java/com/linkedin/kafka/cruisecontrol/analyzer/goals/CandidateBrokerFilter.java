@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.analyzer.goals;
+
+import com.linkedin.kafka.cruisecontrol.model.Broker;
+import com.linkedin.kafka.cruisecontrol.model.Replica;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * A filter over the candidate destination brokers of an inter-broker replica movement, which rejects the brokers that lack
+ * the headroom under the capacity limit of a capacity goal to take the load of the replica. Such a movement would be
+ * rejected by the capacity goal anyway, but the filter only compares a few utilization values per broker, whereas
+ * the regular path runs {@link GoalUtils#legitMove}, the self-satisfaction check of the current goal, and the action
+ * acceptance of each optimized goal preceding the capacity goal.
+ *
+ * <p>Only the built-in capacity goals are considered, whose acceptance of an inter-broker replica movement is exactly
+ * the headroom check; hence, filtering never changes which broker a balancing action picks.</p>
+ */
+final class CandidateBrokerFilter {
+  private static final Set<Class<? extends CapacityGoal>> HEADROOM_CHECKING_GOALS =
+      Set.of(CpuCapacityGoal.class, DiskCapacityGoal.class, NetworkInboundCapacityGoal.class, NetworkOutboundCapacityGoal.class);
+  private final List<CapacityGoal> _capacityGoals;
+  // The utilization of the replica for the resource of the capacity goal at the same index.
+  private final double[] _replicaUtilization;
+
+  private CandidateBrokerFilter(List<CapacityGoal> capacityGoals, Replica replica) {
+    _capacityGoals = capacityGoals;
+    _replicaUtilization = new double[capacityGoals.size()];
+    for (int i = 0; i < capacityGoals.size(); i++) {
+      _replicaUtilization[i] = replica.load().expectedUtilizationFor(capacityGoals.get(i).resource());
+    }
+  }
+
+  /**
+   * Create a filter for the movement of the given replica.
+   *
+   * @param replica Replica to move.
+   * @param currentGoal The goal that is being optimized.
+   * @param optimizedGoals Optimized goals.
+   * @return A filter for the candidate destination brokers of the given replica, or {@code null} if neither the current
+   * goal nor any of the optimized goals is a capacity goal.
+   */
+  static CandidateBrokerFilter forReplicaMovement(Replica replica, Goal currentGoal, Set<Goal> optimizedGoals) {
+    List<CapacityGoal> capacityGoals = null;
+    for (Goal goal : optimizedGoals) {
+      if (HEADROOM_CHECKING_GOALS.contains(goal.getClass())) {
+        if (capacityGoals == null) {
+          capacityGoals = new ArrayList<>();
+        }
+        capacityGoals.add((CapacityGoal) goal);
+      }
+    }
+    // The self-satisfaction check of a capacity goal is the same headroom check.
+    if (HEADROOM_CHECKING_GOALS.contains(currentGoal.getClass())) {
+      if (capacityGoals == null) {
+        capacityGoals = new ArrayList<>();
+      }
+      capacityGoals.add((CapacityGoal) currentGoal);
+    }
+    return capacityGoals == null ? null : new CandidateBrokerFilter(capacityGoals, replica);
+  }
+
+  /**
+   * @param destinationBroker Candidate destination broker.
+   * @return {@code true} if the given broker has enough headroom to take the load of the replica under the capacity limits
+   * of all capacity goals, {@code false} otherwise.
+   */
+  boolean hasHeadroom(Broker destinationBroker) {
+    for (int i = 0; i < _capacityGoals.size(); i++) {
+      if (!_capacityGoals.get(i).isUtilizationUnderLimitAfterAddingLoad(destinationBroker, _replicaUtilization[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -255,6 +255,24 @@ public abstract class CapacityGoal extends AbstractGoal {
     }
   }
 
+  /**
+   * The goal is violated on a broker if (1) the utilization of the broker and/or its host for the current resource is
+   * over the capacity limit, or (2) the broker has offline replicas.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    Resource currentResource = resource();
+    double capacityThreshold = _balancingConstraint.capacityThreshold(currentResource);
+    return !broker.currentOfflineReplicas().isEmpty()
+           || isUtilizationOverLimit(broker, currentResource, broker.capacityFor(currentResource) * capacityThreshold,
+                                     broker.host().capacityFor(currentResource) * capacityThreshold);
+  }
+
   /**
    * (1) REBALANCE BY LEADERSHIP MOVEMENT:
    * Perform leadership movement to ensure that the load on brokers and/or hosts (see {@link Resource#isHostResource()}
@@ -449,7 +467,7 @@ public abstract class CapacityGoal extends AbstractGoal {
    * @param replicaUtilization Replica utilization for the given resource.
    * @return {@code true} if utilization is equal or above the capacity limit, {@code false} otherwise.
    */
-  private boolean isUtilizationUnderLimitAfterAddingLoad(Broker destinationBroker, double replicaUtilization) {
+  boolean isUtilizationUnderLimitAfterAddingLoad(Broker destinationBroker, double replicaUtilization) {
     Resource resource = resource();
     double capacityThreshold = _balancingConstraint.capacityThreshold(resource);
 
@@ -68,6 +68,26 @@ public interface Goal extends CruiseControlConfigurable {
   boolean optimize(ClusterModel clusterModel, Set<Goal> optimizedGoals, OptimizationOptions optimizationOptions)
       throws KafkaCruiseControlException;
 
+  /**
+   * Check whether the requirements of this goal are violated in the given cluster model without optimizing it.
+   * <p>
+   *   The implementation must not apply any balancing action to the given cluster model. It is intended to be a cheap
+   *   read-only evaluation based on the existing broker, disk, and rack aggregates, so that the caller can skip
+   *   {@link #optimize(ClusterModel, Set, OptimizationOptions)} for goals that are already satisfied.
+   * </p>
+   * <p>
+   *   The default implementation conservatively considers the goal as violated. Hence, goals that do not override this
+   *   method are always optimized to check their violation.
+   * </p>
+   *
+   * @param clusterModel The cluster model reflecting the current state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal may be violated in the given cluster model, {@code false} if it is satisfied.
+   */
+  default boolean isViolated(ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    return true;
+  }
+
   /**
    * Check whether the given action is acceptable by this goal in the given state of the cluster. An action is
    * (1) accepted by a goal if it satisfies requirements of the goal, or (2) rejected by a goal if it violates its
@@ -172,6 +172,19 @@ public class IntraBrokerDiskCapacityGoal extends AbstractGoal {
     return shouldMoveReplica && isMovementAcceptableForCapacity(sourceReplica, destinationDisk);
   }
 
+  /**
+   * The goal is violated on a broker if the utilization of any of its alive disks is over the capacity limit.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    return broker.disks().stream().filter(Disk::isAlive).anyMatch(this::isUtilizationOverLimit);
+  }
+
   /**
    * Perform optimization via replica movement cross disks on broker to ensure balance: The load on each alive disk
    * is under the disk's the capacity limit.
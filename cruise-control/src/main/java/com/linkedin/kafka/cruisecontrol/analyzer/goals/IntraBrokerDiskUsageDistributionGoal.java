@@ -237,6 +237,23 @@ public class IntraBrokerDiskUsageDistributionGoal extends AbstractGoal {
     return abs(nextDiff) < abs(prevDiff);
   }
 
+  /**
+   * The goal is violated on a broker if the utilization percentage of any of its alive disks is outside the balance limits
+   * of the broker.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    double upperLimit = _balanceUpperThresholdByBroker.get(broker);
+    double lowerLimit = _balanceLowerThresholdByBroker.get(broker);
+    return broker.disks().stream().filter(Disk::isAlive)
+                 .anyMatch(disk -> diskUtilizationPercentage(disk) > upperLimit || diskUtilizationPercentage(disk) < lowerLimit);
+  }
+
   /**
    * (1) REBALANCE BY REPLICA MOVEMENT:
    * Perform optimization via replica movement between disks to ensure balance: The load on disks are within range.
@@ -204,6 +204,19 @@ public class LeaderBytesInDistributionGoal extends AbstractGoal {
     finish();
   }
 
+  /**
+   * The goal is violated on a broker if the leader bytes in of the broker is not under the balance threshold.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    return broker.leadershipLoadForNwResources().expectedUtilizationFor(Resource.NW_IN) >= balanceThreshold(clusterModel, broker.id());
+  }
+
   @Override
   protected void rebalanceForBroker(Broker broker,
                                     ClusterModel clusterModel,
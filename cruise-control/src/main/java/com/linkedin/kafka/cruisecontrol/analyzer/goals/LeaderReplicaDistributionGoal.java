@@ -125,6 +125,27 @@ public class LeaderReplicaDistributionGoal extends ReplicaDistributionAbstractGo
     return new LeaderReplicaDistributionGoalStatsComparator();
   }
 
+  /**
+   * The goal is violated on an alive broker if its leader replica count is outside the balance limits, or it is excluded
+   * for replica move but has leader replicas. If only offline replicas are to be fixed, a broker with offline replicas
+   * also violates the goal.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    if (_fixOfflineReplicasOnly && !broker.currentOfflineReplicas().isEmpty()) {
+      return true;
+    }
+    int numLeaderReplicas = broker.leaderReplicas().size();
+    boolean isExcludedForReplicaMove = isExcludedForReplicaMove(broker);
+    return broker.isAlive() && (numLeaderReplicas > (isExcludedForReplicaMove ? 0 : _balanceUpperLimit)
+                                || (!isExcludedForReplicaMove && numLeaderReplicas < _balanceLowerLimit));
+  }
+
   /**
    * Rebalance the given broker without violating the constraints of the current goal and optimized goals.
    *
@@ -307,6 +307,26 @@ public class MinTopicLeadersPerBrokerGoal extends AbstractGoal {
     }
   }
 
+  /**
+   * The goal is violated on a broker if (1) it has offline replicas, or (2) it is alive and eligible to have leaders, but
+   * has fewer than the minimum number of leaders for any topic that must have leaders on each broker.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    if (!broker.currentOfflineReplicas().isEmpty()) {
+      return true;
+    }
+    if (_mustHaveTopicMinLeadersPerBroker.isEmpty() || !(broker.isAlive() && isEligibleToHaveLeaders(broker, optimizationOptions))) {
+      return false;
+    }
+    return _mustHaveTopicMinLeadersPerBroker.keySet().stream().anyMatch(topic -> broker.numLeadersFor(topic) < minTopicLeadersPerBroker(topic));
+  }
+
   /**
    * Rebalance the given broker without violating the constraints of the current goal and optimized goals.
    * @param broker         Broker to be balanced.
@@ -258,6 +258,23 @@ public class PotentialNwOutGoal extends AbstractGoal {
     finish();
   }
 
+  /**
+   * The goal is violated on a broker if (1) its estimated maximum possible outbound network utilization is over the
+   * capacity limit, or (2) only offline replicas are to be fixed and the broker has offline replicas.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    double capacityLimit = broker.capacityFor(Resource.NW_OUT) * _balancingConstraint.capacityThreshold(Resource.NW_OUT);
+    return (_fixOfflineReplicasOnly && !broker.currentOfflineReplicas().isEmpty())
+           || (!broker.replicas().isEmpty()
+               && clusterModel.potentialLeadershipLoadFor(broker.id()).expectedUtilizationFor(Resource.NW_OUT) > capacityLimit);
+  }
+
   /**
    * Rebalance the given broker without violating the constraints of the current goal and optimized goals.
    *
@@ -174,6 +174,34 @@ public class PreferredLeaderElectionGoal implements Goal {
     return relocatedLeadership;
   }
 
+  /**
+   * The goal is violated if (1) the cluster has a demoted broker or disk, or (2) the first replica of any partition is
+   * on an alive broker that is not excluded for leadership, is online, and is not the leader.
+   *
+   * @param clusterModel The cluster model reflecting the current state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated in the given cluster model, {@code false} otherwise.
+   */
+  @Override
+  public boolean isViolated(ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    sanityCheckOptimizationOptions(optimizationOptions);
+    for (Broker b : clusterModel.aliveBrokers()) {
+      if (b.isDemoted() || b.disks().stream().anyMatch(d -> d.state() == Disk.State.DEMOTED)) {
+        return true;
+      }
+    }
+    Set<Integer> excludedBrokersForLeadership = optimizationOptions.excludedBrokersForLeadership();
+    for (List<Partition> partitions : clusterModel.getPartitionsByTopic().values()) {
+      for (Partition p : partitions) {
+        Replica r = p.replicas().get(0);
+        if (r.broker().isAlive() && !r.isCurrentOffline() && !r.isLeader() && !excludedBrokersForLeadership.contains(r.broker().id())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   @Override
   public ActionAcceptance actionAcceptance(BalancingAction action, ClusterModel clusterModel) {
     return ACCEPT;
@@ -210,6 +210,22 @@ public class ReplicaCapacityGoal extends AbstractGoal {
     }
   }
 
+  /**
+   * The goal is violated on a broker if it has a replica to move and either (1) its replica count exceeds the maximum
+   * allowed number of replicas per broker, or (2) it has offline replicas.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    SortedSet<Replica> replicas = broker.trackedSortedReplicas(replicaSortName(this, false, false)).sortedReplicas(false);
+    // Offline replicas are prioritized in the sorted replicas; hence, the first replica is offline if the broker has offline replicas.
+    return !replicas.isEmpty() && (broker.replicas().size() > _balancingConstraint.maxReplicasPerBroker() || replicas.first().isCurrentOffline());
+  }
+
   /**
    * Rebalance the given broker without violating the constraints of the current goal and optimized goals.
    * @param broker         Broker to be balanced.
@@ -170,6 +170,32 @@ public class ReplicaDistributionGoal extends ReplicaDistributionAbstractGoal {
     }
   }
 
+  /**
+   * The goal is violated on a broker if it has offline replicas, its replica count is outside the balance limits, or it
+   * is excluded for replica move but has replicas -- unless no replica can be moved for the broker due to the presence of
+   * new brokers or due to moving only immigrant replicas.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    int numReplicas = broker.replicas().size();
+    int numOfflineReplicas = broker.currentOfflineReplicas().size();
+    boolean isExcludedForReplicaMove = isExcludedForReplicaMove(broker);
+    boolean requireLessReplicas = numOfflineReplicas > 0 || numReplicas > _balanceUpperLimit || (isExcludedForReplicaMove && numReplicas > 0);
+    boolean requireMoreReplicas = !isExcludedForReplicaMove && broker.isAlive() && numReplicas - numOfflineReplicas < _balanceLowerLimit;
+    if (broker.isAlive() && !requireMoreReplicas && !requireLessReplicas) {
+      return false;
+    } else if (!clusterModel.newBrokers().isEmpty() && !broker.isNew() && !requireLessReplicas) {
+      return false;
+    }
+    return !(((!clusterModel.selfHealingEligibleReplicas().isEmpty() && numOfflineReplicas == 0) || optimizationOptions.onlyMoveImmigrantReplicas())
+             && requireLessReplicas && broker.immigrantReplicas().isEmpty());
+  }
+
   /**
    * Rebalance the given broker without violating the constraints of the current goal and optimized goals.
    *
@@ -359,6 +359,30 @@ public abstract class ResourceDistributionGoal extends AbstractGoal {
     return !_brokersAllowedReplicaMove.contains(broker.id());
   }
 
+  /**
+   * The goal is violated on a broker if it has offline replicas, or its load is outside the balance limits -- unless the
+   * cluster is in self-healing mode and the broker requiring less load has no immigrant replicas to move out.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    if (!broker.currentOfflineReplicas().isEmpty()) {
+      return true;
+    }
+    boolean isExcludedForReplicaMove = isExcludedForReplicaMove(broker);
+    boolean requireLessLoad = (isExcludedForReplicaMove && !broker.replicas().isEmpty()) || !isLoadUnderBalanceUpperLimit(broker);
+    boolean requireMoreLoad = !isExcludedForReplicaMove && !isLoadAboveBalanceLowerLimit(broker);
+    if (!requireLessLoad) {
+      return requireMoreLoad;
+    }
+    boolean moveImmigrantsOnly = !clusterModel.selfHealingEligibleReplicas().isEmpty() || optimizationOptions.onlyMoveImmigrantReplicas();
+    return !moveImmigrantsOnly || !broker.immigrantReplicas().isEmpty();
+  }
+
   /**
    * (1) REBALANCE BY LEADERSHIP MOVEMENT:
    * Perform leadership movement to ensure that the load on brokers for the outbound network and CPU load is under the
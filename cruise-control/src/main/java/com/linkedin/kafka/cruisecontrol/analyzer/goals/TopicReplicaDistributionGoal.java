@@ -379,6 +379,37 @@ public class TopicReplicaDistributionGoal extends AbstractGoal {
     return _avgTopicReplicasOnAliveBroker.get(topic) == null;
   }
 
+  /**
+   * The goal is violated on a broker if the rebalance of any of its topics that is not excluded from rebalance would not be
+   * skipped -- see {@link #skipBrokerRebalance(Broker, ClusterModel, Collection, boolean, boolean, boolean, boolean)}.
+   *
+   * @param broker Broker to check.
+   * @param clusterModel The state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated on the given broker, {@code false} otherwise.
+   */
+  @Override
+  protected boolean isViolatedOnBroker(Broker broker, ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    boolean isExcludedForReplicaMove = isExcludedForReplicaMove(broker);
+    for (String topic : broker.topics()) {
+      if (isTopicExcludedFromRebalance(topic)) {
+        continue;
+      }
+      Collection<Replica> replicas = broker.replicasOfTopicInBroker(topic);
+      int numTopicReplicas = replicas.size();
+      int numOfflineTopicReplicas = GoalUtils.retainCurrentOfflineBrokerReplicas(broker, replicas).size();
+      boolean requireLessReplicas = numOfflineTopicReplicas > 0 || numTopicReplicas > _balanceUpperLimitByTopic.get(topic)
+                                    || isExcludedForReplicaMove;
+      boolean requireMoreReplicas = !isExcludedForReplicaMove && broker.isAlive()
+                                    && numTopicReplicas - numOfflineTopicReplicas < _balanceLowerLimitByTopic.get(topic);
+      if (!skipBrokerRebalance(broker, clusterModel, replicas, requireLessReplicas, requireMoreReplicas, numOfflineTopicReplicas > 0,
+                               optimizationOptions.onlyMoveImmigrantReplicas())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Rebalance the given broker without violating the constraints of the current goal and optimized goals.
    *
@@ -143,6 +143,22 @@ public class KafkaAssignerDiskUsageDistributionGoal implements Goal {
     return succeeded;
   }
 
+  /**
+   * The goal is violated if the disk usage of any alive broker is out of the allowed usage range.
+   *
+   * @param clusterModel The cluster model reflecting the current state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated in the given cluster model, {@code false} otherwise.
+   */
+  @Override
+  public boolean isViolated(ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    KafkaAssignerUtils.sanityCheckOptimizationOptions(optimizationOptions);
+    double meanDiskUsage = clusterModel.load().expectedUtilizationFor(DISK) / clusterModel.capacityFor(DISK);
+    double upperThreshold = meanDiskUsage * (1 + balancePercentageWithMargin());
+    double lowerThreshold = meanDiskUsage * Math.max(0, (1 - balancePercentageWithMargin()));
+    return clusterModel.aliveBrokers().stream().mapToDouble(this::diskUsage).anyMatch(u -> u < lowerThreshold || u > upperThreshold);
+  }
+
   /**
    * Check whether the cluster model still has brokers whose disk usage are above upper threshold or below lower
    * threshold.
@@ -85,11 +85,27 @@ public class KafkaAssignerEvenRackAwareGoal implements Goal {
     // 1. Initialize partitions by topic.
     _partitionsByTopic = clusterModel.getPartitionsByTopic();
 
-    // 2. Initialize the number of excluded replicas by position for each broker.
+    // 2-3. Initialize the alive broker replica count by position.
+    _aliveBrokerReplicaCountByPosition.putAll(aliveBrokerReplicaCountByPosition(clusterModel, _partitionsByTopic, excludedTopics));
+  }
+
+  /**
+   * Get the alive broker replica count by position, where each broker starts with the number of its excluded replicas
+   * in the relevant position.
+   *
+   * @param clusterModel The state of the cluster.
+   * @param partitionsByTopic Partitions by topic.
+   * @param excludedTopics The topics that should be excluded from the optimization action.
+   * @return The alive brokers sorted by their replica count for each position.
+   */
+  private static Map<Integer, SortedSet<BrokerReplicaCount>> aliveBrokerReplicaCountByPosition(ClusterModel clusterModel,
+                                                                                              Map<String, List<Partition>> partitionsByTopic,
+                                                                                              Set<String> excludedTopics) {
+    // Initialize the number of excluded replicas by position for each broker.
     Map<Integer, Map<Integer, Integer>> numExcludedReplicasByPositionInBroker = new HashMap<>();
     clusterModel.brokers().forEach(broker -> numExcludedReplicasByPositionInBroker.put(broker.id(), new HashMap<>()));
     for (String excludedTopic : excludedTopics) {
-      for (Partition partition : _partitionsByTopic.get(excludedTopic)) {
+      for (Partition partition : partitionsByTopic.get(excludedTopic)) {
         // Add 1 to the number of excluded replicas in relevant position for the broker that the replica resides in.
         // Leader is at position 0.
         int position = 0;
@@ -103,7 +119,8 @@ public class KafkaAssignerEvenRackAwareGoal implements Goal {
       }
     }
 
-    // 3. Initialize the alive broker replica count by position.
+    // Initialize the alive broker replica count by position.
+    Map<Integer, SortedSet<BrokerReplicaCount>> aliveBrokerReplicaCountByPosition = new HashMap<>();
     int maxReplicationFactor = clusterModel.maxReplicationFactor();
     for (int i = 0; i < maxReplicationFactor; i++) {
       SortedSet<BrokerReplicaCount> aliveBrokersByReplicaCount = new TreeSet<>();
@@ -112,8 +129,96 @@ public class KafkaAssignerEvenRackAwareGoal implements Goal {
         BrokerReplicaCount brokerReplicaCount = new BrokerReplicaCount(broker, numExcludedReplicasInPosition);
         aliveBrokersByReplicaCount.add(brokerReplicaCount);
       }
-      _aliveBrokerReplicaCountByPosition.put(i, aliveBrokersByReplicaCount);
+      aliveBrokerReplicaCountByPosition.put(i, aliveBrokersByReplicaCount);
+    }
+    return aliveBrokerReplicaCountByPosition;
+  }
+
+  /**
+   * Check whether the optimization would relocate any replica in the given cluster model. The goal is violated if
+   * (1) rack awareness is not satisfiable, (2) the leader of a partition is not its first replica, or (3) a replica is
+   * offline, or does not reside on the broker that the optimization would assign it to -- i.e. the first alive broker
+   * in the order of {@link BrokerReplicaCount} among the racks that do not host the replicas in the preceding positions
+   * of its partition. The check replays the assignment on the replica counts by position without relocating any replica,
+   * and stops at the first replica that the optimization would relocate.
+   *
+   * @param clusterModel The cluster model reflecting the current state of the cluster.
+   * @param optimizationOptions Options to take into account while checking the violation.
+   * @return {@code true} if the goal is violated in the given cluster model, {@code false} otherwise.
+   */
+  @Override
+  public boolean isViolated(ClusterModel clusterModel, OptimizationOptions optimizationOptions) {
+    KafkaAssignerUtils.sanityCheckOptimizationOptions(optimizationOptions);
+    Set<String> excludedTopics = optimizationOptions.excludedTopics();
+    try {
+      ensureRackAwareSatisfiable(clusterModel, excludedTopics);
+    } catch (OptimizationFailureException ofe) {
+      return true;
+    }
+
+    Map<String, List<Partition>> partitionsByTopic = clusterModel.getPartitionsByTopic();
+    // The optimization moves the leader of each partition to the first position.
+    for (List<Partition> partitions : partitionsByTopic.values()) {
+      for (Partition partition : partitions) {
+        if (partition.replicas().get(0) != partition.leader()) {
+          return true;
+        }
+      }
+    }
+
+    Map<Integer, SortedSet<BrokerReplicaCount>> aliveBrokerReplicaCountByPosition =
+        aliveBrokerReplicaCountByPosition(clusterModel, partitionsByTopic, excludedTopics);
+    int maxReplicationFactor = clusterModel.maxReplicationFactor();
+    for (int position = 0; position < maxReplicationFactor; position++) {
+      for (List<Partition> partitions : partitionsByTopic.values()) {
+        for (Partition partition : partitions) {
+          if (partition.replicas().size() <= position || shouldExclude(partition, position, excludedTopics)) {
+            continue;
+          }
+          if (!isAssigned(partition, position, aliveBrokerReplicaCountByPosition.get(position))) {
+            return true;
+          }
+        }
+      }
     }
+    return false;
+  }
+
+  /**
+   * Check whether the replica in the given position of the given partition resides on the broker that
+   * {@link #maybeApplyMove(ClusterModel, Partition, int)} would assign it to. If so, the replica count of the broker is
+   * incremented as if the assignment was applied.
+   *
+   * @param partition The partition whose replica is checked.
+   * @param replicaPosition The position of the replica in the given partition.
+   * @param aliveBrokersByReplicaCount The alive brokers sorted by their replica count in the given position.
+   * @return {@code true} if the replica resides on the broker that it would be assigned to, {@code false} otherwise.
+   */
+  private boolean isAssigned(Partition partition, int replicaPosition, SortedSet<BrokerReplicaCount> aliveBrokersByReplicaCount) {
+    Replica replica = replicaAtPosition(partition, replicaPosition);
+    if (replica.isCurrentOffline()) {
+      // Offline replicas must be relocated.
+      return false;
+    }
+    // Racks with replica whose position is in [0, replicaPosition - 1] are ineligible for assignment.
+    Set<String> ineligibleRackIds = new HashSet<>();
+    for (int pos = 0; pos < replicaPosition; pos++) {
+      ineligibleRackIds.add(mappedRackIdOf(replicaAtPosition(partition, pos).broker()));
+    }
+    for (BrokerReplicaCount brokerReplicaCount : aliveBrokersByReplicaCount) {
+      if (ineligibleRackIds.contains(mappedRackIdOf(brokerReplicaCount.broker()))) {
+        continue;
+      }
+      if (brokerReplicaCount.broker().id() != replica.broker().id()) {
+        // The optimization would either move the replica to the broker, or swap its position with the replica on the broker.
+        return false;
+      }
+      aliveBrokersByReplicaCount.remove(brokerReplicaCount);
+      brokerReplicaCount.incReplicaCount();
+      aliveBrokersByReplicaCount.add(brokerReplicaCount);
+      return true;
+    }
+    return false;
   }
 
   @Override
@@ -146,7 +146,10 @@ public class MetadataClient {
    * @return The current cluster and generation.
    */
   public ClusterAndGeneration clusterAndGeneration() {
-    return new ClusterAndGeneration(cluster(), _metadataGeneration.get());
+    // Get the generation before the cluster, so that the generation never runs ahead of the cluster it is paired with. The
+    // cluster may still run ahead of the generation -- i.e. a new cluster may be paired with the generation of the previous one.
+    int generation = _metadataGeneration.get();
+    return new ClusterAndGeneration(cluster(), generation);
   }
 
   /**
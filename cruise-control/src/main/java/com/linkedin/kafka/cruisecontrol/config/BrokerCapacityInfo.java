@@ -7,6 +7,7 @@ package com.linkedin.kafka.cruisecontrol.config;
 import com.linkedin.kafka.cruisecontrol.common.Resource;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -146,6 +147,24 @@ public class BrokerCapacityInfo {
     return _numCpuCores;
   }
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BrokerCapacityInfo)) {
+      return false;
+    }
+    BrokerCapacityInfo other = (BrokerCapacityInfo) o;
+    return Double.compare(_numCpuCores, other._numCpuCores) == 0 && _capacity.equals(other._capacity)
+           && _estimationInfo.equals(other._estimationInfo) && Objects.equals(_diskCapacityByLogDir, other._diskCapacityByLogDir);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(_capacity, _estimationInfo, _diskCapacityByLogDir, _numCpuCores);
+  }
+
   /**
    * Sanity check to ensure the provided capacity information contains all the resource type.
    * @param capacity The provided capacity map.
@@ -235,6 +235,26 @@ public final class AnalyzerConfig {
   public static final String NUM_PROPOSAL_PRECOMPUTE_THREADS_DOC = "The number of thread used to precompute the "
       + "optimization proposal candidates. The more threads are used, the more memory and CPU resource will be used.";
 
+  /**
+   * <code>num.optimization.starts</code>
+   */
+  public static final String NUM_OPTIMIZATION_STARTS_CONFIG = "num.optimization.starts";
+  public static final int DEFAULT_NUM_OPTIMIZATION_STARTS = 1;
+  public static final String NUM_OPTIMIZATION_STARTS_DOC = "The number of starts of each optimization. If greater than 1, "
+      + "the goal optimizer optimizes this many copies of the cluster model in parallel, each going over the brokers in a "
+      + "different order, and keeps the result with the highest balancedness score, the best cluster model stats and the "
+      + "fewest movements. The more starts are used, the more memory and CPU resource will be used.";
+
+  /**
+   * <code>num.cached.action.acceptances</code>
+   */
+  public static final String NUM_CACHED_ACTION_ACCEPTANCES_CONFIG = "num.cached.action.acceptances";
+  public static final int DEFAULT_NUM_CACHED_ACTION_ACCEPTANCES = 0;
+  public static final String NUM_CACHED_ACTION_ACCEPTANCES_DOC = "The maximum number of action acceptances of the already "
+      + "optimized goals to cache during each optimization. A cached acceptance of a balancing action is reused until the "
+      + "hosts of its brokers or its partitions change, which assumes that the acceptance of an action by a goal depends "
+      + "only on their state, as is the case for the built-in goals. Set to 0 to disable caching.";
+
   /**
    * <code>optimization.options.generator.class</code>
    */
@@ -590,6 +610,18 @@ public final class AnalyzerConfig {
                             between(0, 1),
                             ConfigDef.Importance.LOW,
                             NUM_PROPOSAL_PRECOMPUTE_THREADS_DOC)
+                    .define(NUM_OPTIMIZATION_STARTS_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_NUM_OPTIMIZATION_STARTS,
+                            atLeast(1),
+                            ConfigDef.Importance.LOW,
+                            NUM_OPTIMIZATION_STARTS_DOC)
+                    .define(NUM_CACHED_ACTION_ACCEPTANCES_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_NUM_CACHED_ACTION_ACCEPTANCES,
+                            atLeast(0),
+                            ConfigDef.Importance.LOW,
+                            NUM_CACHED_ACTION_ACCEPTANCES_DOC)
                     .define(GOALS_CONFIG,
                             ConfigDef.Type.LIST,
                             DEFAULT_GOALS,
@@ -171,6 +171,16 @@ public final class AnomalyDetectorConfig {
       + "detector will run to detect goal violations. If this interval time is not specified, goal violation detector "
       + "will run with interval specified in " + ANOMALY_DETECTION_INTERVAL_MS_CONFIG + ".";
 
+  /**
+   * <code>goal.violation.precheck.enabled</code>
+   */
+  public static final String GOAL_VIOLATION_PRECHECK_ENABLED_CONFIG = "goal.violation.precheck.enabled";
+  public static final boolean DEFAULT_GOAL_VIOLATION_PRECHECK_ENABLED = false;
+  public static final String GOAL_VIOLATION_PRECHECK_ENABLED_DOC = "True if goal violation detector checks whether each goal is "
+      + "violated in the cluster model before optimizing it, and optimizes only the goals with a confirmed violation to determine "
+      + "their fixability, false otherwise. Note that goals that are found to be satisfied by this check report an undecided "
+      + "provision status.";
+
   /**
    * <code>metric.anomaly.detection.interval.ms</code>
    */
@@ -407,6 +417,11 @@ public final class AnomalyDetectorConfig {
                             DEFAULT_GOAL_VIOLATION_DETECTION_INTERVAL_MS,
                             ConfigDef.Importance.LOW,
                             GOAL_VIOLATION_DETECTION_INTERVAL_MS_DOC)
+                    .define(GOAL_VIOLATION_PRECHECK_ENABLED_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            DEFAULT_GOAL_VIOLATION_PRECHECK_ENABLED,
+                            ConfigDef.Importance.LOW,
+                            GOAL_VIOLATION_PRECHECK_ENABLED_DOC)
                     .define(METRIC_ANOMALY_DETECTION_INTERVAL_MS_CONFIG,
                             ConfigDef.Type.LONG,
                             DEFAULT_METRIC_ANOMALY_DETECTION_INTERVAL_MS,
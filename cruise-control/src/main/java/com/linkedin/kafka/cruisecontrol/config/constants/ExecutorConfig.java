@@ -9,6 +9,7 @@ import com.linkedin.kafka.cruisecontrol.executor.strategy.BaseReplicaMovementStr
 import com.linkedin.kafka.cruisecontrol.executor.strategy.PostponeUrpReplicaMovementStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.PrioritizeLargeReplicaMovementStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.PrioritizeMinIsrWithOfflineReplicasStrategy;
+import com.linkedin.kafka.cruisecontrol.executor.strategy.PrioritizeMostLoadedBrokerReplicaMovementStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.PrioritizeOneAboveMinIsrWithOfflineReplicasStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.PrioritizeSmallReplicaMovementStrategy;
 import java.util.StringJoiner;
@@ -18,6 +19,7 @@ import org.apache.kafka.common.config.ConfigDef;
 
 import static com.linkedin.kafka.cruisecontrol.servlet.parameters.ParameterUtils.REASON_PARAM;
 import static org.apache.kafka.common.config.ConfigDef.Range.atLeast;
+import static org.apache.kafka.common.config.ConfigDef.Range.between;
 
 
 /**
@@ -176,6 +178,17 @@ public final class ExecutorConfig {
       + "movements the executor will take for a broker as one batch. This is to avoid overwhelming the broker by LeaderAndIsr requests."
       + "It cannot be greater than num.concurrent.leader.movements.";
 
+  /**
+   * <code>num.concurrent.leader.movement.batches</code>
+   */
+  public static final String NUM_CONCURRENT_LEADER_MOVEMENT_BATCHES_CONFIG = "num.concurrent.leader.movement.batches";
+  public static final int DEFAULT_NUM_CONCURRENT_LEADER_MOVEMENT_BATCHES = 1;
+  public static final String NUM_CONCURRENT_LEADER_MOVEMENT_BATCHES_DOC = "The maximum number of leader movement batches "
+      + "that the executor keeps in flight. Each batch is bounded by num.concurrent.leader.movements and "
+      + "num.concurrent.leader.movements.per.broker, and the batches in flight have no partition in common. The leader "
+      + "elections of the batches are submitted in parallel, and a new batch is submitted as soon as all leader movements of "
+      + "an in-flight batch finish.";
+
   /**
    * <code>max.num.cluster.movements</code>
    */
@@ -216,6 +229,7 @@ public final class ExecutorConfig {
       .add(PrioritizeSmallReplicaMovementStrategy.class.getName())
       .add(PrioritizeMinIsrWithOfflineReplicasStrategy.class.getName())
       .add(PrioritizeOneAboveMinIsrWithOfflineReplicasStrategy.class.getName())
+      .add(PrioritizeMostLoadedBrokerReplicaMovementStrategy.class.getName())
       .add(BaseReplicaMovementStrategy.class.getName()).toString();
   public static final String REPLICA_MOVEMENT_STRATEGIES_DOC = "A list of supported strategies used to determine execution"
       + " order for generated partition movement tasks.";
@@ -559,6 +573,50 @@ public final class ExecutorConfig {
   public static final String MIN_EXECUTION_PROGRESS_CHECK_INTERVAL_MS_DOC = "The minimum execution progress check interval that users "
       + "can dynamically set the execution progress check interval to.";
 
+  /**
+   * <code>bandwidth.aware.inter.broker.replica.movement.enabled</code>
+   */
+  public static final String BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_ENABLED_CONFIG =
+      "bandwidth.aware.inter.broker.replica.movement.enabled";
+  public static final boolean DEFAULT_BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_ENABLED = false;
+  public static final String BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_ENABLED_DOC = "Enable bandwidth-aware scheduling of "
+      + "inter-broker replica movements. If enabled, in addition to the per-broker movement concurrency, the executor limits "
+      + "the data of the in-flight partition movements of each source and destination broker to the data that the network "
+      + "headroom of the broker (i.e. its network capacity minus its observed network usage at the start of the movements) "
+      + "can move within bandwidth.aware.inter.broker.replica.movement.window.ms.";
+
+  /**
+   * <code>bandwidth.aware.inter.broker.replica.movement.window.ms</code>
+   */
+  public static final String BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_WINDOW_MS_CONFIG =
+      "bandwidth.aware.inter.broker.replica.movement.window.ms";
+  public static final long DEFAULT_BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_WINDOW_MS = TimeUnit.MINUTES.toMillis(5);
+  public static final String BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_WINDOW_MS_DOC = "The time window in milliseconds "
+      + "within which the network headroom of a broker is expected to move the data of its in-flight partition movements, "
+      + "if bandwidth-aware scheduling of inter-broker replica movements is enabled.";
+
+  /**
+   * <code>execution.phase.co.scheduling.enabled</code>
+   */
+  public static final String EXECUTION_PHASE_CO_SCHEDULING_ENABLED_CONFIG = "execution.phase.co.scheduling.enabled";
+  public static final boolean DEFAULT_EXECUTION_PHASE_CO_SCHEDULING_ENABLED = false;
+  public static final String EXECUTION_PHASE_CO_SCHEDULING_ENABLED_DOC = "Enable co-scheduling of the intra-broker replica "
+      + "movements and leadership movements with the inter-broker replica movements. If enabled, an intra-broker replica "
+      + "movement starts as soon as the inter-broker replica movements of its partition and its broker are finished, and a "
+      + "leadership movement starts as soon as the replica movements of its partition are finished, rather than after all "
+      + "inter-broker replica movements are finished.";
+
+  /**
+   * <code>execution.progress.poll.interval.ms</code>
+   */
+  public static final String EXECUTION_PROGRESS_POLL_INTERVAL_MS_CONFIG = "execution.progress.poll.interval.ms";
+  public static final long DEFAULT_EXECUTION_PROGRESS_POLL_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1);
+  public static final String EXECUTION_PROGRESS_POLL_INTERVAL_MS_DOC = "The interval in milliseconds that the executor polls "
+      + "the ongoing reassignments of in-progress inter-broker partition movements, or the leaders of in-progress leader movements, "
+      + "between two execution progress checks. The executor checks on the execution progress as soon as it observes a finished "
+      + "partition or leader movement, rather than waiting for the execution progress check interval to elapse. Polling is "
+      + "disabled if this interval is not smaller than the execution progress check interval.";
+
   /**
    * <code>slow.task.alerting.backoff.ms</code>
    */
@@ -602,6 +660,46 @@ public final class ExecutorConfig {
   public static final String CONCURRENCY_ADJUSTER_MIN_ISR_RETENTION_MS_DOC = "The maximum time in ms to cache min.insync.replicas of topics."
       + " Relevant only if concurrency adjuster is enabled based on (At/Under)MinISR status of partitions.";
 
+  /**
+   * <code>concurrency.adjuster.feedback.control.enabled</code>
+   */
+  public static final String CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_ENABLED_CONFIG = "concurrency.adjuster.feedback.control.enabled";
+  public static final boolean DEFAULT_CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_ENABLED = false;
+  public static final String CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_ENABLED_DOC = "Enable the feedback control of the per-broker "
+      + "inter-broker partition and leadership movement concurrency. If enabled, rather than increasing or decreasing the concurrency "
+      + "of a broker by a fixed step depending on whether its metrics are within the concurrency adjuster limits, the concurrency "
+      + "adjuster scales the concurrency of each broker to keep its metrics around concurrency.adjuster.feedback.control.target.utilization "
+      + "of their limits. Relevant only if concurrency adjuster itself is enabled.";
+
+  /**
+   * <code>concurrency.adjuster.feedback.control.target.utilization</code>
+   */
+  public static final String CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_TARGET_UTILIZATION_CONFIG =
+      "concurrency.adjuster.feedback.control.target.utilization";
+  public static final double DEFAULT_CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_TARGET_UTILIZATION = 0.7;
+  public static final String CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_TARGET_UTILIZATION_DOC = "The target ratio of the broker metrics to "
+      + "their concurrency adjuster limits, which the feedback control of the concurrency keeps the most utilized metric of each "
+      + "broker around.";
+
+  /**
+   * <code>concurrency.adjuster.feedback.control.proportional.gain</code>
+   */
+  public static final String CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_PROPORTIONAL_GAIN_CONFIG =
+      "concurrency.adjuster.feedback.control.proportional.gain";
+  public static final double DEFAULT_CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_PROPORTIONAL_GAIN = 0.5;
+  public static final String CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_PROPORTIONAL_GAIN_DOC = "The proportional gain of the feedback "
+      + "control of the concurrency, i.e. the relative change of the concurrency of a broker per unit of the difference between "
+      + "the target and the current utilization of the broker.";
+
+  /**
+   * <code>concurrency.adjuster.feedback.control.integral.gain</code>
+   */
+  public static final String CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_INTEGRAL_GAIN_CONFIG = "concurrency.adjuster.feedback.control.integral.gain";
+  public static final double DEFAULT_CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_INTEGRAL_GAIN = 0.1;
+  public static final String CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_INTEGRAL_GAIN_DOC = "The integral gain of the feedback control of "
+      + "the concurrency, i.e. the relative change of the concurrency of a broker per unit of the difference between the target "
+      + "and the utilization of the broker accumulated over the control steps.";
+
   /**
    * <code>auto.stop.external.agent</code>
    */
@@ -610,6 +708,16 @@ public final class ExecutorConfig {
   public static final String AUTO_STOP_EXTERNAL_AGENT_DOC = "When starting a new proposal execution while external agent is reassigning partitions,"
       + " automatically stop the external agent and start the execution."
       + " Set to false to keep the external agent reassignment and skip starting the execution.";
+
+  /**
+   * <code>execution.journal.dir</code>
+   */
+  public static final String EXECUTION_JOURNAL_DIR_CONFIG = "execution.journal.dir";
+  public static final String DEFAULT_EXECUTION_JOURNAL_DIR = "";
+  public static final String EXECUTION_JOURNAL_DIR_DOC = "The local directory of the journal that the executor appends the task plan "
+      + "and the task state transitions of the ongoing execution to. If set, an execution that is interrupted by a restart of "
+      + "Cruise Control is resumed upon startup from its unfinished tasks. This includes an execution that is ongoing upon "
+      + "shutdown. An empty value disables the journal.";
   private ExecutorConfig() {
   }
 
@@ -724,6 +832,12 @@ public final class ExecutorConfig {
                             atLeast(1),
                             ConfigDef.Importance.MEDIUM,
                             NUM_CONCURRENT_LEADER_MOVEMENTS_PER_BROKER_DOC)
+                    .define(NUM_CONCURRENT_LEADER_MOVEMENT_BATCHES_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_NUM_CONCURRENT_LEADER_MOVEMENT_BATCHES,
+                            atLeast(1),
+                            ConfigDef.Importance.LOW,
+                            NUM_CONCURRENT_LEADER_MOVEMENT_BATCHES_DOC)
                     .define(MAX_NUM_CLUSTER_MOVEMENTS_CONFIG,
                             ConfigDef.Type.INT,
                             DEFAULT_MAX_NUM_CLUSTER_MOVEMENTS_CONFIG,
@@ -957,6 +1071,28 @@ public final class ExecutorConfig {
                             atLeast(1),
                             ConfigDef.Importance.MEDIUM,
                             MIN_EXECUTION_PROGRESS_CHECK_INTERVAL_MS_DOC)
+                    .define(BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_ENABLED_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            DEFAULT_BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_ENABLED,
+                            ConfigDef.Importance.MEDIUM,
+                            BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_ENABLED_DOC)
+                    .define(BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_WINDOW_MS_CONFIG,
+                            ConfigDef.Type.LONG,
+                            DEFAULT_BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_WINDOW_MS,
+                            atLeast(1),
+                            ConfigDef.Importance.LOW,
+                            BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_WINDOW_MS_DOC)
+                    .define(EXECUTION_PHASE_CO_SCHEDULING_ENABLED_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            DEFAULT_EXECUTION_PHASE_CO_SCHEDULING_ENABLED,
+                            ConfigDef.Importance.LOW,
+                            EXECUTION_PHASE_CO_SCHEDULING_ENABLED_DOC)
+                    .define(EXECUTION_PROGRESS_POLL_INTERVAL_MS_CONFIG,
+                            ConfigDef.Type.LONG,
+                            DEFAULT_EXECUTION_PROGRESS_POLL_INTERVAL_MS,
+                            atLeast(1),
+                            ConfigDef.Importance.LOW,
+                            EXECUTION_PROGRESS_POLL_INTERVAL_MS_DOC)
                     .define(SLOW_TASK_ALERTING_BACKOFF_TIME_MS_CONFIG,
                             ConfigDef.Type.LONG,
                             DEFAULT_SLOW_TASK_ALERTING_BACKOFF_TIME_MS,
@@ -986,10 +1122,38 @@ public final class ExecutorConfig {
                             atLeast(1),
                             ConfigDef.Importance.LOW,
                             CONCURRENCY_ADJUSTER_MIN_ISR_RETENTION_MS_DOC)
+                    .define(CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_ENABLED_CONFIG,
+                            ConfigDef.Type.BOOLEAN,
+                            DEFAULT_CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_ENABLED,
+                            ConfigDef.Importance.MEDIUM,
+                            CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_ENABLED_DOC)
+                    .define(CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_TARGET_UTILIZATION_CONFIG,
+                            ConfigDef.Type.DOUBLE,
+                            DEFAULT_CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_TARGET_UTILIZATION,
+                            between(0.1, 1.0),
+                            ConfigDef.Importance.LOW,
+                            CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_TARGET_UTILIZATION_DOC)
+                    .define(CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_PROPORTIONAL_GAIN_CONFIG,
+                            ConfigDef.Type.DOUBLE,
+                            DEFAULT_CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_PROPORTIONAL_GAIN,
+                            atLeast(0.0),
+                            ConfigDef.Importance.LOW,
+                            CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_PROPORTIONAL_GAIN_DOC)
+                    .define(CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_INTEGRAL_GAIN_CONFIG,
+                            ConfigDef.Type.DOUBLE,
+                            DEFAULT_CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_INTEGRAL_GAIN,
+                            atLeast(0.0),
+                            ConfigDef.Importance.LOW,
+                            CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_INTEGRAL_GAIN_DOC)
                     .define(AUTO_STOP_EXTERNAL_AGENT_CONFIG,
                             ConfigDef.Type.BOOLEAN,
                             DEFAULT_AUTO_STOP_EXTERNAL_AGENT,
                             ConfigDef.Importance.MEDIUM,
-                            AUTO_STOP_EXTERNAL_AGENT_DOC);
+                            AUTO_STOP_EXTERNAL_AGENT_DOC)
+                    .define(EXECUTION_JOURNAL_DIR_CONFIG,
+                            ConfigDef.Type.STRING,
+                            DEFAULT_EXECUTION_JOURNAL_DIR,
+                            ConfigDef.Importance.LOW,
+                            EXECUTION_JOURNAL_DIR_DOC);
   }
 }
@@ -365,6 +365,17 @@ public final class MonitorConfig {
   public static final String METADATA_FACTOR_EXPONENT_DOC = "The exponent for the metadata factor, which corresponds to "
       + "(number of replicas) * (number of brokers with replicas) ^ exponent.";
 
+  /**
+   * <code>num.cached.cluster.models</code>
+   */
+  public static final String NUM_CACHED_CLUSTER_MODELS_CONFIG = "num.cached.cluster.models";
+  public static final int DEFAULT_NUM_CACHED_CLUSTER_MODELS = 0;
+  public static final String NUM_CACHED_CLUSTER_MODELS_DOC = "The maximum number of cluster models of the latest model "
+      + "generation that the load monitor keeps in memory. A cluster model request with the same time range, completeness "
+      + "requirements, capacity estimation option and broker capacities as a cached cluster model receives a copy of it "
+      + "instead of a newly generated cluster model. Each cached cluster model stays in memory until the model generation "
+      + "or a broker capacity changes. Setting it to 0 disables the cache.";
+
   private MonitorConfig() {
   }
 
@@ -607,6 +618,12 @@ public final class MonitorConfig {
                             DEFAULT_METADATA_FACTOR_EXPONENT,
                             atLeast(1.0),
                             ConfigDef.Importance.LOW,
-                            METADATA_FACTOR_EXPONENT_DOC);
+                            METADATA_FACTOR_EXPONENT_DOC)
+                    .define(NUM_CACHED_CLUSTER_MODELS_CONFIG,
+                            ConfigDef.Type.INT,
+                            DEFAULT_NUM_CACHED_CLUSTER_MODELS,
+                            atLeast(0),
+                            ConfigDef.Importance.LOW,
+                            NUM_CACHED_CLUSTER_MODELS_DOC);
   }
 }
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -53,9 +54,13 @@ public class AnomalyDetectorManager {
   static final String METRIC_REGISTRY_NAME = "AnomalyDetector";
   private static final int INIT_JITTER_BOUND = 10000;
   private static final long SCHEDULER_SHUTDOWN_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
-  // For each anomaly type, one thread is needed to run corresponding anomaly detector.
+  // Failures are cheap to detect and urgent to handle. Hence, their detectors run on dedicated threads, so that their detection
+  // is not delayed by the other -- potentially long-running (e.g. optimization-based) -- detectors.
+  private static final Set<KafkaAnomalyType> FAILURE_ANOMALY_TYPES = Set.of(BROKER_FAILURE, DISK_FAILURE);
+  private static final int NUM_FAILURE_DETECTION_THREADS = FAILURE_ANOMALY_TYPES.size();
+  // For each other anomaly type, one thread is needed to run corresponding anomaly detector.
   // One more thread is needed to run anomaly handler task.
-  private static final int NUM_ANOMALY_DETECTION_THREADS = KafkaAnomalyType.cachedValues().size() + 1;
+  private static final int NUM_ANOMALY_DETECTION_THREADS = KafkaAnomalyType.cachedValues().size() - NUM_FAILURE_DETECTION_THREADS + 1;
   private static final int ANOMALY_QUEUE_INITIAL_CAPACITY = 10;
   private static final Logger LOG = LoggerFactory.getLogger(AnomalyDetectorManager.class);
   private static final Logger OPERATION_LOG = LoggerFactory.getLogger(OPERATION_LOGGER);
@@ -69,6 +74,7 @@ public class AnomalyDetectorManager {
   private final TopicAnomalyDetector _topicAnomalyDetector;
   private final MaintenanceEventDetector _maintenanceEventDetector;
   private final ScheduledExecutorService _detectorScheduler;
+  private final ScheduledExecutorService _failureDetectorScheduler;
   private final Map<KafkaAnomalyType, Long> _anomalyDetectionIntervalMsByType;
   private final long _brokerFailureDetectionBackoffMs;
   private final PriorityBlockingQueue<Anomaly> _anomalies;
@@ -80,6 +86,8 @@ public class AnomalyDetectorManager {
   private final AtomicLong _numCheckedWithDelay;
   private final Object _shutdownLock;
   private final Map<AnomalyType, Timer> _selfHealingFixGenerationTimer;
+  private final Map<AnomalyType, Timer> _detectorRunTimer;
+  private final Time _time;
 
   public AnomalyDetectorManager(KafkaCruiseControl kafkaCruiseControl, Time time, MetricRegistry dropwizardMetricRegistry) {
     // For anomalies of different types, prioritize handling anomaly of higher priority;
@@ -109,7 +117,9 @@ public class AnomalyDetectorManager {
     _kafkaCruiseControl = kafkaCruiseControl;
     _selfHealingGoals = getSelfHealingGoalNames(config);
     sanityCheckGoals(_selfHealingGoals, false, config);
-    _goalViolationDetector = new GoalViolationDetector(_anomalies, _kafkaCruiseControl, dropwizardMetricRegistry);
+    // The goal violation detector and the topic anomaly finders share the cluster models of a model generation.
+    DetectionContext detectionContext = new DetectionContext(_kafkaCruiseControl);
+    _goalViolationDetector = new GoalViolationDetector(_anomalies, _kafkaCruiseControl, detectionContext, dropwizardMetricRegistry);
     if (config.getBoolean(AnomalyDetectorConfig.KAFKA_BROKER_FAILURE_DETECTION_ENABLE_CONFIG)) {
       _brokerFailureDetector = new KafkaBrokerFailureDetector(_anomalies, _kafkaCruiseControl);
     } else {
@@ -117,10 +127,12 @@ public class AnomalyDetectorManager {
     }
     _metricAnomalyDetector = new MetricAnomalyDetector(_anomalies, _kafkaCruiseControl);
     _diskFailureDetector = new DiskFailureDetector(_anomalies, _kafkaCruiseControl);
-    _topicAnomalyDetector = new TopicAnomalyDetector(_anomalies, _kafkaCruiseControl);
+    _topicAnomalyDetector = new TopicAnomalyDetector(_anomalies, _kafkaCruiseControl, detectionContext);
     _maintenanceEventDetector = new MaintenanceEventDetector(_anomalies, _kafkaCruiseControl);
     _detectorScheduler = Executors.newScheduledThreadPool(NUM_ANOMALY_DETECTION_THREADS,
                                                           new KafkaCruiseControlThreadFactory(METRIC_REGISTRY_NAME, false, LOG));
+    _failureDetectorScheduler = Executors.newScheduledThreadPool(NUM_FAILURE_DETECTION_THREADS,
+                                                                 new KafkaCruiseControlThreadFactory("FailureDetector", false, LOG));
     _shutdown = false;
     // Add anomaly detector state
     int numCachedRecentAnomalyStates = config.getInt(AnomalyDetectorConfig.NUM_CACHED_RECENT_ANOMALY_STATES_CONFIG);
@@ -131,8 +143,10 @@ public class AnomalyDetectorManager {
     _shutdownLock = new Object();
     // Register sensors.
     _selfHealingFixGenerationTimer = new HashMap<>();
+    _detectorRunTimer = new HashMap<>();
     registerSensors(dropwizardMetricRegistry);
     _anomalyDetectorState = new AnomalyDetectorState(time, _anomalyNotifier, numCachedRecentAnomalyStates, dropwizardMetricRegistry);
+    _time = time;
   }
 
   /**
@@ -148,7 +162,8 @@ public class AnomalyDetectorManager {
                          DiskFailureDetector diskFailureDetector,
                          TopicAnomalyDetector topicAnomalyDetector,
                          MaintenanceEventDetector maintenanceEventDetector,
-                         ScheduledExecutorService detectorScheduler) {
+                         ScheduledExecutorService detectorScheduler,
+                         ScheduledExecutorService failureDetectorScheduler) {
     _anomalies = anomalies;
     _anomalyDetectionIntervalMsByType = new HashMap<>();
     KafkaAnomalyType.cachedValues().forEach(type -> _anomalyDetectionIntervalMsByType.put(type, anomalyDetectionIntervalMs));
@@ -163,6 +178,7 @@ public class AnomalyDetectorManager {
     _maintenanceEventDetector = maintenanceEventDetector;
     _kafkaCruiseControl = kafkaCruiseControl;
     _detectorScheduler = detectorScheduler;
+    _failureDetectorScheduler = failureDetectorScheduler;
     _shutdown = false;
     _selfHealingGoals = Collections.emptyList();
     _anomalyLoggerExecutor = Executors.newSingleThreadScheduledExecutor(new KafkaCruiseControlThreadFactory("AnomalyLogger"));
@@ -171,8 +187,11 @@ public class AnomalyDetectorManager {
     _shutdownLock = new Object();
     _selfHealingFixGenerationTimer = new HashMap<>();
     cachedValues().forEach(anomalyType -> _selfHealingFixGenerationTimer.put(anomalyType, new Timer()));
+    // Detectors are scheduled as is, without timing their runs.
+    _detectorRunTimer = Collections.emptyMap();
     // Add anomaly detector state
     _anomalyDetectorState = new AnomalyDetectorState(new SystemTime(), _anomalyNotifier, 10, null);
+    _time = new SystemTime();
   }
 
   /**
@@ -217,16 +236,41 @@ public class AnomalyDetectorManager {
           MetricRegistry.name(ANOMALY_DETECTOR_SENSOR, String.format("%s-self-healing-fix-generation-timer", anomalyType.toString().toLowerCase())));
       _selfHealingFixGenerationTimer.put(anomalyType, timer);
     }
+
+    // The time taken by each run of the periodic anomaly detector of each anomaly type
+    for (KafkaAnomalyType anomalyType : KafkaAnomalyType.cachedValues()) {
+      if (anomalyType != MAINTENANCE_EVENT) {
+        Timer timer = dropwizardMetricRegistry.timer(
+            MetricRegistry.name(ANOMALY_DETECTOR_SENSOR, String.format("%s-detector-run-timer", anomalyType.toString().toLowerCase())));
+        _detectorRunTimer.put(anomalyType, timer);
+      }
+    }
+  }
+
+  /**
+   * Get the scheduler to run the detector of the given anomaly type. Failures are detected by a dedicated scheduler.
+   *
+   * @param anomalyType Anomaly type.
+   * @return The scheduler to run the detector of the given anomaly type.
+   */
+  private ScheduledExecutorService detectorSchedulerFor(KafkaAnomalyType anomalyType) {
+    return FAILURE_ANOMALY_TYPES.contains(anomalyType) ? _failureDetectorScheduler : _detectorScheduler;
   }
 
   private void scheduleDetectorAtFixedRate(KafkaAnomalyType anomalyType, Runnable anomalyDetector) {
     int jitter = RANDOM.nextInt(INIT_JITTER_BOUND);
     long anomalyDetectionIntervalMs = _anomalyDetectionIntervalMsByType.get(anomalyType);
     LOG.debug("Starting {} detector with delay of {} ms", anomalyType, jitter);
-    _detectorScheduler.scheduleAtFixedRate(anomalyDetector,
-                                           anomalyDetectionIntervalMs / 2 + jitter,
-                                           anomalyDetectionIntervalMs,
-                                           TimeUnit.MILLISECONDS);
+    Timer detectorRunTimer = _detectorRunTimer.get(anomalyType);
+    Runnable detectorTask = detectorRunTimer == null ? anomalyDetector : () -> {
+      try (Timer.Context ignored = detectorRunTimer.time()) {
+        anomalyDetector.run();
+      }
+    };
+    detectorSchedulerFor(anomalyType).scheduleAtFixedRate(detectorTask,
+                                                          anomalyDetectionIntervalMs / 2 + jitter,
+                                                          anomalyDetectionIntervalMs,
+                                                          TimeUnit.MILLISECONDS);
   }
 
   /**
@@ -258,11 +302,18 @@ public class AnomalyDetectorManager {
     _anomalies.add(SHUTDOWN_ANOMALY);
     _maintenanceEventDetector.shutdown();
     _detectorScheduler.shutdown();
+    _failureDetectorScheduler.shutdown();
     try {
-      _detectorScheduler.awaitTermination(SCHEDULER_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      // Both schedulers shut down concurrently; hence, wait for their termination within a single deadline.
+      long deadlineMs = _time.milliseconds() + SCHEDULER_SHUTDOWN_TIMEOUT_MS;
+      _detectorScheduler.awaitTermination(Math.max(0L, deadlineMs - _time.milliseconds()), TimeUnit.MILLISECONDS);
       if (!_detectorScheduler.isTerminated()) {
         LOG.warn("The sampling scheduler failed to shutdown in " + SCHEDULER_SHUTDOWN_TIMEOUT_MS + " ms.");
       }
+      _failureDetectorScheduler.awaitTermination(Math.max(0L, deadlineMs - _time.milliseconds()), TimeUnit.MILLISECONDS);
+      if (!_failureDetectorScheduler.isTerminated()) {
+        LOG.warn("The failure detector scheduler failed to shutdown in " + SCHEDULER_SHUTDOWN_TIMEOUT_MS + " ms.");
+      }
     } catch (InterruptedException e) {
       LOG.warn("Interrupted while waiting for anomaly detector to shutdown.");
     }
@@ -485,7 +536,7 @@ public class AnomalyDetectorManager {
           } else {
             LOG.debug("Scheduling broker failure detection with delay of {} ms", delayMs);
             _numCheckedWithDelay.incrementAndGet();
-            _detectorScheduler.schedule(() -> _brokerFailureDetector.detectBrokerFailures(false), delayMs, TimeUnit.MILLISECONDS);
+            _failureDetectorScheduler.schedule(() -> _brokerFailureDetector.detectBrokerFailures(false), delayMs, TimeUnit.MILLISECONDS);
             _anomalyDetectorState.onAnomalyHandle(_anomalyInProgress, AnomalyState.Status.CHECK_WITH_DELAY);
           }
         }
@@ -588,8 +639,8 @@ public class AnomalyDetectorManager {
       // If there has not been any failed brokers at the time of detecting broker failures, this is a no-op. Otherwise,
       // the call will create a broker failure anomaly. Depending on the time of the first broker failure in that anomaly,
       // it will trigger either a delayed check or a fix.
-      _detectorScheduler.schedule(() -> _brokerFailureDetector.detectBrokerFailures(skipReportingIfNotUpdated),
-                                  isReadyToFix ? 0L : _brokerFailureDetectionBackoffMs, TimeUnit.MILLISECONDS);
+      _failureDetectorScheduler.schedule(() -> _brokerFailureDetector.detectBrokerFailures(skipReportingIfNotUpdated),
+                                         isReadyToFix ? 0L : _brokerFailureDetectionBackoffMs, TimeUnit.MILLISECONDS);
     }
   }
 }
@@ -34,6 +34,7 @@ public final class AnomalyDetectorUtils {
   private static final Logger LOG = LoggerFactory.getLogger(AnomalyDetectorUtils.class);
   public static final String KAFKA_CRUISE_CONTROL_OBJECT_CONFIG = "kafka.cruise.control.object";
   public static final String ANOMALY_DETECTION_TIME_MS_OBJECT_CONFIG = "anomaly.detection.time.ms.object";
+  public static final String DETECTION_CONTEXT_OBJECT_CONFIG = "detection.context.object";
   public static final long MAX_METADATA_WAIT_MS = TimeUnit.MINUTES.toMillis(1);
   public static final Anomaly SHUTDOWN_ANOMALY = new BrokerFailures();
 
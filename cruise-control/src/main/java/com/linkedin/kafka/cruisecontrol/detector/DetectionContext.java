@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.linkedin.cruisecontrol.exception.NotEnoughValidWindowsException;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.async.progress.OperationProgress;
+import com.linkedin.kafka.cruisecontrol.config.constants.AnomalyDetectorConfig;
+import com.linkedin.kafka.cruisecontrol.exception.BrokerCapacityResolutionException;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelCompletenessRequirements;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+
+/**
+ * The cluster models that anomaly detectors share within a {@link ModelGeneration}. The goal violation detector and the
+ * topic anomaly finders check the same model generation, and most of their cluster models have the same load completeness
+ * requirements. Hence, the context generates the cluster model for each set of requirements once per model generation,
+ * keeps it as an immutable base model, and serves later requests of the same generation from it. The base models of a
+ * model generation are dropped as soon as a cluster model of a newer generation is requested.
+ *
+ * <p>Callers must hold the semaphore for the cluster model generation -- see {@link KafkaCruiseControl#acquireForModelGeneration}
+ * -- while they get and use a cluster model of the context. A cluster model is generated under the lock of the context,
+ * so that concurrent detectors with the same requirements wait for a single generation rather than generating the same
+ * cluster model twice.</p>
+ *
+ * <p>Broker capacities are not reflected in the model generation, hence a capacity change is picked up with the next
+ * model generation.</p>
+ *
+ * <p>This class is thread safe.</p>
+ */
+public class DetectionContext {
+  private final KafkaCruiseControl _kafkaCruiseControl;
+  private final boolean _allowCapacityEstimation;
+  private final Map<ModelCompletenessRequirements, ClusterModel> _baseClusterModels;
+  private ModelGeneration _modelGeneration;
+
+  /**
+   * @param kafkaCruiseControl The Kafka Cruise Control instance.
+   */
+  public DetectionContext(KafkaCruiseControl kafkaCruiseControl) {
+    _kafkaCruiseControl = kafkaCruiseControl;
+    _allowCapacityEstimation = kafkaCruiseControl.config().getBoolean(AnomalyDetectorConfig.ANOMALY_DETECTION_ALLOW_CAPACITY_ESTIMATION_CONFIG);
+    _baseClusterModels = new HashMap<>();
+    _modelGeneration = null;
+  }
+
+  /**
+   * Get a copy of the cluster model of the current model generation with the given requirements, which the caller is
+   * free to modify. The caller must hold the semaphore for the cluster model generation.
+   *
+   * @param requirements The load completeness requirements of the cluster model.
+   * @param operationProgress The progress of the job to report.
+   * @return A copy of the cluster model of the current model generation.
+   * @throws NotEnoughValidWindowsException If there is not enough sample to generate cluster model.
+   * @throws TimeoutException If broker capacity resolver is unable to resolve broker capacity in time.
+   * @throws BrokerCapacityResolutionException If broker capacity resolver fails to resolve broker capacity.
+   */
+  public ClusterModel clusterModel(ModelCompletenessRequirements requirements, OperationProgress operationProgress)
+      throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
+    // Base cluster models are never modified, so they can be copied concurrently outside the lock.
+    return readOnlyClusterModel(requirements, operationProgress).copy();
+  }
+
+  /**
+   * Get the cluster model of the current model generation with the given requirements without copying it. The returned
+   * cluster model must not be modified. The caller must hold the semaphore for the cluster model generation.
+   *
+   * @param requirements The load completeness requirements of the cluster model.
+   * @param operationProgress The progress of the job to report.
+   * @return The cluster model of the current model generation, which must not be modified.
+   * @throws NotEnoughValidWindowsException If there is not enough sample to generate cluster model.
+   * @throws TimeoutException If broker capacity resolver is unable to resolve broker capacity in time.
+   * @throws BrokerCapacityResolutionException If broker capacity resolver fails to resolve broker capacity.
+   */
+  public synchronized ClusterModel readOnlyClusterModel(ModelCompletenessRequirements requirements, OperationProgress operationProgress)
+      throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
+    // Drop the base models of an older model generation before generating a new one, so they can be GCed.
+    dropStale(_kafkaCruiseControl.loadMonitor().clusterModelGeneration());
+    ClusterModel baseClusterModel = _baseClusterModels.get(requirements);
+    if (baseClusterModel == null) {
+      baseClusterModel = _kafkaCruiseControl.readOnlyClusterModel(requirements, _allowCapacityEstimation, operationProgress);
+      // The model generation may have changed while the cluster model was generated.
+      dropStale(baseClusterModel.generation());
+      _baseClusterModels.put(requirements, baseClusterModel);
+    }
+    return baseClusterModel;
+  }
+
+  private void dropStale(ModelGeneration modelGeneration) {
+    if (!modelGeneration.equals(_modelGeneration)) {
+      _baseClusterModels.clear();
+      _modelGeneration = modelGeneration;
+    }
+  }
+}
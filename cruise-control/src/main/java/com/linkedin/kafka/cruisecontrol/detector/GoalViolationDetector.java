@@ -28,6 +28,7 @@ import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
 import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -56,9 +57,12 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
   private final List<Goal> _detectionGoals;
   private ModelGeneration _lastCheckedModelGeneration;
   private final Pattern _excludedTopics;
-  private final boolean _allowCapacityEstimation;
+  private final DetectionContext _detectionContext;
   private final boolean _excludeRecentlyDemotedBrokers;
   private final boolean _excludeRecentlyRemovedBrokers;
+  private final boolean _precheckGoalViolation;
+  // The goals of the current detection that the precheck found to be satisfied without optimization.
+  private final Set<String> _goalsSatisfiedOnPrecheck;
   private final Map<String, Double> _balancednessCostByGoal;
   private volatile double _balancednessScore;
   private volatile ProvisionResponse _provisionResponse;
@@ -71,14 +75,29 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
   protected final Boolean _isProvisionerEnabled;
 
   public GoalViolationDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl, MetricRegistry dropwizardMetricRegistry) {
+    this(anomalies, kafkaCruiseControl, new DetectionContext(kafkaCruiseControl), dropwizardMetricRegistry);
+  }
+
+  /**
+   * @param anomalies The anomaly queue to report goal violations.
+   * @param kafkaCruiseControl The Kafka Cruise Control instance.
+   * @param detectionContext The cluster models shared with other anomaly detectors within a model generation.
+   * @param dropwizardMetricRegistry The metric registry that holds all the metrics for monitoring Cruise Control.
+   */
+  public GoalViolationDetector(Queue<Anomaly> anomalies,
+                               KafkaCruiseControl kafkaCruiseControl,
+                               DetectionContext detectionContext,
+                               MetricRegistry dropwizardMetricRegistry) {
     super(anomalies, kafkaCruiseControl);
     KafkaCruiseControlConfig config = _kafkaCruiseControl.config();
+    _detectionContext = detectionContext;
     // Notice that we use a separate set of Goal instances for anomaly detector to avoid interference.
     _detectionGoals = config.getConfiguredInstances(AnomalyDetectorConfig.ANOMALY_DETECTION_GOALS_CONFIG, Goal.class);
     _excludedTopics = Pattern.compile(config.getString(AnalyzerConfig.TOPICS_EXCLUDED_FROM_PARTITION_MOVEMENT_CONFIG));
-    _allowCapacityEstimation = config.getBoolean(AnomalyDetectorConfig.ANOMALY_DETECTION_ALLOW_CAPACITY_ESTIMATION_CONFIG);
     _excludeRecentlyDemotedBrokers = config.getBoolean(AnomalyDetectorConfig.SELF_HEALING_EXCLUDE_RECENTLY_DEMOTED_BROKERS_CONFIG);
     _excludeRecentlyRemovedBrokers = config.getBoolean(AnomalyDetectorConfig.SELF_HEALING_EXCLUDE_RECENTLY_REMOVED_BROKERS_CONFIG);
+    _precheckGoalViolation = config.getBoolean(AnomalyDetectorConfig.GOAL_VIOLATION_PRECHECK_ENABLED_CONFIG);
+    _goalsSatisfiedOnPrecheck = new HashSet<>();
     _balancednessCostByGoal = balancednessCostByGoal(_detectionGoals,
                                                      config.getDouble(AnalyzerConfig.GOAL_BALANCEDNESS_PRIORITY_WEIGHT_CONFIG),
                                                      config.getDouble(AnalyzerConfig.GOAL_BALANCEDNESS_STRICTNESS_WEIGHT_CONFIG));
@@ -184,22 +203,22 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
 
       ProvisionResponse provisionResponse = new ProvisionResponse(ProvisionStatus.UNDECIDED);
       boolean checkPartitionsWithRFGreaterThanNumRacks = true;
+      _goalsSatisfiedOnPrecheck.clear();
       final Timer.Context ctx = _goalViolationDetectionTimer.time();
       try {
         for (Goal goal : _detectionGoals) {
           if (_kafkaCruiseControl.loadMonitor().meetCompletenessRequirements(goal.clusterModelCompletenessRequirements())) {
             LOG.debug("Detecting if {} is violated.", goal.name());
-            // Because the model generation could be slow, We only get new cluster model if needed.
+            // Because the model generation could be slow, We only get new cluster model if needed. The detection context
+            // generates the cluster model once per model generation, and serves a copy of it for later goals.
             if (newModelNeeded) {
               if (clusterModelSemaphore != null) {
                 clusterModelSemaphore.close();
               }
               clusterModelSemaphore = _kafkaCruiseControl.acquireForModelGeneration(new OperationProgress());
-              // Make cluster model null before generating a new cluster model so the current one can be GCed.
+              // Make cluster model null before getting a new cluster model so the current one can be GCed.
               clusterModel = null;
-              clusterModel = _kafkaCruiseControl.clusterModel(goal.clusterModelCompletenessRequirements(),
-                                                              _allowCapacityEstimation,
-                                                              new OperationProgress());
+              clusterModel = _detectionContext.clusterModel(goal.clusterModelCompletenessRequirements(), new OperationProgress());
 
               // If the clusterModel contains dead brokers or disks, goal violation detector will ignore any goal violations.
               // Detection and fix for dead brokers/disks is the responsibility of broker/disk failure detector.
@@ -216,7 +235,10 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
           } else {
             LOG.warn("Skipping goal violation detection for {} because load completeness requirement is not met.", goal);
           }
-          provisionResponse.aggregate(goal.provisionResponse());
+          // A goal that is satisfied on precheck has not been optimized; hence, its provision status is undecided.
+          if (!_goalsSatisfiedOnPrecheck.contains(goal.name())) {
+            provisionResponse.aggregate(goal.provisionResponse());
+          }
         }
       } finally {
         ctx.stop();
@@ -311,6 +333,12 @@ public class GoalViolationDetector extends AbstractAnomalyDetector implements Ru
       if (checkPartitionsWithRFGreaterThanNumRacks) {
         _hasPartitionsWithRFGreaterThanNumRacks = clusterModel.maxReplicationFactor() > clusterModel.aliveRacksAllowedReplicaMoves(options).size();
       }
+      // The check is read-only; hence, the cluster model can be reused for the next goal if the goal is satisfied.
+      if (_precheckGoalViolation && !goal.isViolated(clusterModel, options)) {
+        LOG.trace("{} is satisfied without optimization.", goal.name());
+        _goalsSatisfiedOnPrecheck.add(goal.name());
+        return false;
+      }
       goal.optimize(clusterModel, Collections.emptySet(), options);
     } catch (OptimizationFailureException ofe) {
       // An OptimizationFailureException indicates (1) a hard goal violation that cannot be fixed typically due to
@@ -13,6 +13,7 @@ import com.linkedin.kafka.cruisecontrol.exception.KafkaCruiseControlException;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.model.Partition;
 import com.linkedin.kafka.cruisecontrol.monitor.ModelCompletenessRequirements;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -26,7 +27,7 @@ import org.slf4j.LoggerFactory;
 import static com.linkedin.cruisecontrol.common.config.ConfigDef.Type.CLASS;
 import static com.linkedin.kafka.cruisecontrol.analyzer.goals.GoalUtils.MIN_NUM_VALID_WINDOWS_FOR_SELF_HEALING;
 import static com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfigUtils.getConfiguredInstance;
-import static com.linkedin.kafka.cruisecontrol.config.constants.AnomalyDetectorConfig.ANOMALY_DETECTION_ALLOW_CAPACITY_ESTIMATION_CONFIG;
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.DETECTION_CONTEXT_OBJECT_CONFIG;
 import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.KAFKA_CRUISE_CONTROL_OBJECT_CONFIG;
 import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.ANOMALY_DETECTION_TIME_MS_OBJECT_CONFIG;
 
@@ -42,6 +43,8 @@ import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.ANO
  *   <li>{@link #TOPIC_PARTITION_SIZE_ANOMALY_CLASS_CONFIG}: The config for the topic anomaly class name,
  *   default value is set to {@link #DEFAULT_TOPIC_PARTITION_SIZE_ANOMALY_CLASS}.
  * </ul>
+ * The partition sizes are checked only if the cluster model generation changed since the last check -- i.e. if the cluster
+ * metadata changed or a load window rolled out. Otherwise, the result of the last check is reported.
  */
 public class PartitionSizeAnomalyFinder implements TopicAnomalyFinder {
   private static final Logger LOG = LoggerFactory.getLogger(PartitionSizeAnomalyFinder.class);
@@ -56,17 +59,25 @@ public class PartitionSizeAnomalyFinder implements TopicAnomalyFinder {
   private int _partitionSizeThresholdInMb;
   private Pattern _topicExcludedFromCheck;
   private Class<?> _topicPartitionSizeAnomalyClass;
-  private boolean _allowCapacityEstimation;
+  private DetectionContext _detectionContext;
+  private ModelGeneration _lastCheckedModelGeneration;
+  private Map<TopicPartition, Double> _partitionsWithLargeSize;
 
   @Override
   public Set<TopicAnomaly> topicAnomalies() {
+    if (_kafkaCruiseControl.loadMonitor().clusterModelGeneration().equals(_lastCheckedModelGeneration)) {
+      LOG.debug("Skipping partition size check because the model generation hasn't changed. Current model generation {}",
+                _lastCheckedModelGeneration);
+      return _partitionsWithLargeSize.isEmpty() ? Collections.emptySet()
+                                                : Collections.singleton(createTopicPartitionSizeAnomaly(_partitionsWithLargeSize));
+    }
     Map<TopicPartition, Double> partitionsWithLargeSize = new HashMap<>();
     OperationProgress operationProgress = new OperationProgress();
     ClusterModel clusterModel;
     try (AutoCloseable ignored = _kafkaCruiseControl.acquireForModelGeneration(operationProgress)) {
-      clusterModel = _kafkaCruiseControl.clusterModel(new ModelCompletenessRequirements(MIN_NUM_VALID_WINDOWS_FOR_SELF_HEALING, 0.0, true),
-                                                      _allowCapacityEstimation,
-                                                      new OperationProgress());
+      // The cluster model is only read, hence it does not need to be a copy of the cluster model shared with other detectors.
+      clusterModel = _detectionContext.readOnlyClusterModel(
+          new ModelCompletenessRequirements(MIN_NUM_VALID_WINDOWS_FOR_SELF_HEALING, 0.0, true), new OperationProgress());
       for (Map.Entry<String, List<Partition>> entry: clusterModel.getPartitionsByTopic().entrySet()) {
         if (_topicExcludedFromCheck.matcher(entry.getKey()).matches()) {
           continue;
@@ -78,6 +89,8 @@ public class PartitionSizeAnomalyFinder implements TopicAnomalyFinder {
           }
         }
       }
+      _lastCheckedModelGeneration = clusterModel.generation();
+      _partitionsWithLargeSize = partitionsWithLargeSize;
     } catch (NotEnoughValidWindowsException nevwe) {
       LOG.debug("Skipping topic partition size anomaly detection because there are not enough valid windows.", nevwe);
     } catch (KafkaCruiseControlException kcce) {
@@ -104,7 +117,9 @@ public class PartitionSizeAnomalyFinder implements TopicAnomalyFinder {
     if (_kafkaCruiseControl == null) {
       throw new IllegalArgumentException("Partition size anomaly finder is missing " + KAFKA_CRUISE_CONTROL_OBJECT_CONFIG);
     }
-    _allowCapacityEstimation = _kafkaCruiseControl.config().getBoolean(ANOMALY_DETECTION_ALLOW_CAPACITY_ESTIMATION_CONFIG);
+    // The detection context is shared with other anomaly detectors if the finder is created by the topic anomaly detector.
+    DetectionContext detectionContext = (DetectionContext) configs.get(DETECTION_CONTEXT_OBJECT_CONFIG);
+    _detectionContext = detectionContext == null ? new DetectionContext(_kafkaCruiseControl) : detectionContext;
     String topicExcludedFromCheck = (String) configs.get(TOPIC_EXCLUDED_FROM_PARTITION_SIZE_CHECK);
     _topicExcludedFromCheck = Pattern.compile(topicExcludedFromCheck == null ? DEFAULT_TOPIC_EXCLUDED_FROM_PARTITION_SIZE_CHECK
                                                                              : topicExcludedFromCheck);
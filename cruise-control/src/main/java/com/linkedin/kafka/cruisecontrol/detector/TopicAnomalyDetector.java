@@ -7,13 +7,13 @@ package com.linkedin.kafka.cruisecontrol.detector;
 import com.linkedin.cruisecontrol.detector.Anomaly;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
 import com.linkedin.kafka.cruisecontrol.config.constants.AnomalyDetectorConfig;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.DETECTION_CONTEXT_OBJECT_CONFIG;
 import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.KAFKA_CRUISE_CONTROL_OBJECT_CONFIG;
 import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.getAnomalyDetectionStatus;
 
@@ -25,10 +25,10 @@ public class TopicAnomalyDetector extends AbstractAnomalyDetector implements Run
   private static final Logger LOG = LoggerFactory.getLogger(TopicAnomalyDetector.class);
   private final List<TopicAnomalyFinder> _topicAnomalyFinders;
 
-  TopicAnomalyDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl) {
+  TopicAnomalyDetector(Queue<Anomaly> anomalies, KafkaCruiseControl kafkaCruiseControl, DetectionContext detectionContext) {
     super(anomalies, kafkaCruiseControl);
-    Map<String, Object> configWithCruiseControlObject = Collections.singletonMap(KAFKA_CRUISE_CONTROL_OBJECT_CONFIG,
-                                                                                 kafkaCruiseControl);
+    Map<String, Object> configWithCruiseControlObject = Map.of(KAFKA_CRUISE_CONTROL_OBJECT_CONFIG, kafkaCruiseControl,
+                                                               DETECTION_CONTEXT_OBJECT_CONFIG, detectionContext);
     _topicAnomalyFinders = kafkaCruiseControl.config().getConfiguredInstances(AnomalyDetectorConfig.TOPIC_ANOMALY_FINDER_CLASSES_CONFIG,
                                                                               TopicAnomalyFinder.class,
                                                                               configWithCruiseControlObject);
@@ -6,11 +6,13 @@ package com.linkedin.kafka.cruisecontrol.detector;
 
 import com.linkedin.cruisecontrol.common.config.ConfigDef;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.common.MetadataClient;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -22,6 +24,7 @@ import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.common.Cluster;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 import org.slf4j.Logger;
@@ -40,6 +43,12 @@ import static com.linkedin.kafka.cruisecontrol.detector.TopicReplicationFactorAn
  * Note for topics having special minISR config, if its minISR plus value of {@link #TOPIC_REPLICATION_FACTOR_MARGIN_CONFIG}
  * is larger than the value of {@link #SELF_HEALING_TARGET_TOPIC_REPLICATION_FACTOR_CONFIG} and equals to its replication
  * factor, the topic will not be taken as an anomaly.
+ * <p>
+ * The detection is incremental: a topic is re-evaluated only if (1) the replication factor of its partitions changed since
+ * the last detection -- which is only checked if the generation of the cluster metadata changed, or (2) its minISR config is
+ * (re)retrieved -- i.e. the topic is new or its cached minISR record expired. Otherwise, the result of its last evaluation
+ * is used.
+ * </p>
  * Required configurations for this class.
  * <ul>
  *   <li>{@link #SELF_HEALING_TARGET_TOPIC_REPLICATION_FACTOR_CONFIG}: The config for the target replication factor of topics.</li>
@@ -76,6 +85,11 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
   private short _topicReplicationFactorMargin;
   private long _topicMinISRRecordRetentionTimeMs;
   private Map<String, TopicMinISREntry> _cachedTopicMinISR;
+  // The cluster and its generation at the last detection, and the topics to check in that cluster.
+  private Cluster _lastCheckedCluster;
+  private int _lastCheckedGeneration;
+  private Set<String> _topicsToCheck;
+  private Map<String, BadTopicEntry> _badTopicEntryByTopic;
 
   public TopicReplicationFactorAnomalyFinder() {
   }
@@ -100,40 +114,111 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
     _topicMinISRRecordRetentionTimeMs = DEFAULT_TOPIC_MIN_ISR_RECORD_RETENTION_TIME_MS;
     _adminClient = adminClient;
     _cachedTopicMinISR = new LinkedHashMap<>();
+    resetDetectionState();
+  }
+
+  private void resetDetectionState() {
+    _lastCheckedCluster = null;
+    _lastCheckedGeneration = -1;
+    _topicsToCheck = new HashSet<>();
+    _badTopicEntryByTopic = new HashMap<>();
   }
 
   @Override
   public Set<TopicAnomaly> topicAnomalies() {
     LOG.info("Start to detect topic replication factor anomaly.");
-    Cluster cluster = _kafkaCruiseControl.kafkaCluster();
-    Set<String> topicsToCheck;
-    if (_topicExcludedFromCheck.pattern().isEmpty()) {
-      topicsToCheck = new HashSet<>(cluster.topics());
-    } else {
-      topicsToCheck = new HashSet<>();
-      cluster.topics().stream().filter(topic -> !_topicExcludedFromCheck.matcher(topic).matches()).forEach(topicsToCheck::add);
-    }
+    MetadataClient.ClusterAndGeneration clusterAndGeneration = _kafkaCruiseControl.kafkaClusterAndGeneration();
+    Set<String> topicsToReevaluate = updateTopicsToCheck(clusterAndGeneration);
     refreshTopicMinISRCache();
-    if (!topicsToCheck.isEmpty()) {
-      maybeRetrieveAndCacheTopicMinISR(topicsToCheck);
-      Map<Short, Set<TopicReplicationFactorAnomalyEntry>> badTopicsByDesiredRF = populateBadTopicsByDesiredRF(topicsToCheck, cluster);
-      if (!badTopicsByDesiredRF.isEmpty()) {
-        return Collections.singleton(createTopicReplicationFactorAnomaly(badTopicsByDesiredRF, _targetReplicationFactor));
-      }
+    if (!_topicsToCheck.isEmpty()) {
+      topicsToReevaluate.addAll(maybeRetrieveAndCacheTopicMinISR(_topicsToCheck));
+    }
+    reevaluateBadTopics(topicsToReevaluate, clusterAndGeneration.cluster());
+    if (!_badTopicEntryByTopic.isEmpty()) {
+      return Collections.singleton(createTopicReplicationFactorAnomaly(badTopicsByDesiredRF(), _targetReplicationFactor));
     }
     return Collections.emptySet();
   }
 
+  private boolean isExcludedFromCheck(String topic) {
+    return !_topicExcludedFromCheck.pattern().isEmpty() && _topicExcludedFromCheck.matcher(topic).matches();
+  }
+
+  /**
+   * Update the topics to check based on the given cluster. If the generation of the given cluster is the same as the last
+   * checked generation, the metadata has not changed since the last detection. Otherwise, the given cluster is compared
+   * against the last checked cluster to find the topics that are created, deleted, or have partitions with a changed
+   * replication factor.
+   * <p>
+   * The metadata client publishes a new cluster before it bumps the generation; hence, a cluster paired with the last checked
+   * generation may already be newer than the last checked cluster. The last checked cluster is therefore only advanced when
+   * the given cluster is compared against it, so that the changes in such a cluster are found once its generation is bumped.
+   * </p>
+   *
+   * @param clusterAndGeneration Kafka cluster and its generation.
+   * @return Topics whose partitions may have changed since the last detection.
+   */
+  private Set<String> updateTopicsToCheck(MetadataClient.ClusterAndGeneration clusterAndGeneration) {
+    Cluster cluster = clusterAndGeneration.cluster();
+    Set<String> changedTopics = new HashSet<>();
+    if (_lastCheckedCluster == null) {
+      cluster.topics().stream().filter(topic -> !isExcludedFromCheck(topic)).forEach(_topicsToCheck::add);
+      changedTopics.addAll(_topicsToCheck);
+      _lastCheckedCluster = cluster;
+      _lastCheckedGeneration = clusterAndGeneration.generation();
+    } else if (clusterAndGeneration.generation() != _lastCheckedGeneration) {
+      Iterator<String> topicIterator = _topicsToCheck.iterator();
+      while (topicIterator.hasNext()) {
+        String topic = topicIterator.next();
+        if (!cluster.topics().contains(topic)) {
+          topicIterator.remove();
+          changedTopics.add(topic);
+        }
+      }
+      for (String topic : cluster.topics()) {
+        if (!_lastCheckedCluster.topics().contains(topic)) {
+          if (!isExcludedFromCheck(topic)) {
+            _topicsToCheck.add(topic);
+            changedTopics.add(topic);
+          }
+        } else if (_topicsToCheck.contains(topic) && replicationFactorChanged(topic, _lastCheckedCluster, cluster)) {
+          changedTopics.add(topic);
+        }
+      }
+      _lastCheckedCluster = cluster;
+      _lastCheckedGeneration = clusterAndGeneration.generation();
+    }
+    return changedTopics;
+  }
+
+  private static boolean replicationFactorChanged(String topic, Cluster previous, Cluster current) {
+    List<PartitionInfo> partitions = current.partitionsForTopic(topic);
+    if (partitions.size() != previous.partitionsForTopic(topic).size()) {
+      return true;
+    }
+    for (PartitionInfo partitionInfo : partitions) {
+      PartitionInfo prevPartitionInfo = previous.partition(new TopicPartition(topic, partitionInfo.partition()));
+      if (prevPartitionInfo == null || prevPartitionInfo.replicas().length != partitionInfo.replicas().length) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Retrieve topic minISR config information if it is not cached locally.
    * @param topicsToCheck Set of topics to check.
+   * @return Topics whose minISR config information was not cached locally.
    */
-  private void maybeRetrieveAndCacheTopicMinISR(Set<String> topicsToCheck) {
+  private Set<String> maybeRetrieveAndCacheTopicMinISR(Set<String> topicsToCheck) {
+    Set<String> topicsToRetrieve = new HashSet<>();
     Set<ConfigResource> topicResourcesToCheck = new HashSet<>();
-    topicsToCheck.stream().filter(t -> !_cachedTopicMinISR.containsKey(t))
-                          .forEach(t -> topicResourcesToCheck.add(new ConfigResource(ConfigResource.Type.TOPIC, t)));
+    topicsToCheck.stream().filter(t -> !_cachedTopicMinISR.containsKey(t)).forEach(t -> {
+      topicsToRetrieve.add(t);
+      topicResourcesToCheck.add(new ConfigResource(ConfigResource.Type.TOPIC, t));
+    });
     if (topicResourcesToCheck.isEmpty()) {
-      return;
+      return topicsToRetrieve;
     }
     for (Map.Entry<ConfigResource, KafkaFuture<Config>> entry : _adminClient.describeConfigs(topicResourcesToCheck).values().entrySet()) {
       try {
@@ -145,21 +230,22 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
                  entry.getKey().name());
       }
     }
+    return topicsToRetrieve;
   }
 
   /**
-   * Scan through topics to check whether the topic having partition(s) with bad replication factor. For each topic, the
+   * Scan through the given topics to check whether the topic having partition(s) with bad replication factor. For each topic, the
    * target replication factor to check against is the maximum value of {@link #SELF_HEALING_TARGET_TOPIC_REPLICATION_FACTOR_CONFIG}
-   * and topic's minISR plus value of {@link #TOPIC_REPLICATION_FACTOR_MARGIN_CONFIG}.
+   * and topic's minISR plus value of {@link #TOPIC_REPLICATION_FACTOR_MARGIN_CONFIG}. Topics that are no longer checked or
+   * have no cached minISR config are not taken as bad topics.
    *
-   * @param topicsToCheck Set of topics to check.
+   * @param topicsToReevaluate Set of topics to re-evaluate.
    * @param cluster Kafka cluster.
-   * @return Map of detected topic replication factor anomaly entries by target (i.e. desired) replication factor.
    */
-  private Map<Short, Set<TopicReplicationFactorAnomalyEntry>> populateBadTopicsByDesiredRF(Set<String> topicsToCheck, Cluster cluster) {
-    Map<Short, Set<TopicReplicationFactorAnomalyEntry>> badTopicsByDesiredRF = new HashMap<>();
-    for (String topic : topicsToCheck) {
-      if (_cachedTopicMinISR.containsKey(topic)) {
+  private void reevaluateBadTopics(Set<String> topicsToReevaluate, Cluster cluster) {
+    for (String topic : topicsToReevaluate) {
+      _badTopicEntryByTopic.remove(topic);
+      if (_topicsToCheck.contains(topic) && _cachedTopicMinISR.containsKey(topic)) {
         short topicMinISR = _cachedTopicMinISR.get(topic).minISR();
         short targetReplicationFactor = (short) Math.max(_targetReplicationFactor, topicMinISR + _topicReplicationFactorMargin);
         int violatedPartitionCount = 0;
@@ -169,12 +255,21 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
           }
         }
         if (violatedPartitionCount > 0) {
-          badTopicsByDesiredRF.putIfAbsent(targetReplicationFactor, new HashSet<>());
-          badTopicsByDesiredRF.get(targetReplicationFactor).add(
-              new TopicReplicationFactorAnomalyEntry(topic, (double) violatedPartitionCount / cluster.partitionCountForTopic(topic)));
+          _badTopicEntryByTopic.put(topic, new BadTopicEntry(targetReplicationFactor, new TopicReplicationFactorAnomalyEntry(
+              topic, (double) violatedPartitionCount / cluster.partitionCountForTopic(topic))));
         }
       }
     }
+  }
+
+  /**
+   * @return Map of detected topic replication factor anomaly entries by target (i.e. desired) replication factor.
+   */
+  private Map<Short, Set<TopicReplicationFactorAnomalyEntry>> badTopicsByDesiredRF() {
+    Map<Short, Set<TopicReplicationFactorAnomalyEntry>> badTopicsByDesiredRF = new HashMap<>();
+    for (BadTopicEntry badTopicEntry : _badTopicEntryByTopic.values()) {
+      badTopicsByDesiredRF.computeIfAbsent(badTopicEntry.desiredRF(), rf -> new HashSet<>()).add(badTopicEntry.anomalyEntry());
+    }
     return badTopicsByDesiredRF;
   }
 
@@ -259,6 +354,7 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
 
     _adminClient = _kafkaCruiseControl.adminClient();
     _cachedTopicMinISR = new LinkedHashMap<>();
+    resetDetectionState();
   }
 
   /**
@@ -281,4 +377,25 @@ public class TopicReplicationFactorAnomalyFinder implements TopicAnomalyFinder {
       return _createTimeMs;
     }
   }
+
+  /**
+   * A class to encapsulate the result of the last evaluation of a topic with bad replication factor.
+   */
+  private static class BadTopicEntry {
+    private final short _desiredRF;
+    private final TopicReplicationFactorAnomalyEntry _anomalyEntry;
+
+    BadTopicEntry(short desiredRF, TopicReplicationFactorAnomalyEntry anomalyEntry) {
+      _desiredRF = desiredRF;
+      _anomalyEntry = anomalyEntry;
+    }
+
+    short desiredRF() {
+      return _desiredRF;
+    }
+
+    TopicReplicationFactorAnomalyEntry anomalyEntry() {
+      return _anomalyEntry;
+    }
+  }
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor;
+
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * An append-only journal of the ongoing execution, which allows an execution that is interrupted by a restart of Cruise
+ * Control to be resumed from its unfinished tasks.
+ *
+ * <p>When an execution starts, the journal is truncated and the task plan -- i.e. each proposal once along with the
+ * execution ids of its tasks -- is written to it. Afterwards, each task state transition is appended to the journal as a
+ * fixed-size record. Each record is framed by its length and a CRC32 checksum, so that a record torn by a crash ends the
+ * journal rather than corrupting it. The journal is deleted once the execution finishes, and retained if the journal is
+ * closed during the execution, e.g. upon shutdown.</p>
+ *
+ * <p>Records are flushed to the file system after each update, hence the journal survives a crash of Cruise Control, but
+ * the latest state transitions may be lost upon a crash of the host. This is benign, as a task whose completion is lost is
+ * dropped upon resumption if the cluster already reflects its completion.</p>
+ *
+ * <p>Failing to write the journal is not fatal to the execution: the journal is abandoned for the rest of the execution.</p>
+ *
+ * This class is thread safe.
+ */
+public class ExecutionJournal {
+  private static final Logger LOG = LoggerFactory.getLogger(ExecutionJournal.class);
+  static final String JOURNAL_FILE_NAME = "execution.journal";
+  static final byte JOURNAL_VERSION = 0;
+  private static final byte PROPOSAL_RECORD = 0;
+  private static final byte TASK_RECORD = 1;
+  private static final byte STATE_RECORD = 2;
+  // Proposal records are the largest records, whose size is dominated by the topic name and the logdirs of the replicas.
+  private static final int MAX_RECORD_SIZE = 1 << 20;
+  private static final Set<ExecutionTaskState> TERMINAL_STATES = Collections.unmodifiableSet(
+      EnumSet.of(ExecutionTaskState.COMPLETED, ExecutionTaskState.ABORTED, ExecutionTaskState.DEAD));
+  private final Path _journalFile;
+  private final ByteArrayOutputStream _recordBuffer;
+  private DataOutputStream _output;
+  private boolean _closed;
+
+  /**
+   * @param journalDir The local directory to write the journal to.
+   */
+  public ExecutionJournal(Path journalDir) {
+    try {
+      Files.createDirectories(journalDir);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to create the execution journal directory " + journalDir, e);
+    }
+    _journalFile = journalDir.resolve(JOURNAL_FILE_NAME);
+    _recordBuffer = new ByteArrayOutputStream();
+    _output = null;
+    _closed = false;
+  }
+
+  /**
+   * Start journaling an execution with the given tasks, replacing the journal of any previous execution.
+   *
+   * @param tasks The tasks of the execution.
+   */
+  public synchronized void executionStarted(Collection<ExecutionTask> tasks) {
+    if (_closed) {
+      return;
+    }
+    abandon();
+    try {
+      FileOutputStream fileOutput = new FileOutputStream(_journalFile.toFile(), false);
+      _output = new DataOutputStream(new BufferedOutputStream(fileOutput));
+      _output.writeByte(JOURNAL_VERSION);
+      Map<ExecutionProposal, Integer> proposalIndex = new IdentityHashMap<>();
+      for (ExecutionTask task : tasks) {
+        Integer index = proposalIndex.get(task.proposal());
+        if (index == null) {
+          index = proposalIndex.size();
+          proposalIndex.put(task.proposal(), index);
+          DataOutputStream record = newRecord(PROPOSAL_RECORD);
+          record.writeInt(index);
+          writeProposal(record, task.proposal());
+          appendRecord();
+        }
+        DataOutputStream record = newRecord(TASK_RECORD);
+        record.writeLong(task.executionId());
+        record.writeInt(index);
+        appendRecord();
+      }
+      _output.flush();
+      // The plan is forced to the storage device, as the execution cannot be resumed without it.
+      fileOutput.getFD().sync();
+      LOG.info("Journaled {} tasks of {} proposals to {}.", tasks.size(), proposalIndex.size(), _journalFile);
+    } catch (IOException e) {
+      LOG.warn("Failed to journal the task plan to {}. The execution will not be journaled.", _journalFile, e);
+      abandon();
+    }
+  }
+
+  /**
+   * Append the current state of the given tasks to the journal.
+   *
+   * @param tasks The tasks whose state has changed.
+   */
+  public synchronized void tasksStateChanged(Collection<ExecutionTask> tasks) {
+    if (_output == null) {
+      return;
+    }
+    try {
+      for (ExecutionTask task : tasks) {
+        DataOutputStream record = newRecord(STATE_RECORD);
+        record.writeLong(task.executionId());
+        record.writeByte(task.state().ordinal());
+        appendRecord();
+      }
+      _output.flush();
+    } catch (IOException e) {
+      LOG.warn("Failed to journal the state of tasks to {}. The rest of the execution will not be journaled.", _journalFile, e);
+      abandon();
+    }
+  }
+
+  /**
+   * Delete the journal as the execution has finished. This is a no-op if the journal is closed.
+   */
+  public synchronized void executionFinished() {
+    if (_closed) {
+      return;
+    }
+    abandon();
+  }
+
+  /**
+   * Close the journal, retaining the journal of the ongoing execution (if any) to resume it upon the next startup. Once closed,
+   * the journal ignores further updates.
+   */
+  public synchronized void close() {
+    if (_output != null) {
+      try {
+        _output.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close the execution journal {}.", _journalFile, e);
+      }
+      _output = null;
+    }
+    _closed = true;
+  }
+
+  /**
+   * Read the journal of an interrupted execution, if any.
+   *
+   * @return The proposals of the journaled execution that have at least one task that was not finished -- i.e. neither
+   * {@link ExecutionTaskState#COMPLETED}, {@link ExecutionTaskState#ABORTED}, nor {@link ExecutionTaskState#DEAD} -- in
+   * the order they were journaled, or an empty list if there is no such proposal.
+   */
+  public synchronized List<ExecutionProposal> unfinishedProposals() {
+    if (_output != null || !Files.exists(_journalFile)) {
+      return Collections.emptyList();
+    }
+    Map<Integer, ExecutionProposal> proposalByIndex = new LinkedHashMap<>();
+    Map<Long, Integer> proposalIndexByExecutionId = new HashMap<>();
+    Map<Long, ExecutionTaskState> stateByExecutionId = new HashMap<>();
+    try (InputStream input = Files.newInputStream(_journalFile)) {
+      DataInputStream journal = new DataInputStream(new BufferedInputStream(input));
+      byte version = journal.readByte();
+      if (version != JOURNAL_VERSION) {
+        LOG.warn("Ignored execution journal {} with unsupported version {} (Supported: {}).", _journalFile, version, JOURNAL_VERSION);
+        return Collections.emptyList();
+      }
+      byte[] bytes;
+      while ((bytes = readRecord(journal)) != null) {
+        DataInputStream record = new DataInputStream(new ByteArrayInputStream(bytes));
+        byte recordType = record.readByte();
+        switch (recordType) {
+          case PROPOSAL_RECORD:
+            proposalByIndex.put(record.readInt(), readProposal(record));
+            break;
+          case TASK_RECORD:
+            long executionId = record.readLong();
+            proposalIndexByExecutionId.put(executionId, record.readInt());
+            stateByExecutionId.put(executionId, ExecutionTaskState.PENDING);
+            break;
+          case STATE_RECORD:
+            stateByExecutionId.put(record.readLong(), ExecutionTaskState.cachedValues().get(record.readByte()));
+            break;
+          default:
+            throw new IOException("Unknown record type " + recordType);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Ignored execution journal {} as it cannot be read.", _journalFile, e);
+      return Collections.emptyList();
+    }
+
+    Set<Integer> unfinishedProposalIndices = new HashSet<>();
+    for (Map.Entry<Long, ExecutionTaskState> entry : stateByExecutionId.entrySet()) {
+      if (!TERMINAL_STATES.contains(entry.getValue())) {
+        unfinishedProposalIndices.add(proposalIndexByExecutionId.get(entry.getKey()));
+      }
+    }
+    List<ExecutionProposal> unfinishedProposals = new ArrayList<>(unfinishedProposalIndices.size());
+    proposalByIndex.forEach((index, proposal) -> {
+      if (unfinishedProposalIndices.contains(index)) {
+        unfinishedProposals.add(proposal);
+      }
+    });
+    LOG.info("Execution journal {} has {} unfinished out of {} proposals.", _journalFile, unfinishedProposals.size(), proposalByIndex.size());
+    return unfinishedProposals;
+  }
+
+  private void abandon() {
+    if (_output != null) {
+      try {
+        _output.close();
+      } catch (IOException e) {
+        LOG.debug("Failed to close the execution journal {}.", _journalFile, e);
+      }
+      _output = null;
+    }
+    try {
+      Files.deleteIfExists(_journalFile);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete the execution journal {}.", _journalFile, e);
+    }
+  }
+
+  private DataOutputStream newRecord(byte recordType) throws IOException {
+    _recordBuffer.reset();
+    DataOutputStream record = new DataOutputStream(_recordBuffer);
+    record.writeByte(recordType);
+    return record;
+  }
+
+  /**
+   * Append the record in the record buffer to the journal, framed by its length and its checksum.
+   */
+  private void appendRecord() throws IOException {
+    byte[] bytes = _recordBuffer.toByteArray();
+    CRC32 crc = new CRC32();
+    crc.update(bytes);
+    _output.writeInt(bytes.length);
+    _output.write(bytes);
+    _output.writeLong(crc.getValue());
+  }
+
+  /**
+   * @param journal The journal to read the next record from.
+   * @return The next record, or {@code null} if the journal ends or the next record is torn.
+   */
+  private byte[] readRecord(DataInputStream journal) throws IOException {
+    byte[] bytes;
+    try {
+      int size = journal.readInt();
+      if (size <= 0 || size > MAX_RECORD_SIZE) {
+        LOG.warn("Execution journal {} ends with a record of invalid size {}.", _journalFile, size);
+        return null;
+      }
+      bytes = new byte[size];
+      journal.readFully(bytes);
+      long checksum = journal.readLong();
+      CRC32 crc = new CRC32();
+      crc.update(bytes);
+      if (crc.getValue() != checksum) {
+        LOG.warn("Execution journal {} ends with a corrupt record.", _journalFile);
+        return null;
+      }
+    } catch (EOFException e) {
+      return null;
+    }
+    return bytes;
+  }
+
+  private static void writeProposal(DataOutputStream record, ExecutionProposal proposal) throws IOException {
+    record.writeUTF(proposal.topic());
+    record.writeInt(proposal.partitionId());
+    record.writeLong(proposal.partitionSizeInMB());
+    writeReplica(record, proposal.oldLeader());
+    writeReplicas(record, proposal.oldReplicas());
+    writeReplicas(record, proposal.newReplicas());
+  }
+
+  private static ExecutionProposal readProposal(DataInputStream record) throws IOException {
+    TopicPartition tp = new TopicPartition(record.readUTF(), record.readInt());
+    long partitionSizeInMB = record.readLong();
+    ReplicaPlacementInfo oldLeader = readReplica(record);
+    List<ReplicaPlacementInfo> oldReplicas = readReplicas(record);
+    List<ReplicaPlacementInfo> newReplicas = readReplicas(record);
+    return new ExecutionProposal(tp, partitionSizeInMB, oldLeader, oldReplicas, newReplicas);
+  }
+
+  private static void writeReplicas(DataOutputStream record, List<ReplicaPlacementInfo> replicas) throws IOException {
+    record.writeInt(replicas.size());
+    for (ReplicaPlacementInfo replica : replicas) {
+      writeReplica(record, replica);
+    }
+  }
+
+  private static List<ReplicaPlacementInfo> readReplicas(DataInputStream record) throws IOException {
+    int numReplicas = record.readInt();
+    List<ReplicaPlacementInfo> replicas = new ArrayList<>(numReplicas);
+    for (int i = 0; i < numReplicas; i++) {
+      replicas.add(readReplica(record));
+    }
+    return replicas;
+  }
+
+  private static void writeReplica(DataOutputStream record, ReplicaPlacementInfo replica) throws IOException {
+    record.writeInt(replica.brokerId());
+    record.writeBoolean(replica.logdir() != null);
+    if (replica.logdir() != null) {
+      record.writeUTF(replica.logdir());
+    }
+  }
+
+  private static ReplicaPlacementInfo readReplica(DataInputStream record) throws IOException {
+    int brokerId = record.readInt();
+    return new ReplicaPlacementInfo(brokerId, record.readBoolean() ? record.readUTF() : null);
+  }
+}
@@ -227,6 +227,13 @@ public class ExecutionProposal {
     return _replicasToAdd.size() * _partitionSize;
   }
 
+  /**
+   * @return The size of the partition in MB, i.e. the amount of data to move to each broker that the partition is added to.
+   */
+  public long partitionSizeInMB() {
+    return _partitionSize;
+  }
+
   /**
    * @return The total number of bytes to move across disks within the broker involved in this proposal.
    *         Note for intra-broker replica movement on a broker, the amount of data to move across disk is
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor;
+
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.config.BrokerCapacityConfigResolver;
+import com.linkedin.kafka.cruisecontrol.config.BrokerCapacityInfo;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.exception.BrokerCapacityResolutionException;
+import com.linkedin.kafka.cruisecontrol.executor.concurrency.ExecutionConcurrencyManager;
+import com.linkedin.kafka.cruisecontrol.executor.strategy.ReplicaMovementStrategy;
+import com.linkedin.kafka.cruisecontrol.executor.strategy.StrategyOptions;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+
+import static com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig.EXECUTION_PROGRESS_CHECK_INTERVAL_MS_CONFIG;
+import static com.linkedin.kafka.cruisecontrol.monitor.MonitorUtils.BROKER_CAPACITY_FETCH_TIMEOUT_MS;
+import static com.linkedin.kafka.cruisecontrol.monitor.MonitorUtils.getRackHandleNull;
+
+
+/**
+ * An offline simulator of the inter-broker replica movements of an execution, which predicts the timing of the execution
+ * for a given replica movement strategy, concurrency and replication throttle without touching Kafka.
+ * <p>
+ * The simulator plans the movements with the {@link ExecutionTaskPlanner} in the same way as the {@link Executor}, and
+ * models the data transfer of each movement as one flow from the leader of the partition (i.e. the source broker) to each
+ * broker that the partition is added to (i.e. the destination brokers). The network capacity of each broker -- capped by
+ * the replication throttle, if any -- is shared equally by the flows that are in flight on the broker, and a flow progresses
+ * at the smaller of its shares on the source and destination broker. As in the {@link Executor}, finished movements are
+ * noticed and new movements are started once every execution progress check interval.
+ * <p>
+ * Intra-broker replica movements and leadership movements are not simulated, as planning the former requires the current
+ * log directories of the replicas from Kafka, and the latter do not move any data. The inter-broker replica movements of
+ * proposals that also move replicas between disks are still simulated.
+ * <p>
+ * This class is not thread safe.
+ */
+public class ExecutionSimulator {
+  private static final double KB_PER_MB = 1024.0;
+  private static final double BYTES_PER_KB = 1024.0;
+  private static final double MS_PER_SEC = 1000.0;
+  private static final double EPSILON_KB = 1e-6;
+  private final KafkaCruiseControlConfig _config;
+  private final Map<Integer, BrokerCapacityInfo> _capacityByBrokerId;
+  private final long _executionProgressCheckIntervalMs;
+
+  /**
+   * @param config The config object that holds all the Cruise Control related configs.
+   * @param capacityByBrokerId The capacity of the brokers by broker id, which determines the network capacity of the brokers.
+   */
+  public ExecutionSimulator(KafkaCruiseControlConfig config, Map<Integer, BrokerCapacityInfo> capacityByBrokerId) {
+    _config = config;
+    _capacityByBrokerId = capacityByBrokerId;
+    _executionProgressCheckIntervalMs = config.getLong(EXECUTION_PROGRESS_CHECK_INTERVAL_MS_CONFIG);
+  }
+
+  /**
+   * Get the capacity of the brokers in the given cluster from the given broker capacity resolver.
+   *
+   * @param cluster Kafka cluster.
+   * @param brokerCapacityConfigResolver The resolver for retrieving the capacity of brokers.
+   * @param allowCapacityEstimation Whether allow capacity estimation for brokers whose capacity cannot be resolved.
+   * @return The capacity of the brokers by broker id.
+   * @throws TimeoutException if the resolver is unable to resolve the capacity of a broker in time.
+   * @throws BrokerCapacityResolutionException if the resolver fails to resolve the capacity of a broker.
+   */
+  public static Map<Integer, BrokerCapacityInfo> brokerCapacities(Cluster cluster,
+                                                                  BrokerCapacityConfigResolver brokerCapacityConfigResolver,
+                                                                  boolean allowCapacityEstimation)
+      throws TimeoutException, BrokerCapacityResolutionException {
+    Map<Integer, BrokerCapacityInfo> capacityByBrokerId = new HashMap<>();
+    for (Node node : cluster.nodes()) {
+      capacityByBrokerId.put(node.id(), brokerCapacityConfigResolver.capacityForBroker(getRackHandleNull(node), node.host(), node.id(),
+                                                                                      BROKER_CAPACITY_FETCH_TIMEOUT_MS,
+                                                                                      allowCapacityEstimation));
+    }
+    return capacityByBrokerId;
+  }
+
+  /**
+   * @param proposal Execution proposal.
+   * @return The given proposal if it has no intra-broker replica movement, or otherwise a proposal with the same inter-broker
+   * replica movements and leadership movement but without the log directories of the replicas -- i.e. without the
+   * intra-broker replica movements.
+   */
+  private static ExecutionProposal withoutIntraBrokerReplicaMovements(ExecutionProposal proposal) {
+    if (proposal.replicasToMoveBetweenDisksByBroker().isEmpty()) {
+      return proposal;
+    }
+    return new ExecutionProposal(proposal.topicPartition(), proposal.partitionSizeInMB(),
+                                 new ReplicaPlacementInfo(proposal.oldLeader().brokerId()),
+                                 withoutLogdirs(proposal.oldReplicas()), withoutLogdirs(proposal.newReplicas()));
+  }
+
+  private static List<ReplicaPlacementInfo> withoutLogdirs(List<ReplicaPlacementInfo> replicas) {
+    return replicas.stream().map(r -> new ReplicaPlacementInfo(r.brokerId())).collect(Collectors.toList());
+  }
+
+  /**
+   * Simulate the inter-broker replica movements of the given proposals.
+   *
+   * @param proposals Execution proposals.
+   * @param cluster Kafka cluster state before the execution.
+   * @param replicaMovementStrategy The strategy used to determine the execution order of the replica movements, or {@code null}
+   *                                to use the default replica movement strategy.
+   * @param requestedInterBrokerPartitionMovementConcurrency The maximum number of concurrent inter-broker partition movements
+   *                                                         per broker, or {@code null} to use the default concurrency.
+   * @param requestedMaxInterBrokerPartitionMovements The maximum number of concurrent inter-broker partition movements in the
+   *                                                  cluster, or {@code null} to use the default concurrency.
+   * @param replicationThrottle The replication throttle in bytes per second, or {@code null} if replication is not throttled.
+   * @return The result of the simulation.
+   */
+  public ExecutionSimulationResult simulate(Collection<ExecutionProposal> proposals,
+                                            Cluster cluster,
+                                            ReplicaMovementStrategy replicaMovementStrategy,
+                                            Integer requestedInterBrokerPartitionMovementConcurrency,
+                                            Integer requestedMaxInterBrokerPartitionMovements,
+                                            Long replicationThrottle) {
+    List<ExecutionProposal> interBrokerProposals = proposals.stream().map(ExecutionSimulator::withoutIntraBrokerReplicaMovements)
+                                                            .collect(Collectors.toList());
+    ExecutionTaskPlanner planner = new ExecutionTaskPlanner(null, _config);
+    planner.addExecutionProposals(interBrokerProposals, new StrategyOptions.Builder(cluster).build(), replicaMovementStrategy);
+    int numInterBrokerReplicaMovements = planner.remainingInterBrokerReplicaMovements().size();
+
+    Map<Integer, Integer> inProgressReplicaMovementsByBrokerId = new HashMap<>();
+    for (ExecutionTask task : planner.remainingInterBrokerReplicaMovements()) {
+      inProgressReplicaMovementsByBrokerId.putIfAbsent(task.proposal().oldLeader().brokerId(), 0);
+      task.proposal().replicasToAdd().forEach(r -> inProgressReplicaMovementsByBrokerId.putIfAbsent(r.brokerId(), 0));
+    }
+    ExecutionConcurrencyManager concurrencyManager = new ExecutionConcurrencyManager(_config);
+    concurrencyManager.initialize(inProgressReplicaMovementsByBrokerId.keySet(), requestedInterBrokerPartitionMovementConcurrency,
+                                  null, null, null);
+    concurrencyManager.setClusterInterBrokerPartitionMovementConcurrency(requestedMaxInterBrokerPartitionMovements);
+    Map<Integer, Double> inboundRateLimitInKBPerSecByBrokerId = new HashMap<>();
+    Map<Integer, Double> outboundRateLimitInKBPerSecByBrokerId = new HashMap<>();
+    for (int brokerId : inProgressReplicaMovementsByBrokerId.keySet()) {
+      inboundRateLimitInKBPerSecByBrokerId.put(brokerId, rateLimitInKBPerSec(brokerId, Resource.NW_IN, replicationThrottle));
+      outboundRateLimitInKBPerSecByBrokerId.put(brokerId, rateLimitInKBPerSec(brokerId, Resource.NW_OUT, replicationThrottle));
+    }
+
+    Set<TopicPartition> inProgressPartitions = new HashSet<>();
+    List<Movement> inProgressMovements = new ArrayList<>();
+    List<Flow> inFlightFlows = new ArrayList<>();
+    Map<Integer, Double> peakInboundRateInKBPerSecByBrokerId = new HashMap<>();
+    Map<Integer, Double> peakOutboundRateInKBPerSecByBrokerId = new HashMap<>();
+    SortedMap<Long, Integer> concurrencyTimeline = new TreeMap<>();
+    double nowMs = 0.0;
+    long progressCheckMs = 0L;
+    while (true) {
+      // Progress check: release the finished movements and start new movements.
+      for (Iterator<Movement> iterator = inProgressMovements.iterator(); iterator.hasNext();) {
+        Movement movement = iterator.next();
+        if (movement._numInFlightFlows == 0) {
+          iterator.remove();
+          inProgressPartitions.remove(movement._task.proposal().topicPartition());
+          updateInProgressReplicaMovements(movement._task, inProgressReplicaMovementsByBrokerId, -1);
+        }
+      }
+      Map<Integer, Integer> readyBrokers = new HashMap<>();
+      inProgressReplicaMovementsByBrokerId.forEach((brokerId, numInProgress) -> readyBrokers.put(
+          brokerId, Math.max(0, concurrencyManager.getExecutionBrokerConcurrency(brokerId, ConcurrencyType.INTER_BROKER_REPLICA)
+                                - numInProgress)));
+      for (ExecutionTask task : planner.getInterBrokerReplicaMovementTasks(readyBrokers, inProgressPartitions,
+                                                                           concurrencyManager.maxClusterInterBrokerPartitionMovements())) {
+        Movement movement = new Movement(task);
+        inProgressMovements.add(movement);
+        inProgressPartitions.add(task.proposal().topicPartition());
+        updateInProgressReplicaMovements(task, inProgressReplicaMovementsByBrokerId, 1);
+        for (ReplicaPlacementInfo destinationBroker : task.proposal().replicasToAdd()) {
+          inFlightFlows.add(new Flow(movement, task.proposal().oldLeader().brokerId(), destinationBroker.brokerId(),
+                                     task.proposal().partitionSizeInMB() * KB_PER_MB));
+        }
+      }
+      if (concurrencyTimeline.isEmpty() || concurrencyTimeline.get(concurrencyTimeline.lastKey()) != inProgressMovements.size()) {
+        concurrencyTimeline.put(progressCheckMs, inProgressMovements.size());
+      }
+      if (inProgressMovements.isEmpty()) {
+        if (!planner.remainingInterBrokerReplicaMovements().isEmpty()) {
+          throw new IllegalStateException("Unable to start any of the remaining " + planner.remainingInterBrokerReplicaMovements().size()
+                                          + " inter-broker replica movements.");
+        }
+        break;
+      }
+
+      // Transfer data until the next progress check.
+      progressCheckMs += _executionProgressCheckIntervalMs;
+      while (!inFlightFlows.isEmpty() && nowMs < progressCheckMs) {
+        Map<Integer, Integer> numInboundFlowsByBrokerId = new HashMap<>();
+        Map<Integer, Integer> numOutboundFlowsByBrokerId = new HashMap<>();
+        for (Flow flow : inFlightFlows) {
+          numInboundFlowsByBrokerId.merge(flow._destinationBrokerId, 1, Integer::sum);
+          numOutboundFlowsByBrokerId.merge(flow._sourceBrokerId, 1, Integer::sum);
+        }
+        Map<Integer, Double> inboundRateInKBPerSecByBrokerId = new HashMap<>();
+        Map<Integer, Double> outboundRateInKBPerSecByBrokerId = new HashMap<>();
+        double stepMs = progressCheckMs - nowMs;
+        for (Flow flow : inFlightFlows) {
+          flow._rateInKBPerSec = Math.min(inboundRateLimitInKBPerSecByBrokerId.get(flow._destinationBrokerId)
+                                          / numInboundFlowsByBrokerId.get(flow._destinationBrokerId),
+                                          outboundRateLimitInKBPerSecByBrokerId.get(flow._sourceBrokerId)
+                                          / numOutboundFlowsByBrokerId.get(flow._sourceBrokerId));
+          inboundRateInKBPerSecByBrokerId.merge(flow._destinationBrokerId, flow._rateInKBPerSec, Double::sum);
+          outboundRateInKBPerSecByBrokerId.merge(flow._sourceBrokerId, flow._rateInKBPerSec, Double::sum);
+          stepMs = Math.min(stepMs, flow._remainingDataInKB / flow._rateInKBPerSec * MS_PER_SEC);
+        }
+        inboundRateInKBPerSecByBrokerId.forEach((brokerId, rate) -> peakInboundRateInKBPerSecByBrokerId.merge(brokerId, rate, Math::max));
+        outboundRateInKBPerSecByBrokerId.forEach((brokerId, rate) -> peakOutboundRateInKBPerSecByBrokerId.merge(brokerId, rate, Math::max));
+
+        nowMs += stepMs;
+        for (Iterator<Flow> iterator = inFlightFlows.iterator(); iterator.hasNext();) {
+          Flow flow = iterator.next();
+          flow._remainingDataInKB -= flow._rateInKBPerSec * stepMs / MS_PER_SEC;
+          if (flow._remainingDataInKB <= EPSILON_KB) {
+            iterator.remove();
+            flow._movement._numInFlightFlows--;
+          }
+        }
+      }
+      nowMs = progressCheckMs;
+    }
+    return new ExecutionSimulationResult(progressCheckMs, numInterBrokerReplicaMovements, peakInboundRateInKBPerSecByBrokerId,
+                                         peakOutboundRateInKBPerSecByBrokerId, concurrencyTimeline);
+  }
+
+  private double rateLimitInKBPerSec(int brokerId, Resource resource, Long replicationThrottle) {
+    BrokerCapacityInfo capacity = _capacityByBrokerId.get(brokerId);
+    if (capacity == null) {
+      throw new IllegalArgumentException("Missing capacity of broker " + brokerId + " to simulate the replica movements.");
+    }
+    double rateLimitInKBPerSec = capacity.capacity().get(resource);
+    if (replicationThrottle != null) {
+      rateLimitInKBPerSec = Math.min(rateLimitInKBPerSec, replicationThrottle / BYTES_PER_KB);
+    }
+    if (rateLimitInKBPerSec <= 0.0) {
+      throw new IllegalArgumentException(String.format("Broker %d has no %s rate to move replicas.", brokerId, resource));
+    }
+    return rateLimitInKBPerSec;
+  }
+
+  private static void updateInProgressReplicaMovements(ExecutionTask task, Map<Integer, Integer> inProgressReplicaMovementsByBrokerId,
+                                                       int delta) {
+    inProgressReplicaMovementsByBrokerId.merge(task.proposal().oldLeader().brokerId(), delta, Integer::sum);
+    task.proposal().replicasToAdd().forEach(r -> inProgressReplicaMovementsByBrokerId.merge(r.brokerId(), delta, Integer::sum));
+  }
+
+  /**
+   * An inter-broker replica movement in progress, which finishes once all its flows have transferred their data.
+   */
+  private static final class Movement {
+    private final ExecutionTask _task;
+    private int _numInFlightFlows;
+
+    private Movement(ExecutionTask task) {
+      _task = task;
+      _numInFlightFlows = task.proposal().replicasToAdd().size();
+    }
+  }
+
+  /**
+   * The data transfer of a replica movement from its source broker to one of its destination brokers.
+   */
+  private static final class Flow {
+    private final Movement _movement;
+    private final int _sourceBrokerId;
+    private final int _destinationBrokerId;
+    private double _remainingDataInKB;
+    private double _rateInKBPerSec;
+
+    private Flow(Movement movement, int sourceBrokerId, int destinationBrokerId, double dataInKB) {
+      _movement = movement;
+      _sourceBrokerId = sourceBrokerId;
+      _destinationBrokerId = destinationBrokerId;
+      _remainingDataInKB = dataInKB;
+      _rateInKBPerSec = 0.0;
+    }
+  }
+
+  public static class ExecutionSimulationResult {
+    private final long _makespanMs;
+    private final int _numInterBrokerReplicaMovements;
+    private final Map<Integer, Double> _peakInboundRateInKBPerSecByBrokerId;
+    private final Map<Integer, Double> _peakOutboundRateInKBPerSecByBrokerId;
+    private final SortedMap<Long, Integer> _concurrencyTimeline;
+
+    ExecutionSimulationResult(long makespanMs,
+                              int numInterBrokerReplicaMovements,
+                              Map<Integer, Double> peakInboundRateInKBPerSecByBrokerId,
+                              Map<Integer, Double> peakOutboundRateInKBPerSecByBrokerId,
+                              SortedMap<Long, Integer> concurrencyTimeline) {
+      _makespanMs = makespanMs;
+      _numInterBrokerReplicaMovements = numInterBrokerReplicaMovements;
+      _peakInboundRateInKBPerSecByBrokerId = peakInboundRateInKBPerSecByBrokerId;
+      _peakOutboundRateInKBPerSecByBrokerId = peakOutboundRateInKBPerSecByBrokerId;
+      _concurrencyTimeline = concurrencyTimeline;
+    }
+
+    /**
+     * @return The predicted time in milliseconds from the start of the execution until the executor notices that all
+     * inter-broker replica movements are finished.
+     */
+    public long makespanMs() {
+      return _makespanMs;
+    }
+
+    /**
+     * @return The number of simulated inter-broker replica movements.
+     */
+    public int numInterBrokerReplicaMovements() {
+      return _numInterBrokerReplicaMovements;
+    }
+
+    /**
+     * @return The peak inbound replication rate of the destination brokers in KB/s by broker id.
+     */
+    public Map<Integer, Double> peakInboundRateInKBPerSecByBrokerId() {
+      return Collections.unmodifiableMap(_peakInboundRateInKBPerSecByBrokerId);
+    }
+
+    /**
+     * @return The peak outbound replication rate of the source brokers in KB/s by broker id.
+     */
+    public Map<Integer, Double> peakOutboundRateInKBPerSecByBrokerId() {
+      return Collections.unmodifiableMap(_peakOutboundRateInKBPerSecByBrokerId);
+    }
+
+    /**
+     * @return The number of inter-broker replica movements in progress by the time in milliseconds since the start of the
+     * execution, from which on it applies.
+     */
+    public SortedMap<Long, Integer> concurrencyTimeline() {
+      return Collections.unmodifiableSortedMap(_concurrencyTimeline);
+    }
+
+    @Override
+    public String toString() {
+      return String.format("{makespanMs: %d, numInterBrokerReplicaMovements: %d, peakInboundRateInKBPerSec: %s, "
+                           + "peakOutboundRateInKBPerSec: %s, concurrencyTimeline: %s}", _makespanMs, _numInterBrokerReplicaMovements,
+                           _peakInboundRateInKBPerSecByBrokerId, _peakOutboundRateInKBPerSecByBrokerId, _concurrencyTimeline);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor;
+
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.common.TopicPartition;
+
+
+/**
+ * The prerequisites of the execution tasks of an execution, which determine whether a task can start before the tasks of
+ * the preceding execution phases are done:
+ * <ul>
+ *   <li>An inter-broker replica movement has no prerequisite.</li>
+ *   <li>An intra-broker replica movement of a partition on a broker requires the inter-broker replica movement of the
+ *   partition, as well as all inter-broker replica movements that involve the broker -- i.e. move data from or to the broker,
+ *   or remove a replica from it -- to finish.</li>
+ *   <li>A leadership movement of a partition requires the inter-broker and intra-broker replica movements of the partition
+ *   to finish.</li>
+ * </ul>
+ * A task is finished once it is completed, aborted, or dead.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class ExecutionTaskGraph {
+  // Number of unfinished inter-broker and intra-broker replica movements by partition.
+  private final Map<TopicPartition, Integer> _numUnfinishedReplicaMovementsByPartition;
+  // Number of unfinished inter-broker replica movements by partition.
+  private final Map<TopicPartition, Integer> _numUnfinishedInterBrokerReplicaMovementsByPartition;
+  // Number of unfinished inter-broker replica movements by the id of the involved brokers.
+  private final Map<Integer, Integer> _numUnfinishedInterBrokerReplicaMovementsByBrokerId;
+
+  public ExecutionTaskGraph() {
+    _numUnfinishedReplicaMovementsByPartition = new HashMap<>();
+    _numUnfinishedInterBrokerReplicaMovementsByPartition = new HashMap<>();
+    _numUnfinishedInterBrokerReplicaMovementsByBrokerId = new HashMap<>();
+  }
+
+  /**
+   * Add the replica movements of an execution, which are the prerequisites of the other tasks of the execution.
+   *
+   * @param interBrokerReplicaMovements Unfinished inter-broker replica movements.
+   * @param intraBrokerReplicaMovements Unfinished intra-broker replica movements.
+   */
+  public void addReplicaMovements(Collection<ExecutionTask> interBrokerReplicaMovements,
+                                  Collection<ExecutionTask> intraBrokerReplicaMovements) {
+    for (ExecutionTask task : interBrokerReplicaMovements) {
+      update(task, 1);
+    }
+    for (ExecutionTask task : intraBrokerReplicaMovements) {
+      update(task, 1);
+    }
+  }
+
+  /**
+   * Mark the given task as finished, which removes it from the prerequisites of the other tasks.
+   *
+   * @param task A task that is completed, aborted, or dead.
+   */
+  public void markTaskFinished(ExecutionTask task) {
+    update(task, -1);
+  }
+
+  private void update(ExecutionTask task, int delta) {
+    TopicPartition tp = task.proposal().topicPartition();
+    switch (task.type()) {
+      case INTER_BROKER_REPLICA_ACTION:
+        _numUnfinishedReplicaMovementsByPartition.merge(tp, delta, Integer::sum);
+        _numUnfinishedInterBrokerReplicaMovementsByPartition.merge(tp, delta, Integer::sum);
+        for (int brokerId : involvedBrokers(task.proposal())) {
+          _numUnfinishedInterBrokerReplicaMovementsByBrokerId.merge(brokerId, delta, Integer::sum);
+        }
+        break;
+      case INTRA_BROKER_REPLICA_ACTION:
+        _numUnfinishedReplicaMovementsByPartition.merge(tp, delta, Integer::sum);
+        break;
+      default:
+        // No-op for LEADER_ACTION, which is not a prerequisite of any task.
+        break;
+    }
+  }
+
+  private static Set<Integer> involvedBrokers(ExecutionProposal proposal) {
+    Set<Integer> involvedBrokers = new HashSet<>();
+    involvedBrokers.add(proposal.oldLeader().brokerId());
+    proposal.replicasToAdd().stream().map(ReplicaPlacementInfo::brokerId).forEach(involvedBrokers::add);
+    proposal.replicasToRemove().stream().map(ReplicaPlacementInfo::brokerId).forEach(involvedBrokers::add);
+    return involvedBrokers;
+  }
+
+  /**
+   * @param task Task to check.
+   * @return {@code true} if all prerequisites of the given task are finished, {@code false} otherwise.
+   */
+  public boolean isReady(ExecutionTask task) {
+    TopicPartition tp = task.proposal().topicPartition();
+    switch (task.type()) {
+      case INTER_BROKER_REPLICA_ACTION:
+        return true;
+      case INTRA_BROKER_REPLICA_ACTION:
+        return _numUnfinishedInterBrokerReplicaMovementsByPartition.getOrDefault(tp, 0) <= 0
+               && _numUnfinishedInterBrokerReplicaMovementsByBrokerId.getOrDefault(task.brokerId(), 0) <= 0;
+      case LEADER_ACTION:
+        return _numUnfinishedReplicaMovementsByPartition.getOrDefault(tp, 0) <= 0;
+      default:
+        throw new IllegalStateException("Unsupported task type " + task.type());
+    }
+  }
+
+  /**
+   * Clear the prerequisites of the tasks.
+   */
+  public void clear() {
+    _numUnfinishedReplicaMovementsByPartition.clear();
+    _numUnfinishedInterBrokerReplicaMovementsByPartition.clear();
+    _numUnfinishedInterBrokerReplicaMovementsByBrokerId.clear();
+  }
+}
@@ -6,10 +6,14 @@ package com.linkedin.kafka.cruisecontrol.executor;
 
 import com.codahale.metrics.MetricRegistry;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
 import com.linkedin.kafka.cruisecontrol.executor.concurrency.ExecutionConcurrencyManager;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.ReplicaMovementStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.StrategyOptions;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -28,9 +32,13 @@ import static com.linkedin.kafka.cruisecontrol.executor.ExecutionTaskTracker.Exe
  * It does the following things:
  * 1. Keep track of the in progress partition movements between each pair of source-destination disk or broker.
  * 2. When one partition movement finishes, it checks the involved brokers to see if we can run more partition movements.
- * We only keep track of the number of concurrent partition movements but not the sizes of the partitions.
+ * By default, we only keep track of the number of concurrent partition movements but not the sizes of the partitions.
  * Because the concurrent level determines how much impact the balancing process would have on the involved
- * brokers. And the size of partitions only affect how long the impact would last.
+ * brokers. And the size of partitions only affect how long the impact would last. If an
+ * {@link InterBrokerDataMovementBudget} is set, the data of the concurrent inter-broker partition movements is also
+ * kept within the budget of the involved brokers.
+ * If an {@link ExecutionJournal} is configured, the task plan and the task state transitions are journaled, so that an
+ * execution interrupted by a restart can be resumed from its unfinished proposals.
  *
  * The execution task manager is thread-safe.
  */
@@ -44,6 +52,10 @@ public class ExecutionTaskManager {
   private final ExecutionConcurrencyManager _executionConcurrencyManager;
   private final Set<Integer> _brokersToSkipConcurrencyCheck;
   private boolean _isKafkaAssignerMode;
+  private InterBrokerDataMovementBudget _interBrokerDataMovementBudget;
+  // The journal of the ongoing execution, or null if executions are not journaled.
+  private final ExecutionJournal _executionJournal;
+  private final ExecutionTaskGraph _executionTaskGraph;
 
   /**
    * The constructor of The Execution task manager.
@@ -65,6 +77,11 @@ public class ExecutionTaskManager {
     _executionConcurrencyManager = new ExecutionConcurrencyManager(config);
     _brokersToSkipConcurrencyCheck = new HashSet<>();
     _isKafkaAssignerMode = false;
+    _interBrokerDataMovementBudget = null;
+    _executionTaskGraph = new ExecutionTaskGraph();
+    String executionJournalDir = config.getString(ExecutorConfig.EXECUTION_JOURNAL_DIR_CONFIG);
+    _executionJournal = executionJournalDir == null || executionJournalDir.isEmpty() ? null
+                                                                                     : new ExecutionJournal(Paths.get(executionJournalDir));
   }
 
   public ExecutionConcurrencyManager getExecutionConcurrencyManager() {
@@ -79,7 +96,23 @@ public class ExecutionTaskManager {
                                                                                           ConcurrencyType.INTER_BROKER_REPLICA);
     return _executionTaskPlanner.getInterBrokerReplicaMovementTasks(
         brokersReadyForReplicaMovement, _inProgressPartitionsForInterBrokerMovement,
-        _executionConcurrencyManager.maxClusterInterBrokerPartitionMovements());
+        _executionConcurrencyManager.maxClusterInterBrokerPartitionMovements(),
+        _interBrokerDataMovementBudget == null ? null : _interBrokerDataMovementBudget.copy());
+  }
+
+  /**
+   * Set the budget of the inter-broker partition movement data that each broker can have in flight. The data of the
+   * partition movements that are already in progress is added to the given budget.
+   *
+   * @param interBrokerDataMovementBudget The budget of the in-flight inter-broker partition movement data, or {@code null}
+   *                                      to only limit the number of concurrent partition movements.
+   */
+  public synchronized void setInterBrokerDataMovementBudget(InterBrokerDataMovementBudget interBrokerDataMovementBudget) {
+    _interBrokerDataMovementBudget = interBrokerDataMovementBudget;
+    if (_interBrokerDataMovementBudget != null) {
+      inExecutionTasks(Collections.singleton(TaskType.INTER_BROKER_REPLICA_ACTION))
+          .forEach(task -> _interBrokerDataMovementBudget.reserve(task.proposal()));
+    }
   }
 
   /**
@@ -120,6 +153,24 @@ public class ExecutionTaskManager {
     return _executionTaskPlanner.getLeadershipMovementTasks(_executionConcurrencyManager);
   }
 
+  /**
+   * @return A list of execution tasks that move the replicas across disks of the same broker, and whose prerequisites in the
+   * {@link ExecutionTaskGraph} are finished -- i.e. they can be co-scheduled with the inter-broker replica movements.
+   */
+  public synchronized List<ExecutionTask> getReadyIntraBrokerReplicaMovementTasks() {
+    Map<Integer, Integer> brokersReadyForReplicaMovement = brokersReadyForReplicaMovement(_inProgressIntraBrokerReplicaMovementsByBrokerId,
+                                                                                          ConcurrencyType.INTRA_BROKER_REPLICA);
+    return _executionTaskPlanner.getIntraBrokerReplicaMovementTasks(brokersReadyForReplicaMovement, _executionTaskGraph::isReady);
+  }
+
+  /**
+   * @return A list of execution tasks that move the leadership, and whose prerequisites in the {@link ExecutionTaskGraph}
+   * are finished -- i.e. they can be co-scheduled with the replica movements.
+   */
+  public synchronized List<ExecutionTask> getReadyLeadershipMovementTasks() {
+    return _executionTaskPlanner.getLeadershipMovementTasks(_executionConcurrencyManager, _executionTaskGraph::isReady);
+  }
+
   /**
    * Add a collection of execution proposals for execution. The method allows users to skip the concurrency check
    * on some given brokers. Notice that this method will replace the existing brokers that were in the concurrency
@@ -150,6 +201,14 @@ public class ExecutionTaskManager {
     _executionTaskTracker.addTasksToTrace(_executionTaskPlanner.remainingInterBrokerReplicaMovements(), TaskType.INTER_BROKER_REPLICA_ACTION);
     _executionTaskTracker.addTasksToTrace(_executionTaskPlanner.remainingIntraBrokerReplicaMovements(), TaskType.INTRA_BROKER_REPLICA_ACTION);
     _executionTaskTracker.addTasksToTrace(_executionTaskPlanner.remainingLeadershipMovements(), TaskType.LEADER_ACTION);
+    if (_executionJournal != null) {
+      List<ExecutionTask> tasks = new ArrayList<>(_executionTaskPlanner.remainingInterBrokerReplicaMovements());
+      tasks.addAll(_executionTaskPlanner.remainingIntraBrokerReplicaMovements());
+      tasks.addAll(_executionTaskPlanner.remainingLeadershipMovements());
+      _executionJournal.executionStarted(tasks);
+    }
+    _executionTaskGraph.addReplicaMovements(_executionTaskPlanner.remainingInterBrokerReplicaMovements(),
+                                            _executionTaskPlanner.remainingIntraBrokerReplicaMovements());
     _brokersToSkipConcurrencyCheck.clear();
     if (brokersToSkipConcurrencyCheck != null) {
       _brokersToSkipConcurrencyCheck.addAll(brokersToSkipConcurrencyCheck);
@@ -175,6 +234,9 @@ public class ExecutionTaskManager {
       switch (task.type()) {
         case INTER_BROKER_REPLICA_ACTION:
           _inProgressPartitionsForInterBrokerMovement.add(task.proposal().topicPartition());
+          if (_interBrokerDataMovementBudget != null) {
+            _interBrokerDataMovementBudget.reserve(task.proposal());
+          }
           int oldLeader = task.proposal().oldLeader().brokerId();
           _inProgressInterBrokerReplicaMovementsByBrokerId.put(oldLeader,
                                                                _inProgressInterBrokerReplicaMovementsByBrokerId.get(oldLeader) + 1);
@@ -190,6 +252,7 @@ public class ExecutionTaskManager {
           break;
       }
     }
+    maybeJournalTasksState(tasks);
   }
 
   /**
@@ -201,9 +264,11 @@ public class ExecutionTaskManager {
     if (task.state() == ExecutionTaskState.IN_PROGRESS) {
       _executionTaskTracker.markTaskState(task, ExecutionTaskState.COMPLETED);
       completeTask(task);
+      maybeJournalTasksState(Collections.singletonList(task));
     } else if (task.state() == ExecutionTaskState.ABORTING) {
       _executionTaskTracker.markTaskState(task, ExecutionTaskState.ABORTED);
       completeTask(task);
+      maybeJournalTasksState(Collections.singletonList(task));
     }
   }
 
@@ -214,6 +279,7 @@ public class ExecutionTaskManager {
   public synchronized void markTaskAborting(ExecutionTask task) {
     if (task.state() == ExecutionTaskState.IN_PROGRESS) {
       _executionTaskTracker.markTaskState(task, ExecutionTaskState.ABORTING);
+      maybeJournalTasksState(Collections.singletonList(task));
     }
   }
 
@@ -225,6 +291,34 @@ public class ExecutionTaskManager {
     if (task.state() != ExecutionTaskState.DEAD) {
       _executionTaskTracker.markTaskState(task, ExecutionTaskState.DEAD);
       completeTask(task);
+      maybeJournalTasksState(Collections.singletonList(task));
+    }
+  }
+
+  private void maybeJournalTasksState(List<ExecutionTask> tasks) {
+    if (_executionJournal != null) {
+      _executionJournal.tasksStateChanged(tasks);
+    }
+  }
+
+  /**
+   * Read the journal of an execution that was interrupted by a restart, if executions are journaled.
+   *
+   * @return The proposals of the interrupted execution that have unfinished tasks, or an empty list if there is no such
+   * execution or executions are not journaled.
+   */
+  public synchronized List<ExecutionProposal> unfinishedJournaledProposals() {
+    return _executionJournal == null ? Collections.emptyList() : _executionJournal.unfinishedProposals();
+  }
+
+  /**
+   * Close the execution journal (if any), retaining the journal of the ongoing execution to resume it upon the next startup.
+   * State transitions of tasks after the journal is closed -- e.g. due to stopping the execution upon shutdown -- are not
+   * journaled.
+   */
+  public synchronized void closeExecutionJournal() {
+    if (_executionJournal != null) {
+      _executionJournal.close();
     }
   }
 
@@ -233,9 +327,13 @@ public class ExecutionTaskManager {
    * @param task Execution task to mark.
    */
   private void completeTask(ExecutionTask task) {
+    _executionTaskGraph.markTaskFinished(task);
     switch (task.type()) {
       case INTER_BROKER_REPLICA_ACTION:
         _inProgressPartitionsForInterBrokerMovement.remove(task.proposal().topicPartition());
+        if (_interBrokerDataMovementBudget != null) {
+          _interBrokerDataMovementBudget.release(task.proposal());
+        }
         int oldLeader = task.proposal().oldLeader().brokerId();
         _inProgressInterBrokerReplicaMovementsByBrokerId.put(oldLeader,
                                                              _inProgressInterBrokerReplicaMovementsByBrokerId.get(oldLeader) - 1);
@@ -361,8 +459,13 @@ public class ExecutionTaskManager {
     _inProgressInterBrokerReplicaMovementsByBrokerId.clear();
     _inProgressIntraBrokerReplicaMovementsByBrokerId.clear();
     _inProgressPartitionsForInterBrokerMovement.clear();
+    _interBrokerDataMovementBudget = null;
     _executionTaskPlanner.clear();
     _executionTaskTracker.clear();
+    _executionTaskGraph.clear();
+    if (_executionJournal != null) {
+      _executionJournal.executionFinished();
+    }
   }
 
   /**
@@ -27,6 +27,7 @@ import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.common.Cluster;
@@ -204,8 +205,30 @@ public class ExecutionTaskPlanner {
     ReplicaMovementStrategy chosenReplicaMovementTaskStrategy = replicaMovementStrategy == null
                                                                 ? _defaultReplicaMovementTaskStrategy
                                                                 : replicaMovementStrategy.chainBaseReplicaMovementStrategyIfAbsent();
-    _interPartMoveTasksByBrokerId = chosenReplicaMovementTaskStrategy.applyStrategy(_remainingInterBrokerReplicaMovements, strategyOptions);
-    _interPartMoveBrokerComparator = brokerComparator(strategyOptions, chosenReplicaMovementTaskStrategy);
+    StrategyOptions strategyOptionsWithDataToMove = new StrategyOptions.Builder(strategyOptions.cluster())
+        .minIsrWithTimeByTopic(strategyOptions.minIsrWithTimeByTopic())
+        .interBrokerDataToMoveInMBByBrokerId(interBrokerDataToMoveInMBByBrokerId(_remainingInterBrokerReplicaMovements))
+        .build();
+    _interPartMoveTasksByBrokerId = chosenReplicaMovementTaskStrategy.applyStrategy(_remainingInterBrokerReplicaMovements,
+                                                                                    strategyOptionsWithDataToMove);
+    _interPartMoveBrokerComparator = brokerComparator(strategyOptionsWithDataToMove, chosenReplicaMovementTaskStrategy);
+  }
+
+  /**
+   * @param interBrokerReplicaMovementTasks Inter-broker replica movement tasks.
+   * @return The data to move by the given tasks in MB by the id of each involved broker, i.e. the data that each source broker
+   * sends and each destination broker receives.
+   */
+  private static Map<Integer, Long> interBrokerDataToMoveInMBByBrokerId(Collection<ExecutionTask> interBrokerReplicaMovementTasks) {
+    Map<Integer, Long> dataToMoveInMBByBrokerId = new HashMap<>();
+    for (ExecutionTask task : interBrokerReplicaMovementTasks) {
+      ExecutionProposal proposal = task.proposal();
+      dataToMoveInMBByBrokerId.merge(proposal.oldLeader().brokerId(), proposal.interBrokerDataToMoveInMB(), Long::sum);
+      for (ReplicaPlacementInfo destinationBroker : proposal.replicasToAdd()) {
+        dataToMoveInMBByBrokerId.merge(destinationBroker.brokerId(), proposal.partitionSizeInMB(), Long::sum);
+      }
+    }
+    return dataToMoveInMBByBrokerId;
   }
 
   /**
@@ -300,6 +323,18 @@ public class ExecutionTaskPlanner {
    * @return The leadership movement tasks.
    */
   public List<ExecutionTask> getLeadershipMovementTasks(ExecutionConcurrencyManager executionConcurrencyManager) {
+    return getLeadershipMovementTasks(executionConcurrencyManager, task -> true);
+  }
+
+  /**
+   * Get the leadership movement tasks that satisfy the given readiness check, and remove them from _remainingLeadershipMovements.
+   *
+   * @param executionConcurrencyManager the execution concurrency manager
+   * @param isReady Whether a leadership movement task is ready to execute.
+   * @return The leadership movement tasks.
+   */
+  public List<ExecutionTask> getLeadershipMovementTasks(ExecutionConcurrencyManager executionConcurrencyManager,
+                                                        Predicate<ExecutionTask> isReady) {
     Map<Integer, Integer> brokerLeadershipConcurrency =
             new HashMap<>(executionConcurrencyManager.getExecutionConcurrencyPerBroker(ConcurrencyType.LEADERSHIP_BROKER));
     List<ExecutionTask> leadershipMovementsList = new ArrayList<>();
@@ -307,6 +342,9 @@ public class ExecutionTaskPlanner {
     int taskQuota = executionConcurrencyManager.maxClusterLeadershipMovements();
     while (leadershipMovementIter.hasNext() && taskQuota > 0) {
       ExecutionTask leadershipMovementTask = leadershipMovementIter.next();
+      if (!isReady.test(leadershipMovementTask)) {
+        continue;
+      }
       Set<Integer> replicas = leadershipMovementTask.proposal().newReplicas().stream().map(ReplicaPlacementInfo::brokerId).collect(
           Collectors.toSet());
       boolean canSchedule = true;
@@ -348,7 +386,32 @@ public class ExecutionTaskPlanner {
   public List<ExecutionTask> getInterBrokerReplicaMovementTasks(Map<Integer, Integer> readyBrokers,
                                                                 Set<TopicPartition> inProgressPartitions,
                                                                 int maxInterBrokerPartitionMovements) {
-    LOG.trace("Getting inter-broker replica movement tasks for brokers with concurrency {}", readyBrokers);
+    return getInterBrokerReplicaMovementTasks(readyBrokers, inProgressPartitions, maxInterBrokerPartitionMovements, null);
+  }
+
+  /**
+   * Get a list of executable inter-broker replica movements that comply with the concurrency constraint, partitions in
+   * move constraint, and the given budget of in-flight data of each broker.
+   *
+   * If a budget is given, each broker picks the first task in its execution order that fits into the remaining budget of
+   * the source broker and all the destination brokers -- i.e. a first-fit packing of the partition sizes into the budget
+   * of the brokers. Hence, a large partition that does not fit does not hold back the smaller ones after it, and it is
+   * picked up once the movements in flight on its brokers finish.
+   *
+   * @param readyBrokers The brokers that is ready to execute more movements.
+   * @param inProgressPartitions Topic partitions of replicas that are already in progress. This is needed because the
+   *                             controller does not allow updating the ongoing replica reassignment for a partition
+   *                             whose replica is being reassigned.
+   * @param maxInterBrokerPartitionMovements Maximum cap for number of partitions to move at any time
+   * @param budget The budget of in-flight data of each broker, which is updated with the data of the returned movements,
+   *               or {@code null} to ignore the partition sizes.
+   * @return A list of movements that is executable for the ready brokers.
+   */
+  public List<ExecutionTask> getInterBrokerReplicaMovementTasks(Map<Integer, Integer> readyBrokers,
+                                                                Set<TopicPartition> inProgressPartitions,
+                                                                int maxInterBrokerPartitionMovements,
+                                                                InterBrokerDataMovementBudget budget) {
+    LOG.trace("Getting inter-broker replica movement tasks for brokers with concurrency {} and budget {}", readyBrokers, budget);
     List<ExecutionTask> executableReplicaMovements = new ArrayList<>();
     SortedSet<Integer> interPartMoveBrokerIds = new TreeSet<>(_interPartMoveBrokerComparator);
     List<Integer> interPartMoveBrokerIdsList = new ArrayList<>(_interPartMoveTasksByBrokerId.keySet().size());
@@ -406,8 +469,12 @@ public class ExecutionTaskPlanner {
           // Check if the proposal is executable.
           if (isExecutableProposal(task.proposal(), readyBrokers)
               && !inProgressPartitions.contains(tp)
-              && !partitionsInvolved.contains(tp)) {
+              && !partitionsInvolved.contains(tp)
+              && (budget == null || budget.canMove(task.proposal()))) {
             partitionsInvolved.add(tp);
+            if (budget != null) {
+              budget.reserve(task.proposal());
+            }
             executableReplicaMovements.add(task);
             // Record the brokers as involved in this round and stop involving them again in this round.
             brokerInvolved.add(sourceBroker);
@@ -445,6 +512,18 @@ public class ExecutionTaskPlanner {
    * @return A list of movements that is executable for the ready brokers.
    */
   public List<ExecutionTask> getIntraBrokerReplicaMovementTasks(Map<Integer, Integer> readyBrokers) {
+    return getIntraBrokerReplicaMovementTasks(readyBrokers, task -> true);
+  }
+
+  /**
+   * Get a list of executable intra-broker replica movements that comply with the concurrency constraint and satisfy the
+   * given readiness check.
+   *
+   * @param readyBrokers The brokers that is ready to execute more movements.
+   * @param isReady Whether an intra-broker replica movement task is ready to execute.
+   * @return A list of movements that is executable for the ready brokers.
+   */
+  public List<ExecutionTask> getIntraBrokerReplicaMovementTasks(Map<Integer, Integer> readyBrokers, Predicate<ExecutionTask> isReady) {
     LOG.trace("Getting intra-broker replica movement tasks for brokers with concurrency {}", readyBrokers);
     List<ExecutionTask> executableReplicaMovements = new ArrayList<>();
 
@@ -453,8 +532,12 @@ public class ExecutionTaskPlanner {
       int limit = brokerEntry.getValue();
       if (_intraPartMoveTasksByBrokerId.containsKey(brokerId)) {
         Iterator<ExecutionTask> tasksForBroker = _intraPartMoveTasksByBrokerId.get(brokerId).iterator();
-        while (limit-- > 0 && tasksForBroker.hasNext()) {
+        while (limit > 0 && tasksForBroker.hasNext()) {
           ExecutionTask task = tasksForBroker.next();
+          if (!isReady.test(task)) {
+            continue;
+          }
+          limit--;
           executableReplicaMovements.add(task);
           // Remove the proposal from the execution plan.
           tasksForBroker.remove();
@@ -7,6 +7,7 @@ package com.linkedin.kafka.cruisecontrol.executor;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -26,6 +27,12 @@ import static com.linkedin.kafka.cruisecontrol.executor.ExecutionTask.TaskType;
  */
 public class ExecutionTaskTracker {
   private final Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> _tasksByType;
+  // Immutable snapshots of the tasks by type and state, which are shared by summaries until the state of a task changes.
+  private final Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> _taskSnapshotsByType;
+  // Remaining and finished inter-broker data movement by broker id, which are used to predict the completion time.
+  private final Map<Integer, Long> _remainingInterBrokerDataToMoveInMBByBrokerId;
+  private final Map<Integer, Long> _finishedInterBrokerDataMovementInMBByBrokerId;
+  private long _interBrokerReplicaMovementStartTimeMs;
   private long _remainingInterBrokerDataToMoveInMB;
   private long _remainingIntraBrokerDataToMoveInMB;
   private long _inExecutionInterBrokerDataMovementInMB;
@@ -67,6 +74,13 @@ public class ExecutionTaskTracker {
       }
       _tasksByType.put(type, taskMap);
     }
+    _taskSnapshotsByType = new HashMap<>();
+    for (TaskType type : taskTypes) {
+      _taskSnapshotsByType.put(type, new HashMap<>());
+    }
+    _remainingInterBrokerDataToMoveInMBByBrokerId = new HashMap<>();
+    _finishedInterBrokerDataMovementInMBByBrokerId = new HashMap<>();
+    _interBrokerReplicaMovementStartTimeMs = Long.MAX_VALUE;
     _remainingInterBrokerDataToMoveInMB = 0L;
     _remainingIntraBrokerDataToMoveInMB = 0L;
     _inExecutionInterBrokerDataMovementInMB = 0L;
@@ -106,11 +120,9 @@ public class ExecutionTaskTracker {
       }
     }
     dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR, GAUGE_ONGOING_EXECUTION_IN_KAFKA_ASSIGNER_MODE),
-                                      (Gauge<Integer>) () -> _isKafkaAssignerMode
-                                                             && !inExecutionTasks(TaskType.cachedValues()).isEmpty() ? 1 : 0);
+                                      (Gauge<Integer>) () -> _isKafkaAssignerMode && hasInExecutionTasks() ? 1 : 0);
     dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR, GAUGE_ONGOING_EXECUTION_IN_NON_KAFKA_ASSIGNER_MODE),
-                                      (Gauge<Integer>) () -> !_isKafkaAssignerMode
-                                                             && !inExecutionTasks(TaskType.cachedValues()).isEmpty() ? 1 : 0);
+                                      (Gauge<Integer>) () -> !_isKafkaAssignerMode && hasInExecutionTasks() ? 1 : 0);
   }
 
   private void registerMeterSensors(MetricRegistry dropwizardMetricRegistry) {
@@ -129,6 +141,7 @@ public class ExecutionTaskTracker {
    */
   public void markTaskState(ExecutionTask task, ExecutionTaskState newState) {
     _tasksByType.get(task.type()).get(task.state()).remove(task);
+    _taskSnapshotsByType.get(task.type()).remove(task.state());
     switch (newState) {
       case PENDING:
         // Let it go.
@@ -157,6 +170,7 @@ public class ExecutionTaskTracker {
         break;
     }
     _tasksByType.get(task.type()).get(newState).add(task);
+    _taskSnapshotsByType.get(task.type()).remove(newState);
   }
 
   private void markTaskExecutionRateMeter(ExecutionTask task) {
@@ -186,6 +200,7 @@ public class ExecutionTaskTracker {
       } else if (task.type() == TaskType.INTER_BROKER_REPLICA_ACTION) {
         _remainingInterBrokerDataToMoveInMB -= dataToMove;
         _inExecutionInterBrokerDataMovementInMB += dataToMove;
+        _interBrokerReplicaMovementStartTimeMs = Math.min(_interBrokerReplicaMovementStartTimeMs, task.startTimeMs());
       }
     } else if (task.state() == ExecutionTaskState.ABORTED
                || task.state() == ExecutionTaskState.DEAD
@@ -197,6 +212,8 @@ public class ExecutionTaskTracker {
       } else if (task.type() == TaskType.INTER_BROKER_REPLICA_ACTION) {
         _inExecutionInterBrokerDataMovementInMB -= dataToMove;
         _finishedInterBrokerDataMovementInMB += dataToMove;
+        addDataToMoveByBrokerId(task.proposal(), _remainingInterBrokerDataToMoveInMBByBrokerId, -1);
+        addDataToMoveByBrokerId(task.proposal(), _finishedInterBrokerDataMovementInMBByBrokerId, 1);
       }
     }
   }
@@ -210,8 +227,10 @@ public class ExecutionTaskTracker {
    */
   public void addTasksToTrace(Collection<ExecutionTask> tasks, TaskType taskType) {
     _tasksByType.get(taskType).get(ExecutionTaskState.PENDING).addAll(tasks);
+    _taskSnapshotsByType.get(taskType).remove(ExecutionTaskState.PENDING);
     if (taskType == TaskType.INTER_BROKER_REPLICA_ACTION) {
       _remainingInterBrokerDataToMoveInMB += tasks.stream().mapToLong(t -> t.proposal().interBrokerDataToMoveInMB()).sum();
+      tasks.forEach(t -> addDataToMoveByBrokerId(t.proposal(), _remainingInterBrokerDataToMoveInMBByBrokerId, 1));
     } else if (taskType == TaskType.INTRA_BROKER_REPLICA_ACTION) {
       _remainingIntraBrokerDataToMoveInMB += tasks.stream().mapToLong(t -> t.proposal().intraBrokerDataToMoveInMB()).sum();
     }
@@ -242,6 +261,7 @@ public class ExecutionTaskTracker {
 
   /**
    * Get a filtered list of tasks of different {@link TaskType} and in different {@link ExecutionTaskState}.
+   * The returned sets are immutable snapshots, which are only recreated after a task enters or leaves the corresponding state.
    *
    * @param taskTypesToGetFullList  Task types to return complete list of tasks.
    * @return                        A filtered list of tasks.
@@ -249,8 +269,10 @@ public class ExecutionTaskTracker {
   private Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> filteredTasksByState(Set<TaskType> taskTypesToGetFullList) {
     Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> tasksByState = new HashMap<>();
     for (TaskType type : taskTypesToGetFullList) {
-      tasksByState.put(type, new HashMap<>());
-      _tasksByType.get(type).forEach((k, v) -> tasksByState.get(type).put(k, new HashSet<>(v)));
+      Map<ExecutionTaskState, Set<ExecutionTask>> snapshots = _taskSnapshotsByType.get(type);
+      Map<ExecutionTaskState, Set<ExecutionTask>> tasksOfType = new HashMap<>();
+      _tasksByType.get(type).forEach((k, v) -> tasksOfType.put(k, snapshots.computeIfAbsent(k, s -> Set.copyOf(v))));
+      tasksByState.put(type, tasksOfType);
     }
     return tasksByState;
   }
@@ -260,6 +282,10 @@ public class ExecutionTaskTracker {
    */
   public void clear() {
     _tasksByType.values().forEach(m -> m.values().forEach(Set::clear));
+    _taskSnapshotsByType.values().forEach(Map::clear);
+    _remainingInterBrokerDataToMoveInMBByBrokerId.clear();
+    _finishedInterBrokerDataMovementInMBByBrokerId.clear();
+    _interBrokerReplicaMovementStartTimeMs = Long.MAX_VALUE;
     _remainingInterBrokerDataToMoveInMB = 0L;
     _remainingIntraBrokerDataToMoveInMB = 0L;
     _inExecutionInterBrokerDataMovementInMB = 0L;
@@ -310,6 +336,15 @@ public class ExecutionTaskTracker {
     return inExecutionTasks;
   }
 
+  private boolean hasInExecutionTasks() {
+    for (Map<ExecutionTaskState, Set<ExecutionTask>> tasksByState : _tasksByType.values()) {
+      if (!tasksByState.get(ExecutionTaskState.IN_PROGRESS).isEmpty() || !tasksByState.get(ExecutionTaskState.ABORTING).isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public long inExecutionInterBrokerDataMovementInMB() {
     return _inExecutionInterBrokerDataMovementInMB;
   }
@@ -352,6 +387,54 @@ public class ExecutionTaskTracker {
     return _inExecutionIntraBrokerDataMovementInMB;
   }
 
+  /**
+   * Predict the completion time of the inter-broker replica movements. The movements of a broker are expected to progress at
+   * the rate that the broker has moved data since the start of the movements, and the movements complete when the broker
+   * that is expected to finish last -- i.e. the broker on the critical path -- finishes its movements. A broker that has not
+   * finished moving any data yet is expected to progress at the average rate of the other brokers.
+   *
+   * @return The predicted completion time of the inter-broker replica movements in milliseconds, or {@code -1} if it cannot
+   * be predicted yet, i.e. if no inter-broker replica movement has finished moving data yet.
+   */
+  public long predictedInterBrokerReplicaMovementCompletionTimeMs() {
+    long nowMs = _time.milliseconds();
+    long elapsedMs = nowMs - _interBrokerReplicaMovementStartTimeMs;
+    if (_finishedInterBrokerDataMovementInMBByBrokerId.isEmpty() || elapsedMs <= 0) {
+      return -1L;
+    }
+    double avgRateInMBPerMs = _finishedInterBrokerDataMovementInMBByBrokerId.values().stream().mapToLong(Long::longValue)
+                                                                            .average().orElse(0.0) / elapsedMs;
+    double maxRemainingTimeMs = 0.0;
+    for (Map.Entry<Integer, Long> entry : _remainingInterBrokerDataToMoveInMBByBrokerId.entrySet()) {
+      long finishedDataInMB = _finishedInterBrokerDataMovementInMBByBrokerId.getOrDefault(entry.getKey(), 0L);
+      double rateInMBPerMs = finishedDataInMB > 0 ? (double) finishedDataInMB / elapsedMs : avgRateInMBPerMs;
+      maxRemainingTimeMs = Math.max(maxRemainingTimeMs, entry.getValue() / rateInMBPerMs);
+    }
+    return nowMs + Math.round(maxRemainingTimeMs);
+  }
+
+  /**
+   * Add the inter-broker data to move of the given proposal to the source and destination brokers. Brokers without any data
+   * to move are removed from the given map.
+   *
+   * @param proposal Execution proposal.
+   * @param dataInMBByBrokerId Data in MB by broker id to update.
+   * @param sign {@code 1} to add the data of the proposal, {@code -1} to subtract it.
+   */
+  private static void addDataToMoveByBrokerId(ExecutionProposal proposal, Map<Integer, Long> dataInMBByBrokerId, int sign) {
+    updateData(dataInMBByBrokerId, proposal.oldLeader().brokerId(), sign * proposal.interBrokerDataToMoveInMB());
+    for (ReplicaPlacementInfo destinationBroker : proposal.replicasToAdd()) {
+      updateData(dataInMBByBrokerId, destinationBroker.brokerId(), sign * proposal.partitionSizeInMB());
+    }
+  }
+
+  private static void updateData(Map<Integer, Long> dataInMBByBrokerId, int brokerId, long deltaInMB) {
+    dataInMBByBrokerId.compute(brokerId, (k, v) -> {
+      long dataInMB = (v == null ? 0L : v) + deltaInMB;
+      return dataInMB > 0 ? dataInMB : null;
+    });
+  }
+
   /**
    * Get execution tasks summary.
    *
@@ -365,6 +448,7 @@ public class ExecutionTaskTracker {
                                      _inExecutionIntraBrokerDataMovementInMB,
                                      _remainingInterBrokerDataToMoveInMB,
                                      _remainingIntraBrokerDataToMoveInMB,
+                                     predictedInterBrokerReplicaMovementCompletionTimeMs(),
                                      taskStat(),
                                      filteredTasksByState(taskTypesToGetFullList)
     );
@@ -377,6 +461,7 @@ public class ExecutionTaskTracker {
     private final long _inExecutionIntraBrokerDataMovementInMB;
     private final long _remainingInterBrokerDataToMoveInMB;
     private final long _remainingIntraBrokerDataToMoveInMB;
+    private final long _predictedInterBrokerReplicaMovementCompletionTimeMs;
     private final Map<TaskType, Map<ExecutionTaskState, Integer>> _taskStat;
     private final Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> _filteredTasksByState;
 
@@ -386,6 +471,7 @@ public class ExecutionTaskTracker {
                           long inExecutionIntraBrokerDataMovementInMB,
                           long remainingInterBrokerDataToMoveInMB,
                           long remainingIntraBrokerDataToMoveInMB,
+                          long predictedInterBrokerReplicaMovementCompletionTimeMs,
                           Map<TaskType, Map<ExecutionTaskState, Integer>> taskStat,
                           Map<TaskType, Map<ExecutionTaskState, Set<ExecutionTask>>> filteredTasksByState) {
       _finishedInterBrokerDataMovementInMB = finishedInterBrokerDataMovementInMB;
@@ -394,6 +480,7 @@ public class ExecutionTaskTracker {
       _inExecutionIntraBrokerDataMovementInMB = inExecutionIntraBrokerDataMovementInMB;
       _remainingInterBrokerDataToMoveInMB = remainingInterBrokerDataToMoveInMB;
       _remainingIntraBrokerDataToMoveInMB = remainingIntraBrokerDataToMoveInMB;
+      _predictedInterBrokerReplicaMovementCompletionTimeMs = predictedInterBrokerReplicaMovementCompletionTimeMs;
       _taskStat = taskStat;
       _filteredTasksByState = filteredTasksByState;
     }
@@ -422,6 +509,14 @@ public class ExecutionTaskTracker {
       return _remainingIntraBrokerDataToMoveInMB;
     }
 
+    /**
+     * @return The predicted completion time of the inter-broker replica movements in milliseconds, or {@code -1} if it cannot
+     * be predicted.
+     */
+    public long predictedInterBrokerReplicaMovementCompletionTimeMs() {
+      return _predictedInterBrokerReplicaMovementCompletionTimeMs;
+    }
+
     public Map<TaskType, Map<ExecutionTaskState, Integer>> taskStat() {
       return Collections.unmodifiableMap(_taskStat);
     }
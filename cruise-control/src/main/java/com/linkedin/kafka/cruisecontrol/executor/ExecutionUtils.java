@@ -362,11 +362,30 @@ public final class ExecutionUtils {
    */
   public static Map<TopicPartition, PartitionReassignment> ongoingPartitionReassignments(AdminClient adminClient)
       throws InterruptedException, ExecutionException, TimeoutException {
+    return ongoingPartitionReassignments(adminClient, null);
+  }
+
+  /**
+   * Retrieve the map of {@link PartitionReassignment reassignment} by {@link TopicPartition partitions} for the given
+   * partitions. Unlike {@link #ongoingPartitionReassignments(AdminClient)}, the response is limited to the given partitions,
+   * which keeps it cheap to repeatedly check the partitions of in-flight reassignments.
+   *
+   * If the response times out, this method retries the same way as {@link #ongoingPartitionReassignments(AdminClient)}.
+   *
+   * @param adminClient The adminClient to ask for ongoing partition reassignments.
+   * @param partitions Partitions whose ongoing reassignments to retrieve, or {@code null} to retrieve all ongoing reassignments.
+   * @return The map of {@link PartitionReassignment reassignment} by {@link TopicPartition partitions}, which contains only
+   * the given partitions that are being reassigned.
+   */
+  public static Map<TopicPartition, PartitionReassignment> ongoingPartitionReassignments(AdminClient adminClient,
+                                                                                         @Nullable Set<TopicPartition> partitions)
+      throws InterruptedException, ExecutionException, TimeoutException {
     Map<TopicPartition, PartitionReassignment> partitionReassignments = null;
     int attempts = 0;
     long timeoutMs = listPartitionReassignmentsTimeoutMs;
     do {
-      ListPartitionReassignmentsResult responseResult = adminClient.listPartitionReassignments();
+      ListPartitionReassignmentsResult responseResult = partitions == null ? adminClient.listPartitionReassignments()
+                                                                           : adminClient.listPartitionReassignments(partitions);
       try {
         // A successful response is expected to be non-null.
         partitionReassignments = responseResult.reassignments().get(timeoutMs, TimeUnit.MILLISECONDS);
@@ -8,6 +8,7 @@ import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import com.google.common.util.concurrent.AtomicDouble;
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapolations;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils;
 import com.linkedin.kafka.cruisecontrol.common.TopicMinIsrCache;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
@@ -15,6 +16,7 @@ import com.linkedin.kafka.cruisecontrol.common.KafkaCruiseControlThreadFactory;
 import com.linkedin.kafka.cruisecontrol.common.MetadataClient;
 import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
 import com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorManager;
+import com.linkedin.kafka.cruisecontrol.exception.BrokerCapacityResolutionException;
 import com.linkedin.kafka.cruisecontrol.exception.OngoingExecutionException;
 import com.linkedin.kafka.cruisecontrol.executor.concurrency.ConcurrencyAdjustingRecommendation;
 import com.linkedin.kafka.cruisecontrol.executor.concurrency.ExecutionConcurrencyManager;
@@ -22,13 +24,16 @@ import com.linkedin.kafka.cruisecontrol.executor.strategy.ReplicaMovementStrateg
 import com.linkedin.kafka.cruisecontrol.executor.strategy.StrategyOptions;
 import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
 import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
 import com.linkedin.kafka.cruisecontrol.servlet.UserTaskManager;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
@@ -117,6 +122,8 @@ public class Executor {
   private final AtomicInteger _numExecutionStartedInNonKafkaAssignerMode;
   private volatile boolean _isKafkaAssignerMode;
   private volatile boolean _skipInterBrokerReplicaConcurrencyAdjustment;
+  // Whether the ongoing execution resumes an execution that was interrupted by a restart.
+  private volatile boolean _isResumedExecution;
   // TODO: Execution history is currently kept in memory, but ideally we should move it to a persistent store.
   private final long _demotionHistoryRetentionTimeMs;
   private final long _removalHistoryRetentionTimeMs;
@@ -126,12 +133,19 @@ public class Executor {
   private UserTaskManager _userTaskManager;
   private final AnomalyDetectorManager _anomalyDetectorManager;
   private final ConcurrencyAdjuster _concurrencyAdjuster;
+  // The feedback controller of the per-broker concurrency, or null if the concurrency is adjusted by fixed steps.
+  private final FeedbackConcurrencyController _feedbackConcurrencyController;
   private final ScheduledExecutorService _concurrencyAdjusterExecutor;
   private final ConcurrentMap<ConcurrencyType, Boolean> _concurrencyAdjusterEnabled;
   private volatile boolean _concurrencyAdjusterMinIsrCheckEnabled;
   private final TopicMinIsrCache _topicMinIsrCache;
   private final long _minExecutionProgressCheckIntervalMs;
+  private final long _executionProgressPollIntervalMs;
+  private final int _numConcurrentLeaderMovementBatches;
   private final long _slowTaskAlertingBackoffTimeMs;
+  private final boolean _bandwidthAwareInterBrokerReplicaMovementEnabled;
+  private final long _bandwidthAwareInterBrokerReplicaMovementWindowMs;
+  private final boolean _executionPhaseCoSchedulingEnabled;
   private final KafkaCruiseControlConfig _config;
   private final AtomicDouble _partitionMovementCountPerSec;
   private final AtomicDouble _partitionMovementMbPerSec;
@@ -181,6 +195,7 @@ public class Executor {
     _partitionMovementMbPerSec = new AtomicDouble(0);
     _isKafkaAssignerMode = false;
     _skipInterBrokerReplicaConcurrencyAdjustment = false;
+    _isResumedExecution = false;
     ExecutionUtils.init(config);
     _config = config;
 
@@ -224,7 +239,14 @@ public class Executor {
     _demotionHistoryRetentionTimeMs = config.getLong(ExecutorConfig.DEMOTION_HISTORY_RETENTION_TIME_MS_CONFIG);
     _removalHistoryRetentionTimeMs = config.getLong(ExecutorConfig.REMOVAL_HISTORY_RETENTION_TIME_MS_CONFIG);
     _minExecutionProgressCheckIntervalMs = config.getLong(ExecutorConfig.MIN_EXECUTION_PROGRESS_CHECK_INTERVAL_MS_CONFIG);
+    _executionProgressPollIntervalMs = config.getLong(ExecutorConfig.EXECUTION_PROGRESS_POLL_INTERVAL_MS_CONFIG);
+    _numConcurrentLeaderMovementBatches = config.getInt(ExecutorConfig.NUM_CONCURRENT_LEADER_MOVEMENT_BATCHES_CONFIG);
     _slowTaskAlertingBackoffTimeMs = config.getLong(ExecutorConfig.SLOW_TASK_ALERTING_BACKOFF_TIME_MS_CONFIG);
+    _bandwidthAwareInterBrokerReplicaMovementEnabled =
+        config.getBoolean(ExecutorConfig.BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_ENABLED_CONFIG);
+    _bandwidthAwareInterBrokerReplicaMovementWindowMs =
+        config.getLong(ExecutorConfig.BANDWIDTH_AWARE_INTER_BROKER_REPLICA_MOVEMENT_WINDOW_MS_CONFIG);
+    _executionPhaseCoSchedulingEnabled = config.getBoolean(ExecutorConfig.EXECUTION_PHASE_CO_SCHEDULING_ENABLED_CONFIG);
     _concurrencyAdjusterEnabled = new ConcurrentHashMap<>(ConcurrencyType.cachedValues().size());
     _concurrencyAdjusterEnabled.put(ConcurrencyType.INTER_BROKER_REPLICA,
                                     config.getBoolean(ExecutorConfig.CONCURRENCY_ADJUSTER_INTER_BROKER_REPLICA_ENABLED_CONFIG));
@@ -239,6 +261,10 @@ public class Executor {
         new KafkaCruiseControlThreadFactory(ConcurrencyAdjuster.class.getSimpleName()));
     int numMinIsrCheck = config.getInt(ExecutorConfig.CONCURRENCY_ADJUSTER_NUM_MIN_ISR_CHECK_CONFIG);
     long intervalMs = config.getLong(ExecutorConfig.CONCURRENCY_ADJUSTER_INTERVAL_MS_CONFIG) / numMinIsrCheck;
+    _feedbackConcurrencyController = config.getBoolean(ExecutorConfig.CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_ENABLED_CONFIG)
+                                     ? new FeedbackConcurrencyController(config, _executionTaskManager.getExecutionConcurrencyManager(),
+                                                                         dropwizardMetricRegistry)
+                                     : null;
     _concurrencyAdjuster = new ConcurrencyAdjuster(numMinIsrCheck);
     _topicMinIsrCache = new TopicMinIsrCache(Duration.ofMillis(config.getLong(ExecutorConfig.CONCURRENCY_ADJUSTER_MIN_ISR_RETENTION_MS_CONFIG)),
                                              config.getInt(ExecutorConfig.CONCURRENCY_ADJUSTER_MIN_ISR_CACHE_SIZE_CONFIG),
@@ -509,6 +535,9 @@ public class Executor {
     public synchronized void clearAdjustment() {
       _started = false;
       _executionConcurrencyManager.reset();
+      if (_feedbackConcurrencyController != null) {
+        _feedbackConcurrencyController.clear();
+      }
     }
 
     /**
@@ -549,15 +578,22 @@ public class Executor {
 
         // Only if ISR metrics suggest no change in concurrency, we will run broker-metric-based concurrency adjusting.
         // That is, if ISR metrics suggesting to decrease concurrency, will not check broker metrics for further adjusting.
+        Map<BrokerEntity, ValuesAndExtrapolations> currentBrokerMetricValues = Collections.emptyMap();
+        Set<Integer> brokersWithMinIsrIssues = concurrencyAdjustingRecommendation.getBrokersToDecreaseConcurrency();
         if (concurrencyAdjustingRecommendation.noChangeRecommended() && canRunMetricsBasedCheck) {
-          concurrencyAdjustingRecommendation = ExecutionUtils.recommendedConcurrency(_loadMonitor.currentBrokerMetricValues());
+          currentBrokerMetricValues = _loadMonitor.currentBrokerMetricValues();
+          concurrencyAdjustingRecommendation = ExecutionUtils.recommendedConcurrency(currentBrokerMetricValues);
         }
 
-        for (int broker: concurrencyAdjustingRecommendation.getBrokersToIncreaseConcurrency()) {
-          increaseExecutionBrokerConcurrency(broker, concurrencyType);
-        }
-        for (int broker: concurrencyAdjustingRecommendation.getBrokersToDecreaseConcurrency()) {
-          decreaseExecutionBrokerConcurrency(broker, concurrencyType);
+        if (_feedbackConcurrencyController != null) {
+          _feedbackConcurrencyController.refreshConcurrency(concurrencyType, currentBrokerMetricValues, brokersWithMinIsrIssues);
+        } else {
+          for (int broker: concurrencyAdjustingRecommendation.getBrokersToIncreaseConcurrency()) {
+            increaseExecutionBrokerConcurrency(broker, concurrencyType);
+          }
+          for (int broker: concurrencyAdjustingRecommendation.getBrokersToDecreaseConcurrency()) {
+            decreaseExecutionBrokerConcurrency(broker, concurrencyType);
+          }
         }
 
         if (concurrencyType == ConcurrencyType.LEADERSHIP_BROKER && canRefreshConcurrency(ConcurrencyType.LEADERSHIP_CLUSTER)) {
@@ -830,7 +866,7 @@ public class Executor {
                             requestedIntraBrokerPartitionMovementConcurrency, requestedClusterLeadershipMovementConcurrency,
                             requestedBrokerLeadershipMovementConcurrency, requestedExecutionProgressCheckIntervalMs, replicaMovementStrategy,
                             isTriggeredByUserRequest, loadMonitor);
-      startExecution(loadMonitor, null, removedBrokers, replicationThrottle, isTriggeredByUserRequest);
+      startExecution(loadMonitor, null, removedBrokers, replicationThrottle, isTriggeredByUserRequest, Collections.emptySet());
     } catch (Exception e) {
       processExecuteProposalsFailure();
       throw e;
@@ -918,13 +954,53 @@ public class Executor {
       initProposalExecution(proposals, demotedBrokers, concurrentSwaps, null, 0,
                             requestedClusterLeadershipMovementConcurrency, requestedBrokerLeadershipMovementConcurrency,
                             requestedExecutionProgressCheckIntervalMs, replicaMovementStrategy, isTriggeredByUserRequest, loadMonitor);
-      startExecution(loadMonitor, demotedBrokers, null, replicationThrottle, isTriggeredByUserRequest);
+      startExecution(loadMonitor, demotedBrokers, null, replicationThrottle, isTriggeredByUserRequest, Collections.emptySet());
     } catch (Exception e) {
       processExecuteProposalsFailure();
       throw e;
     }
   }
 
+  /**
+   * Resume the execution that was interrupted by a restart of Cruise Control (if any) from its unfinished proposals in the
+   * execution journal (see {@link ExecutorConfig#EXECUTION_JOURNAL_DIR_CONFIG}). Proposals whose actions are already reflected
+   * in the cluster are dropped by the planner, and the partition reassignments that the interrupted execution left in progress
+   * are resubmitted with the same target replicas, which continues rather than restarts them. The resumed execution uses the
+   * default concurrency, replica movement strategy, and replication throttle.
+   *
+   * @param loadMonitor Load monitor.
+   * @return {@code true} if an interrupted execution has been resumed, {@code false} otherwise.
+   */
+  public synchronized boolean maybeResumeExecution(LoadMonitor loadMonitor) {
+    List<ExecutionProposal> proposals = _executionTaskManager.unfinishedJournaledProposals();
+    if (proposals.isEmpty()) {
+      return false;
+    }
+    String uuid = UUID.randomUUID().toString();
+    String reason = String.format("Resume %d unfinished proposals of an execution interrupted by a restart.", proposals.size());
+    try {
+      setGeneratingProposalsForExecution(uuid, () -> reason, false);
+    } catch (OngoingExecutionException e) {
+      LOG.warn("Skipped resuming the interrupted execution.", e);
+      return false;
+    }
+    Set<TopicPartition> partitionsToResume = proposals.stream().map(ExecutionProposal::topicPartition).collect(Collectors.toSet());
+    setExecutionMode(false);
+    _skipInterBrokerReplicaConcurrencyAdjustment = false;
+    _isResumedExecution = true;
+    try {
+      initProposalExecution(proposals, Collections.emptySet(), null, null, null, null, null, null, null, false, loadMonitor);
+      startExecution(loadMonitor, null, null, _config.getLong(ExecutorConfig.DEFAULT_REPLICATION_THROTTLE_CONFIG), false,
+                     partitionsToResume);
+    } catch (Exception e) {
+      processExecuteProposalsFailure();
+      LOG.warn("Failed to resume the interrupted execution.", e);
+      return false;
+    }
+    OPERATION_LOG.info("Task [{}] resumes {} unfinished proposals of an execution interrupted by a restart.", uuid, proposals.size());
+    return true;
+  }
+
   /**
    * Dynamically set the per broker movement concurrency of the given type for all brokers or set the cluster concurrency.
    *
@@ -1000,14 +1076,16 @@ public class Executor {
    * @param replicationThrottle The replication throttle (bytes/second) to apply to both leaders and followers
    *                            while moving partitions (if null, no throttling is applied).
    * @param isTriggeredByUserRequest Whether the execution is triggered by a user request.
+   * @param partitionsToResume Partitions of a resumed execution, whose reassignments may already be ongoing.
    */
   private void startExecution(LoadMonitor loadMonitor,
                               Collection<Integer> demotedBrokers,
                               Collection<Integer> removedBrokers,
                               Long replicationThrottle,
-                              boolean isTriggeredByUserRequest) throws OngoingExecutionException {
+                              boolean isTriggeredByUserRequest,
+                              Set<TopicPartition> partitionsToResume) throws OngoingExecutionException {
     _executionStoppedByUser.set(false);
-    sanityCheckOngoingMovement();
+    sanityCheckOngoingMovement(partitionsToResume);
 
     try {
       _flipOngoingExecutionMutex.acquire();
@@ -1046,13 +1124,17 @@ public class Executor {
   /**
    * Sanity check whether there are ongoing inter-broker or intra-broker replica movements.
    * This check ensures lack of ongoing movements started by external agents -- i.e. not started by this Executor.
+   * The movements of the partitions of a resumed execution are attributed to the interrupted execution, hence allowed.
+   * Ongoing intra-broker replica movements cannot be attributed to partitions, hence they are allowed when resuming.
+   *
+   * @param partitionsToResume Partitions of a resumed execution, whose reassignments may already be ongoing.
    */
-  private void sanityCheckOngoingMovement() throws OngoingExecutionException {
+  private void sanityCheckOngoingMovement(Set<TopicPartition> partitionsToResume) throws OngoingExecutionException {
     boolean hasOngoingPartitionReassignments;
     Map<TopicPartition, PartitionReassignment> ongoingPartitionReassignments;
     try {
        ongoingPartitionReassignments = ExecutionUtils.ongoingPartitionReassignments(_adminClient);
-       hasOngoingPartitionReassignments = !ongoingPartitionReassignments.keySet().isEmpty();
+       hasOngoingPartitionReassignments = !partitionsToResume.containsAll(ongoingPartitionReassignments.keySet());
     } catch (TimeoutException | InterruptedException | ExecutionException e) {
       // This may indicate transient (e.g. network) issues.
       throw new IllegalStateException("Failed to retrieve if there are already ongoing partition reassignments.", e);
@@ -1060,7 +1142,7 @@ public class Executor {
     // Note that in case there is an ongoing partition reassignment, we do not unpause metric sampling.
     if (hasOngoingPartitionReassignments) {
       throw new OngoingExecutionException("There are ongoing inter-broker partition movements: " + ongoingPartitionReassignments);
-    } else {
+    } else if (partitionsToResume.isEmpty()) {
       boolean hasOngoingIntraBrokerReplicaMovement;
       try {
         hasOngoingIntraBrokerReplicaMovement =
@@ -1078,6 +1160,7 @@ public class Executor {
 
   private void processExecuteProposalsFailure() {
     _executionTaskManager.clear();
+    _isResumedExecution = false;
     _uuid = null;
     _reasonSupplier = null;
     _executorState = ExecutorState.noTaskInProgress(recentlyDemotedBrokers(), recentlyRemovedBrokers());
@@ -1174,6 +1257,8 @@ public class Executor {
       try {
         if (_hasOngoingExecution) {
           LOG.warn("Shutdown executor may take long because execution is still in progress.");
+          // Retain the journal of the ongoing execution (if any) to resume it upon the next startup.
+          _executionTaskManager.closeExecutionJournal();
           stopExecution();
         }
         try {
@@ -1502,12 +1587,13 @@ public class Executor {
       boolean completeWithError = (_executorState.state() == STOPPING_EXECUTION || _executionException != null);
       if (userTaskInfo != null) {
         _userTaskManager.markTaskExecutionFinished(_uuid, completeWithError);
-      } else {
+      } else if (!_isResumedExecution) {
         _anomalyDetectorManager.markSelfHealingFinished(_uuid, completeWithError);
       }
 
       String prefix = String.format("Task [%s] %s execution is ", _uuid,
-                                    userTaskInfo != null ? ("user" + userTaskInfo.requestUrl()) : "self-healing");
+                                    userTaskInfo != null ? ("user" + userTaskInfo.requestUrl())
+                                                         : (_isResumedExecution ? "resumed" : "self-healing"));
 
       if (_executorState.state() == STOPPING_EXECUTION) {
         notifyExecutionFinished(String.format("%sstopped by %s.", prefix, _executionStoppedByUser.get() ? "user" : "Cruise Control"),
@@ -1532,6 +1618,7 @@ public class Executor {
 
     private void clearCompletedExecution() {
       _executionTaskManager.clear();
+      _isResumedExecution = false;
       _uuid = null;
       _reasonSupplier = null;
       _executorState = ExecutorState.noTaskInProgress(_recentlyDemotedBrokers, _recentlyRemovedBrokers);
@@ -1608,9 +1695,14 @@ public class Executor {
       long totalDataToMoveInMB = _executionTaskManager.remainingInterBrokerDataToMoveInMB();
       long startTime = System.currentTimeMillis();
       LOG.info("Starting {} inter-broker partition movements.", numTotalPartitionMovements);
+      if (_bandwidthAwareInterBrokerReplicaMovementEnabled && numTotalPartitionMovements > 0) {
+        _executionTaskManager.setInterBrokerDataMovementBudget(interBrokerDataMovementBudget());
+      }
 
       int partitionsToMove = numTotalPartitionMovements;
-      // Exhaust all the pending partition movements.
+      // Partitions that were deleted upon submission of their co-scheduled leadership movements.
+      Set<TopicPartition> deletedUponLeadershipSubmission = new HashSet<>();
+      // Exhaust all the pending partition movements -- and the co-scheduled movements, if any.
       while ((partitionsToMove > 0 || !inExecutionTasks().isEmpty()) && _stopSignal.get() == NO_STOP_EXECUTION) {
         // Get tasks to execute.
         List<ExecutionTask> tasksToExecute = _executionTaskManager.getInterBrokerReplicaMovementTasks();
@@ -1623,8 +1715,15 @@ public class Executor {
           _executionTaskManager.markTasksInProgress(tasksToExecute);
           result = ExecutionUtils.submitReplicaReassignmentTasks(_adminClient, tasksToExecute);
         }
+        ElectLeadersResult electLeadersResult = null;
+        if (_executionPhaseCoSchedulingEnabled && (partitionsToMove > 0 || !inExecutionInterBrokerReplicaTasks().isEmpty())) {
+          electLeadersResult = startCoScheduledTasks();
+        }
         // Wait indefinitely for partition movements to finish.
         List<ExecutionTask> completedTasks = waitForInterBrokerReplicaTasksToFinish(result);
+        if (_executionPhaseCoSchedulingEnabled) {
+          checkCoScheduledTasksProgress(electLeadersResult, deletedUponLeadershipSubmission);
+        }
         partitionsToMove = _executionTaskManager.numRemainingInterBrokerPartitionMovements();
         int numFinishedPartitionMovements = _executionTaskManager.numFinishedInterBrokerPartitionMovements();
         long finishedDataMovementInMB = _executionTaskManager.finishedInterBrokerDataMovementInMB();
@@ -1638,7 +1737,7 @@ public class Executor {
         List<ExecutionTask> inProgressTasks = tasksToExecute.stream()
             .filter(t -> t.state() == ExecutionTaskState.IN_PROGRESS)
             .collect(Collectors.toList());
-        inProgressTasks.addAll(inExecutionTasks());
+        inProgressTasks.addAll(inExecutionInterBrokerReplicaTasks());
 
         throttleHelper.clearThrottles(completedTasks, inProgressTasks);
       }
@@ -1669,6 +1768,106 @@ public class Executor {
       }
     }
 
+    private Set<ExecutionTask> inExecutionInterBrokerReplicaTasks() {
+      return _executionTaskManager.inExecutionTasks(Collections.singleton(INTER_BROKER_REPLICA_ACTION));
+    }
+
+    /**
+     * Starts the intra-broker replica movements and leadership movements whose prerequisites in the {@link ExecutionTaskGraph}
+     * are finished, without waiting for all inter-broker replica movements to finish. A batch of leadership movements is
+     * only started once the previously co-scheduled batch is finished.
+     *
+     * @return The result of the leader election of the started leadership movements, or {@code null} if none is started.
+     */
+    private ElectLeadersResult startCoScheduledTasks() {
+      List<ExecutionTask> intraBrokerReplicaTasks = _executionTaskManager.getReadyIntraBrokerReplicaMovementTasks();
+      if (!intraBrokerReplicaTasks.isEmpty()) {
+        LOG.info("Executor will co-schedule {} intra-broker replica movement task(s)", intraBrokerReplicaTasks.size());
+        _executionTaskManager.markTasksInProgress(intraBrokerReplicaTasks);
+        executeIntraBrokerReplicaMovements(intraBrokerReplicaTasks, _adminClient, _executionTaskManager, _config);
+      }
+      if (_executionTaskManager.inExecutionTasks(Collections.singleton(LEADER_ACTION)).isEmpty()) {
+        List<ExecutionTask> leadershipTasks = _executionTaskManager.getReadyLeadershipMovementTasks();
+        if (!leadershipTasks.isEmpty()) {
+          LOG.info("Executor will co-schedule {} leadership movement task(s)", leadershipTasks.size());
+          _executionTaskManager.markTasksInProgress(leadershipTasks);
+          return ExecutionUtils.submitPreferredLeaderElection(_adminClient, leadershipTasks);
+        }
+      }
+      return null;
+    }
+
+    /**
+     * Checks the progress of the co-scheduled intra-broker replica movements and leadership movements once. If the execution
+     * is stopped, the co-scheduled movements in execution are marked as dead. If none of them is finished, the ones that
+     * may have been dropped are re-executed.
+     *
+     * @param electLeadersResult The result of the leader election of the newly started leadership movements, or {@code null}
+     *                           if none is started.
+     * @param deletedUponSubmission Partitions that were deleted upon submission of their co-scheduled leadership movements --
+     *                              updated with the ones identified from the given result.
+     */
+    private void checkCoScheduledTasksProgress(ElectLeadersResult electLeadersResult, Set<TopicPartition> deletedUponSubmission) {
+      ExecutionUtils.processElectLeadersResult(electLeadersResult, deletedUponSubmission);
+      Set<ExecutionTask> coScheduledTasks = _executionTaskManager.inExecutionTasks(Arrays.asList(INTRA_BROKER_REPLICA_ACTION, LEADER_ACTION));
+      if (coScheduledTasks.isEmpty()) {
+        return;
+      }
+      List<ExecutionTask> finishedTasks = new ArrayList<>();
+      Set<Long> stoppedTaskIds = new HashSet<>();
+      Set<Long> deletedTaskIds = new HashSet<>();
+      Set<Long> deadTaskIds = new HashSet<>();
+      Cluster cluster = refreshClusterForExecutionProgressCheck();
+      Map<ExecutionTask, ReplicaLogDirInfo> logDirInfoByTask = getLogdirInfoForExecutionTask(
+          _executionTaskManager.inExecutionTasks(Collections.singleton(INTRA_BROKER_REPLICA_ACTION)), _adminClient, _config);
+      for (ExecutionTask task : coScheduledTasks) {
+        TopicPartition tp = task.proposal().topicPartition();
+        if (_stopSignal.get() != NO_STOP_EXECUTION) {
+          LOG.debug("Task {} is marked as dead to stop the execution.", task);
+          finishedTasks.add(task);
+          stoppedTaskIds.add(task.executionId());
+          _executionTaskManager.markTaskDead(task);
+        } else if (cluster.partition(tp) == null || (task.type() == LEADER_ACTION && deletedUponSubmission.contains(tp))) {
+          handleProgressWithTopicDeletion(task, finishedTasks, deletedTaskIds);
+        } else if (task.type() == LEADER_ACTION ? ExecutionUtils.isLeadershipMovementDone(cluster, task)
+                                                : ExecutionUtils.isIntraBrokerReplicaActionDone(logDirInfoByTask, task)) {
+          handleProgressWithCompletion(task, finishedTasks);
+        } else if (maybeMarkTaskAsDead(cluster, logDirInfoByTask, task, null)) {
+          deadTaskIds.add(task.executionId());
+          finishedTasks.add(task);
+        }
+      }
+      if (finishedTasks.isEmpty()) {
+        // If there is no finished tasks, we need to check if anything is blocked.
+        maybeReexecuteIntraBrokerReplicaTasks();
+        maybeReexecuteLeadershipTasks(deletedUponSubmission);
+      } else {
+        LOG.info("Finished co-scheduled tasks: {}.{}{}{}", finishedTasks,
+                 stoppedTaskIds.isEmpty() ? "" : String.format(". [Stopped: %s]", stoppedTaskIds),
+                 deletedTaskIds.isEmpty() ? "" : String.format(". [Deleted: %s]", deletedTaskIds),
+                 deadTaskIds.isEmpty() ? "" : String.format(". [Dead: %s]", deadTaskIds));
+      }
+    }
+
+    /**
+     * Get the budget of in-flight inter-broker partition movement data of each broker from the network capacity of the
+     * brokers and their current network usage.
+     *
+     * @return The budget of in-flight inter-broker partition movement data, or {@code null} if the broker capacity cannot
+     * be resolved -- i.e. the movements are only limited by the concurrency.
+     */
+    private InterBrokerDataMovementBudget interBrokerDataMovementBudget() {
+      try {
+        InterBrokerDataMovementBudget budget = InterBrokerDataMovementBudget.fromNetworkHeadroom(
+            _loadMonitor.clusterCapacity(), _loadMonitor.currentBrokerMetricValues(), _bandwidthAwareInterBrokerReplicaMovementWindowMs);
+        LOG.info("Inter-broker partition movements are limited by the in-flight data budget {}.", budget);
+        return budget;
+      } catch (TimeoutException | BrokerCapacityResolutionException e) {
+        LOG.warn("Unable to resolve the broker capacity. Inter-broker partition movements are only limited by the concurrency.", e);
+        return null;
+      }
+    }
+
     private void intraBrokerMoveReplicas() {
       int numTotalPartitionMovements = _executionTaskManager.numRemainingIntraBrokerPartitionMovements();
       long totalDataToMoveInMB = _executionTaskManager.remainingIntraBrokerDataToMoveInMB();
@@ -1727,17 +1926,27 @@ public class Executor {
     }
 
     /**
-     * Executes leadership movement tasks.
+     * Executes leadership movement tasks in a pipeline of up to {@link #_numConcurrentLeaderMovementBatches} in-flight batches.
+     * A new batch is submitted as soon as all leadership movements of an in-flight batch finish.
      */
     private void moveLeaderships() {
       int numTotalLeadershipMovements = _executionTaskManager.numRemainingLeadershipMovements();
       LOG.info("Starting {} leadership movements.", numTotalLeadershipMovements);
       int numFinishedLeadershipMovements = 0;
-      while (_executionTaskManager.numRemainingLeadershipMovements() != 0 && _stopSignal.get() == NO_STOP_EXECUTION) {
+      List<List<ExecutionTask>> inFlightBatches = new ArrayList<>();
+      // Partitions that were deleted upon submission of their leadership movements.
+      Set<TopicPartition> deletedUponSubmission = new HashSet<>();
+      while ((_executionTaskManager.numRemainingLeadershipMovements() != 0 || !inExecutionTasks().isEmpty())
+             && _stopSignal.get() == NO_STOP_EXECUTION) {
         updateOngoingExecutionState();
-        numFinishedLeadershipMovements += moveLeadershipInBatch();
-        LOG.info("{}/{} ({}%) leadership movements completed.", numFinishedLeadershipMovements,
-                 numTotalLeadershipMovements, numFinishedLeadershipMovements * 100 / numTotalLeadershipMovements);
+        inFlightBatches.removeIf(batch -> batch.stream().noneMatch(Executor::isInExecution));
+        List<ElectLeadersResult> electLeadersResults = moveLeadershipInBatches(inFlightBatches);
+        if (!inExecutionTasks().isEmpty()) {
+          LOG.trace("Waiting for {} leadership movement batches to make progress.", inFlightBatches.size());
+          numFinishedLeadershipMovements += waitForLeadershipTasksToFinish(electLeadersResults, deletedUponSubmission);
+          LOG.info("{}/{} ({}%) leadership movements completed.", numFinishedLeadershipMovements,
+                   numTotalLeadershipMovements, numFinishedLeadershipMovements * 100 / numTotalLeadershipMovements);
+        }
       }
       if (inExecutionTasks().isEmpty()) {
         LOG.info("Leadership movements finished.");
@@ -1755,22 +1964,33 @@ public class Executor {
       }
     }
 
-    private int moveLeadershipInBatch() {
-      List<ExecutionTask> leadershipMovementTasks = _executionTaskManager.getLeadershipMovementTasks();
-      int numLeadershipToMove = leadershipMovementTasks.size();
-      LOG.debug("Executing {} leadership movements in a batch.", numLeadershipToMove);
-      // Execute the leadership movements.
-      if (!leadershipMovementTasks.isEmpty() && _stopSignal.get() == NO_STOP_EXECUTION) {
+    /**
+     * Submits new batches of leadership movements until there are {@link #_numConcurrentLeaderMovementBatches} in-flight
+     * batches or no remaining leadership movements. The leader elections of the new batches are submitted without waiting
+     * for the response of each other. Batches have no partition in common, because each leadership movement task is
+     * retrieved only once.
+     *
+     * @param inFlightBatches In-flight batches of leadership movements -- updated with the new batches.
+     * @return The results of the leader elections of the new batches.
+     */
+    private List<ElectLeadersResult> moveLeadershipInBatches(List<List<ExecutionTask>> inFlightBatches) {
+      List<ElectLeadersResult> electLeadersResults = new ArrayList<>();
+      while (inFlightBatches.size() < _numConcurrentLeaderMovementBatches && _stopSignal.get() == NO_STOP_EXECUTION) {
+        List<ExecutionTask> leadershipMovementTasks = _executionTaskManager.getLeadershipMovementTasks();
+        if (leadershipMovementTasks.isEmpty()) {
+          break;
+        }
+        LOG.debug("Executing {} leadership movements in a batch.", leadershipMovementTasks.size());
         // Mark leadership movements in progress.
         _executionTaskManager.markTasksInProgress(leadershipMovementTasks);
-
-        ElectLeadersResult electLeadersResult = ExecutionUtils.submitPreferredLeaderElection(_adminClient, leadershipMovementTasks);
-        LOG.trace("Waiting for leadership movement batch to finish.");
-        while (!inExecutionTasks().isEmpty() && _stopSignal.get() == NO_STOP_EXECUTION) {
-          waitForLeadershipTasksToFinish(electLeadersResult);
-        }
+        electLeadersResults.add(ExecutionUtils.submitPreferredLeaderElection(_adminClient, leadershipMovementTasks));
+        inFlightBatches.add(leadershipMovementTasks);
       }
-      return numLeadershipToMove;
+      return electLeadersResults;
+    }
+
+    private static boolean isInExecution(ExecutionTask task) {
+      return task.state() == ExecutionTaskState.IN_PROGRESS || task.state() == ExecutionTaskState.ABORTING;
     }
 
     /**
@@ -1785,6 +2005,108 @@ public class Executor {
       } catch (InterruptedException e) {
         // let it go
       }
+      return refreshClusterForExecutionProgressCheck();
+    }
+
+    /**
+     * Waits for up to {@link #executionProgressCheckIntervalMs} for the inter-broker replica reassignments to make progress,
+     * then retrieves the cluster state for the progress check. While waiting, polls the ongoing reassignments of the
+     * partitions in execution every {@link #_executionProgressPollIntervalMs}, and stops waiting as soon as a partition that
+     * has not been observed to finish before is no longer being reassigned. This lets the caller refill the concurrency slot
+     * of a finished partition movement without waiting for the rest of the check interval.
+     *
+     * @param finishedPartitions Partitions in execution that have been observed to have no ongoing reassignment -- updated
+     *                           with the newly observed ones.
+     * @return The cluster state after waiting for the execution progress.
+     */
+    private Cluster getClusterForInterBrokerReplicaProgressCheck(Set<TopicPartition> finishedPartitions)
+        throws ExecutionException, TimeoutException {
+      long checkIntervalMs = executionProgressCheckIntervalMs();
+      if (_executionProgressPollIntervalMs >= checkIntervalMs) {
+        return getClusterForExecutionProgressCheck();
+      }
+      try {
+        for (long waitedMs = 0; waitedMs < checkIntervalMs; waitedMs += _executionProgressPollIntervalMs) {
+          Thread.sleep(Math.min(_executionProgressPollIntervalMs, checkIntervalMs - waitedMs));
+          if (_stopSignal.get() != NO_STOP_EXECUTION || hasNewlyFinishedInterBrokerReplicaTasks(finishedPartitions)) {
+            break;
+          }
+        }
+      } catch (InterruptedException e) {
+        // let it go
+      }
+      return refreshClusterForExecutionProgressCheck();
+    }
+
+    /**
+     * Check whether any partition in execution, which has not been observed to finish before, has no ongoing reassignment.
+     * Only the ongoing reassignments of the partitions in execution are retrieved, rather than the entire cluster metadata.
+     *
+     * @param finishedPartitions Partitions in execution that have been observed to have no ongoing reassignment -- updated
+     *                           with the newly observed ones.
+     * @return {@code true} if there is a partition that is newly observed to have no ongoing reassignment, {@code false} otherwise.
+     */
+    private boolean hasNewlyFinishedInterBrokerReplicaTasks(Set<TopicPartition> finishedPartitions)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      Set<TopicPartition> partitionsToCheck = new HashSet<>();
+      for (ExecutionTask task : inExecutionInterBrokerReplicaTasks()) {
+        TopicPartition tp = task.proposal().topicPartition();
+        if (!finishedPartitions.contains(tp)) {
+          partitionsToCheck.add(tp);
+        }
+      }
+      if (partitionsToCheck.isEmpty()) {
+        return false;
+      }
+      partitionsToCheck.removeAll(ExecutionUtils.ongoingPartitionReassignments(_adminClient, partitionsToCheck).keySet());
+      if (partitionsToCheck.isEmpty()) {
+        return false;
+      }
+      LOG.debug("Partitions {} are no longer being reassigned.", partitionsToCheck);
+      finishedPartitions.addAll(partitionsToCheck);
+      return true;
+    }
+
+    /**
+     * Waits for up to {@link #executionProgressCheckIntervalMs} for the leadership movements to make progress, then retrieves
+     * the cluster state for the progress check. While waiting, refreshes the metadata every {@link #_executionProgressPollIntervalMs},
+     * and stops waiting as soon as a leadership movement in execution is observed to finish. This lets the caller submit a new
+     * batch as soon as an in-flight batch finishes without waiting for the rest of the check interval.
+     *
+     * @param deletedUponSubmission Partitions that were deleted upon submission of their leadership movements.
+     * @return The cluster state after waiting for the execution progress.
+     */
+    private Cluster getClusterForLeadershipProgressCheck(Set<TopicPartition> deletedUponSubmission) {
+      long checkIntervalMs = executionProgressCheckIntervalMs();
+      if (_executionProgressPollIntervalMs >= checkIntervalMs) {
+        return getClusterForExecutionProgressCheck();
+      }
+      Cluster cluster = null;
+      try {
+        for (long waitedMs = 0; waitedMs < checkIntervalMs; waitedMs += _executionProgressPollIntervalMs) {
+          Thread.sleep(Math.min(_executionProgressPollIntervalMs, checkIntervalMs - waitedMs));
+          cluster = refreshClusterForExecutionProgressCheck();
+          if (_stopSignal.get() != NO_STOP_EXECUTION || hasFinishedLeadershipTasks(cluster, deletedUponSubmission)) {
+            break;
+          }
+        }
+      } catch (InterruptedException e) {
+        // let it go
+      }
+      return cluster == null ? refreshClusterForExecutionProgressCheck() : cluster;
+    }
+
+    private boolean hasFinishedLeadershipTasks(Cluster cluster, Set<TopicPartition> deletedUponSubmission) {
+      for (ExecutionTask task : inExecutionTasks()) {
+        TopicPartition tp = task.proposal().topicPartition();
+        if (cluster.partition(tp) == null || deletedUponSubmission.contains(tp) || ExecutionUtils.isLeadershipMovementDone(cluster, task)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private Cluster refreshClusterForExecutionProgressCheck() {
       if (LOG.isDebugEnabled()) {
         LOG.debug("Tasks in execution: {}", inExecutionTasks());
       }
@@ -1792,7 +2114,8 @@ public class Executor {
     }
 
     /**
-     * Periodically checks the metadata to see if inter-broker replica reassignment has finished or not.
+     * Checks the metadata to see if inter-broker replica reassignment has finished or not. The metadata is checked
+     * periodically, and as soon as an ongoing reassignment of a partition in execution is observed to finish.
      * @param result the result of a request to alter partition reassignments -- can be {@code null} if no new tasks
      *               for the execution are submitted.
      *
@@ -1815,13 +2138,15 @@ public class Executor {
                                                       noReassignmentToCancel));
       }
 
+      // Partitions in execution that have been observed to have no ongoing reassignment.
+      Set<TopicPartition> finishedPartitions = new HashSet<>();
       boolean retry;
       do {
-        Cluster cluster = getClusterForExecutionProgressCheck();
+        Cluster cluster = getClusterForInterBrokerReplicaProgressCheck(finishedPartitions);
         List<ExecutionTask> deadInterBrokerReplicaTasks = new ArrayList<>();
         List<ExecutionTask> stoppedInterBrokerReplicaTasks = new ArrayList<>();
         List<ExecutionTask> slowTasksToReport = new ArrayList<>();
-        final int numInExecutionTasks = inExecutionTasks().size();
+        final int numInExecutionTasks = inExecutionInterBrokerReplicaTasks().size();
         // numFinishedOrDeletedTasks instead of finishedTasks.size() is used to decide whether to dynamically adjust
         // executionProgressCheckIntervalMs.
         // If the task is completed or the related topic is deleted, numFinishedOrDeletedTasks is increased.
@@ -1829,7 +2154,7 @@ public class Executor {
         // to speed up inter broker replica move with new broker being down.
         int numFinishedOrDeletedTasks = 0;
         boolean shouldReportSlowTasks = _time.milliseconds() - _lastSlowTaskReportingTimeMs > _slowTaskAlertingBackoffTimeMs;
-        for (ExecutionTask task : inExecutionTasks()) {
+        for (ExecutionTask task : inExecutionInterBrokerReplicaTasks()) {
           TopicPartition tp = task.proposal().topicPartition();
           if (_stopSignal.get() != NO_STOP_EXECUTION) {
             // If the execution is stopped during an ongoing inter-broker replica reassignment, the
@@ -1872,7 +2197,7 @@ public class Executor {
         handleDeadInterBrokerReplicaTasks(deadInterBrokerReplicaTasks, stoppedInterBrokerReplicaTasks);
         updateOngoingExecutionState();
 
-        retry = !inExecutionTasks().isEmpty() && finishedTasks.isEmpty();
+        retry = !inExecutionInterBrokerReplicaTasks().isEmpty() && finishedTasks.isEmpty();
         // If there is no finished tasks, we need to check if anything is blocked.
         if (retry) {
           maybeReexecuteInterBrokerReplicaTasks(deletedUponSubmission, deadUponSubmission);
@@ -1903,22 +2228,26 @@ public class Executor {
     }
 
     /**
-     * Periodically checks the metadata to see if leadership reassignment has finished or not.
-     * @param result Elect leaders result.
+     * Periodically checks the metadata to see if leadership reassignment has finished or not. The metadata is checked
+     * periodically, and as soon as a leadership movement in execution is observed to finish.
+     *
+     * @param results Elect leaders results of the newly submitted batches.
+     * @param deletedUponSubmission Partitions that were deleted upon submission of their leadership movements -- updated with
+     *                              the ones identified from the given results.
+     * @return Number of finished tasks.
      */
-    private void waitForLeadershipTasksToFinish(ElectLeadersResult result) {
+    private int waitForLeadershipTasksToFinish(List<ElectLeadersResult> results, Set<TopicPartition> deletedUponSubmission) {
       List<ExecutionTask> finishedTasks = new ArrayList<>();
       Set<Long> stoppedTaskIds = new HashSet<>();
       Set<Long> deletedTaskIds = new HashSet<>();
       Set<Long> deadTaskIds = new HashSet<>();
 
-      // Process result to ensure acceptance of leader election request on broker-side and identify deleted tasks.
-      Set<TopicPartition> deletedUponSubmission = new HashSet<>();
-      ExecutionUtils.processElectLeadersResult(result, deletedUponSubmission);
+      // Process results to ensure acceptance of leader election requests on broker-side and identify deleted tasks.
+      results.forEach(result -> ExecutionUtils.processElectLeadersResult(result, deletedUponSubmission));
 
       boolean retry;
       do {
-        Cluster cluster = getClusterForExecutionProgressCheck();
+        Cluster cluster = getClusterForLeadershipProgressCheck(deletedUponSubmission);
 
         List<ExecutionTask> slowTasksToReport = new ArrayList<>();
         boolean shouldReportSlowTasks = _time.milliseconds() - _lastSlowTaskReportingTimeMs > _slowTaskAlertingBackoffTimeMs;
@@ -1958,6 +2287,7 @@ public class Executor {
                stoppedTaskIds.isEmpty() ? "" : String.format(". [Stopped: %s]", stoppedTaskIds),
                deletedTaskIds.isEmpty() ? "" : String.format(". [Deleted: %s]", deletedTaskIds),
                deadTaskIds.isEmpty() ? "" : String.format(". [Dead: %s]", deadTaskIds));
+      return finishedTasks.size();
     }
 
     /**
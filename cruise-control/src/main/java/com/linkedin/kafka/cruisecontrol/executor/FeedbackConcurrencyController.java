@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapolations;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
+import com.linkedin.kafka.cruisecontrol.executor.concurrency.ExecutionConcurrencyManager;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils.EXECUTOR_SENSOR;
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionUtils.CONCURRENCY_ADJUSTER_LIMIT_BY_METRIC_NAME;
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionUtils.MAX_CONCURRENCY;
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionUtils.MIN_CONCURRENCY;
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionUtils.MULTIPLICATIVE_DECREASE;
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionUtils.toMetricName;
+
+
+/**
+ * A feedback controller for the per-broker movement concurrency, which keeps the broker metrics that the concurrency adjuster
+ * limits (see {@link ExecutionUtils#CONCURRENCY_ADJUSTER_LIMIT_BY_METRIC_NAME}) around a target utilization of their limits.
+ * <p>
+ * The utilization of a broker is the largest ratio of a limited metric to its limit. In each control step, the controller
+ * scales the concurrency of each broker by a factor of {@code 1 + Kp * e + Ki * sum(e)}, where {@code e} is the target
+ * utilization minus the current utilization of the broker, and {@code sum(e)} is the accumulated error of the broker. Hence,
+ * the concurrency of a broker far from its limits grows quickly, and the concurrency of a broker close to its target
+ * settles rather than oscillating between the minimum and the maximum concurrency. The factor is bounded by the multiplicative
+ * decrease of the concurrency adjuster on the low end, and by {@link #MAX_INCREASE_FACTOR} on the high end.
+ * <p>
+ * Brokers that host (At/Under)MinISR partitions or have no metrics are backed off by the multiplicative decrease of the
+ * concurrency adjuster, and their accumulated error is reset.
+ * <p>
+ * This class is not thread safe.
+ */
+public class FeedbackConcurrencyController {
+  private static final Logger LOG = LoggerFactory.getLogger(FeedbackConcurrencyController.class);
+  static final double MAX_INCREASE_FACTOR = 2.0;
+  public static final String METER_CONCURRENCY_INCREASE_RATE = "feedback-concurrency-controller-increase-rate";
+  public static final String METER_CONCURRENCY_DECREASE_RATE = "feedback-concurrency-controller-decrease-rate";
+  public static final String METER_CONCURRENCY_BACKOFF_RATE = "feedback-concurrency-controller-backoff-rate";
+  public static final String GAUGE_MAX_BROKER_UTILIZATION = "feedback-concurrency-controller-max-broker-utilization";
+  public static final String GAUGE_MIN_BROKER_UTILIZATION = "feedback-concurrency-controller-min-broker-utilization";
+  private final ExecutionConcurrencyManager _executionConcurrencyManager;
+  private final double _targetUtilization;
+  private final double _proportionalGain;
+  private final double _integralGain;
+  private final Map<ConcurrencyType, Map<Integer, Double>> _accumulatedErrorByBrokerId;
+  private final Meter _concurrencyIncreaseRate;
+  private final Meter _concurrencyDecreaseRate;
+  private final Meter _concurrencyBackoffRate;
+  private volatile double _maxBrokerUtilization;
+  private volatile double _minBrokerUtilization;
+
+  /**
+   * @param config The configurations for Cruise Control.
+   * @param executionConcurrencyManager The execution concurrency manager to set the concurrency of brokers.
+   * @param dropwizardMetricRegistry The metric registry to register the sensors of the decisions of the controller, or
+   * {@code null} to skip registering them.
+   */
+  public FeedbackConcurrencyController(KafkaCruiseControlConfig config,
+                                       ExecutionConcurrencyManager executionConcurrencyManager,
+                                       MetricRegistry dropwizardMetricRegistry) {
+    _executionConcurrencyManager = executionConcurrencyManager;
+    _targetUtilization = config.getDouble(ExecutorConfig.CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_TARGET_UTILIZATION_CONFIG);
+    _proportionalGain = config.getDouble(ExecutorConfig.CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_PROPORTIONAL_GAIN_CONFIG);
+    _integralGain = config.getDouble(ExecutorConfig.CONCURRENCY_ADJUSTER_FEEDBACK_CONTROL_INTEGRAL_GAIN_CONFIG);
+    _accumulatedErrorByBrokerId = new HashMap<>();
+    _concurrencyIncreaseRate = new Meter();
+    _concurrencyDecreaseRate = new Meter();
+    _concurrencyBackoffRate = new Meter();
+    _maxBrokerUtilization = 0.0;
+    _minBrokerUtilization = 0.0;
+    if (dropwizardMetricRegistry != null) {
+      registerSensors(dropwizardMetricRegistry);
+    }
+  }
+
+  private void registerSensors(MetricRegistry dropwizardMetricRegistry) {
+    dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR, METER_CONCURRENCY_INCREASE_RATE), _concurrencyIncreaseRate);
+    dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR, METER_CONCURRENCY_DECREASE_RATE), _concurrencyDecreaseRate);
+    dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR, METER_CONCURRENCY_BACKOFF_RATE), _concurrencyBackoffRate);
+    dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR, GAUGE_MAX_BROKER_UTILIZATION),
+                                      (Gauge<Double>) () -> _maxBrokerUtilization);
+    dropwizardMetricRegistry.register(MetricRegistry.name(EXECUTOR_SENSOR, GAUGE_MIN_BROKER_UTILIZATION),
+                                      (Gauge<Double>) () -> _minBrokerUtilization);
+  }
+
+  /**
+   * Run a control step for the per-broker concurrency of the given type.
+   *
+   * @param concurrencyType The type of the per-broker concurrency to control.
+   * @param currentMetricsByBroker Current metrics by broker -- the brokers to run the control step for.
+   * @param brokersToBackOff Brokers to back off regardless of their metrics, e.g. those hosting AtMinISR partitions.
+   */
+  public void refreshConcurrency(ConcurrencyType concurrencyType,
+                                 Map<BrokerEntity, ValuesAndExtrapolations> currentMetricsByBroker,
+                                 Set<Integer> brokersToBackOff) {
+    Map<Integer, Double> accumulatedErrorByBrokerId = _accumulatedErrorByBrokerId.computeIfAbsent(concurrencyType, t -> new HashMap<>());
+    double maxUtilization = 0.0;
+    double minUtilization = Double.MAX_VALUE;
+    for (Map.Entry<BrokerEntity, ValuesAndExtrapolations> entry : currentMetricsByBroker.entrySet()) {
+      int brokerId = entry.getKey().brokerId();
+      if (brokersToBackOff.contains(brokerId) || entry.getValue() == null) {
+        continue;
+      }
+      double utilization = utilization(entry.getValue());
+      maxUtilization = Math.max(maxUtilization, utilization);
+      minUtilization = Math.min(minUtilization, utilization);
+      int currentConcurrency = _executionConcurrencyManager.getExecutionBrokerConcurrency(brokerId, concurrencyType);
+      int newConcurrency = nextConcurrency(concurrencyType, currentConcurrency, utilization, accumulatedErrorByBrokerId, brokerId);
+      setConcurrency(brokerId, concurrencyType, currentConcurrency, newConcurrency,
+                     String.format("utilization %.2f (target: %.2f)", utilization, _targetUtilization));
+    }
+    for (Map.Entry<BrokerEntity, ValuesAndExtrapolations> entry : currentMetricsByBroker.entrySet()) {
+      if (entry.getValue() == null && !brokersToBackOff.contains(entry.getKey().brokerId())) {
+        backOff(entry.getKey().brokerId(), concurrencyType, accumulatedErrorByBrokerId, "no broker metrics");
+      }
+    }
+    for (int brokerId : brokersToBackOff) {
+      backOff(brokerId, concurrencyType, accumulatedErrorByBrokerId, "(At/Under)MinISR partitions");
+    }
+    if (minUtilization != Double.MAX_VALUE) {
+      _maxBrokerUtilization = maxUtilization;
+      _minBrokerUtilization = minUtilization;
+    }
+  }
+
+  /**
+   * Package private for unit tests.
+   *
+   * @param currentMetrics Current metrics of a broker.
+   * @return The utilization of the broker, i.e. the largest ratio of the metrics limited by the concurrency adjuster to their limit.
+   */
+  static double utilization(ValuesAndExtrapolations currentMetrics) {
+    double utilization = 0.0;
+    for (Short metricId : currentMetrics.metricValues().metricIds()) {
+      Double limit = CONCURRENCY_ADJUSTER_LIMIT_BY_METRIC_NAME.get(toMetricName(metricId));
+      if (limit != null && limit > 0.0) {
+        utilization = Math.max(utilization, currentMetrics.metricValues().valuesFor(metricId).latest() / limit);
+      }
+    }
+    return utilization;
+  }
+
+  private int nextConcurrency(ConcurrencyType concurrencyType,
+                              int currentConcurrency,
+                              double utilization,
+                              Map<Integer, Double> accumulatedErrorByBrokerId,
+                              int brokerId) {
+    int minConcurrency = MIN_CONCURRENCY.get(concurrencyType);
+    int maxConcurrency = MAX_CONCURRENCY.get(concurrencyType);
+    double minFactor = 1.0 / MULTIPLICATIVE_DECREASE.get(concurrencyType);
+    double error = _targetUtilization - utilization;
+    double accumulatedError = accumulatedErrorByBrokerId.getOrDefault(brokerId, 0.0) + error;
+    double factor = 1.0 + _proportionalGain * error + _integralGain * accumulatedError;
+    // Anti-windup: accumulate the error only while neither the factor nor the concurrency saturates in the direction of the error.
+    boolean saturated = error > 0 ? (factor > MAX_INCREASE_FACTOR || currentConcurrency >= maxConcurrency)
+                                  : (factor < minFactor || currentConcurrency <= minConcurrency);
+    if (!saturated) {
+      accumulatedErrorByBrokerId.put(brokerId, accumulatedError);
+    }
+    factor = Math.max(minFactor, Math.min(MAX_INCREASE_FACTOR, factor));
+    return (int) Math.max(minConcurrency, Math.min(maxConcurrency, Math.round(currentConcurrency * factor)));
+  }
+
+  private void backOff(int brokerId, ConcurrencyType concurrencyType, Map<Integer, Double> accumulatedErrorByBrokerId, String reason) {
+    accumulatedErrorByBrokerId.remove(brokerId);
+    int currentConcurrency = _executionConcurrencyManager.getExecutionBrokerConcurrency(brokerId, concurrencyType);
+    int newConcurrency = Math.max(MIN_CONCURRENCY.get(concurrencyType), currentConcurrency / MULTIPLICATIVE_DECREASE.get(concurrencyType));
+    _concurrencyBackoffRate.mark();
+    setConcurrency(brokerId, concurrencyType, currentConcurrency, newConcurrency, reason);
+  }
+
+  private void setConcurrency(int brokerId, ConcurrencyType concurrencyType, int currentConcurrency, int newConcurrency, String reason) {
+    if (newConcurrency == currentConcurrency) {
+      return;
+    }
+    (newConcurrency > currentConcurrency ? _concurrencyIncreaseRate : _concurrencyDecreaseRate).mark();
+    _executionConcurrencyManager.setExecutionConcurrencyForBroker(brokerId, newConcurrency, concurrencyType);
+    LOG.info("Feedback concurrency controller changed the {} movement concurrency from {} to {} for broker {} due to {}.",
+             concurrencyType, currentConcurrency, newConcurrency, brokerId, reason);
+  }
+
+  /**
+   * Clear the state of the controller, which should be cleared after each execution.
+   */
+  public void clear() {
+    _accumulatedErrorByBrokerId.clear();
+    _maxBrokerUtilization = 0.0;
+    _minBrokerUtilization = 0.0;
+  }
+}
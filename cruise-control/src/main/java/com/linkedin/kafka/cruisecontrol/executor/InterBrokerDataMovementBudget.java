@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor;
+
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.AggregatedMetricValues;
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.MetricValues;
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.ValuesAndExtrapolations;
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.model.Broker;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * The budget of the inter-broker partition movement data that each broker can have in flight. A partition movement sends
+ * the data of the partition from its leader (i.e. the source broker) to each broker that the partition is added to (i.e.
+ * the destination brokers), hence the budget is kept separately for the outbound data of source brokers and the inbound
+ * data of destination brokers.
+ * <p>
+ * The budget of a broker is the amount of data that its network headroom -- i.e. its network capacity minus its observed
+ * network usage -- can move within a given time window. Moving a partition is within the budget if the data to move,
+ * together with the data of the in-flight partition movements, does not exceed the budget of the source broker and any
+ * destination broker. A broker that has no in-flight partition movement may always move a partition, so that partitions
+ * larger than the budget of a broker can still be moved. A broker without a budget is not constrained by its budget.
+ * <p>
+ * This class is not thread safe.
+ */
+public class InterBrokerDataMovementBudget {
+  private static final double KB_PER_MB = 1024.0;
+  private static final double MS_PER_SEC = 1000.0;
+  private final Map<Integer, Double> _inboundBudgetInMBByBrokerId;
+  private final Map<Integer, Double> _outboundBudgetInMBByBrokerId;
+  private final Map<Integer, Double> _inFlightInboundDataInMBByBrokerId;
+  private final Map<Integer, Double> _inFlightOutboundDataInMBByBrokerId;
+
+  /**
+   * @param inboundBudgetInMBByBrokerId The budget of inbound data in MB by the id of destination brokers.
+   * @param outboundBudgetInMBByBrokerId The budget of outbound data in MB by the id of source brokers.
+   */
+  public InterBrokerDataMovementBudget(Map<Integer, Double> inboundBudgetInMBByBrokerId, Map<Integer, Double> outboundBudgetInMBByBrokerId) {
+    _inboundBudgetInMBByBrokerId = inboundBudgetInMBByBrokerId;
+    _outboundBudgetInMBByBrokerId = outboundBudgetInMBByBrokerId;
+    _inFlightInboundDataInMBByBrokerId = new HashMap<>();
+    _inFlightOutboundDataInMBByBrokerId = new HashMap<>();
+  }
+
+  private InterBrokerDataMovementBudget(InterBrokerDataMovementBudget other) {
+    _inboundBudgetInMBByBrokerId = other._inboundBudgetInMBByBrokerId;
+    _outboundBudgetInMBByBrokerId = other._outboundBudgetInMBByBrokerId;
+    _inFlightInboundDataInMBByBrokerId = new HashMap<>(other._inFlightInboundDataInMBByBrokerId);
+    _inFlightOutboundDataInMBByBrokerId = new HashMap<>(other._inFlightOutboundDataInMBByBrokerId);
+  }
+
+  /**
+   * Create the budget of the brokers from their network headroom, which is their network capacity minus their observed
+   * leader and replication bytes in (for inbound data) or out (for outbound data) rate. Brokers without current metrics
+   * have no budget.
+   *
+   * @param clusterCapacity The cluster model that contains the network capacity of the brokers.
+   * @param currentMetricsByBroker Current metrics by broker.
+   * @param windowMs The time window in milliseconds within which the network headroom of a broker can move its budget.
+   * @return The budget of the brokers.
+   */
+  public static InterBrokerDataMovementBudget fromNetworkHeadroom(ClusterModel clusterCapacity,
+                                                                  Map<BrokerEntity, ValuesAndExtrapolations> currentMetricsByBroker,
+                                                                  long windowMs) {
+    Map<Integer, Double> inboundBudgetInMBByBrokerId = new HashMap<>();
+    Map<Integer, Double> outboundBudgetInMBByBrokerId = new HashMap<>();
+    for (Map.Entry<BrokerEntity, ValuesAndExtrapolations> entry : currentMetricsByBroker.entrySet()) {
+      int brokerId = entry.getKey().brokerId();
+      Broker broker = clusterCapacity.broker(brokerId);
+      if (broker == null) {
+        continue;
+      }
+      AggregatedMetricValues metricValues = entry.getValue().metricValues();
+      double bytesInRate = latest(metricValues, KafkaMetricDef.LEADER_BYTES_IN) + latest(metricValues, KafkaMetricDef.REPLICATION_BYTES_IN_RATE);
+      double bytesOutRate = latest(metricValues, KafkaMetricDef.LEADER_BYTES_OUT)
+                            + latest(metricValues, KafkaMetricDef.REPLICATION_BYTES_OUT_RATE);
+      inboundBudgetInMBByBrokerId.put(brokerId, budgetInMB(broker.capacityFor(Resource.NW_IN) - bytesInRate, windowMs));
+      outboundBudgetInMBByBrokerId.put(brokerId, budgetInMB(broker.capacityFor(Resource.NW_OUT) - bytesOutRate, windowMs));
+    }
+    return new InterBrokerDataMovementBudget(inboundBudgetInMBByBrokerId, outboundBudgetInMBByBrokerId);
+  }
+
+  private static double latest(AggregatedMetricValues metricValues, KafkaMetricDef metric) {
+    MetricValues values = metricValues.valuesFor(KafkaMetricDef.brokerMetricDef().metricInfo(metric.name()).id());
+    return values == null ? 0.0 : values.latest();
+  }
+
+  private static double budgetInMB(double headroomInKBPerSec, long windowMs) {
+    return Math.max(0.0, headroomInKBPerSec) * windowMs / MS_PER_SEC / KB_PER_MB;
+  }
+
+  /**
+   * @return A copy of this budget that shares the budget of the brokers, but tracks the in-flight data separately.
+   */
+  public InterBrokerDataMovementBudget copy() {
+    return new InterBrokerDataMovementBudget(this);
+  }
+
+  /**
+   * @param proposal Proposal to check.
+   * @return {@code true} if the inter-broker partition movement of the given proposal is within the budget of its source
+   * broker and all its destination brokers, {@code false} otherwise.
+   */
+  public boolean canMove(ExecutionProposal proposal) {
+    if (!withinBudget(proposal.oldLeader().brokerId(), proposal.interBrokerDataToMoveInMB(),
+                      _outboundBudgetInMBByBrokerId, _inFlightOutboundDataInMBByBrokerId)) {
+      return false;
+    }
+    for (ReplicaPlacementInfo destinationBroker : proposal.replicasToAdd()) {
+      if (!withinBudget(destinationBroker.brokerId(), proposal.partitionSizeInMB(),
+                        _inboundBudgetInMBByBrokerId, _inFlightInboundDataInMBByBrokerId)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean withinBudget(int brokerId, double dataToMoveInMB, Map<Integer, Double> budgetInMBByBrokerId,
+                                      Map<Integer, Double> inFlightDataInMBByBrokerId) {
+    Double budgetInMB = budgetInMBByBrokerId.get(brokerId);
+    double inFlightDataInMB = inFlightDataInMBByBrokerId.getOrDefault(brokerId, 0.0);
+    return budgetInMB == null || inFlightDataInMB <= 0.0 || inFlightDataInMB + dataToMoveInMB <= budgetInMB;
+  }
+
+  /**
+   * Add the data of the inter-broker partition movement of the given proposal to the in-flight data of the involved brokers.
+   *
+   * @param proposal Proposal whose partition movement has started.
+   */
+  public void reserve(ExecutionProposal proposal) {
+    update(proposal, 1);
+  }
+
+  /**
+   * Remove the data of the inter-broker partition movement of the given proposal from the in-flight data of the involved brokers.
+   *
+   * @param proposal Proposal whose partition movement has finished.
+   */
+  public void release(ExecutionProposal proposal) {
+    update(proposal, -1);
+  }
+
+  private void update(ExecutionProposal proposal, int sign) {
+    _inFlightOutboundDataInMBByBrokerId.merge(proposal.oldLeader().brokerId(), sign * (double) proposal.interBrokerDataToMoveInMB(),
+                                              Double::sum);
+    for (ReplicaPlacementInfo destinationBroker : proposal.replicasToAdd()) {
+      _inFlightInboundDataInMBByBrokerId.merge(destinationBroker.brokerId(), sign * (double) proposal.partitionSizeInMB(), Double::sum);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("{inbound budget: %s, outbound budget: %s, in-flight inbound: %s, in-flight outbound: %s}",
+                         _inboundBudgetInMBByBrokerId, _outboundBudgetInMBByBrokerId, _inFlightInboundDataInMBByBrokerId,
+                         _inFlightOutboundDataInMBByBrokerId);
+  }
+}
@@ -21,10 +21,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.HashSet;
 import java.util.concurrent.ExecutionException;
@@ -49,11 +51,15 @@ class ReplicationThrottleHelper {
   static final String FOLLOWER_THROTTLED_REPLICAS = getLogConfig(LogConfig.FOLLOWER_REPLICATION_THROTTLED_REPLICAS_CONFIG);
   public static final long CLIENT_REQUEST_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
   static final int RETRIES = 30;
+  private static final Config EMPTY_CONFIG = new Config(Collections.emptyList());
 
   private final AdminClient _adminClient;
   private final Long _throttleRate;
   private final int _retries;
   private final Set<Integer> _deadBrokers;
+  // The last known throttled replicas config values of each topic, i.e. the values that this helper has read or applied
+  // (null if the config is not set). A topic whose known values require no change is skipped without reading its configs.
+  private final Map<String, Map<String, String>> _throttledReplicasByTopic;
 
   ReplicationThrottleHelper(AdminClient adminClient, Long throttleRate) {
     this(adminClient, throttleRate, RETRIES);
@@ -69,6 +75,7 @@ class ReplicationThrottleHelper {
     this._throttleRate = throttleRate;
     this._retries = retries;
     this._deadBrokers = new HashSet<Integer>();
+    this._throttledReplicasByTopic = new HashMap<>();
   }
 
   ReplicationThrottleHelper(AdminClient adminClient, Long throttleRate, int retries, Set<Integer> deadBrokers) {
@@ -76,6 +83,7 @@ class ReplicationThrottleHelper {
     this._throttleRate = throttleRate;
     this._retries = retries;
     this._deadBrokers = deadBrokers;
+    this._throttledReplicasByTopic = new HashMap<>();
   }
 
   void setThrottles(List<ExecutionProposal> replicaMovementProposals)
@@ -84,12 +92,8 @@ class ReplicationThrottleHelper {
       LOG.info("Setting a rebalance throttle of {} bytes/sec", _throttleRate);
       Set<Integer> participatingBrokers = getParticipatingBrokers(replicaMovementProposals);
       Map<String, Set<String>> throttledReplicas = getThrottledReplicasByTopic(replicaMovementProposals);
-      for (int broker : participatingBrokers) {
-        setThrottledRateIfNecessary(broker);
-      }
-      for (Map.Entry<String, Set<String>> entry : throttledReplicas.entrySet()) {
-        setThrottledReplicas(entry.getKey(), entry.getValue());
-      }
+      setThrottledRateIfNecessary(participatingBrokers);
+      setThrottledReplicas(throttledReplicas);
     }
   }
 
@@ -143,14 +147,10 @@ class ReplicationThrottleHelper {
       brokersToRemoveThrottlesFrom.removeAll(brokersWithInProgressTasks);
 
       LOG.info("Removing replica movement throttles from brokers in the cluster: {}", brokersToRemoveThrottlesFrom);
-      for (int broker : brokersToRemoveThrottlesFrom) {
-        removeThrottledRateFromBroker(broker);
-      }
+      removeThrottledRateFromBrokers(brokersToRemoveThrottlesFrom);
 
       Map<String, Set<String>> throttledReplicas = getThrottledReplicasByTopic(completedProposals);
-      for (Map.Entry<String, Set<String>> entry : throttledReplicas.entrySet()) {
-        removeThrottledReplicasFromTopic(entry.getKey(), entry.getValue());
-      }
+      removeThrottledReplicasFromTopics(throttledReplicas);
     }
   }
 
@@ -169,7 +169,7 @@ class ReplicationThrottleHelper {
   }
 
   private Map<String, Set<String>> getThrottledReplicasByTopic(List<ExecutionProposal> replicaMovementProposals) {
-    Map<String, Set<String>> throttledReplicasByTopic = new HashMap<>();
+    Map<String, Set<String>> throttledReplicasByTopic = new TreeMap<>();
     for (ExecutionProposal proposal : replicaMovementProposals) {
       String topic = proposal.topic();
       int partitionId = proposal.partitionId();
@@ -183,101 +183,199 @@ class ReplicationThrottleHelper {
     return throttledReplicasByTopic;
   }
 
-  private void setThrottledRateIfNecessary(int brokerId) throws ExecutionException, InterruptedException, TimeoutException {
+  private void setThrottledRateIfNecessary(Set<Integer> brokerIds) throws ExecutionException, InterruptedException, TimeoutException {
     if (_throttleRate == null) {
       throw new IllegalStateException("Throttle rate cannot be null");
     }
-    Config brokerConfigs = getBrokerConfigs(brokerId);
-    List<AlterConfigOp> ops = new ArrayList<>();
-    for (String replicaThrottleRateConfigKey : Arrays.asList(LEADER_THROTTLED_RATE, FOLLOWER_THROTTLED_RATE)) {
-      ConfigEntry currThrottleRate = brokerConfigs.get(replicaThrottleRateConfigKey);
-      if (currThrottleRate == null || !currThrottleRate.value().equals(String.valueOf(_throttleRate))) {
-        LOG.debug("Setting {} to {} bytes/second for broker {}", replicaThrottleRateConfigKey, _throttleRate, brokerId);
-        ops.add(new AlterConfigOp(new ConfigEntry(replicaThrottleRateConfigKey, String.valueOf(_throttleRate)), AlterConfigOp.OpType.SET));
+    Map<Integer, Config> brokerConfigs = getBrokerConfigs(brokerIds);
+    Map<Integer, Collection<AlterConfigOp>> opsByBroker = new TreeMap<>();
+    for (int brokerId : brokerIds) {
+      Config brokerConfig = brokerConfigs.get(brokerId);
+      List<AlterConfigOp> ops = new ArrayList<>();
+      for (String replicaThrottleRateConfigKey : Arrays.asList(LEADER_THROTTLED_RATE, FOLLOWER_THROTTLED_RATE)) {
+        ConfigEntry currThrottleRate = brokerConfig == null ? null : brokerConfig.get(replicaThrottleRateConfigKey);
+        if (currThrottleRate == null || !currThrottleRate.value().equals(String.valueOf(_throttleRate))) {
+          LOG.debug("Setting {} to {} bytes/second for broker {}", replicaThrottleRateConfigKey, _throttleRate, brokerId);
+          ops.add(new AlterConfigOp(new ConfigEntry(replicaThrottleRateConfigKey, String.valueOf(_throttleRate)), AlterConfigOp.OpType.SET));
+        }
+      }
+      if (!ops.isEmpty()) {
+        opsByBroker.put(brokerId, ops);
       }
     }
-    if (!ops.isEmpty()) {
-      changeBrokerConfigs(brokerId, ops);
-    }
+    changeBrokerConfigs(opsByBroker);
   }
 
-  private Config getTopicConfigs(String topic) throws ExecutionException, InterruptedException, TimeoutException {
+  /**
+   * Read the configs of the given topics in a single request. The topics that do not exist are skipped.
+   *
+   * @param topics Topics whose configs to read.
+   * @return Configs by topic.
+   */
+  private Map<String, Config> getTopicConfigs(Set<String> topics) throws ExecutionException, InterruptedException, TimeoutException {
+    if (topics.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<ConfigResource, Config> configs;
     try {
-      return getEntityConfigs(new ConfigResource(ConfigResource.Type.TOPIC, topic));
+      configs = getEntityConfigs(topics.stream().map(topic -> new ConfigResource(ConfigResource.Type.TOPIC, topic))
+                                       .collect(Collectors.toList()));
     } catch (Exception e) {
-      if (!topicExists(topic)) {
-        return new Config(Collections.emptyList());
+      Set<String> existingTopics = existingTopics(topics);
+      if (existingTopics.size() == topics.size()) {
+        throw e;
       }
-      throw e;
+      LOG.debug("Skip reading configs of topics {} since they do not exist", nonExistingTopics(topics, existingTopics));
+      return getTopicConfigs(existingTopics);
     }
+    Map<String, Config> configsByTopic = new HashMap<>();
+    configs.forEach((cf, config) -> configsByTopic.put(cf.name(), config));
+    return configsByTopic;
   }
 
-  private Config getBrokerConfigs(int brokerId) throws ExecutionException, InterruptedException, TimeoutException {
-    return getEntityConfigs(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId)));
+  /**
+   * Read the configs of the given brokers in a single request.
+   *
+   * @param brokerIds Brokers whose configs to read.
+   * @return Configs by broker id.
+   */
+  private Map<Integer, Config> getBrokerConfigs(Set<Integer> brokerIds) throws ExecutionException, InterruptedException, TimeoutException {
+    if (brokerIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<ConfigResource, Config> configs = getEntityConfigs(
+        brokerIds.stream().map(brokerId -> new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId)))
+                 .collect(Collectors.toList()));
+    Map<Integer, Config> configsByBroker = new HashMap<>();
+    configs.forEach((cf, config) -> configsByBroker.put(Integer.parseInt(cf.name()), config));
+    return configsByBroker;
   }
 
-  private Config getEntityConfigs(ConfigResource cf) throws ExecutionException, InterruptedException, TimeoutException {
-    Map<ConfigResource, Config> configs = _adminClient.describeConfigs(Collections.singletonList(cf)).all()
-        .get(CLIENT_REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-    return configs.get(cf);
+  private Map<ConfigResource, Config> getEntityConfigs(Collection<ConfigResource> cfs)
+  throws ExecutionException, InterruptedException, TimeoutException {
+    return _adminClient.describeConfigs(new ArrayList<>(cfs)).all().get(CLIENT_REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
   }
 
-  private void setThrottledReplicas(String topic, Set<String> replicas)
+  private void setThrottledReplicas(Map<String, Set<String>> replicasByTopic)
   throws ExecutionException, InterruptedException, TimeoutException {
-    Config topicConfigs = getTopicConfigs(topic);
-    List<AlterConfigOp> ops = new ArrayList<>();
-    for (String replicaThrottleConfigKey : Arrays.asList(LEADER_THROTTLED_REPLICAS, FOLLOWER_THROTTLED_REPLICAS)) {
-      ConfigEntry currThrottledReplicas = topicConfigs.get(replicaThrottleConfigKey);
-      if (currThrottledReplicas != null && currThrottledReplicas.value().trim().equals(WILDCARD_ASTERISK)) {
-        // The existing setup throttles all replica. So, nothing needs to be changed.
-        continue;
+    Set<String> topicsToUpdate = new TreeSet<>();
+    replicasByTopic.forEach((topic, replicas) -> {
+      if (!knownToThrottleReplicas(topic, replicas)) {
+        topicsToUpdate.add(topic);
       }
+    });
+    LOG.debug("Skip setting throttled replicas of {} topics whose throttled replicas are unchanged",
+              replicasByTopic.size() - topicsToUpdate.size());
+    Map<String, Config> topicConfigs = getTopicConfigs(topicsToUpdate);
+    Map<String, Collection<AlterConfigOp>> opsByTopic = new TreeMap<>();
+    for (Map.Entry<String, Config> entry : topicConfigs.entrySet()) {
+      String topic = entry.getKey();
+      Config topicConfig = entry.getValue();
+      cacheThrottledReplicas(topic, topicConfig);
+      List<AlterConfigOp> ops = new ArrayList<>();
+      for (String replicaThrottleConfigKey : Arrays.asList(LEADER_THROTTLED_REPLICAS, FOLLOWER_THROTTLED_REPLICAS)) {
+        ConfigEntry currThrottledReplicas = topicConfig.get(replicaThrottleConfigKey);
+        if (currThrottledReplicas != null && currThrottledReplicas.value().trim().equals(WILDCARD_ASTERISK)) {
+          // The existing setup throttles all replica. So, nothing needs to be changed.
+          continue;
+        }
 
-      // Merge new throttled replicas with existing configuration values.
-      Set<String> newThrottledReplicas = new TreeSet<>(replicas);
-      if (currThrottledReplicas != null && !currThrottledReplicas.value().equals("")) {
-        newThrottledReplicas.addAll(Arrays.asList(currThrottledReplicas.value().split(",")));
+        // Merge new throttled replicas with existing configuration values.
+        Set<String> newThrottledReplicas = new TreeSet<>(replicasByTopic.get(topic));
+        if (currThrottledReplicas != null && !currThrottledReplicas.value().equals("")) {
+          newThrottledReplicas.addAll(Arrays.asList(currThrottledReplicas.value().split(",")));
+        }
+        ops.add(new AlterConfigOp(new ConfigEntry(replicaThrottleConfigKey, String.join(",", newThrottledReplicas)), AlterConfigOp.OpType.SET));
+      }
+      if (!ops.isEmpty()) {
+        opsByTopic.put(topic, ops);
       }
-      ops.add(new AlterConfigOp(new ConfigEntry(replicaThrottleConfigKey, String.join(",", newThrottledReplicas)), AlterConfigOp.OpType.SET));
-    }
-    if (!ops.isEmpty()) {
-      changeTopicConfigs(topic, ops);
     }
+    changeTopicConfigs(opsByTopic);
   }
 
   void changeTopicConfigs(String topic, Collection<AlterConfigOp> ops)
   throws ExecutionException, InterruptedException, TimeoutException {
-    ConfigResource cf = new ConfigResource(ConfigResource.Type.TOPIC, topic);
-    Map<ConfigResource, Collection<AlterConfigOp>> configs = Collections.singletonMap(cf, ops);
+    changeTopicConfigs(Collections.singletonMap(topic, ops));
+  }
+
+  /**
+   * Change the configs of the given topics in a single request, and wait until all the changes are applied. The topics
+   * that do not exist are skipped.
+   *
+   * @param opsByTopic Config changes by topic.
+   */
+  private void changeTopicConfigs(Map<String, Collection<AlterConfigOp>> opsByTopic)
+  throws ExecutionException, InterruptedException, TimeoutException {
+    if (opsByTopic.isEmpty()) {
+      return;
+    }
+    Map<ConfigResource, Collection<AlterConfigOp>> configs = new LinkedHashMap<>();
+    opsByTopic.forEach((topic, ops) -> configs.put(new ConfigResource(ConfigResource.Type.TOPIC, topic), ops));
     try {
-      _adminClient.incrementalAlterConfigs(configs).all()
-          .get(CLIENT_REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-      waitForConfigs(cf, ops);
+      changeConfigs(configs);
     } catch (Exception e) {
-      if (!topicExists(topic)) {
-        LOG.debug("Failed to change configs for topic {} since it does not exist", topic);
-        return;
+      Set<String> existingTopics = existingTopics(opsByTopic.keySet());
+      if (existingTopics.size() == opsByTopic.size()) {
+        throw e;
       }
-      throw e;
+      LOG.debug("Failed to change configs for topics {} since they do not exist", nonExistingTopics(opsByTopic.keySet(), existingTopics));
+      Map<String, Collection<AlterConfigOp>> opsByExistingTopic = new TreeMap<>(opsByTopic);
+      opsByExistingTopic.keySet().retainAll(existingTopics);
+      changeTopicConfigs(opsByExistingTopic);
+      return;
     }
+    opsByTopic.forEach(this::cacheThrottledReplicas);
   }
 
   void changeBrokerConfigs(int brokerId, Collection<AlterConfigOp> ops)
   throws ExecutionException, InterruptedException, TimeoutException {
-    ConfigResource cf = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId));
-    Map<ConfigResource, Collection<AlterConfigOp>> configs = Collections.singletonMap(cf, ops);
+    changeBrokerConfigs(Collections.singletonMap(brokerId, ops));
+  }
+
+  /**
+   * Change the configs of the given brokers in a single request, and wait until all the changes are applied.
+   *
+   * @param opsByBroker Config changes by broker id.
+   */
+  private void changeBrokerConfigs(Map<Integer, Collection<AlterConfigOp>> opsByBroker)
+  throws ExecutionException, InterruptedException, TimeoutException {
+    if (opsByBroker.isEmpty()) {
+      return;
+    }
+    Map<ConfigResource, Collection<AlterConfigOp>> configs = new LinkedHashMap<>();
+    opsByBroker.forEach((brokerId, ops) -> configs.put(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId)), ops));
+    changeConfigs(configs);
+  }
+
+  private void changeConfigs(Map<ConfigResource, Collection<AlterConfigOp>> configs)
+  throws ExecutionException, InterruptedException, TimeoutException {
     _adminClient.incrementalAlterConfigs(configs).all()
         .get(CLIENT_REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-    waitForConfigs(cf, ops);
+    waitForConfigs(configs);
   }
 
   boolean topicExists(String topic) throws InterruptedException, TimeoutException, ExecutionException {
+    return existingTopics(Collections.singleton(topic)).contains(topic);
+  }
+
+  private Set<String> existingTopics(Set<String> topics) throws InterruptedException, TimeoutException, ExecutionException {
+    Set<String> allTopics;
     try {
-      return _adminClient.listTopics().names().get(CLIENT_REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS).contains(topic);
+      allTopics = _adminClient.listTopics().names().get(CLIENT_REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
     } catch (ExecutionException | InterruptedException | TimeoutException e) {
-      LOG.error("Unable to check if topic {} exists due to {}", topic, e.getMessage());
+      LOG.error("Unable to check if topics {} exist due to {}", topics, e.getMessage());
       throw e;
     }
+    Set<String> existingTopics = new TreeSet<>(topics);
+    existingTopics.retainAll(allTopics);
+    return existingTopics;
+  }
+
+  private static Set<String> nonExistingTopics(Set<String> topics, Set<String> existingTopics) {
+    Set<String> nonExistingTopics = new TreeSet<>(topics);
+    nonExistingTopics.removeAll(existingTopics);
+    return nonExistingTopics;
   }
 
   static String removeReplicasFromConfig(String throttleConfig, Set<String> replicas) {
@@ -287,96 +385,188 @@ class ReplicationThrottleHelper {
   }
 
   /**
-   * It gets whether there is any throttled replica specified in the configuration property. If there is and the
-   * specified throttled replica does not equal to "*", it modifies the configuration property by removing a
-   * given set of replicas from the set of throttled replicas
+   * For each given topic, it gets whether there is any throttled replica specified in the configuration property. If there
+   * is and the specified throttled replica does not equal to "*", it modifies the configuration property by removing a
+   * given set of replicas from the set of throttled replicas. The configs of all topics are read and changed in a single
+   * request each.
    *
-   * @param topic name of topic which contains <code>replicas</code>
-   * @param replicas replicas to remove from the configuration properties
+   * @param replicasByTopic Replicas to remove from the configuration properties by the name of the topic containing them.
    */
-  private void removeThrottledReplicasFromTopic(String topic, Set<String> replicas)
+  private void removeThrottledReplicasFromTopics(Map<String, Set<String>> replicasByTopic)
   throws ExecutionException, InterruptedException, TimeoutException {
-    Config topicConfigs = getTopicConfigs(topic);
-    if (topicConfigs == null) {
-      LOG.debug("Skip removing throttled replicas {} from topic {} since no configs can be read", String.join(",", replicas), topic);
-      return;
-    }
-    List<AlterConfigOp> ops = new ArrayList<>();
-
-    ConfigEntry currentLeaderThrottledReplicas = topicConfigs.get(LEADER_THROTTLED_REPLICAS);
-    if (currentLeaderThrottledReplicas != null) {
-      if (currentLeaderThrottledReplicas.value().equals(WILDCARD_ASTERISK)) {
-        LOG.debug("Existing config throttles all leader replicas. So, do not remove any leader replica throttle");
-      } else {
-        replicas.forEach(r -> LOG.debug("Removing leader throttles for topic {} and replica {}", topic, r));
-        String newThrottledReplicas = removeReplicasFromConfig(currentLeaderThrottledReplicas.value(), replicas);
-        if (newThrottledReplicas.isEmpty()) {
-          ops.add(new AlterConfigOp(new ConfigEntry(LEADER_THROTTLED_REPLICAS, null), AlterConfigOp.OpType.DELETE));
+    Set<String> topicsToUpdate = new TreeSet<>();
+    replicasByTopic.forEach((topic, replicas) -> {
+      if (!knownNotToThrottleReplicas(topic, replicas)) {
+        topicsToUpdate.add(topic);
+      }
+    });
+    LOG.debug("Skip removing throttled replicas of {} topics whose throttled replicas are unchanged",
+              replicasByTopic.size() - topicsToUpdate.size());
+    Map<String, Config> topicConfigs = getTopicConfigs(topicsToUpdate);
+    Map<String, Collection<AlterConfigOp>> opsByTopic = new TreeMap<>();
+    for (String topic : topicsToUpdate) {
+      Set<String> replicas = replicasByTopic.get(topic);
+      Config topicConfig = topicConfigs.get(topic);
+      if (topicConfig == null) {
+        LOG.debug("Skip removing throttled replicas {} from topic {} since no configs can be read", String.join(",", replicas), topic);
+        continue;
+      }
+      cacheThrottledReplicas(topic, topicConfig);
+      List<AlterConfigOp> ops = new ArrayList<>();
+
+      ConfigEntry currentLeaderThrottledReplicas = topicConfig.get(LEADER_THROTTLED_REPLICAS);
+      if (currentLeaderThrottledReplicas != null) {
+        if (currentLeaderThrottledReplicas.value().equals(WILDCARD_ASTERISK)) {
+          LOG.debug("Existing config throttles all leader replicas. So, do not remove any leader replica throttle");
         } else {
-          ops.add(new AlterConfigOp(new ConfigEntry(LEADER_THROTTLED_REPLICAS, newThrottledReplicas), AlterConfigOp.OpType.SET));
+          replicas.forEach(r -> LOG.debug("Removing leader throttles for topic {} and replica {}", topic, r));
+          String newThrottledReplicas = removeReplicasFromConfig(currentLeaderThrottledReplicas.value(), replicas);
+          if (newThrottledReplicas.isEmpty()) {
+            ops.add(new AlterConfigOp(new ConfigEntry(LEADER_THROTTLED_REPLICAS, null), AlterConfigOp.OpType.DELETE));
+          } else {
+            ops.add(new AlterConfigOp(new ConfigEntry(LEADER_THROTTLED_REPLICAS, newThrottledReplicas), AlterConfigOp.OpType.SET));
+          }
         }
       }
-    }
-    ConfigEntry currentFollowerThrottledReplicas = topicConfigs.get(FOLLOWER_THROTTLED_REPLICAS);
-    if (currentFollowerThrottledReplicas != null) {
-      if (currentFollowerThrottledReplicas.value().equals(WILDCARD_ASTERISK)) {
-        LOG.debug("Existing config throttles all follower replicas. So, do not remove any follower replica throttle");
-      } else {
-        replicas.forEach(r -> LOG.debug("Removing follower throttles for topic {} and replica {}", topic, r));
-        String newThrottledReplicas = removeReplicasFromConfig(currentFollowerThrottledReplicas.value(), replicas);
-        if (newThrottledReplicas.isEmpty()) {
-          ops.add(new AlterConfigOp(new ConfigEntry(FOLLOWER_THROTTLED_REPLICAS, null), AlterConfigOp.OpType.DELETE));
+      ConfigEntry currentFollowerThrottledReplicas = topicConfig.get(FOLLOWER_THROTTLED_REPLICAS);
+      if (currentFollowerThrottledReplicas != null) {
+        if (currentFollowerThrottledReplicas.value().equals(WILDCARD_ASTERISK)) {
+          LOG.debug("Existing config throttles all follower replicas. So, do not remove any follower replica throttle");
         } else {
-          ops.add(new AlterConfigOp(new ConfigEntry(FOLLOWER_THROTTLED_REPLICAS, newThrottledReplicas), AlterConfigOp.OpType.SET));
+          replicas.forEach(r -> LOG.debug("Removing follower throttles for topic {} and replica {}", topic, r));
+          String newThrottledReplicas = removeReplicasFromConfig(currentFollowerThrottledReplicas.value(), replicas);
+          if (newThrottledReplicas.isEmpty()) {
+            ops.add(new AlterConfigOp(new ConfigEntry(FOLLOWER_THROTTLED_REPLICAS, null), AlterConfigOp.OpType.DELETE));
+          } else {
+            ops.add(new AlterConfigOp(new ConfigEntry(FOLLOWER_THROTTLED_REPLICAS, newThrottledReplicas), AlterConfigOp.OpType.SET));
+          }
         }
       }
+      if (!ops.isEmpty()) {
+        opsByTopic.put(topic, ops);
+      }
     }
-    if (!ops.isEmpty()) {
-      changeTopicConfigs(topic, ops);
-    }
+    changeTopicConfigs(opsByTopic);
   }
 
-  private void removeThrottledRateFromBroker(Integer brokerId)
+  private void removeThrottledRateFromBrokers(Set<Integer> brokerIds)
   throws ExecutionException, InterruptedException, TimeoutException {
-    Config brokerConfigs = getBrokerConfigs(brokerId);
-    ConfigEntry currLeaderThrottle = brokerConfigs.get(LEADER_THROTTLED_RATE);
-    ConfigEntry currFollowerThrottle = brokerConfigs.get(FOLLOWER_THROTTLED_RATE);
-    List<AlterConfigOp> ops = new ArrayList<>();
-    if (currLeaderThrottle != null) {
-      if (currLeaderThrottle.source().equals(ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG)) {
-        LOG.debug("Skipping removal for static leader throttle rate: {}", currFollowerThrottle);
-      } else {
-        LOG.debug("Removing leader throttle rate: {} on broker {}", currLeaderThrottle, brokerId);
-        ops.add(new AlterConfigOp(new ConfigEntry(LEADER_THROTTLED_RATE, null), AlterConfigOp.OpType.DELETE));
+    Map<Integer, Config> brokerConfigs = getBrokerConfigs(brokerIds);
+    Map<Integer, Collection<AlterConfigOp>> opsByBroker = new TreeMap<>();
+    for (int brokerId : brokerIds) {
+      Config brokerConfig = brokerConfigs.get(brokerId);
+      if (brokerConfig == null) {
+        continue;
+      }
+      ConfigEntry currLeaderThrottle = brokerConfig.get(LEADER_THROTTLED_RATE);
+      ConfigEntry currFollowerThrottle = brokerConfig.get(FOLLOWER_THROTTLED_RATE);
+      List<AlterConfigOp> ops = new ArrayList<>();
+      if (currLeaderThrottle != null) {
+        if (currLeaderThrottle.source().equals(ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG)) {
+          LOG.debug("Skipping removal for static leader throttle rate: {}", currFollowerThrottle);
+        } else {
+          LOG.debug("Removing leader throttle rate: {} on broker {}", currLeaderThrottle, brokerId);
+          ops.add(new AlterConfigOp(new ConfigEntry(LEADER_THROTTLED_RATE, null), AlterConfigOp.OpType.DELETE));
+        }
+      }
+      if (currFollowerThrottle != null) {
+        if (currFollowerThrottle.source().equals(ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG)) {
+          LOG.debug("Skipping removal for static follower throttle rate: {}", currFollowerThrottle);
+        } else {
+          LOG.debug("Removing follower throttle rate: {} on broker {}", currFollowerThrottle, brokerId);
+          ops.add(new AlterConfigOp(new ConfigEntry(FOLLOWER_THROTTLED_RATE, null), AlterConfigOp.OpType.DELETE));
+        }
+      }
+      if (!ops.isEmpty()) {
+        opsByBroker.put(brokerId, ops);
+      }
+    }
+    changeBrokerConfigs(opsByBroker);
+  }
+
+  /**
+   * @return {@code true} if the last known throttled replicas configs of the given topic throttle all the given replicas.
+   */
+  private boolean knownToThrottleReplicas(String topic, Set<String> replicas) {
+    Map<String, String> knownThrottledReplicas = _throttledReplicasByTopic.get(topic);
+    if (knownThrottledReplicas == null) {
+      return false;
+    }
+    for (String replicaThrottleConfigKey : Arrays.asList(LEADER_THROTTLED_REPLICAS, FOLLOWER_THROTTLED_REPLICAS)) {
+      if (!knownThrottledReplicas.containsKey(replicaThrottleConfigKey)) {
+        return false;
+      }
+      String throttledReplicas = knownThrottledReplicas.get(replicaThrottleConfigKey);
+      if (throttledReplicas == null
+          || !(throttledReplicas.trim().equals(WILDCARD_ASTERISK) || Arrays.asList(throttledReplicas.split(",")).containsAll(replicas))) {
+        return false;
       }
     }
-    if (currFollowerThrottle != null) {
-      if (currFollowerThrottle.source().equals(ConfigEntry.ConfigSource.STATIC_BROKER_CONFIG)) {
-        LOG.debug("Skipping removal for static follower throttle rate: {}", currFollowerThrottle);
-      } else {
-        LOG.debug("Removing follower throttle rate: {} on broker {}", currFollowerThrottle, brokerId);
-        ops.add(new AlterConfigOp(new ConfigEntry(FOLLOWER_THROTTLED_RATE, null), AlterConfigOp.OpType.DELETE));
+    return true;
+  }
+
+  /**
+   * @return {@code true} if the last known throttled replicas configs of the given topic throttle none of the given replicas,
+   * or throttle all replicas.
+   */
+  private boolean knownNotToThrottleReplicas(String topic, Set<String> replicas) {
+    Map<String, String> knownThrottledReplicas = _throttledReplicasByTopic.get(topic);
+    if (knownThrottledReplicas == null) {
+      return false;
+    }
+    for (String replicaThrottleConfigKey : Arrays.asList(LEADER_THROTTLED_REPLICAS, FOLLOWER_THROTTLED_REPLICAS)) {
+      if (!knownThrottledReplicas.containsKey(replicaThrottleConfigKey)) {
+        return false;
       }
+      String throttledReplicas = knownThrottledReplicas.get(replicaThrottleConfigKey);
+      if (throttledReplicas != null && !throttledReplicas.equals(WILDCARD_ASTERISK)
+          && !Collections.disjoint(Arrays.asList(throttledReplicas.split(",")), replicas)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void cacheThrottledReplicas(String topic, Config topicConfig) {
+    Map<String, String> knownThrottledReplicas = _throttledReplicasByTopic.computeIfAbsent(topic, t -> new HashMap<>());
+    for (String replicaThrottleConfigKey : Arrays.asList(LEADER_THROTTLED_REPLICAS, FOLLOWER_THROTTLED_REPLICAS)) {
+      ConfigEntry throttledReplicas = topicConfig.get(replicaThrottleConfigKey);
+      knownThrottledReplicas.put(replicaThrottleConfigKey, throttledReplicas == null ? null : throttledReplicas.value());
     }
-    if (!ops.isEmpty()) {
-      changeBrokerConfigs(brokerId, ops);
+  }
+
+  private void cacheThrottledReplicas(String topic, Collection<AlterConfigOp> ops) {
+    Map<String, String> knownThrottledReplicas = _throttledReplicasByTopic.computeIfAbsent(topic, t -> new HashMap<>());
+    for (AlterConfigOp op : ops) {
+      String name = op.configEntry().name();
+      if (name.equals(LEADER_THROTTLED_REPLICAS) || name.equals(FOLLOWER_THROTTLED_REPLICAS)) {
+        knownThrottledReplicas.put(name, op.opType() == AlterConfigOp.OpType.DELETE ? null : op.configEntry().value());
+      }
     }
   }
 
   // Retries until we can read the configs changes we just wrote
   void waitForConfigs(ConfigResource cf, Collection<AlterConfigOp> ops) {
+    waitForConfigs(Collections.singletonMap(cf, ops));
+  }
+
+  // Retries until we can read the configs changes we just wrote to all the given resources, reading them in a single request
+  private void waitForConfigs(Map<ConfigResource, Collection<AlterConfigOp>> opsByResource) {
+    Map<ConfigResource, Map<String, String>> expectedConfigsByResource = new LinkedHashMap<>();
     // Use HashMap::new instead of Collectors.toMap to allow inserting null values
-    Map<String, String> expectedConfigs = ops.stream()
-            .collect(HashMap::new, (m, o) -> m.put(o.configEntry().name(), o.configEntry().value()), HashMap::putAll);
+    opsByResource.forEach((cf, ops) -> expectedConfigsByResource.put(cf, ops.stream().collect(
+        HashMap::new, (m, o) -> m.put(o.configEntry().name(), o.configEntry().value()), HashMap::putAll)));
     boolean retryResponse = CruiseControlMetricsUtils.retry(() -> {
       try {
-        return !configsEqual(getEntityConfigs(cf), expectedConfigs);
+        Map<ConfigResource, Config> configs = getEntityConfigs(expectedConfigsByResource.keySet());
+        return !expectedConfigsByResource.entrySet().stream().allMatch(
+            e -> configsEqual(configs.getOrDefault(e.getKey(), EMPTY_CONFIG), e.getValue()));
       } catch (ExecutionException | InterruptedException | TimeoutException e) {
         return false;
       }
     }, _retries);
     if (!retryResponse) {
-      throw new IllegalStateException("The following configs " + ops + " were not applied to " + cf + " within the time limit");
+      throw new IllegalStateException("The following configs " + opsByResource + " were not applied within the time limit");
     }
   }
 
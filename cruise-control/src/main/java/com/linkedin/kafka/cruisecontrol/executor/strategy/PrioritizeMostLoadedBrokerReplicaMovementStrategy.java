@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor.strategy;
+
+import com.linkedin.kafka.cruisecontrol.executor.ExecutionProposal;
+import com.linkedin.kafka.cruisecontrol.executor.ExecutionTask;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.Comparator;
+import java.util.Map;
+import org.apache.kafka.common.Cluster;
+
+/**
+ * The strategy, which tries to first move replicas that involve the brokers with the most inter-broker data to move, i.e.
+ * the brokers on the critical path of the execution. This is longest-processing-time-first scheduling: the brokers that
+ * would otherwise keep moving data long after the other brokers are done start their movements first, and the larger
+ * movements of a broker are moved before its smaller movements.
+ * <p>
+ * The data to move of each broker is taken from {@link StrategyOptions#interBrokerDataToMoveInMBByBrokerId()}. If it is
+ * not provided, this strategy only prioritizes larger movements.
+ */
+public class PrioritizeMostLoadedBrokerReplicaMovementStrategy extends AbstractReplicaMovementStrategy {
+
+  @Override
+  public Comparator<ExecutionTask> taskComparator(StrategyOptions strategyOptions) {
+    Map<Integer, Long> dataToMoveInMBByBrokerId = strategyOptions.interBrokerDataToMoveInMBByBrokerId();
+    return (task1, task2) -> {
+      int compareBrokerLoad = Long.compare(maxBrokerDataToMoveInMB(task2.proposal(), dataToMoveInMBByBrokerId),
+                                           maxBrokerDataToMoveInMB(task1.proposal(), dataToMoveInMBByBrokerId));
+      return compareBrokerLoad != 0 ? compareBrokerLoad : Long.compare(task2.proposal().dataToMoveInMB(), task1.proposal().dataToMoveInMB());
+    };
+  }
+
+  /**
+   * @param proposal Execution proposal.
+   * @param dataToMoveInMBByBrokerId Inter-broker data to move in MB by broker id.
+   * @return The largest data to move among the source broker and the destination brokers of the given proposal.
+   */
+  private static long maxBrokerDataToMoveInMB(ExecutionProposal proposal, Map<Integer, Long> dataToMoveInMBByBrokerId) {
+    long maxBrokerDataToMoveInMB = dataToMoveInMBByBrokerId.getOrDefault(proposal.oldLeader().brokerId(), 0L);
+    for (ReplicaPlacementInfo destinationBroker : proposal.replicasToAdd()) {
+      maxBrokerDataToMoveInMB = Math.max(maxBrokerDataToMoveInMB, dataToMoveInMBByBrokerId.getOrDefault(destinationBroker.brokerId(), 0L));
+    }
+    return maxBrokerDataToMoveInMB;
+  }
+
+  @Override
+  public Comparator<ExecutionTask> taskComparator(Cluster cluster) {
+    return taskComparator(new StrategyOptions.Builder(cluster).build());
+  }
+
+  /**
+   * Get the name of this strategy. Name of a strategy provides an identification for the strategy in human readable format.
+   */
+  @Override
+  public String name() {
+    return PrioritizeMostLoadedBrokerReplicaMovementStrategy.class.getSimpleName();
+  }
+}
@@ -17,12 +17,14 @@ import static com.linkedin.cruisecontrol.common.utils.Utils.validateNotNull;
 public final class StrategyOptions {
   protected final Cluster _cluster;
   protected final Map<String, MinIsrWithTime> _minIsrWithTimeByTopic;
+  protected final Map<Integer, Long> _interBrokerDataToMoveInMBByBrokerId;
 
   public static class Builder {
     // Required parameters
     private final Cluster _cluster;
     // Optional parameters - initialized to default values
     private Map<String, MinIsrWithTime> _minIsrWithTimeByTopic = Collections.emptyMap();
+    private Map<Integer, Long> _interBrokerDataToMoveInMBByBrokerId = Collections.emptyMap();
 
     public Builder(Cluster cluster) {
       validateNotNull(cluster, "The cluster cannot be null.");
@@ -41,6 +43,19 @@ public final class StrategyOptions {
       return this;
     }
 
+    /**
+     * (Optional) Set the data to move by inter-broker replica movements of each broker, i.e. the data that the broker sends
+     * as the source broker or receives as a destination broker.
+     *
+     * @param interBrokerDataToMoveInMBByBrokerId Inter-broker data to move in MB by broker id.
+     * @return this builder.
+     */
+    public Builder interBrokerDataToMoveInMBByBrokerId(Map<Integer, Long> interBrokerDataToMoveInMBByBrokerId) {
+      validateNotNull(interBrokerDataToMoveInMBByBrokerId, "The interBrokerDataToMoveInMBByBrokerId cannot be null.");
+      _interBrokerDataToMoveInMBByBrokerId = interBrokerDataToMoveInMBByBrokerId;
+      return this;
+    }
+
     public StrategyOptions build() {
       return new StrategyOptions(this);
     }
@@ -49,6 +64,7 @@ public final class StrategyOptions {
   private StrategyOptions(Builder builder) {
     _cluster = builder._cluster;
     _minIsrWithTimeByTopic = builder._minIsrWithTimeByTopic;
+    _interBrokerDataToMoveInMBByBrokerId = builder._interBrokerDataToMoveInMBByBrokerId;
   }
 
   public Cluster cluster() {
@@ -58,4 +74,8 @@ public final class StrategyOptions {
   public Map<String, MinIsrWithTime> minIsrWithTimeByTopic() {
     return Collections.unmodifiableMap(_minIsrWithTimeByTopic);
   }
+
+  public Map<Integer, Long> interBrokerDataToMoveInMBByBrokerId() {
+    return Collections.unmodifiableMap(_interBrokerDataToMoveInMBByBrokerId);
+  }
 }
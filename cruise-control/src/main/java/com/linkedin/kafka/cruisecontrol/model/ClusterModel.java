@@ -5,6 +5,7 @@
 package com.linkedin.kafka.cruisecontrol.model;
 
 import com.linkedin.cruisecontrol.monitor.sampling.aggregator.AggregatedMetricValues;
+import com.linkedin.kafka.cruisecontrol.analyzer.ActionAcceptanceCache;
 import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUtils;
 import com.linkedin.kafka.cruisecontrol.analyzer.BalancingConstraint;
 import com.linkedin.kafka.cruisecontrol.analyzer.OptimizationOptions;
@@ -75,6 +76,9 @@ public class ClusterModel implements Serializable {
   private final Map<Integer, Load> _potentialLeadershipLoadByBrokerId;
   private int _unknownHostId;
   private final Map<Integer, String> _capacityEstimationInfoByBrokerId;
+  private final List<ReplicaPlacementJournal> _replicaPlacementJournals;
+  // The cache of the action acceptances of the optimized goals during an optimization, or null if there is none.
+  private ActionAcceptanceCache _actionAcceptanceCache;
 
   /**
    * Constructor for the cluster class. It creates data structures to hold a list of racks, a map for partitions by
@@ -111,6 +115,8 @@ public class ClusterModel implements Serializable {
     _monitoredPartitionsRatio = monitoredPartitionsRatio;
     _unknownHostId = 0;
     _capacityEstimationInfoByBrokerId = new HashMap<>();
+    _replicaPlacementJournals = new ArrayList<>();
+    _actionAcceptanceCache = null;
   }
 
   /**
@@ -168,31 +174,59 @@ public class ClusterModel implements Serializable {
     Map<TopicPartition, List<ReplicaPlacementInfo>> replicaDistribution = new HashMap<>();
 
     for (Map.Entry<TopicPartition, Partition> entry : _partitionsByTopicPartition.entrySet()) {
-      TopicPartition tp = entry.getKey();
-      Partition partition = entry.getValue();
-      List<ReplicaPlacementInfo> replicaPlacementInfos
-          = partition.replicas().stream().map(r -> r.disk() == null ? new ReplicaPlacementInfo(r.broker().id())
-                                                                    : new ReplicaPlacementInfo(r.broker().id(), r.disk().logDir()))
-                     .collect(Collectors.toList());
       // Add distribution of replicas in the partition.
-      replicaDistribution.put(tp, replicaPlacementInfos);
+      replicaDistribution.put(entry.getKey(), entry.getValue().replicaPlacementInfos());
     }
 
     return replicaDistribution;
   }
 
+  /**
+   * Open a journal to keep track of the partitions whose replica placement changes from now on, until the journal is
+   * closed via {@link #closeReplicaPlacementJournal(ReplicaPlacementJournal)}. Multiple journals can be open at once
+   * (e.g. one for the whole optimization and one for each goal).
+   *
+   * @return A new journal recording the partitions whose replica placement changes from now on.
+   */
+  public ReplicaPlacementJournal openReplicaPlacementJournal() {
+    ReplicaPlacementJournal journal = new ReplicaPlacementJournal();
+    _replicaPlacementJournals.add(journal);
+    return journal;
+  }
+
+  /**
+   * Stop recording changes in the given journal. The journal retains the changes recorded so far.
+   *
+   * @param journal Replica placement journal to close.
+   */
+  public void closeReplicaPlacementJournal(ReplicaPlacementJournal journal) {
+    _replicaPlacementJournals.remove(journal);
+  }
+
+  /**
+   * Set the cache of the action acceptances of the optimized goals to use while this cluster model is optimized. The cache
+   * must not be shared with other cluster models.
+   *
+   * @param actionAcceptanceCache The cache of action acceptances, or {@code null} to stop caching action acceptances.
+   */
+  public void setActionAcceptanceCache(ActionAcceptanceCache actionAcceptanceCache) {
+    _actionAcceptanceCache = actionAcceptanceCache;
+  }
+
+  /**
+   * @return The cache of the action acceptances of the optimized goals, or {@code null} if action acceptances are not cached.
+   */
+  public ActionAcceptanceCache actionAcceptanceCache() {
+    return _actionAcceptanceCache;
+  }
+
   /**
    * @return Leader broker ids for each partition.
    */
   public Map<TopicPartition, ReplicaPlacementInfo> getLeaderDistribution() {
     Map<TopicPartition, ReplicaPlacementInfo> leaders = new HashMap<>();
     for (Map.Entry<TopicPartition, Partition> entry : _partitionsByTopicPartition.entrySet()) {
-      Replica leaderReplica = entry.getValue().leader();
-      if (leaderReplica.disk() == null) {
-        leaders.put(entry.getKey(), new ReplicaPlacementInfo(leaderReplica.broker().id()));
-      } else {
-        leaders.put(entry.getKey(), new ReplicaPlacementInfo(leaderReplica.broker().id(), leaderReplica.disk().logDir()));
-      }
+      leaders.put(entry.getKey(), entry.getValue().leaderPlacementInfo());
     }
     return leaders;
   }
@@ -360,9 +394,11 @@ public class ClusterModel implements Serializable {
    * @param destinationLogdir Destination logdir.
    */
   public void relocateReplica(TopicPartition tp, int brokerId, String destinationLogdir) {
-    Replica replicaToMove = _partitionsByTopicPartition.get(tp).replica(brokerId);
+    Partition partition = _partitionsByTopicPartition.get(tp);
+    Replica replicaToMove = partition.replica(brokerId);
+    partition.recordPlacement();
     // Move replica from the source disk to destination disk on the same broker.
-    replicaToMove.broker().moveReplicaBetweenDisks(tp, replicaToMove.disk().logDir(), destinationLogdir);
+    replicaToMove.broker().host().moveReplicaBetweenDisks(brokerId, tp, replicaToMove.disk().logDir(), destinationLogdir);
   }
 
   /**
@@ -378,6 +414,10 @@ public class ClusterModel implements Serializable {
    * @param destinationBrokerId     Destination broker id.
    */
   public void relocateReplica(TopicPartition tp, int sourceBrokerId, int destinationBrokerId) {
+    Partition partition = partition(tp);
+    if (partition != null) {
+      partition.recordPlacement();
+    }
     // Removes the replica and related load from the source broker / source rack / cluster.
     Replica replica = removeReplica(sourceBrokerId, tp);
     if (replica == null) {
@@ -854,7 +894,7 @@ public class ClusterModel implements Serializable {
     // Add replica to its partition.
     if (!_partitionsByTopicPartition.containsKey(tp)) {
       // Partition has not been created before.
-      _partitionsByTopicPartition.put(tp, new Partition(tp));
+      _partitionsByTopicPartition.put(tp, new Partition(tp, _replicaPlacementJournals));
       _replicationFactorByTopic.putIfAbsent(tp.topic(), 1);
     }
 
@@ -895,9 +935,10 @@ public class ClusterModel implements Serializable {
       throw new IllegalStateException(String.format("Unable to delete replica for topic partition %s since it only has %d replicas.",
                                                     topicPartition, currentReplicaCount));
     }
-    removeReplica(brokerId, topicPartition);
     // Update partition info.
     Partition partition = _partitionsByTopicPartition.get(topicPartition);
+    partition.recordPlacement();
+    removeReplica(brokerId, topicPartition);
     partition.deleteReplica(brokerId);
     _replicationFactorByTopic.put(topicPartition.topic(), partition.replicas().size());
   }
@@ -950,6 +991,67 @@ public class ClusterModel implements Serializable {
     return _racksById.putIfAbsent(rackId, rack);
   }
 
+  /**
+   * Create a deep copy of this cluster model, which can be optimized independently of this cluster model. The copy has the
+   * same racks, hosts, brokers (including their state and capacity), disks, replicas (including their position in the
+   * partition, leadership, offline status and load), and self-healing eligible replicas as this cluster model. Sorted
+   * replicas and open replica placement journals are not copied.
+   *
+   * The copy is created by replaying the construction of this cluster model. Hence, every replica in this cluster model
+   * is expected to reside on its original broker and disk -- i.e. no replica has been relocated or created as a future
+   * replica since the creation of this cluster model.
+   *
+   * @return A deep copy of this cluster model.
+   */
+  public ClusterModel copy() {
+    ClusterModel copy = new ClusterModel(_generation, _monitoredPartitionsRatio);
+    for (Rack rack : _racksById.values()) {
+      copy.createRack(rack.id());
+      for (Broker broker : rack.brokers()) {
+        Map<Resource, Double> capacity = new HashMap<>();
+        Resource.cachedValues().forEach(r -> capacity.put(r, broker.capacityFor(r)));
+        Map<String, Double> diskCapacityByLogDir = new HashMap<>();
+        broker.disks().forEach(d -> diskCapacityByLogDir.put(d.logDir(), d.capacity()));
+        // The CPU capacity of the broker already accounts for its number of CPU cores.
+        copy.createBroker(rack.id(), broker.host().name(), broker.id(), new BrokerCapacityInfo(capacity, diskCapacityByLogDir, 1.0),
+                          broker.isUsingJBOD());
+      }
+    }
+
+    for (Partition partition : _partitionsByTopicPartition.values()) {
+      TopicPartition tp = partition.topicPartition();
+      List<Replica> replicas = partition.replicas();
+      for (int index = 0; index < replicas.size(); index++) {
+        Replica replica = replicas.get(index);
+        if (replica.isImmigrant() || replica.disk() != replica.originalDisk()) {
+          throw new IllegalStateException(String.format("Cannot copy the cluster model, because replica %s has been relocated.", replica));
+        }
+        Broker broker = replica.broker();
+        copy.createReplica(broker.rack().id(), broker.id(), tp, index, replica.isLeader(), replica.isOriginalOffline(),
+                           replica.disk() == null ? null : replica.disk().logDir(), false);
+        if (!replica.load().isEmpty()) {
+          copy.setReplicaLoad(broker.rack().id(), broker.id(), tp, replica.load().loadByWindows(), replica.load().windows());
+        }
+      }
+    }
+
+    for (Broker broker : _brokers) {
+      if (broker.state() != Broker.State.ALIVE) {
+        copy.setBrokerState(broker.id(), broker.state());
+      }
+    }
+    // Self-healing eligible replicas accumulate over the broker state transitions, which may not all be reflected in the last state.
+    copy._selfHealingEligibleReplicas.clear();
+    for (Replica replica : _selfHealingEligibleReplicas) {
+      copy._selfHealingEligibleReplicas.add(copy.broker(replica.broker().id()).replica(replica.topicPartition()));
+    }
+    copy._capacityEstimationInfoByBrokerId.putAll(_capacityEstimationInfoByBrokerId);
+    copy._replicationFactorByTopic.putAll(_replicationFactorByTopic);
+    copy._maxReplicationFactor = _maxReplicationFactor;
+    copy._unknownHostId = _unknownHostId;
+    return copy;
+  }
+
   /**
    * For partitions of specified topics, create or delete replicas in given cluster model to change the partition's replication
    * factor to target replication factor. New replicas for partition are added in a rack-aware, round-robin way.
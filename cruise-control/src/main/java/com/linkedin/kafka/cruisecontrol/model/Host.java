@@ -33,6 +33,8 @@ public class Host implements Serializable {
   private final Load _load;
   private final double[] _hostCapacity;
   private int _aliveBrokers;
+  // Incremented on each change to the brokers, replicas, or load of this host.
+  private long _epoch;
 
   Host(String name, Rack rack) {
     _name = name;
@@ -42,6 +44,7 @@ public class Host implements Serializable {
     _load = new Load();
     _hostCapacity = new double[Resource.cachedValues().size()];
     _aliveBrokers = 0;
+    _epoch = 0L;
   }
 
   // Getters
@@ -125,6 +128,7 @@ public class Host implements Serializable {
    * @return The disk capacity lost.
    */
   double markDiskDead(int brokerId, String logdir) {
+    _epoch++;
     Broker broker = broker(brokerId);
     double capacityLost = broker.markDiskDead(logdir);
     _hostCapacity[DISK.id()] -= capacityLost;
@@ -147,6 +151,7 @@ public class Host implements Serializable {
    * @return Created broker.
    */
   Broker createBroker(Integer brokerId, BrokerCapacityInfo brokerCapacityInfo, boolean populateReplicaPlacementInfo) {
+    _epoch++;
     Broker broker = new Broker(this, brokerId, brokerCapacityInfo, populateReplicaPlacementInfo);
     _brokers.put(brokerId, broker);
     _aliveBrokers++;
@@ -164,6 +169,7 @@ public class Host implements Serializable {
    * @param newState The new state of the broker.
    */
   void setBrokerState(int brokerId, Broker.State newState) {
+    _epoch++;
     Broker broker = broker(brokerId);
     if (broker.isAlive() && newState == Broker.State.DEAD) {
       for (Resource r : Resource.cachedValues()) {
@@ -180,12 +186,14 @@ public class Host implements Serializable {
   }
 
   void addReplica(Replica replica) {
+    _epoch++;
     _replicas.add(replica);
     _brokers.get(replica.broker().id()).addReplica(replica);
     _load.addLoad(replica.load());
   }
 
   Replica removeReplica(int brokerId, TopicPartition tp) {
+    _epoch++;
     Broker broker = _brokers.get(brokerId);
     if (broker == null) {
       throw new IllegalStateException(String.format("Cannot remove replica for %s from broker %s because "
@@ -198,6 +206,7 @@ public class Host implements Serializable {
   }
 
   AggregatedMetricValues makeFollower(int brokerId, TopicPartition tp) {
+    _epoch++;
     Broker broker = broker(brokerId);
     if (broker == null) {
       throw new IllegalStateException(String.format("Cannot make replica %s on broker %d as follower because the broker"
@@ -213,6 +222,7 @@ public class Host implements Serializable {
   void makeLeader(int brokerId,
                   TopicPartition tp,
                   AggregatedMetricValues leadershipLoadDelta) {
+    _epoch++;
     Broker broker = _brokers.get(brokerId);
     broker.makeLeader(tp, leadershipLoadDelta);
     // Add leadership load to recent load.
@@ -223,16 +233,41 @@ public class Host implements Serializable {
                       TopicPartition tp,
                       AggregatedMetricValues aggregatedMetricValues,
                       List<Long> windows) {
+    _epoch++;
     Broker broker = _brokers.get(brokerId);
     broker.setReplicaLoad(tp, aggregatedMetricValues, windows);
     _load.addMetricValues(aggregatedMetricValues, windows);
   }
 
   void clearLoad() {
+    _epoch++;
     _brokers.values().forEach(Broker::clearLoad);
     _load.clearLoad();
   }
 
+  /**
+   * Move a replica between the disks of a broker in this host.
+   *
+   * @param brokerId Id of the broker containing the replica.
+   * @param tp Topic partition of the replica.
+   * @param sourceLogdir Log directory of the source disk.
+   * @param destinationLogdir Log directory of the destination disk.
+   */
+  void moveReplicaBetweenDisks(int brokerId, TopicPartition tp, String sourceLogdir, String destinationLogdir) {
+    _epoch++;
+    _brokers.get(brokerId).moveReplicaBetweenDisks(tp, sourceLogdir, destinationLogdir);
+  }
+
+  /**
+   * The epoch of this host is incremented on each change to its brokers, replicas, or load, so that callers can tell
+   * whether a value derived from the state of this host is still up to date.
+   *
+   * @return The epoch of this host.
+   */
+  public long epoch() {
+    return _epoch;
+  }
+
   /**
    * @return An object that can be further used to encode into JSON.
    */
@@ -23,6 +23,10 @@ public class Partition implements Serializable {
   private Replica _leader;
   // Set of brokers which are unable to host replica of this partition.
   private final Set<Broker> _ineligibleBrokers;
+  // Open replica placement journals of the cluster model, which are shared across partitions of the same cluster model.
+  private final List<ReplicaPlacementJournal> _replicaPlacementJournals;
+  // Incremented on each change to the placement of this partition.
+  private long _epoch;
 
   /**
    * Constructor for Partition class.
@@ -30,10 +34,23 @@ public class Partition implements Serializable {
    * @param tp Topic partition information for the replica in this partition,
    */
   Partition(TopicPartition tp) {
+    this(tp, Collections.emptyList());
+  }
+
+  /**
+   * Constructor for Partition class.
+   *
+   * @param tp Topic partition information for the replica in this partition,
+   * @param replicaPlacementJournals Open replica placement journals to record the placement of this partition before
+   *                                 each change.
+   */
+  Partition(TopicPartition tp, List<ReplicaPlacementJournal> replicaPlacementJournals) {
     _tp = tp;
     _replicas = new ArrayList<>();
     _leader = null;
     _ineligibleBrokers = new HashSet<>();
+    _replicaPlacementJournals = replicaPlacementJournals;
+    _epoch = 0L;
   }
 
   /**
@@ -58,6 +75,7 @@ public class Partition implements Serializable {
       throw new IllegalArgumentException("Inconsistent topic partition. Trying to add follower replica " + follower
                                          + " to partition " + _tp + ".");
     }
+    recordPlacement();
     // Add follower to the list of followers.
     _replicas.add(index, follower);
   }
@@ -68,6 +86,7 @@ public class Partition implements Serializable {
    * @param brokerId Id of broker which host the replica to be deleted.
    */
   void deleteReplica(int brokerId) {
+    recordPlacement();
     _replicas.removeIf(r -> r.broker().id() == brokerId);
   }
 
@@ -167,6 +186,7 @@ public class Partition implements Serializable {
       throw new IllegalArgumentException(String.format("%s is not a follower.",
                                                        follower1.isLeader() ? follower1 : follower2));
     }
+    recordPlacement();
     _replicas.set(index2, follower1);
     _replicas.set(index1, follower2);
   }
@@ -181,6 +201,7 @@ public class Partition implements Serializable {
     Replica replica1 = _replicas.get(index1);
     Replica replica2 = _replicas.get(index2);
 
+    recordPlacement();
     _replicas.set(index2, replica1);
     _replicas.set(index1, replica2);
   }
@@ -190,6 +211,7 @@ public class Partition implements Serializable {
    * @param replica the replica to move to the end.
    */
   public void moveReplicaToEnd(Replica replica) {
+    recordPlacement();
     if (!_replicas.remove(replica)) {
       throw new IllegalStateException(String.format("Did not find replica %s for partition %s.", replica, _tp));
     }
@@ -230,6 +252,7 @@ public class Partition implements Serializable {
                                          + " as the leader for partition " + _tp + " while the replica is not marked "
                                          + "as a leader.");
     }
+    recordPlacement();
     _leader = leader;
     _replicas.add(index, leader);
   }
@@ -241,15 +264,62 @@ public class Partition implements Serializable {
    * @param prospectiveLeader Prospective leader.
    */
   void relocateLeadership(Replica prospectiveLeader) {
+    recordPlacement();
     int leaderPos = _replicas.indexOf(prospectiveLeader);
     swapReplicaPositions(0, leaderPos);
     _leader = prospectiveLeader;
   }
 
+  /**
+   * @return Placement of replicas in this partition, where the first replica is the leader (if the partition has a leader).
+   */
+  public List<ReplicaPlacementInfo> replicaPlacementInfos() {
+    List<ReplicaPlacementInfo> replicaPlacementInfos = new ArrayList<>(_replicas.size());
+    _replicas.forEach(r -> replicaPlacementInfos.add(placementInfo(r)));
+    return replicaPlacementInfos;
+  }
+
+  /**
+   * @return Placement of the leader replica, or {@code null} if the partition has no leader.
+   */
+  public ReplicaPlacementInfo leaderPlacementInfo() {
+    return _leader == null ? null : placementInfo(_leader);
+  }
+
+  private static ReplicaPlacementInfo placementInfo(Replica replica) {
+    return replica.disk() == null ? new ReplicaPlacementInfo(replica.broker().id())
+                                  : new ReplicaPlacementInfo(replica.broker().id(), replica.disk().logDir());
+  }
+
+  /**
+   * The epoch of this partition is incremented on each change to its placement, so that callers can tell whether a value
+   * derived from the placement of this partition is still up to date.
+   *
+   * @return The epoch of this partition.
+   */
+  public long epoch() {
+    return _epoch;
+  }
+
+  /**
+   * Record the current placement of this partition in the open replica placement journals of the cluster model, and
+   * increment the epoch of this partition. Expected to be called right before any change to the placement of this
+   * partition -- i.e. the order of replicas, the broker or disk of a replica, or the leader.
+   */
+  void recordPlacement() {
+    _epoch++;
+    if (!_replicaPlacementJournals.isEmpty()) {
+      for (ReplicaPlacementJournal journal : _replicaPlacementJournals) {
+        journal.record(this);
+      }
+    }
+  }
+
   /**
    * Clear the leader to null and clear followers.
    */
   public void clear() {
+    recordPlacement();
     _replicas.clear();
     _leader = null;
   }
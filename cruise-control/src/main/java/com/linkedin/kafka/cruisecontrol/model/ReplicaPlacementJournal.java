@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.model;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.TopicPartition;
+
+
+/**
+ * A journal of the partitions whose replica placement has been touched in a {@link ClusterModel} since the journal has
+ * been opened via {@link ClusterModel#openReplicaPlacementJournal()}. For each touched partition, the journal keeps the
+ * replica and leader placement the partition had right before its first change.
+ *
+ * Hence, comparing the journal with the current state of the cluster model yields the same diff as comparing the full
+ * replica and leader distributions of the cluster model taken at the time the journal was opened, while the cost is
+ * proportional to the number of touched partitions rather than the number of partitions in the cluster.
+ *
+ * A partition is considered touched if its replica list (i.e. the order of replicas or the broker / disk of any replica)
+ * or its leader has been modified. A partition may be touched and still end up with its initial placement.
+ */
+public class ReplicaPlacementJournal implements Serializable {
+  private static final long serialVersionUID = 4520163376811870514L;
+  private final Map<TopicPartition, List<ReplicaPlacementInfo>> _initialReplicaDistribution;
+  private final Map<TopicPartition, ReplicaPlacementInfo> _initialLeaderDistribution;
+
+  ReplicaPlacementJournal() {
+    _initialReplicaDistribution = new HashMap<>();
+    _initialLeaderDistribution = new HashMap<>();
+  }
+
+  /**
+   * Record the current placement of the given partition, unless the partition has already been touched since the journal
+   * has been opened. Expected to be called right before the placement of the partition is modified.
+   *
+   * @param partition Partition whose placement is about to change.
+   */
+  void record(Partition partition) {
+    TopicPartition tp = partition.topicPartition();
+    if (!_initialReplicaDistribution.containsKey(tp)) {
+      _initialReplicaDistribution.put(tp, partition.replicaPlacementInfos());
+      _initialLeaderDistribution.put(tp, partition.leaderPlacementInfo());
+    }
+  }
+
+  /**
+   * @return The replica distribution of touched partitions as of their first change -- i.e. topic-partition -&gt;
+   * placement-of-replicas, where placement-of-replicas[0] represents the leader's placement.
+   */
+  public Map<TopicPartition, List<ReplicaPlacementInfo>> initialReplicaDistribution() {
+    return Collections.unmodifiableMap(_initialReplicaDistribution);
+  }
+
+  /**
+   * @return The leader distribution of touched partitions as of their first change.
+   */
+  public Map<TopicPartition, ReplicaPlacementInfo> initialLeaderDistribution() {
+    return Collections.unmodifiableMap(_initialLeaderDistribution);
+  }
+
+  /**
+   * @return {@code true} if no partition has been touched since the journal has been opened, {@code false} otherwise.
+   */
+  public boolean isEmpty() {
+    return _initialReplicaDistribution.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ReplicaPlacementJournal[numTouchedPartitions=%d]", _initialReplicaDistribution.size());
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.monitor;
+
+import com.linkedin.kafka.cruisecontrol.config.BrokerCapacityInfo;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.kafka.common.Node;
+
+
+/**
+ * A cache of the cluster models generated by the {@link LoadMonitor}. Generating a cluster model requires aggregating
+ * the metric samples of all partitions and resolving the capacity of all brokers, whereas copying an existing cluster
+ * model does not. Hence, the cache keeps the cluster models of the latest {@link ModelGeneration} as immutable base
+ * models, and serves each request with a copy of the matching base model, which the caller is free to modify. Callers
+ * that only read the cluster model may get the base model itself, which saves the copy.
+ *
+ * <p>A cached cluster model is evicted as soon as a cluster model of a different generation or with different broker
+ * capacities is requested or cached, or when the cache exceeds its maximum size, in which case the least recently used
+ * cluster model is evicted. Broker capacities are not reflected in the model generation, hence they are compared
+ * explicitly.</p>
+ *
+ * <p>This class is thread safe.</p>
+ */
+class ClusterModelCache {
+  private final int _maxNumCachedClusterModels;
+  private final long _windowMs;
+  private final LinkedHashMap<Key, ClusterModel> _baseClusterModels;
+
+  /**
+   * @param maxNumCachedClusterModels The maximum number of cluster models to cache, 0 to disable caching.
+   * @param windowMs The size of a partition metrics window in milliseconds.
+   */
+  ClusterModelCache(int maxNumCachedClusterModels, long windowMs) {
+    _maxNumCachedClusterModels = maxNumCachedClusterModels;
+    _windowMs = windowMs;
+    _baseClusterModels = new LinkedHashMap<>(maxNumCachedClusterModels + 1, 1.0f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, ClusterModel> eldest) {
+        return size() > _maxNumCachedClusterModels;
+      }
+    };
+  }
+
+  /**
+   * Get a copy of the cached cluster model for the given parameters.
+   *
+   * @param generation The current model generation.
+   * @param from Start of the time window of the cluster model.
+   * @param to End of the time window of the cluster model.
+   * @param requirements The load completeness requirements of the cluster model.
+   * @param allowCapacityEstimation Whether the cluster model allows capacity estimation.
+   * @param capacityByBroker The current capacity of each broker.
+   * @return A copy of the cached cluster model, or {@code null} if there is no matching cluster model in the cache.
+   */
+  ClusterModel clusterModel(ModelGeneration generation,
+                            long from,
+                            long to,
+                            ModelCompletenessRequirements requirements,
+                            boolean allowCapacityEstimation,
+                            Map<Node, BrokerCapacityInfo> capacityByBroker) {
+    ClusterModel baseClusterModel = baseClusterModel(generation, from, to, requirements, allowCapacityEstimation, capacityByBroker);
+    // Base cluster models are never modified, so they can be copied concurrently outside the lock.
+    return baseClusterModel == null ? null : baseClusterModel.copy();
+  }
+
+  /**
+   * Get the cached cluster model for the given parameters without copying it. The returned cluster model must not be modified.
+   *
+   * @param generation The current model generation.
+   * @param from Start of the time window of the cluster model.
+   * @param to End of the time window of the cluster model.
+   * @param requirements The load completeness requirements of the cluster model.
+   * @param allowCapacityEstimation Whether the cluster model allows capacity estimation.
+   * @param capacityByBroker The current capacity of each broker.
+   * @return The cached cluster model, or {@code null} if there is no matching cluster model in the cache.
+   */
+  synchronized ClusterModel baseClusterModel(ModelGeneration generation,
+                                             long from,
+                                             long to,
+                                             ModelCompletenessRequirements requirements,
+                                             boolean allowCapacityEstimation,
+                                             Map<Node, BrokerCapacityInfo> capacityByBroker) {
+    evictStale(generation, capacityByBroker);
+    return _baseClusterModels.get(new Key(generation, from / _windowMs, to / _windowMs, requirements, allowCapacityEstimation,
+                                          capacityByBroker));
+  }
+
+  /**
+   * Cache the given cluster model as a base model. The given cluster model must not be modified afterwards.
+   *
+   * @param clusterModel The cluster model to cache.
+   * @param from Start of the time window of the cluster model.
+   * @param to End of the time window of the cluster model.
+   * @param requirements The load completeness requirements of the cluster model.
+   * @param allowCapacityEstimation Whether the cluster model allows capacity estimation.
+   * @param capacityByBroker The capacity of each broker in the cluster model.
+   */
+  synchronized void put(ClusterModel clusterModel,
+                        long from,
+                        long to,
+                        ModelCompletenessRequirements requirements,
+                        boolean allowCapacityEstimation,
+                        Map<Node, BrokerCapacityInfo> capacityByBroker) {
+    if (_maxNumCachedClusterModels == 0) {
+      return;
+    }
+    evictStale(clusterModel.generation(), capacityByBroker);
+    _baseClusterModels.put(new Key(clusterModel.generation(), from / _windowMs, to / _windowMs, requirements,
+                                   allowCapacityEstimation, capacityByBroker), clusterModel);
+  }
+
+  /**
+   * @return {@code true} if caching is enabled, {@code false} otherwise.
+   */
+  boolean isEnabled() {
+    return _maxNumCachedClusterModels > 0;
+  }
+
+  /**
+   * Package private for unit tests.
+   * @return The number of cached cluster models.
+   */
+  synchronized int size() {
+    return _baseClusterModels.size();
+  }
+
+  private void evictStale(ModelGeneration generation, Map<Node, BrokerCapacityInfo> capacityByBroker) {
+    for (Iterator<Key> iterator = _baseClusterModels.keySet().iterator(); iterator.hasNext();) {
+      Key key = iterator.next();
+      if (!key._generation.equals(generation) || !key._capacityByBroker.equals(capacityByBroker)) {
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * The key of a cached cluster model. The time window is identified by the partition metrics windows of its start and
+   * end, as the aggregated partition load of a model generation only differs across windows.
+   */
+  private static final class Key {
+    private final ModelGeneration _generation;
+    private final long _fromWindow;
+    private final long _toWindow;
+    private final ModelCompletenessRequirements _requirements;
+    private final boolean _allowCapacityEstimation;
+    private final Map<Node, BrokerCapacityInfo> _capacityByBroker;
+
+    Key(ModelGeneration generation,
+        long fromWindow,
+        long toWindow,
+        ModelCompletenessRequirements requirements,
+        boolean allowCapacityEstimation,
+        Map<Node, BrokerCapacityInfo> capacityByBroker) {
+      _generation = generation;
+      _fromWindow = fromWindow;
+      _toWindow = toWindow;
+      _requirements = requirements;
+      _allowCapacityEstimation = allowCapacityEstimation;
+      _capacityByBroker = capacityByBroker;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return _generation.equals(other._generation) && _fromWindow == other._fromWindow && _toWindow == other._toWindow
+             && Objects.equals(_requirements, other._requirements) && _allowCapacityEstimation == other._allowCapacityEstimation
+             && _capacityByBroker.equals(other._capacityByBroker);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(_generation, _fromWindow, _toWindow, _requirements, _allowCapacityEstimation, _capacityByBroker);
+    }
+  }
+}
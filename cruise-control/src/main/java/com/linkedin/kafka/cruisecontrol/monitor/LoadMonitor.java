@@ -38,6 +38,7 @@ import com.linkedin.kafka.cruisecontrol.servlet.response.stats.BrokerStats;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -98,6 +99,7 @@ public class LoadMonitor {
   private final TopicConfigProvider _topicConfigProvider;
   private final ScheduledExecutorService _loadMonitorExecutor;
   private final Timer _clusterModelCreationTimer;
+  private final ClusterModelCache _clusterModelCache;
   private final ThreadLocal<Boolean> _acquiredClusterModelSemaphore;
   private final ModelCompletenessRequirements _defaultModelCompletenessRequirements;
   private final Time _time;
@@ -176,6 +178,8 @@ public class LoadMonitor {
                                   metricDef, time, dropwizardMetricRegistry, _brokerCapacityConfigResolver);
     _clusterModelCreationTimer = dropwizardMetricRegistry.timer(MetricRegistry.name(LOAD_MONITOR_SENSOR,
                                                                                     "cluster-model-creation-timer"));
+    _clusterModelCache = new ClusterModelCache(config.getInt(MonitorConfig.NUM_CACHED_CLUSTER_MODELS_CONFIG),
+                                               config.getLong(MonitorConfig.PARTITION_METRICS_WINDOW_MS_CONFIG));
     _loadMonitorExecutor = Executors.newScheduledThreadPool(2,
                                                             new KafkaCruiseControlThreadFactory("LoadMonitorExecutor", true, LOG));
     _loadMonitorExecutor.scheduleAtFixedRate(new SensorUpdater(), 0, monitorStateUpdateIntervalMs, TimeUnit.MILLISECONDS);
@@ -349,6 +353,13 @@ public class LoadMonitor {
     return _metadataClient.cluster();
   }
 
+  /**
+   * @return The cluster information from Kafka metadata and its generation, without refreshing the metadata.
+   */
+  public MetadataClient.ClusterAndGeneration kafkaClusterAndGeneration() {
+    return _metadataClient.clusterAndGeneration();
+  }
+
   /**
    * Pause all the activities of the load monitor. The load monitor can only be paused when it is in
    * RUNNING state.
@@ -439,7 +450,39 @@ public class LoadMonitor {
                                    boolean allowCapacityEstimation,
                                    OperationProgress operationProgress)
       throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
-    ClusterModel clusterModel = clusterModel(DEFAULT_START_TIME_FOR_CLUSTER_MODEL, nowMs, requirements, allowCapacityEstimation, operationProgress);
+    return clusterModel(nowMs, requirements, allowCapacityEstimation, operationProgress, false);
+  }
+
+  /**
+   * Get the most recent cluster load model before the given timestamp for read-only access. If the cluster model cache is
+   * enabled, the cached cluster model is returned without being copied, hence the caller must not modify it.
+   *
+   * @param nowMs The current time in millisecond.
+   * @param requirements the load requirements for getting the cluster model.
+   * @param allowCapacityEstimation whether allow capacity estimation in cluster model if the underlying live broker capacity is unavailable.
+   * @param operationProgress the progress to report.
+   * @return A cluster model with the configured number of windows whose timestamp is before given timestamp, which must not
+   * be modified.
+   * @throws NotEnoughValidWindowsException If there is not enough sample to generate cluster model.
+   * @throws TimeoutException If broker capacity resolver is unable to resolve broker capacity in time.
+   * @throws BrokerCapacityResolutionException If broker capacity resolver fails to resolve broker capacity.
+   */
+  public ClusterModel readOnlyClusterModel(long nowMs,
+                                           ModelCompletenessRequirements requirements,
+                                           boolean allowCapacityEstimation,
+                                           OperationProgress operationProgress)
+      throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
+    return clusterModel(nowMs, requirements, allowCapacityEstimation, operationProgress, true);
+  }
+
+  private ClusterModel clusterModel(long nowMs,
+                                    ModelCompletenessRequirements requirements,
+                                    boolean allowCapacityEstimation,
+                                    OperationProgress operationProgress,
+                                    boolean readOnly)
+      throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
+    ClusterModel clusterModel = clusterModel(DEFAULT_START_TIME_FOR_CLUSTER_MODEL, nowMs, requirements, false, allowCapacityEstimation,
+                                             operationProgress, readOnly);
     // Micro optimization: put the broker stats construction out of the lock.
     BrokerStats brokerStats = clusterModel.brokerStats(_config);
     // update the cached brokerLoadStats
@@ -481,7 +524,8 @@ public class LoadMonitor {
    * @param populateReplicaPlacementInfo whether populate replica placement information.
    * @param allowCapacityEstimation whether allow capacity estimation in cluster model if the underlying live broker capacity is unavailable.
    * @param operationProgress the progress of the job to report.
-   * @return A cluster model with the available snapshots whose timestamp is in the given window.
+   * @return A cluster model with the available snapshots whose timestamp is in the given window. If a cluster model of the
+   * current model generation with the same parameters is cached, a copy of the cached cluster model is returned.
    * @throws NotEnoughValidWindowsException If there is not enough sample to generate cluster model.
    * @throws TimeoutException If broker capacity resolver is unable to resolve broker capacity in time.
    * @throws BrokerCapacityResolutionException If broker capacity resolver fails to resolve broker capacity.
@@ -493,11 +537,41 @@ public class LoadMonitor {
                                    boolean allowCapacityEstimation,
                                    OperationProgress operationProgress)
       throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
+    return clusterModel(from, to, requirements, populateReplicaPlacementInfo, allowCapacityEstimation, operationProgress, false);
+  }
+
+  private ClusterModel clusterModel(long from,
+                                    long to,
+                                    ModelCompletenessRequirements requirements,
+                                    boolean populateReplicaPlacementInfo,
+                                    boolean allowCapacityEstimation,
+                                    OperationProgress operationProgress,
+                                    boolean readOnly)
+      throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
     long startMs = _time.milliseconds();
 
     MetadataClient.ClusterAndGeneration clusterAndGeneration = refreshClusterAndGeneration();
     Cluster cluster = clusterAndGeneration.cluster();
 
+    // The replica placement information is retrieved from the brokers rather than the metadata, hence it is not reflected
+    // in the model generation and cluster models containing it are not cached.
+    boolean useClusterModelCache = _clusterModelCache.isEnabled() && !populateReplicaPlacementInfo;
+    Map<Node, BrokerCapacityInfo> capacityByBroker = null;
+    if (useClusterModelCache) {
+      // Broker capacities may change without a change to the model generation, hence they are a part of the cache key.
+      capacityByBroker = brokerCapacities(populateReplicaPlacementInfo, allowCapacityEstimation, cluster);
+      ModelGeneration currentGeneration = new ModelGeneration(clusterAndGeneration.generation(),
+                                                              _partitionMetricSampleAggregator.generation());
+      ClusterModel cachedClusterModel = _clusterModelCache.baseClusterModel(currentGeneration, from, to, requirements,
+                                                                            allowCapacityEstimation, capacityByBroker);
+      if (cachedClusterModel != null) {
+        // Read-only callers get the base model itself, others get a copy of it.
+        ClusterModel clusterModel = readOnly ? cachedClusterModel : cachedClusterModel.copy();
+        LOG.debug("Got cached cluster model of generation {} in {} ms", currentGeneration, _time.milliseconds() - startMs);
+        return clusterModel;
+      }
+    }
+
     // Get the metric aggregation result.
     MetricSampleAggregationResult<String, PartitionEntity> partitionMetricSampleAggregationResult =
         _partitionMetricSampleAggregator.aggregate(cluster, from, to, requirements, operationProgress);
@@ -513,7 +587,10 @@ public class LoadMonitor {
 
     final Timer.Context ctx = _clusterModelCreationTimer.time();
     try {
-      populateClusterCapacity(populateReplicaPlacementInfo, allowCapacityEstimation, clusterModel, cluster);
+      if (capacityByBroker == null) {
+        capacityByBroker = brokerCapacities(populateReplicaPlacementInfo, allowCapacityEstimation, cluster);
+      }
+      populateClusterCapacity(populateReplicaPlacementInfo, clusterModel, capacityByBroker);
 
       // Populate replica placement information for the cluster model if requested.
       Map<TopicPartition, Map<Integer, String>> replicaPlacementInfo = null;
@@ -537,6 +614,11 @@ public class LoadMonitor {
     } finally {
       ctx.stop();
     }
+    if (useClusterModelCache) {
+      // The generated cluster model becomes the base model of the cache, the caller gets a copy of it unless it is read-only.
+      _clusterModelCache.put(clusterModel, from, to, requirements, allowCapacityEstimation, capacityByBroker);
+      return readOnly ? clusterModel : clusterModel.copy();
+    }
     return clusterModel;
   }
 
@@ -552,18 +634,26 @@ public class LoadMonitor {
     ModelGeneration modelGeneration = new ModelGeneration(clusterAndGeneration.generation(), -1L);
     ClusterModel clusterModel = new ClusterModel(modelGeneration, 0.0);
 
-    populateClusterCapacity(false, false, clusterModel, cluster);
+    populateClusterCapacity(false, clusterModel, brokerCapacities(false, false, cluster));
     // Set the state of bad brokers in clusterModel based on the Kafka cluster state.
     setBadBrokerState(clusterModel, cluster);
     return clusterModel;
   }
 
-  private void populateClusterCapacity(boolean populateReplicaPlacementInfo,
-                                       boolean allowCapacityEstimation,
-                                       ClusterModel clusterModel,
-                                       Cluster cluster)
+  /**
+   * Resolve the capacity of the brokers in the given cluster.
+   *
+   * @param populateReplicaPlacementInfo Whether the disk capacity by logDir is required for each broker.
+   * @param allowCapacityEstimation Whether allow capacity estimation if the underlying live broker capacity is unavailable.
+   * @param cluster The cluster whose broker capacities are resolved.
+   * @return The capacity of each broker, in the order the capacities have been resolved.
+   * @throws TimeoutException If broker capacity resolver is unable to resolve broker capacity in time.
+   * @throws BrokerCapacityResolutionException If broker capacity resolver fails to resolve broker capacity.
+   */
+  private Map<Node, BrokerCapacityInfo> brokerCapacities(boolean populateReplicaPlacementInfo,
+                                                         boolean allowCapacityEstimation,
+                                                         Cluster cluster)
       throws TimeoutException, BrokerCapacityResolutionException {
-    // Create the racks and brokers.
     // If broker capacity is allowed to estimate broker capacity, shuffle nodes before getting their capacity from the
     // capacity resolver. This is good for the capacity resolver to estimate the capacity of the nodes, for which the
     // capacity retrieval has failed.
@@ -577,10 +667,10 @@ public class LoadMonitor {
     if (allowCapacityEstimation) {
       Collections.shuffle(shuffledNodes);
     }
+    Map<Node, BrokerCapacityInfo> capacityByBroker = new LinkedHashMap<>();
     for (Node node : shuffledNodes) {
       // If the rack is not specified, we use the host info as rack info.
       String rack = getRackHandleNull(node);
-      clusterModel.createRack(rack);
       BrokerCapacityInfo brokerCapacity;
       try {
         brokerCapacity = _brokerCapacityConfigResolver.capacityForBroker(rack, node.host(), node.id(), BROKER_CAPACITY_FETCH_TIMEOUT_MS,
@@ -597,7 +687,20 @@ public class LoadMonitor {
         LOG.warn(errorMessage, e);
         throw e;
       }
-      clusterModel.createBroker(rack, node.host(), node.id(), brokerCapacity, populateReplicaPlacementInfo);
+      capacityByBroker.put(node, brokerCapacity);
+    }
+    return capacityByBroker;
+  }
+
+  private static void populateClusterCapacity(boolean populateReplicaPlacementInfo,
+                                              ClusterModel clusterModel,
+                                              Map<Node, BrokerCapacityInfo> capacityByBroker) {
+    // Create the racks and brokers.
+    for (Map.Entry<Node, BrokerCapacityInfo> entry : capacityByBroker.entrySet()) {
+      Node node = entry.getKey();
+      String rack = getRackHandleNull(node);
+      clusterModel.createRack(rack);
+      clusterModel.createBroker(rack, node.host(), node.id(), entry.getValue(), populateReplicaPlacementInfo);
     }
   }
 
@@ -6,7 +6,11 @@ package com.linkedin.kafka.cruisecontrol.monitor.sampling;
 import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
 import com.linkedin.kafka.cruisecontrol.metricsreporter.CruiseControlMetricsUtils;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.PartitionMetricSample;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.PartitionMetricSampleBatch;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
@@ -122,6 +126,47 @@ public abstract class AbstractKafkaSampleStore implements SampleStore {
     return metricSampleCount;
   }
 
+  /**
+   * Store the partition metric samples as batches of the samples of the same broker, each batch being a single record.
+   *
+   * @param samples Samples to store.
+   * @param producer Producer to send the records.
+   * @param partitionMetricSampleStoreTopic The topic to store the records.
+   * @param maxNumSamplesPerRecord The maximum number of samples in a record.
+   * @param log Logger to report failures.
+   * @return The number of samples that have been stored so far.
+   */
+  static AtomicInteger storePartitionMetricSampleBatches(MetricSampler.Samples samples, Producer<byte[], byte[]> producer,
+                                                         String partitionMetricSampleStoreTopic, int maxNumSamplesPerRecord,
+                                                         Logger log) {
+    final AtomicInteger metricSampleCount = new AtomicInteger(0);
+    Map<Integer, List<PartitionMetricSample>> samplesByBrokerId = new HashMap<>();
+    for (PartitionMetricSample sample : samples.partitionMetricSamples()) {
+      samplesByBrokerId.computeIfAbsent(sample.brokerId(), b -> new ArrayList<>()).add(sample);
+    }
+    for (Map.Entry<Integer, List<PartitionMetricSample>> entry : samplesByBrokerId.entrySet()) {
+      int brokerId = entry.getKey();
+      List<PartitionMetricSample> samplesOfBroker = entry.getValue();
+      for (int from = 0; from < samplesOfBroker.size(); from += maxNumSamplesPerRecord) {
+        List<PartitionMetricSample> batch = samplesOfBroker.subList(from, Math.min(from + maxNumSamplesPerRecord, samplesOfBroker.size()));
+        // The latest sample time of the batch, so that seeking to the beginning of the monitored period skips no batch with
+        // samples in that period.
+        long batchTime = batch.stream().mapToLong(PartitionMetricSample::sampleTime).max().getAsLong();
+        producer.send(new ProducerRecord<>(partitionMetricSampleStoreTopic, null, batchTime, null,
+                                           PartitionMetricSampleBatch.toBytes(brokerId, batch)),
+                      (recordMetadata, e) -> {
+                        if (e == null) {
+                          metricSampleCount.addAndGet(batch.size());
+                        } else {
+                          log.error("Failed to produce {} partition metric samples of broker {} of timestamp {} due to exception",
+                                    batch.size(), brokerId, batchTime, e);
+                        }
+                      });
+      }
+    }
+    return metricSampleCount;
+  }
+
   @Override
   public void evictSamplesBefore(long timestamp) {
     //TODO: use the deleteMessageBefore method to delete old samples.
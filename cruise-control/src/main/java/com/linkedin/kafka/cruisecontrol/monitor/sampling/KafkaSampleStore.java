@@ -9,6 +9,7 @@ import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
 import com.linkedin.kafka.cruisecontrol.metricsreporter.exception.UnknownVersionException;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerMetricSample;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.PartitionMetricSample;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.PartitionMetricSampleBatch;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -63,7 +64,12 @@ import static com.linkedin.kafka.cruisecontrol.monitor.sampling.SamplingUtils.LO
  *   store topic, default value is set to {@link #DEFAULT_MIN_PARTITION_SAMPLE_STORE_TOPIC_RETENTION_TIME_MS}.</li>
  *   <li>{@link #MIN_BROKER_SAMPLE_STORE_TOPIC_RETENTION_TIME_MS_CONFIG}: The config for the minimal retention time for Kafka broker sample store
  *   topic, default value is set to {@link #DEFAULT_MIN_BROKER_SAMPLE_STORE_TOPIC_RETENTION_TIME_MS}.</li>
+ *   <li>{@link #PARTITION_SAMPLE_STORE_RECORD_BATCH_SIZE_CONFIG}: The config for the maximum number of partition metric samples of a
+ *   broker to store in a single record, default value is set to {@link #DEFAULT_PARTITION_SAMPLE_STORE_RECORD_BATCH_SIZE}.</li>
  * </ul>
+ *
+ * Partition metric samples are loaded from both single sample records and batch records, regardless of the configured batch
+ * size. Hence, batching can be enabled once all instances that load from the same sample store topics support batch records.
  */
 public class KafkaSampleStore extends AbstractKafkaSampleStore {
   private static final Logger LOG = LoggerFactory.getLogger(KafkaSampleStore.class);
@@ -77,6 +83,7 @@ public class KafkaSampleStore extends AbstractKafkaSampleStore {
   protected static final int DEFAULT_BROKER_SAMPLE_STORE_TOPIC_PARTITION_COUNT = 32;
   protected static final long DEFAULT_MIN_PARTITION_SAMPLE_STORE_TOPIC_RETENTION_TIME_MS = TimeUnit.HOURS.toMillis(1);
   protected static final long DEFAULT_MIN_BROKER_SAMPLE_STORE_TOPIC_RETENTION_TIME_MS = TimeUnit.HOURS.toMillis(1);
+  protected static final int DEFAULT_PARTITION_SAMPLE_STORE_RECORD_BATCH_SIZE = 0;
   protected static final String PRODUCER_CLIENT_ID = "KafkaCruiseControlSampleStoreProducer";
   protected static final String CONSUMER_CLIENT_ID_PREFIX = "KafkaCruiseControlSampleStore";
 
@@ -88,6 +95,7 @@ public class KafkaSampleStore extends AbstractKafkaSampleStore {
   protected int _brokerSampleStoreTopicPartitionCount;
   protected long _minPartitionSampleStoreTopicRetentionTimeMs;
   protected long _minBrokerSampleStoreTopicRetentionTimeMs;
+  protected int _partitionSampleStoreRecordBatchSize;
   protected volatile double _loadingProgress;
   protected boolean _skipSampleStoreTopicRackAwarenessCheck;
 
@@ -99,6 +107,7 @@ public class KafkaSampleStore extends AbstractKafkaSampleStore {
   public static final String BROKER_SAMPLE_STORE_TOPIC_PARTITION_COUNT_CONFIG = "broker.sample.store.topic.partition.count";
   public static final String MIN_PARTITION_SAMPLE_STORE_TOPIC_RETENTION_TIME_MS_CONFIG = "min.partition.sample.store.topic.retention.time.ms";
   public static final String MIN_BROKER_SAMPLE_STORE_TOPIC_RETENTION_TIME_MS_CONFIG = "min.broker.sample.store.topic.retention.time.ms";
+  public static final String PARTITION_SAMPLE_STORE_RECORD_BATCH_SIZE_CONFIG = "partition.sample.store.record.batch.size";
 
   @Override
   public void configure(Map<String, ?> config) {
@@ -128,6 +137,16 @@ public class KafkaSampleStore extends AbstractKafkaSampleStore {
                                                || minBrokerSampleStoreTopicRetentionTimeMsString.isEmpty()
                                                ? DEFAULT_MIN_BROKER_SAMPLE_STORE_TOPIC_RETENTION_TIME_MS
                                                : Long.parseLong(minBrokerSampleStoreTopicRetentionTimeMsString);
+    String partitionSampleStoreRecordBatchSizeString = (String) config.get(PARTITION_SAMPLE_STORE_RECORD_BATCH_SIZE_CONFIG);
+    _partitionSampleStoreRecordBatchSize = partitionSampleStoreRecordBatchSizeString == null
+                                           || partitionSampleStoreRecordBatchSizeString.isEmpty()
+                                           ? DEFAULT_PARTITION_SAMPLE_STORE_RECORD_BATCH_SIZE
+                                           : Integer.parseInt(partitionSampleStoreRecordBatchSizeString);
+    if (_partitionSampleStoreRecordBatchSize < 0) {
+      throw new IllegalArgumentException(String.format("%s cannot be negative (provided: %d).",
+                                                       PARTITION_SAMPLE_STORE_RECORD_BATCH_SIZE_CONFIG,
+                                                       _partitionSampleStoreRecordBatchSize));
+    }
     String numProcessingThreadsString = (String) config.get(NUM_SAMPLE_LOADING_THREADS_CONFIG);
     int numProcessingThreads = numProcessingThreadsString == null || numProcessingThreadsString.isEmpty()
                                ? DEFAULT_NUM_SAMPLE_LOADING_THREADS : Integer.parseInt(numProcessingThreadsString);
@@ -177,7 +196,10 @@ public class KafkaSampleStore extends AbstractKafkaSampleStore {
 
   @Override
   public void storeSamples(MetricSampler.Samples samples) {
-    AtomicInteger metricSampleCount = storePartitionMetricSamples(samples, _producer, _partitionMetricSampleStoreTopic, LOG);
+    AtomicInteger metricSampleCount = _partitionSampleStoreRecordBatchSize > 0
+                                      ? storePartitionMetricSampleBatches(samples, _producer, _partitionMetricSampleStoreTopic,
+                                                                          _partitionSampleStoreRecordBatchSize, LOG)
+                                      : storePartitionMetricSamples(samples, _producer, _partitionMetricSampleStoreTopic, LOG);
 
     final AtomicInteger brokerMetricSampleCount = new AtomicInteger(0);
     for (BrokerMetricSample sample : samples.brokerMetricSamples()) {
@@ -317,7 +339,12 @@ public class KafkaSampleStore extends AbstractKafkaSampleStore {
             Set<BrokerMetricSample> brokerMetricSamples = new HashSet<>();
             for (ConsumerRecord<byte[], byte[]> record : consumerRecords) {
               try {
-                if (record.topic().equals(_partitionMetricSampleStoreTopic)) {
+                if (record.topic().equals(_partitionMetricSampleStoreTopic) && PartitionMetricSampleBatch.isBatch(record.value())) {
+                  List<PartitionMetricSample> samples = PartitionMetricSampleBatch.fromBytes(record.value());
+                  partitionMetricSamples.addAll(samples);
+                  LOG.trace("Loaded {} partition metric samples of broker {}", samples.size(),
+                            samples.isEmpty() ? null : samples.get(0).brokerId());
+                } else if (record.topic().equals(_partitionMetricSampleStoreTopic)) {
                   PartitionMetricSample sample = PartitionMetricSample.fromBytes(record.value());
                   partitionMetricSamples.add(sample);
                   LOG.trace("Loaded partition metric sample {}", sample);
@@ -0,0 +1,587 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.monitor.sampling;
+
+import com.linkedin.cruisecontrol.metricdef.AggregationFunction;
+import com.linkedin.cruisecontrol.metricdef.MetricDef;
+import com.linkedin.cruisecontrol.metricdef.MetricInfo;
+import com.linkedin.cruisecontrol.model.Entity;
+import com.linkedin.cruisecontrol.monitor.sampling.MetricSample;
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.MetricSampleAggregator;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils;
+import com.linkedin.kafka.cruisecontrol.common.KafkaCruiseControlThreadFactory;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfigUtils;
+import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
+import com.linkedin.kafka.cruisecontrol.metricsreporter.exception.UnknownVersionException;
+import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerMetricSample;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.PartitionMetricSample;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.SystemTime;
+import org.apache.kafka.common.utils.Time;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.linkedin.kafka.cruisecontrol.monitor.sampling.SamplingUtils.LOADING_PROGRESS;
+import static com.linkedin.kafka.cruisecontrol.monitor.sampling.SamplingUtils.SAMPLE_STORE_TIME_OBJECT_CONFIG;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * The sample store that implements the {@link SampleStore}. It stores the samples to a delegate sample store, and
+ * periodically checkpoints the windows of the partition and broker metric sample aggregators to a local file. At startup,
+ * the windows are restored from the checkpoint if it is present and recent, which takes much less time than replaying the
+ * samples from the delegate sample store. Otherwise, the samples are loaded from the delegate sample store.
+ *
+ * <p>The checkpoint is written from the raw values that the metric sample aggregators keep for each entity in each window,
+ * i.e. the sum, maximum, or latest value of each metric along with the number of samples. Hence, this store keeps no copy
+ * of the samples, and the size of the checkpoint is proportional to the number of entities and windows, rather than to
+ * the number of samples. The store learns about the metric sample aggregators when the samples are loaded; hence, no
+ * checkpoint is written if loading the samples is skipped. Periodic checkpoints are written by a dedicated thread, so that
+ * storing the samples does not wait for them, and a final checkpoint is written upon close. A checkpoint is streamed to a
+ * temporary file, which atomically replaces the previous checkpoint once it is complete. Samples stored after the last
+ * checkpoint are lost upon an unclean shutdown.</p>
+ *
+ * Required configurations for this class.
+ * <ul>
+ *   <li>{@link #CHECKPOINT_DIR_CONFIG}: The config for the local directory to write the checkpoint to.</li>
+ *   <li>{@link #CHECKPOINT_INTERVAL_MS_CONFIG}: The config for the minimum interval between two checkpoints, default value is
+ *   set to {@link #DEFAULT_CHECKPOINT_INTERVAL_MS}.</li>
+ *   <li>{@link #DELEGATE_SAMPLE_STORE_CLASS_CONFIG}: The config for the sample store to store the samples to and to load the
+ *   samples from in the absence of a usable checkpoint, default value is set to {@link #DEFAULT_DELEGATE_SAMPLE_STORE_CLASS}.</li>
+ * </ul>
+ * The configurations of the delegate sample store are also required. The time to measure the checkpoint interval with
+ * is taken from {@link SamplingUtils#SAMPLE_STORE_TIME_OBJECT_CONFIG} if present.
+ */
+public class LocalCheckpointSampleStore implements SampleStore {
+  private static final Logger LOG = LoggerFactory.getLogger(LocalCheckpointSampleStore.class);
+  static final String CHECKPOINT_FILE_NAME = "metric-samples.checkpoint";
+  static final byte CHECKPOINT_VERSION = 1;
+  // The window index that ends the raw values of a type of samples in the checkpoint. Window indices start at 1.
+  private static final long END_OF_WINDOWS = 0L;
+  private static final int IO_BUFFER_SIZE = 1024 * 1024;
+  // The maximum number of samples to load to the metric sample aggregators at once while restoring the checkpoint.
+  private static final int RESTORE_BATCH_SIZE = 10000;
+  // The restored partition metric samples are not validated against the partition leaders.
+  private static final int UNKNOWN_BROKER_ID = -1;
+
+  protected static final long DEFAULT_CHECKPOINT_INTERVAL_MS = TimeUnit.MINUTES.toMillis(5);
+  protected static final String DEFAULT_DELEGATE_SAMPLE_STORE_CLASS = KafkaSampleStore.class.getName();
+
+  protected SampleStore _delegate;
+  protected Path _checkpointFile;
+  protected Path _tempCheckpointFile;
+  protected long _checkpointIntervalMs;
+  protected long _lastCheckpointMs;
+  protected Time _time;
+  protected ExecutorService _checkpointExecutor;
+  // Avoid queueing another checkpoint while one is pending, e.g. if checkpoints take longer than the checkpoint interval.
+  protected AtomicBoolean _checkpointPending;
+  // Serializes writing the checkpoint, which shares the temporary file.
+  protected Object _checkpointLock;
+  protected boolean _closed;
+  protected CheckpointedWindows _partitionWindows;
+  protected CheckpointedWindows _brokerWindows;
+  // The sample loader of the metric sample aggregators to checkpoint, available once the samples have been loaded.
+  protected volatile SampleLoader _sampleLoader;
+  protected volatile boolean _restoredFromCheckpoint;
+  protected volatile double _loadingProgress;
+
+  public static final String CHECKPOINT_DIR_CONFIG = "local.checkpoint.sample.store.dir";
+  public static final String CHECKPOINT_INTERVAL_MS_CONFIG = "local.checkpoint.sample.store.interval.ms";
+  public static final String DELEGATE_SAMPLE_STORE_CLASS_CONFIG = "local.checkpoint.sample.store.delegate.class";
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void configure(Map<String, ?> config) {
+    Path checkpointDir = Paths.get(KafkaCruiseControlUtils.getRequiredConfig(config, CHECKPOINT_DIR_CONFIG));
+    _checkpointFile = checkpointDir.resolve(CHECKPOINT_FILE_NAME);
+    _tempCheckpointFile = checkpointDir.resolve(CHECKPOINT_FILE_NAME + ".tmp");
+    String checkpointIntervalMsString = (String) config.get(CHECKPOINT_INTERVAL_MS_CONFIG);
+    _checkpointIntervalMs = checkpointIntervalMsString == null || checkpointIntervalMsString.isEmpty()
+                            ? DEFAULT_CHECKPOINT_INTERVAL_MS : Long.parseLong(checkpointIntervalMsString);
+    if (_checkpointIntervalMs < 0) {
+      throw new IllegalArgumentException(String.format("%s cannot be negative (provided: %d).", CHECKPOINT_INTERVAL_MS_CONFIG,
+                                                       _checkpointIntervalMs));
+    }
+    String delegateSampleStoreClassString = (String) config.get(DELEGATE_SAMPLE_STORE_CLASS_CONFIG);
+    String delegateSampleStoreClass = delegateSampleStoreClassString == null || delegateSampleStoreClassString.isEmpty()
+                                      ? DEFAULT_DELEGATE_SAMPLE_STORE_CLASS : delegateSampleStoreClassString;
+    try {
+      Files.createDirectories(checkpointDir);
+      _delegate = KafkaCruiseControlConfigUtils.getConfiguredInstance(Class.forName(delegateSampleStoreClass), SampleStore.class,
+                                                                      (Map<String, Object>) config);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to create the checkpoint directory " + checkpointDir, e);
+    } catch (ClassNotFoundException e) {
+      throw new IllegalArgumentException("Failed to find the delegate sample store class " + delegateSampleStoreClass, e);
+    }
+    _partitionWindows = new CheckpointedWindows((Long) config.get(MonitorConfig.PARTITION_METRICS_WINDOW_MS_CONFIG),
+                                                (Integer) config.get(MonitorConfig.NUM_PARTITION_METRICS_WINDOWS_CONFIG),
+                                                KafkaMetricDef.commonMetricDef());
+    _brokerWindows = new CheckpointedWindows((Long) config.get(MonitorConfig.BROKER_METRICS_WINDOW_MS_CONFIG),
+                                             (Integer) config.get(MonitorConfig.NUM_BROKER_METRICS_WINDOWS_CONFIG),
+                                             KafkaMetricDef.brokerMetricDef());
+    Time time = (Time) config.get(SAMPLE_STORE_TIME_OBJECT_CONFIG);
+    _time = time == null ? new SystemTime() : time;
+    _lastCheckpointMs = _time.milliseconds();
+    _checkpointExecutor = Executors.newSingleThreadExecutor(new KafkaCruiseControlThreadFactory("LocalCheckpointSampleStore", true, LOG));
+    _checkpointPending = new AtomicBoolean(false);
+    _checkpointLock = new Object();
+    _closed = false;
+    _sampleLoader = null;
+    _restoredFromCheckpoint = false;
+    _loadingProgress = LOADING_PROGRESS;
+  }
+
+  @Override
+  public void storeSamples(MetricSampler.Samples samples) {
+    _delegate.storeSamples(samples);
+    long nowMs = _time.milliseconds();
+    synchronized (this) {
+      if (nowMs - _lastCheckpointMs < _checkpointIntervalMs || !_checkpointPending.compareAndSet(false, true)) {
+        return;
+      }
+      _lastCheckpointMs = nowMs;
+    }
+    try {
+      _checkpointExecutor.execute(this::periodicCheckpoint);
+    } catch (RejectedExecutionException ree) {
+      // The store is closed, and the final checkpoint has been written.
+      _checkpointPending.set(false);
+    }
+  }
+
+  private void periodicCheckpoint() {
+    try {
+      synchronized (_checkpointLock) {
+        if (!_closed) {
+          checkpoint();
+        }
+      }
+    } finally {
+      _checkpointPending.set(false);
+    }
+  }
+
+  @Override
+  public void loadSamples(SampleLoader sampleLoader) {
+    long startMs = _time.milliseconds();
+    if (restore(sampleLoader)) {
+      LOG.info("Restored {} partition metric samples and {} broker metric samples from checkpoint {} in {} ms.",
+               sampleLoader.partitionSampleCount(), sampleLoader.brokerSampleCount(), _checkpointFile,
+               _time.milliseconds() - startMs);
+    } else {
+      _delegate.loadSamples(sampleLoader);
+    }
+    // Only checkpoint the metric sample aggregators once their samples are loaded.
+    _sampleLoader = sampleLoader;
+  }
+
+  @Override
+  public double sampleLoadingProgress() {
+    return _restoredFromCheckpoint ? _loadingProgress : _delegate.sampleLoadingProgress();
+  }
+
+  @Override
+  public void evictSamplesBefore(long timestamp) {
+    _delegate.evictSamplesBefore(timestamp);
+  }
+
+  @Override
+  public void close() {
+    // Wait for a periodic checkpoint in progress, and skip the pending ones in favor of the final checkpoint.
+    synchronized (_checkpointLock) {
+      _closed = true;
+      checkpoint();
+    }
+    _checkpointExecutor.shutdown();
+    _delegate.close();
+  }
+
+  /**
+   * Stream the windows of the metric sample aggregators to a temporary file using the following protocol, and atomically
+   * replace the previous checkpoint with it.
+   * 1 byte - checkpoint version
+   * partition windows header, see {@link CheckpointedWindows#writeHeaderTo(DataOutputStream, MetricSampleAggregator)}
+   * broker windows header
+   * partition windows, see {@link CheckpointedWindows#writeTo(DataOutputStream, MetricSampleAggregator, ToIntFunction)}
+   * broker windows
+   * 8 bytes - CRC32 of the preceding bytes
+   *
+   * Failing to checkpoint is not fatal, as the samples remain available in the delegate sample store.
+   */
+  private void checkpoint() {
+    SampleLoader sampleLoader = _sampleLoader;
+    if (sampleLoader == null) {
+      LOG.debug("Skip writing checkpoint {} as the samples have not been loaded.", _checkpointFile);
+      return;
+    }
+    long startMs = _time.milliseconds();
+    long sizeInBytes;
+    try (FileChannel channel = FileChannel.open(_tempCheckpointFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                StandardOpenOption.TRUNCATE_EXISTING)) {
+      CRC32 crc = new CRC32();
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(Channels.newOutputStream(channel),
+                                                                                                   crc), IO_BUFFER_SIZE));
+      out.writeByte(CHECKPOINT_VERSION);
+      _partitionWindows.writeHeaderTo(out, sampleLoader.partitionMetricSampleAggregator());
+      _brokerWindows.writeHeaderTo(out, sampleLoader.brokerMetricSampleAggregator());
+      _partitionWindows.writeTo(out, sampleLoader.partitionMetricSampleAggregator(), entity -> entity.tp().partition());
+      _brokerWindows.writeTo(out, sampleLoader.brokerMetricSampleAggregator(), BrokerEntity::brokerId);
+      out.flush();
+      out.writeLong(crc.getValue());
+      out.flush();
+      channel.force(true);
+      sizeInBytes = channel.position();
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to write checkpoint {}.", _tempCheckpointFile, e);
+      return;
+    }
+    try {
+      Files.move(_tempCheckpointFile, _checkpointFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to replace checkpoint {} with {}.", _checkpointFile, _tempCheckpointFile, e);
+      return;
+    }
+    LOG.debug("Wrote checkpoint {} of {} bytes in {} ms.", _checkpointFile, sizeInBytes, _time.milliseconds() - startMs);
+  }
+
+  /**
+   * Restore the windows from the checkpoint to the given sample loader. The checksum of the checkpoint is verified before
+   * any sample is loaded. If restoring fails halfway, the metric sample aggregators are cleared, so that the samples can be
+   * loaded from the delegate sample store instead.
+   *
+   * @param sampleLoader The sample loader to load the restored samples to.
+   * @return {@code true} if the windows have been restored, {@code false} if there is no usable checkpoint.
+   */
+  private boolean restore(SampleLoader sampleLoader) {
+    if (!Files.exists(_checkpointFile)) {
+      LOG.info("Loading samples from the delegate sample store as there is no checkpoint {}.", _checkpointFile);
+      return false;
+    }
+    try {
+      if (!hasValidChecksum()) {
+        LOG.warn("Loading samples from the delegate sample store as checkpoint {} is corrupt.", _checkpointFile);
+        return false;
+      }
+    } catch (IOException e) {
+      LOG.warn("Loading samples from the delegate sample store as checkpoint {} cannot be read.", _checkpointFile, e);
+      return false;
+    }
+    try (FileChannel channel = FileChannel.open(_checkpointFile, StandardOpenOption.READ);
+         DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), IO_BUFFER_SIZE))) {
+      byte version = in.readByte();
+      if (version != CHECKPOINT_VERSION) {
+        LOG.warn("Loading samples from the delegate sample store as checkpoint {} has unsupported version {} (supported: {}).",
+                 _checkpointFile, version, CHECKPOINT_VERSION);
+        return false;
+      }
+      long nowMs = _time.milliseconds();
+      boolean restorablePartitionWindows = _partitionWindows.isRestorable(in, nowMs);
+      boolean restorableBrokerWindows = _brokerWindows.isRestorable(in, nowMs);
+      if (!restorablePartitionWindows || !restorableBrokerWindows) {
+        LOG.info("Loading samples from the delegate sample store as checkpoint {} cannot be restored.", _checkpointFile);
+        return false;
+      }
+
+      _restoredFromCheckpoint = true;
+      _loadingProgress = 0.0;
+      // The samples are restored in the order of their windows, so that the aggregators roll out windows as they did originally.
+      _partitionWindows.readFrom(in, new SampleReplayer<>(sampleLoader, channel, _partitionWindows,
+                                                         (topic, partition) -> new PartitionMetricSample(UNKNOWN_BROKER_ID,
+                                                                                                         new TopicPartition(topic, partition)),
+                                                         samples -> new MetricSampler.Samples(samples, Collections.emptySet())));
+      _brokerWindows.readFrom(in, new SampleReplayer<>(sampleLoader, channel, _brokerWindows,
+                                                      LocalCheckpointSampleStore::brokerMetricSample,
+                                                      samples -> new MetricSampler.Samples(Collections.emptySet(), samples)));
+      _loadingProgress = 1.0;
+      return true;
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Loading samples from the delegate sample store as checkpoint {} cannot be restored.", _checkpointFile, e);
+      sampleLoader.partitionMetricSampleAggregator().clear();
+      sampleLoader.brokerMetricSampleAggregator().clear();
+      _restoredFromCheckpoint = false;
+      return false;
+    }
+  }
+
+  /**
+   * @return {@code true} if the CRC32 at the end of the checkpoint matches the preceding bytes, {@code false} otherwise.
+   */
+  private boolean hasValidChecksum() throws IOException {
+    try (FileChannel channel = FileChannel.open(_checkpointFile, StandardOpenOption.READ)) {
+      long contentSize = channel.size() - Long.BYTES;
+      if (contentSize < 0) {
+        return false;
+      }
+      CRC32 crc = new CRC32();
+      ByteBuffer buffer = ByteBuffer.allocate(IO_BUFFER_SIZE);
+      long position = 0;
+      while (position < contentSize) {
+        buffer.clear().limit((int) Math.min(buffer.capacity(), contentSize - position));
+        position += read(channel, buffer, position);
+        crc.update(buffer.flip());
+      }
+      buffer.clear().limit(Long.BYTES);
+      while (buffer.hasRemaining()) {
+        position += read(channel, buffer, position);
+      }
+      return crc.getValue() == buffer.flip().getLong();
+    }
+  }
+
+  private static int read(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    int numBytes = channel.read(buffer, position);
+    if (numBytes < 0) {
+      throw new EOFException("Unexpected end of checkpoint at position " + position);
+    }
+    return numBytes;
+  }
+
+  private static BrokerMetricSample brokerMetricSample(String host, int brokerId) {
+    try {
+      return new BrokerMetricSample(host, brokerId, BrokerMetricSample.LATEST_SUPPORTED_VERSION);
+    } catch (UnknownVersionException e) {
+      // The latest supported version is always supported.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * A consumer of the raw values of an entity in a window read from the checkpoint.
+   */
+  @FunctionalInterface
+  interface RawValuesConsumer {
+    void accept(long windowIndex, String group, int id, byte numSamples, float[] values) throws IOException;
+  }
+
+  /**
+   * Loads as many samples for the raw values of each entity in each window as have been added to the metric sample
+   * aggregators, each of which is aggregated into the same raw values.
+   *
+   * @param <S> The type of the samples.
+   */
+  private class SampleReplayer<S extends MetricSample<?, ?>> implements RawValuesConsumer {
+    private final SampleLoader _sampleLoader;
+    private final FileChannel _channel;
+    private final CheckpointedWindows _windows;
+    private final BiFunction<String, Integer, S> _sampleSupplier;
+    private final Function<Set<S>, MetricSampler.Samples> _samplesSupplier;
+    private Set<S> _samples;
+
+    SampleReplayer(SampleLoader sampleLoader,
+                   FileChannel channel,
+                   CheckpointedWindows windows,
+                   BiFunction<String, Integer, S> sampleSupplier,
+                   Function<Set<S>, MetricSampler.Samples> samplesSupplier) {
+      _sampleLoader = sampleLoader;
+      _channel = channel;
+      _windows = windows;
+      _sampleSupplier = sampleSupplier;
+      _samplesSupplier = samplesSupplier;
+      _samples = new HashSet<>();
+    }
+
+    @Override
+    public void accept(long windowIndex, String group, int id, byte numSamples, float[] values) throws IOException {
+      if (windowIndex == END_OF_WINDOWS) {
+        flush();
+        return;
+      }
+      for (int i = 0; i < numSamples; i++) {
+        S sample = _sampleSupplier.apply(group, id);
+        for (MetricInfo info : _windows._metricDef.all()) {
+          float value = values[info.id()];
+          if (!Float.isNaN(value)) {
+            sample.record(info, info.aggregationFunction() == AggregationFunction.AVG ? (double) value / numSamples : value);
+          }
+        }
+        sample.close(_windows.windowStartMs(windowIndex));
+        _samples.add(sample);
+      }
+      if (_samples.size() >= RESTORE_BATCH_SIZE) {
+        flush();
+      }
+    }
+
+    private void flush() throws IOException {
+      if (!_samples.isEmpty()) {
+        _sampleLoader.loadSamples(_samplesSupplier.apply(_samples));
+        _samples = new HashSet<>();
+      }
+      _loadingProgress = Math.min(1.0, (double) _channel.position() / _channel.size());
+    }
+  }
+
+  /**
+   * The checkpointed windows of the samples of a type.
+   */
+  static class CheckpointedWindows {
+    private final long _windowMs;
+    // Keep one more window for the active window, as the metric sample aggregators do.
+    private final int _numWindowsToKeep;
+    private final MetricDef _metricDef;
+
+    CheckpointedWindows(long windowMs, int numWindows, MetricDef metricDef) {
+      _windowMs = windowMs;
+      _numWindowsToKeep = numWindows + 1;
+      _metricDef = metricDef;
+    }
+
+    private long windowIndex(long timeMs) {
+      return timeMs / _windowMs + 1;
+    }
+
+    private long windowStartMs(long windowIndex) {
+      return (windowIndex - 1) * _windowMs;
+    }
+
+    /**
+     * Serialize the header of the windows of the given metric sample aggregator using the following protocol.
+     * 8 bytes - window size in milliseconds
+     * 4 bytes - number of metrics
+     * 8 bytes - index of the current window, or {@link #END_OF_WINDOWS} if there are no windows
+     *
+     * @param out The output to write the header to.
+     * @param aggregator The metric sample aggregator whose windows to write the header of.
+     */
+    void writeHeaderTo(DataOutputStream out, MetricSampleAggregator<?, ?> aggregator) throws IOException {
+      out.writeLong(_windowMs);
+      out.writeInt(_metricDef.size());
+      List<Long> windows = aggregator.allWindows();
+      out.writeLong(windows.isEmpty() ? END_OF_WINDOWS : windows.get(windows.size() - 1) / _windowMs);
+    }
+
+    /**
+     * Serialize the raw values of each entity in each window of the given metric sample aggregator, from the oldest to the
+     * newest window, using the following protocol, and end them with an 8-byte {@link #END_OF_WINDOWS}.
+     * 8 bytes - window index
+     * 1 byte - number of samples
+     * 4 bytes - group string length (-1 if null)
+     * group string bytes
+     * 4 bytes - id
+     * M times - 4 bytes raw value by metric id
+     *
+     * @param out The output to write the windows to.
+     * @param aggregator The metric sample aggregator whose windows to write.
+     * @param idFunction Gets the id of an entity within its group, i.e. the partition or the broker id.
+     * @param <E> The entity class.
+     */
+    <E extends Entity<String>> void writeTo(DataOutputStream out, MetricSampleAggregator<String, E> aggregator,
+                                            ToIntFunction<E> idFunction) throws IOException {
+      try {
+        aggregator.forEachRawValues((windowIndex, entity, numSamples, values) -> {
+          try {
+            out.writeLong(windowIndex);
+            out.writeByte(numSamples);
+            String group = entity.group();
+            if (group == null) {
+              out.writeInt(-1);
+            } else {
+              byte[] groupBytes = group.getBytes(UTF_8);
+              out.writeInt(groupBytes.length);
+              out.write(groupBytes);
+            }
+            out.writeInt(idFunction.applyAsInt(entity));
+            for (float value : values) {
+              out.writeFloat(value);
+            }
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      out.writeLong(END_OF_WINDOWS);
+    }
+
+    /**
+     * Deserialize the header of the windows, and check whether the windows can be restored.
+     *
+     * @param in The input to read the header from.
+     * @param nowMs The current time in milliseconds.
+     * @return {@code true} if the windows have the same size as the windows of this instance, and include a window that the
+     * metric sample aggregators would still retain, {@code false} otherwise.
+     */
+    boolean isRestorable(DataInputStream in, long nowMs) throws IOException {
+      long windowMs = in.readLong();
+      int numMetrics = in.readInt();
+      long currentWindowIndex = in.readLong();
+      if (numMetrics != _metricDef.size()) {
+        throw new IllegalArgumentException(String.format("Checkpoint has %d metrics (expected: %d).", numMetrics, _metricDef.size()));
+      }
+      if (windowMs != _windowMs) {
+        LOG.info("The window size changed from {} ms to {} ms after the checkpoint.", windowMs, _windowMs);
+        return false;
+      }
+      if (currentWindowIndex == END_OF_WINDOWS || currentWindowIndex <= windowIndex(nowMs) - _numWindowsToKeep) {
+        LOG.info("The windows of the checkpoint are older than the monitored period.");
+        return false;
+      }
+      return true;
+    }
+
+    /**
+     * Deserialize the raw values of each entity in each window from the given input, and pass them to the given consumer,
+     * including the final {@link #END_OF_WINDOWS}.
+     *
+     * @param in The input to read the windows from.
+     * @param consumer The consumer of the raw values.
+     */
+    void readFrom(DataInputStream in, RawValuesConsumer consumer) throws IOException {
+      float[] values = new float[_metricDef.size()];
+      long windowIndex;
+      while ((windowIndex = in.readLong()) != END_OF_WINDOWS) {
+        byte numSamples = in.readByte();
+        int groupLength = in.readInt();
+        String group = null;
+        if (groupLength >= 0) {
+          byte[] groupBytes = new byte[groupLength];
+          in.readFully(groupBytes);
+          group = new String(groupBytes, UTF_8);
+        }
+        int id = in.readInt();
+        for (int i = 0; i < values.length; i++) {
+          values[i] = in.readFloat();
+        }
+        consumer.accept(windowIndex, group, id, numSamples, values);
+      }
+      consumer.accept(END_OF_WINDOWS, null, 0, (byte) 0, values);
+    }
+  }
+}
@@ -77,6 +77,14 @@ public interface SampleStore extends CruiseControlConfigurable {
       ModelParameters.addMetricObservation(samples.brokerMetricSamples());
     }
 
+    KafkaPartitionMetricSampleAggregator partitionMetricSampleAggregator() {
+      return _partitionMetricSampleAggregator;
+    }
+
+    KafkaBrokerMetricSampleAggregator brokerMetricSampleAggregator() {
+      return _brokerMetricSampleAggregator;
+    }
+
     public long partitionSampleCount() {
       return _partitionMetricSampleAggregator.numSamples();
     }
@@ -43,6 +43,8 @@ public final class SamplingUtils {
   private static final String SKIP_BUILDING_SAMPLE_PREFIX = "Skip generating metric sample for ";
   public static final int UNRECOGNIZED_BROKER_ID = -1;
   public static final int LOADING_PROGRESS = -1;
+  // The time object that sample stores may use instead of the system time, e.g. to schedule periodic work.
+  public static final String SAMPLE_STORE_TIME_OBJECT_CONFIG = "sample.store.time.object";
 
   private SamplingUtils() {
   }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.monitor.sampling.holder;
+
+import com.linkedin.cruisecontrol.metricdef.MetricDef;
+import com.linkedin.cruisecontrol.metricdef.MetricInfo;
+import com.linkedin.kafka.cruisecontrol.metricsreporter.exception.UnknownVersionException;
+import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.ByteUtils;
+
+import static com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef.CPU_USAGE;
+import static com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef.DISK_USAGE;
+import static com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef.FETCH_RATE;
+import static com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef.LEADER_BYTES_IN;
+import static com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef.LEADER_BYTES_OUT;
+import static com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef.MESSAGE_IN_RATE;
+import static com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef.PRODUCE_RATE;
+import static com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef.REPLICATION_BYTES_IN_RATE;
+import static com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef.REPLICATION_BYTES_OUT_RATE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * A batch of partition metric samples from the same broker, which is serialized into a single record of the partition
+ * metric sample store. Compared to one {@link PartitionMetricSample#toBytes()} record per sample, the batch stores each
+ * topic name once, stores the partition ids and sample times as variable length integers, and stores the values of each
+ * metric next to each other, which compresses well.
+ *
+ * <p>The batch uses a version of its own that follows the versions of {@link PartitionMetricSample}, so that a reader
+ * that predates the batch ignores it as a sample of an unknown version, and a reader can tell a batch from a single
+ * sample by {@link #isBatch(byte[])}.</p>
+ */
+public final class PartitionMetricSampleBatch {
+  static final byte BATCH_VERSION = PartitionMetricSample.LATEST_SUPPORTED_VERSION + 1;
+  // The metrics of each sample in the order of their columns, which is the same as the order in a single sample.
+  private static final List<KafkaMetricDef> METRICS = List.of(CPU_USAGE, DISK_USAGE, LEADER_BYTES_IN, LEADER_BYTES_OUT, PRODUCE_RATE,
+                                                              FETCH_RATE, MESSAGE_IN_RATE, REPLICATION_BYTES_IN_RATE,
+                                                              REPLICATION_BYTES_OUT_RATE);
+
+  private PartitionMetricSampleBatch() {
+
+  }
+
+  /**
+   * @param bytes Serialized bytes of a partition metric sample store record.
+   * @return {@code true} if the given bytes are a serialized batch of partition metric samples, {@code false} if they are
+   * a single partition metric sample.
+   */
+  public static boolean isBatch(byte[] bytes) {
+    return bytes.length > 0 && bytes[0] == BATCH_VERSION;
+  }
+
+  /**
+   * Serialize the given partition metric samples of a broker using a columnar protocol.
+   * 1 byte  - version
+   * 4 bytes - brokerId
+   * 4 bytes - number of samples (N)
+   * 8 bytes - base sample time, i.e. the earliest sample time
+   * 4 bytes - number of topics (T)
+   * T times - varint topic string length, topic string bytes
+   * N times - varint topic index
+   * N times - varint partition id
+   * N times - varlong sample time minus base sample time
+   * N times - 8 bytes value, for each of the metrics of {@link PartitionMetricSample#toBytes()}
+   *
+   * @param brokerId The id of the broker from which the samples are from.
+   * @param samples Closed partition metric samples of the given broker.
+   * @return Serialized bytes.
+   */
+  public static byte[] toBytes(int brokerId, List<PartitionMetricSample> samples) {
+    MetricDef metricDef = KafkaMetricDef.commonMetricDef();
+    Map<String, Integer> topicIndexByTopic = new HashMap<>();
+    List<String> topics = new ArrayList<>();
+    long baseSampleTime = Long.MAX_VALUE;
+    for (PartitionMetricSample sample : samples) {
+      if (sample.brokerId() != brokerId) {
+        throw new IllegalArgumentException(String.format("Cannot add sample %s to the batch of broker %d.", sample, brokerId));
+      }
+      if (topicIndexByTopic.putIfAbsent(sample.entity().group(), topics.size()) == null) {
+        topics.add(sample.entity().group());
+      }
+      baseSampleTime = Math.min(baseSampleTime, sample.sampleTime());
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + samples.size() * (METRICS.size() * Double.BYTES + 8));
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(BATCH_VERSION);
+      out.writeInt(brokerId);
+      out.writeInt(samples.size());
+      out.writeLong(samples.isEmpty() ? 0L : baseSampleTime);
+      out.writeInt(topics.size());
+      for (String topic : topics) {
+        byte[] topicStringBytes = topic.getBytes(UTF_8);
+        ByteUtils.writeVarint(topicStringBytes.length, out);
+        out.write(topicStringBytes);
+      }
+      for (PartitionMetricSample sample : samples) {
+        ByteUtils.writeVarint(topicIndexByTopic.get(sample.entity().group()), out);
+      }
+      for (PartitionMetricSample sample : samples) {
+        ByteUtils.writeVarint(sample.entity().tp().partition(), out);
+      }
+      for (PartitionMetricSample sample : samples) {
+        ByteUtils.writeVarlong(sample.sampleTime() - baseSampleTime, out);
+      }
+      for (KafkaMetricDef metric : METRICS) {
+        short metricId = metricDef.metricInfo(metric.name()).id();
+        for (PartitionMetricSample sample : samples) {
+          out.writeDouble(sample.allMetricValues().get(metricId));
+        }
+      }
+    } catch (IOException e) {
+      // Writing to a byte array output stream never throws an IOException.
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Deserialize given byte array into the partition metric samples of a batch.
+   *
+   * @param bytes Byte array for a batch of partition metric samples.
+   * @return Partition metric samples in the order they were serialized.
+   */
+  public static List<PartitionMetricSample> fromBytes(byte[] bytes) throws UnknownVersionException {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    byte version = buffer.get();
+    if (version != BATCH_VERSION) {
+      throw new UnknownVersionException("Unsupported batch deserialization version: " + version + " (Supported: "
+                                        + BATCH_VERSION + ")");
+    }
+    int brokerId = buffer.getInt();
+    int numSamples = buffer.getInt();
+    long baseSampleTime = buffer.getLong();
+    String[] topics = new String[buffer.getInt()];
+    for (int i = 0; i < topics.length; i++) {
+      int length = ByteUtils.readVarint(buffer);
+      topics[i] = new String(bytes, buffer.position(), length, UTF_8);
+      buffer.position(buffer.position() + length);
+    }
+    int[] topicIndexes = new int[numSamples];
+    for (int i = 0; i < numSamples; i++) {
+      topicIndexes[i] = ByteUtils.readVarint(buffer);
+    }
+    List<PartitionMetricSample> samples = new ArrayList<>(numSamples);
+    for (int i = 0; i < numSamples; i++) {
+      samples.add(new PartitionMetricSample(brokerId, new TopicPartition(topics[topicIndexes[i]], ByteUtils.readVarint(buffer))));
+    }
+    long[] sampleTimes = new long[numSamples];
+    for (int i = 0; i < numSamples; i++) {
+      sampleTimes[i] = baseSampleTime + ByteUtils.readVarlong(buffer);
+    }
+    MetricDef metricDef = KafkaMetricDef.commonMetricDef();
+    for (KafkaMetricDef metric : METRICS) {
+      MetricInfo metricInfo = metricDef.metricInfo(metric.name());
+      for (PartitionMetricSample sample : samples) {
+        sample.record(metricInfo, buffer.getDouble());
+      }
+    }
+    for (int i = 0; i < numSamples; i++) {
+      samples.get(i).close(sampleTimes[i]);
+    }
+    return samples;
+  }
+}
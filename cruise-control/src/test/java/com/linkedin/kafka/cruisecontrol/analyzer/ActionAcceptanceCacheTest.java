@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.analyzer;
+
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.DiskCapacityGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.Goal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.ReplicaCapacityGoal;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.common.TestConstants;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig;
+import com.linkedin.kafka.cruisecontrol.model.Broker;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.model.Replica;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.apache.kafka.common.TopicPartition;
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit test for {@link ActionAcceptanceCache}.
+ */
+public class ActionAcceptanceCacheTest {
+  private static final TopicPartition T1_P0 = new TopicPartition(DeterministicCluster.T1, 0);
+
+  @Test
+  public void testCachedAcceptanceIsInvalidatedOnChange() {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    // A low disk capacity threshold, so that some of the replica movements are rejected.
+    props.setProperty(AnalyzerConfig.DISK_CAPACITY_THRESHOLD_CONFIG, "0.3");
+    BalancingConstraint balancingConstraint = new BalancingConstraint(new KafkaCruiseControlConfig(props));
+    List<Goal> goals = List.of(new DiskCapacityGoal(balancingConstraint), new ReplicaCapacityGoal(balancingConstraint));
+    ClusterModel clusterModel = DeterministicCluster.smallClusterModel(TestConstants.BROKER_CAPACITY);
+    ActionAcceptanceCache cache = new ActionAcceptanceCache(1000);
+
+    List<BalancingAction> actions = new ArrayList<>();
+    for (Broker sourceBroker : clusterModel.brokers()) {
+      for (Replica replica : sourceBroker.replicas()) {
+        for (Broker destinationBroker : clusterModel.brokers()) {
+          if (destinationBroker != sourceBroker) {
+            actions.add(new BalancingAction(replica.topicPartition(), sourceBroker.id(), destinationBroker.id(),
+                                            ActionType.INTER_BROKER_REPLICA_MOVEMENT));
+          }
+        }
+      }
+    }
+    // The first round computes the acceptances, the second round serves them from the cache.
+    for (int round = 0; round < 2; round++) {
+      assertSameAcceptance(goals, actions, clusterModel, cache);
+    }
+    assertEquals(actions.size() * goals.size(), cache.numMisses());
+    assertEquals(actions.size() * goals.size(), cache.numHits());
+    assertEquals(0, cache.numInvalidations());
+
+    // T1_P0: B0 (leader), B2 -> B1 (leader), B2 changes the hosts of B0 and B1, hence the acceptances of the actions
+    // involving either broker are recomputed.
+    clusterModel.relocateReplica(T1_P0, 0, 1);
+    List<BalancingAction> remainingActions = new ArrayList<>();
+    for (BalancingAction action : actions) {
+      if (!action.topicPartition().equals(T1_P0)) {
+        remainingActions.add(action);
+      }
+    }
+    long numInvalidated = remainingActions.stream().filter(a -> a.sourceBrokerId() <= 1 || a.destinationBrokerId() <= 1)
+                                          .count() * goals.size();
+    assertSameAcceptance(goals, remainingActions, clusterModel, cache);
+    assertEquals(numInvalidated, cache.numInvalidations());
+    assertEquals((long) (actions.size() + remainingActions.size()) * goals.size() - numInvalidated, cache.numHits());
+  }
+
+  @Test
+  public void testIntraBrokerActionIsNotCached() {
+    ClusterModel clusterModel = DeterministicCluster.unbalanced4();
+    Broker broker = clusterModel.broker(0);
+    BalancingAction action = new BalancingAction(T1_P0, broker.disk(TestConstants.LOGDIR0), broker.disk(TestConstants.LOGDIR1),
+                                                 ActionType.INTRA_BROKER_REPLICA_MOVEMENT);
+    Goal goal = EasyMock.mock(Goal.class);
+    EasyMock.expect(goal.actionAcceptance(action, clusterModel)).andReturn(ActionAcceptance.ACCEPT).times(2);
+    EasyMock.replay(goal);
+
+    ActionAcceptanceCache cache = new ActionAcceptanceCache(1000);
+    for (int round = 0; round < 2; round++) {
+      assertEquals(ActionAcceptance.ACCEPT, cache.actionAcceptance(goal, action, clusterModel));
+    }
+    assertEquals(0, cache.numHits() + cache.numMisses() + cache.numInvalidations());
+    EasyMock.verify(goal);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNonPositiveMaxNumCachedAcceptances() {
+    new ActionAcceptanceCache(0);
+  }
+
+  private static void assertSameAcceptance(List<Goal> goals,
+                                           List<BalancingAction> actions,
+                                           ClusterModel clusterModel,
+                                           ActionAcceptanceCache cache) {
+    for (BalancingAction action : actions) {
+      for (Goal goal : goals) {
+        assertEquals(action.toString(), goal.actionAcceptance(action, clusterModel), cache.actionAcceptance(goal, action, clusterModel));
+      }
+    }
+  }
+}
@@ -6,16 +6,21 @@ package com.linkedin.kafka.cruisecontrol.analyzer;
 
 import com.codahale.metrics.MetricRegistry;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.Goal;
+import com.linkedin.kafka.cruisecontrol.async.progress.OperationProgress;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
 import com.linkedin.kafka.cruisecontrol.common.TestConstants;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
+import com.linkedin.kafka.cruisecontrol.exception.KafkaCruiseControlException;
 import com.linkedin.kafka.cruisecontrol.executor.Executor;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
@@ -27,8 +32,12 @@ import org.easymock.EasyMock;
 import org.junit.Assert;
 import org.junit.Test;
 
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils.GOAL_OPTIMIZER_SENSOR;
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils.goalsByPriority;
+
 
 public class GoalOptimizerTest {
+  private static final String OPTIMIZATION_START_RATE = MetricRegistry.name(GOAL_OPTIMIZER_SENSOR, "optimization-start-rate");
 
   @Test
   public void testNoPreComputingThread() {
@@ -90,11 +99,86 @@ public class GoalOptimizerTest {
     EasyMock.verify(clusterModel);
   }
 
+  @Test
+  public void testMultiStartOptimization() throws KafkaCruiseControlException {
+    List<String> goalNames = List.of("ReplicaDistributionGoal", "LeaderReplicaDistributionGoal", "DiskUsageDistributionGoal");
+    int numOptimizationStarts = 4;
+    Properties properties = new Properties();
+    properties.setProperty(AnalyzerConfig.NUM_OPTIMIZATION_STARTS_CONFIG, Integer.toString(numOptimizationStarts));
+    KafkaCruiseControlConfig multiStartConfig = createConfig(properties);
+    MetricRegistry multiStartMetricRegistry = new MetricRegistry();
+    GoalOptimizer multiStartGoalOptimizer = createGoalOptimizer(properties, multiStartMetricRegistry);
+    KafkaCruiseControlConfig singleStartConfig = createConfig(new Properties());
+    GoalOptimizer singleStartGoalOptimizer = createGoalOptimizer();
+    OptimizationOptions optimizationOptions = new OptimizationOptions(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+    try {
+      OptimizerResult multiStartResult = multiStartGoalOptimizer.optimizations(
+          DeterministicCluster.mediumClusterModel(TestConstants.BROKER_CAPACITY), goalsByPriority(goalNames, multiStartConfig),
+          new OperationProgress(), null, optimizationOptions);
+      Assert.assertEquals(numOptimizationStarts, multiStartMetricRegistry.meter(OPTIMIZATION_START_RATE).getCount());
+
+      // The first start uses the natural broker order, and each additional start uses its index as the broker shuffle seed.
+      // Hence, each start is reproducible by a single start optimization, and the best of them must have been selected.
+      double bestSingleStartScore = Double.NEGATIVE_INFINITY;
+      for (int start = 0; start < numOptimizationStarts; start++) {
+        OptimizationOptions optimizationOptionsForStart =
+            OptimizationOptions.withBrokerShuffleSeed(optimizationOptions, start == 0 ? null : (long) start);
+        OptimizerResult singleStartResult = singleStartGoalOptimizer.optimizations(
+            DeterministicCluster.mediumClusterModel(TestConstants.BROKER_CAPACITY), goalsByPriority(goalNames, singleStartConfig),
+            new OperationProgress(), null, optimizationOptionsForStart);
+        Assert.assertTrue(String.format("Selected result is worse than the result of start %d.", start),
+                          multiStartResult.onDemandBalancednessScoreAfter() >= singleStartResult.onDemandBalancednessScoreAfter());
+        bestSingleStartScore = Math.max(bestSingleStartScore, singleStartResult.onDemandBalancednessScoreAfter());
+      }
+      Assert.assertEquals(bestSingleStartScore, multiStartResult.onDemandBalancednessScoreAfter(), 0.0);
+    } finally {
+      multiStartGoalOptimizer.shutdown();
+      singleStartGoalOptimizer.shutdown();
+    }
+  }
+
+  @Test
+  public void testCachedActionAcceptance() throws KafkaCruiseControlException {
+    List<String> goalNames = List.of("ReplicaDistributionGoal", "PotentialNwOutGoal", "LeaderReplicaDistributionGoal",
+                                     "DiskUsageDistributionGoal", "LeaderBytesInDistributionGoal");
+    Properties properties = new Properties();
+    properties.setProperty(AnalyzerConfig.NUM_CACHED_ACTION_ACCEPTANCES_CONFIG, "10000");
+    KafkaCruiseControlConfig cachingConfig = createConfig(properties);
+    GoalOptimizer cachingGoalOptimizer = createGoalOptimizer(properties);
+    KafkaCruiseControlConfig config = createConfig(new Properties());
+    GoalOptimizer goalOptimizer = createGoalOptimizer();
+    try {
+      ClusterModel cachingClusterModel = DeterministicCluster.mediumClusterModel(TestConstants.BROKER_CAPACITY);
+      OptimizerResult cachingResult = cachingGoalOptimizer.optimizations(cachingClusterModel, goalsByPriority(goalNames, cachingConfig),
+                                                                         new OperationProgress());
+      ClusterModel clusterModel = DeterministicCluster.mediumClusterModel(TestConstants.BROKER_CAPACITY);
+      OptimizerResult result = goalOptimizer.optimizations(clusterModel, goalsByPriority(goalNames, config), new OperationProgress());
+
+      // Cached acceptances are the same as the computed ones, hence the optimization yields the same result.
+      Assert.assertEquals(result.goalProposals(), cachingResult.goalProposals());
+      Assert.assertEquals(clusterModel.getReplicaDistribution(), cachingClusterModel.getReplicaDistribution());
+      Assert.assertEquals(result.violatedGoalsAfterOptimization(), cachingResult.violatedGoalsAfterOptimization());
+      Assert.assertNull(cachingClusterModel.actionAcceptanceCache());
+    } finally {
+      cachingGoalOptimizer.shutdown();
+      goalOptimizer.shutdown();
+    }
+  }
+
   private GoalOptimizer createGoalOptimizer() {
     return createGoalOptimizer(new Properties());
   }
 
   private GoalOptimizer createGoalOptimizer(Properties overrideProps) {
+    return createGoalOptimizer(overrideProps, new MetricRegistry());
+  }
+
+  private GoalOptimizer createGoalOptimizer(Properties overrideProps, MetricRegistry metricRegistry) {
+    return new GoalOptimizer(createConfig(overrideProps), EasyMock.mock(LoadMonitor.class), new SystemTime(), metricRegistry,
+                             EasyMock.mock(Executor.class), EasyMock.mock(AdminClient.class));
+  }
+
+  private KafkaCruiseControlConfig createConfig(Properties overrideProps) {
     Properties props = new Properties();
     props.setProperty(MonitorConfig.BOOTSTRAP_SERVERS_CONFIG, "bootstrap.servers");
     props.setProperty(ExecutorConfig.ZOOKEEPER_CONNECT_CONFIG, "connect:1234");
@@ -104,9 +188,6 @@ public class GoalOptimizerTest {
             TestConstants.DEFAULT_BROKER_SET_RESOLVER_FILE)).getFile();
     props.setProperty(AnalyzerConfig.BROKER_SET_CONFIG_FILE_CONFIG, brokerSetsDataFile);
     props.putAll(overrideProps);
-    KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(props);
-
-    return new GoalOptimizer(config, EasyMock.mock(LoadMonitor.class), new SystemTime(), new MetricRegistry(),
-                             EasyMock.mock(Executor.class), EasyMock.mock(AdminClient.class));
+    return new KafkaCruiseControlConfig(props);
   }
 }
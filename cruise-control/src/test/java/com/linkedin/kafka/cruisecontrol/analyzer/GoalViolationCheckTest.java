@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.analyzer;
+
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.CpuCapacityGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.CpuUsageDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.DiskCapacityGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.DiskUsageDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.Goal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.LeaderBytesInDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.LeaderReplicaDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.NetworkInboundCapacityGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.NetworkInboundUsageDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.NetworkOutboundCapacityGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.NetworkOutboundUsageDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.PotentialNwOutGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.RackAwareDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.RackAwareGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.ReplicaCapacityGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.ReplicaDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.TopicReplicaDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.exception.OptimizationFailureException;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for checking goal violations without optimization -- i.e. {@link Goal#isViolated(ClusterModel, OptimizationOptions)}.
+ */
+@RunWith(Parameterized.class)
+public class GoalViolationCheckTest {
+  private static final OptimizationOptions OPTIMIZATION_OPTIONS =
+      new OptimizationOptions(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+  private final Class<? extends Goal> _goalClass;
+  private final Supplier<ClusterModel> _clusterModelSupplier;
+
+  public GoalViolationCheckTest(Class<? extends Goal> goalClass, Supplier<ClusterModel> clusterModelSupplier) {
+    _goalClass = goalClass;
+    _clusterModelSupplier = clusterModelSupplier;
+  }
+
+  /**
+   * Populate parameters for the parameterized test.
+   *
+   * @return Parameters for the parameterized test.
+   */
+  @Parameterized.Parameters(name = "{index}: {0}")
+  public static Collection<Object[]> data() {
+    List<Class<? extends Goal>> goalClasses = Arrays.asList(RackAwareGoal.class,
+                                                            RackAwareDistributionGoal.class,
+                                                            ReplicaCapacityGoal.class,
+                                                            DiskCapacityGoal.class,
+                                                            NetworkInboundCapacityGoal.class,
+                                                            NetworkOutboundCapacityGoal.class,
+                                                            CpuCapacityGoal.class,
+                                                            ReplicaDistributionGoal.class,
+                                                            PotentialNwOutGoal.class,
+                                                            DiskUsageDistributionGoal.class,
+                                                            NetworkInboundUsageDistributionGoal.class,
+                                                            NetworkOutboundUsageDistributionGoal.class,
+                                                            CpuUsageDistributionGoal.class,
+                                                            TopicReplicaDistributionGoal.class,
+                                                            LeaderReplicaDistributionGoal.class,
+                                                            LeaderBytesInDistributionGoal.class);
+    List<Supplier<ClusterModel>> clusterModelSuppliers = Arrays.asList(DeterministicCluster::unbalanced,
+                                                                       DeterministicCluster::unbalanced2,
+                                                                       DeterministicCluster::unbalanced3,
+                                                                       DeterministicCluster::rackAwareSatisfiable,
+                                                                       DeterministicCluster::rackAwareSatisfiable2);
+    Collection<Object[]> params = new ArrayList<>();
+    for (Class<? extends Goal> goalClass : goalClasses) {
+      for (Supplier<ClusterModel> clusterModelSupplier : clusterModelSuppliers) {
+        params.add(new Object[]{goalClass, clusterModelSupplier});
+      }
+    }
+    return params;
+  }
+
+  @Test
+  public void testViolationCheckIsConsistentWithOptimization() throws Exception {
+    // Check the violation.
+    ClusterModel clusterModel = _clusterModelSupplier.get();
+    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+    Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+    boolean isViolated = AnalyzerUnitTestUtils.goal(_goalClass).isViolated(clusterModel, OPTIMIZATION_OPTIONS);
+    // The check must not modify the cluster model.
+    assertEquals(initReplicaDistribution, clusterModel.getReplicaDistribution());
+    assertEquals(initLeaderDistribution, clusterModel.getLeaderDistribution());
+
+    // Optimize the same cluster.
+    clusterModel = _clusterModelSupplier.get();
+    boolean hasDiff;
+    try {
+      AnalyzerUnitTestUtils.goal(_goalClass).optimize(clusterModel, Collections.emptySet(), OPTIMIZATION_OPTIONS);
+      hasDiff = AnalyzerUtils.hasDiff(initReplicaDistribution, initLeaderDistribution, clusterModel);
+    } catch (OptimizationFailureException ofe) {
+      hasDiff = true;
+    }
+    // A goal that is not violated must not generate any proposal or fail the optimization.
+    if (hasDiff) {
+      assertTrue(String.format("%s is violated, but the check reported no violation.", _goalClass.getSimpleName()), isViolated);
+    }
+  }
+
+  @Test
+  public void testNoViolationInBalancedCluster() throws Exception {
+    // The optimization of a balanced cluster must not generate any proposal.
+    ClusterModel clusterModel = DeterministicCluster.balanced();
+    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+    Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+    AnalyzerUnitTestUtils.goal(_goalClass).optimize(clusterModel, Collections.emptySet(), OPTIMIZATION_OPTIONS);
+    assertFalse(AnalyzerUtils.hasDiff(initReplicaDistribution, initLeaderDistribution, clusterModel));
+
+    // The goal is violated if and only if it is violated on any of the brokers to balance; hence, it is not violated on any
+    // broker of the balanced cluster either.
+    assertFalse(String.format("%s is not violated, but the check reported a violation.", _goalClass.getSimpleName()),
+                AnalyzerUnitTestUtils.goal(_goalClass).isViolated(DeterministicCluster.balanced(), OPTIMIZATION_OPTIONS));
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.analyzer.goals;
+
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.ActionAcceptance;
+import com.linkedin.kafka.cruisecontrol.analyzer.ActionType;
+import com.linkedin.kafka.cruisecontrol.analyzer.BalancingAction;
+import com.linkedin.kafka.cruisecontrol.analyzer.BalancingConstraint;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.common.TestConstants;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig;
+import com.linkedin.kafka.cruisecontrol.model.Broker;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.model.Replica;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+
+/**
+ * Unit test for {@link CandidateBrokerFilter}.
+ */
+public class CandidateBrokerFilterTest {
+
+  @Test
+  public void testNoCapacityGoal() {
+    BalancingConstraint balancingConstraint = balancingConstraint();
+    ClusterModel clusterModel = DeterministicCluster.smallClusterModel(TestConstants.BROKER_CAPACITY);
+    Replica replica = clusterModel.brokers().iterator().next().replicas().iterator().next();
+    assertNull(CandidateBrokerFilter.forReplicaMovement(replica, new ReplicaDistributionGoal(balancingConstraint),
+                                                        Set.of(new RackAwareGoal())));
+  }
+
+  @Test
+  public void testHeadroomMatchesActionAcceptance() {
+    BalancingConstraint balancingConstraint = balancingConstraint();
+    ClusterModel clusterModel = DeterministicCluster.mediumClusterModel(TestConstants.BROKER_CAPACITY);
+    Goal currentGoal = new CpuCapacityGoal(balancingConstraint);
+    Set<Goal> optimizedGoals = new LinkedHashSet<>(List.of(new DiskCapacityGoal(balancingConstraint),
+                                                           new NetworkInboundCapacityGoal(balancingConstraint),
+                                                           new NetworkOutboundCapacityGoal(balancingConstraint)));
+    for (Broker sourceBroker : clusterModel.brokers()) {
+      for (Replica replica : sourceBroker.replicas()) {
+        CandidateBrokerFilter filter = CandidateBrokerFilter.forReplicaMovement(replica, currentGoal, optimizedGoals);
+        for (Broker destinationBroker : clusterModel.brokers()) {
+          BalancingAction action = new BalancingAction(replica.topicPartition(), sourceBroker.id(), destinationBroker.id(),
+                                                       ActionType.INTER_BROKER_REPLICA_MOVEMENT);
+          boolean accepted = currentGoal.actionAcceptance(action, clusterModel) == ActionAcceptance.ACCEPT
+                             && optimizedGoals.stream().allMatch(g -> g.actionAcceptance(action, clusterModel) == ActionAcceptance.ACCEPT);
+          assertEquals(action.toString(), accepted, filter.hasHeadroom(destinationBroker));
+        }
+      }
+    }
+  }
+
+  private static BalancingConstraint balancingConstraint() {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    // Low capacity thresholds, so that some of the brokers lack the headroom for some of the replicas.
+    for (Resource resource : Resource.cachedValues()) {
+      props.setProperty(capacityThresholdConfig(resource), "0.3");
+    }
+    return new BalancingConstraint(new KafkaCruiseControlConfig(props));
+  }
+
+  private static String capacityThresholdConfig(Resource resource) {
+    switch (resource) {
+      case CPU:
+        return AnalyzerConfig.CPU_CAPACITY_THRESHOLD_CONFIG;
+      case DISK:
+        return AnalyzerConfig.DISK_CAPACITY_THRESHOLD_CONFIG;
+      case NW_IN:
+        return AnalyzerConfig.NETWORK_INBOUND_CAPACITY_THRESHOLD_CONFIG;
+      case NW_OUT:
+        return AnalyzerConfig.NETWORK_OUTBOUND_CAPACITY_THRESHOLD_CONFIG;
+      default:
+        throw new IllegalArgumentException("Unsupported resource " + resource);
+    }
+  }
+}
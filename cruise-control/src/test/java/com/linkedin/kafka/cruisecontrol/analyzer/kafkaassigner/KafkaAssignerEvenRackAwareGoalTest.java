@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.analyzer.kafkaassigner;
+
+import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizationOptions;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class KafkaAssignerEvenRackAwareGoalTest {
+  private static final OptimizationOptions OPTIMIZATION_OPTIONS =
+      new OptimizationOptions(Collections.emptySet(), Collections.emptySet(), Collections.emptySet());
+  private static final List<Supplier<ClusterModel>> CLUSTER_MODEL_SUPPLIERS = Arrays.asList(DeterministicCluster::unbalanced,
+                                                                                            DeterministicCluster::unbalanced2,
+                                                                                            DeterministicCluster::rackAwareSatisfiable,
+                                                                                            DeterministicCluster::rackAwareSatisfiable2,
+                                                                                            DeterministicCluster::balanced);
+
+  @Test
+  public void testViolationCheckIsConsistentWithOptimization() throws Exception {
+    for (Supplier<ClusterModel> clusterModelSupplier : CLUSTER_MODEL_SUPPLIERS) {
+      ClusterModel clusterModel = clusterModelSupplier.get();
+      Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+      Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+      boolean isViolated = new KafkaAssignerEvenRackAwareGoal().isViolated(clusterModel, OPTIMIZATION_OPTIONS);
+      // The check must not modify the cluster model.
+      assertFalse(AnalyzerUtils.hasDiff(initReplicaDistribution, initLeaderDistribution, clusterModel));
+
+      new KafkaAssignerEvenRackAwareGoal().optimize(clusterModel, Collections.emptySet(), OPTIMIZATION_OPTIONS);
+      if (AnalyzerUtils.hasDiff(initReplicaDistribution, initLeaderDistribution, clusterModel)) {
+        assertTrue("The optimization relocated replicas, but the check reported no violation.", isViolated);
+      }
+      // The optimized distribution is not violated.
+      assertFalse(new KafkaAssignerEvenRackAwareGoal().isViolated(clusterModel, OPTIMIZATION_OPTIONS));
+    }
+  }
+
+  @Test
+  public void testViolationWithUnsatisfiableRackAwareness() {
+    assertTrue(new KafkaAssignerEvenRackAwareGoal().isViolated(DeterministicCluster.rackAwareUnsatisfiable(), OPTIMIZATION_OPTIONS));
+  }
+}
@@ -219,6 +219,33 @@ public final class DeterministicCluster {
     return cluster;
   }
 
+  /**
+   * Three racks, six brokers, two topics with six partitions each, two replicas. The leader of each partition resides
+   * on the broker with the id of the partition and the follower on the next broker, which is on another rack. Hence, each
+   * broker has the same number of replicas and leaders of each topic, as well as the same load.
+   *
+   * @return Cluster model for the tests.
+   */
+  public static ClusterModel balanced() {
+    ClusterModel cluster = getHomogeneousCluster(RACK_BY_BROKER4, TestConstants.BROKER_CAPACITY, null);
+    int numBrokers = RACK_BY_BROKER4.size();
+    List<Long> windows = Collections.singletonList(1L);
+    for (String topic : Arrays.asList(T1, T2)) {
+      for (int partition = 0; partition < numBrokers; partition++) {
+        TopicPartition tp = new TopicPartition(topic, partition);
+        int leaderId = partition;
+        int followerId = (partition + 1) % numBrokers;
+        cluster.createReplica(RACK_BY_BROKER4.get(leaderId).toString(), leaderId, tp, 0, true);
+        cluster.createReplica(RACK_BY_BROKER4.get(followerId).toString(), followerId, tp, 1, false);
+        cluster.setReplicaLoad(RACK_BY_BROKER4.get(leaderId).toString(), leaderId, tp,
+                               getAggregatedMetricValues(10.0, 1000.0, 1000.0, 1000.0), windows);
+        cluster.setReplicaLoad(RACK_BY_BROKER4.get(followerId).toString(), followerId, tp,
+                               getAggregatedMetricValues(5.0, 1000.0, 0.0, 1000.0), windows);
+      }
+    }
+    return cluster;
+  }
+
   /**
    * Two racks, three brokers, one partition, two replicas. Replicas reside on brokers 0 and 1.
    *
@@ -25,6 +25,7 @@ import com.linkedin.kafka.cruisecontrol.monitor.ModelCompletenessRequirements;
 import com.linkedin.kafka.cruisecontrol.monitor.task.LoadMonitorTaskRunner;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
 import com.linkedin.kafka.cruisecontrol.servlet.response.stats.BrokerStats;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -92,6 +93,7 @@ public class AnomalyDetectorManagerTest {
   }
 
   private static void startRunnableDetectors(ScheduledExecutorService mockDetectorScheduler,
+                                             ScheduledExecutorService mockFailureDetectorScheduler,
                                              GoalViolationDetector mockGoalViolationDetector,
                                              MetricAnomalyDetector mockMetricAnomalyDetector,
                                              DiskFailureDetector mockDiskFailureDetector,
@@ -101,8 +103,9 @@ public class AnomalyDetectorManagerTest {
                                              ScheduledExecutorService executorService) {
     scheduleDetectorAtFixedRate(mockDetectorScheduler, mockGoalViolationDetector);
     scheduleDetectorAtFixedRate(mockDetectorScheduler, mockMetricAnomalyDetector);
-    scheduleDetectorAtFixedRate(mockDetectorScheduler, mockDiskFailureDetector);
-    scheduleDetectorAtFixedRate(mockDetectorScheduler, mockBrokerFailureDetector);
+    // Failure detectors are scheduled on the dedicated scheduler.
+    scheduleDetectorAtFixedRate(mockFailureDetectorScheduler, mockDiskFailureDetector);
+    scheduleDetectorAtFixedRate(mockFailureDetectorScheduler, mockBrokerFailureDetector);
     scheduleDetectorAtFixedRate(mockDetectorScheduler, mockTopicAnomalyDetector);
 
     // Starting maintenance event detector.
@@ -115,11 +118,16 @@ public class AnomalyDetectorManagerTest {
   }
 
   private static void shutdownDetector(ScheduledExecutorService mockDetectorScheduler,
+                                       ScheduledExecutorService mockFailureDetectorScheduler,
                                        ScheduledExecutorService executorService) throws InterruptedException {
-    mockDetectorScheduler.shutdown();
-    EasyMock.expectLastCall().andDelegateTo(executorService);
-    EasyMock.expect(mockDetectorScheduler.awaitTermination(MOCK_ANOMALY_DETECTOR_SHUTDOWN_MS, TimeUnit.MILLISECONDS)).andDelegateTo(executorService);
-    EasyMock.expect(mockDetectorScheduler.isTerminated()).andDelegateTo(executorService);
+    for (ScheduledExecutorService mockScheduler : Arrays.asList(mockDetectorScheduler, mockFailureDetectorScheduler)) {
+      mockScheduler.shutdown();
+      EasyMock.expectLastCall().andDelegateTo(executorService);
+      // Schedulers are awaited within a single shutdown deadline.
+      EasyMock.expect(mockScheduler.awaitTermination(EasyMock.leq(MOCK_ANOMALY_DETECTOR_SHUTDOWN_MS), EasyMock.eq(TimeUnit.MILLISECONDS)))
+              .andDelegateTo(executorService);
+      EasyMock.expect(mockScheduler.isTerminated()).andDelegateTo(executorService);
+    }
   }
 
   private static void replayCommonMocks(AnomalyNotifier mockAnomalyNotifier,
@@ -130,6 +138,7 @@ public class AnomalyDetectorManagerTest {
                                         MaintenanceEventDetector mockMaintenanceEventDetector,
                                         DiskFailureDetector mockDiskFailureDetector,
                                         ScheduledExecutorService mockDetectorScheduler,
+                                        ScheduledExecutorService mockFailureDetectorScheduler,
                                         KafkaCruiseControl mockKafkaCruiseControl) {
     EasyMock.replay(mockAnomalyNotifier);
     EasyMock.replay(mockBrokerFailureDetector);
@@ -139,6 +148,7 @@ public class AnomalyDetectorManagerTest {
     EasyMock.replay(mockMaintenanceEventDetector);
     EasyMock.replay(mockDiskFailureDetector);
     EasyMock.replay(mockDetectorScheduler);
+    EasyMock.replay(mockFailureDetectorScheduler);
     EasyMock.replay(mockKafkaCruiseControl);
   }
 
@@ -168,6 +178,7 @@ public class AnomalyDetectorManagerTest {
     MaintenanceEventDetector mockMaintenanceEventDetector = EasyMock.createNiceMock(MaintenanceEventDetector.class);
     DiskFailureDetector mockDiskFailureDetector = EasyMock.createNiceMock(DiskFailureDetector.class);
     ScheduledExecutorService mockDetectorScheduler = EasyMock.mock(ScheduledExecutorService.class);
+    ScheduledExecutorService mockFailureDetectorScheduler = EasyMock.mock(ScheduledExecutorService.class);
     ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
     KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
     EasyMock.expect(mockAnomalyNotifier.onBrokerFailure(EasyMock.isA(BrokerFailures.class)))
@@ -176,26 +187,27 @@ public class AnomalyDetectorManagerTest {
     Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
     KafkaCruiseControlConfig kafkaCruiseControlConfig = new KafkaCruiseControlConfig(props);
     EasyMock.expect(mockKafkaCruiseControl.config()).andReturn(kafkaCruiseControlConfig).times(1, 4);
-    startRunnableDetectors(mockDetectorScheduler, mockGoalViolationDetector, mockMetricAnomalyDetector, mockDiskFailureDetector,
-                           mockBrokerFailureDetector, mockTopicAnomalyDetector, mockMaintenanceEventDetector, executorService);
+    startRunnableDetectors(mockDetectorScheduler, mockFailureDetectorScheduler, mockGoalViolationDetector, mockMetricAnomalyDetector,
+                           mockDiskFailureDetector, mockBrokerFailureDetector, mockTopicAnomalyDetector, mockMaintenanceEventDetector,
+                           executorService);
     // Schedule a delayed check
-    EasyMock.expect(mockDetectorScheduler.schedule(EasyMock.isA(Runnable.class),
-                                                   EasyMock.eq(MOCK_DELAY_CHECK_MS),
-                                                   EasyMock.eq(TimeUnit.MILLISECONDS)))
+    EasyMock.expect(mockFailureDetectorScheduler.schedule(EasyMock.isA(Runnable.class),
+                                                          EasyMock.eq(MOCK_DELAY_CHECK_MS),
+                                                          EasyMock.eq(TimeUnit.MILLISECONDS)))
             .andReturn(null);
-    shutdownDetector(mockDetectorScheduler, executorService);
+    shutdownDetector(mockDetectorScheduler, mockFailureDetectorScheduler, executorService);
 
     // The following state are used to test the delayed check when executor is idle.
     EasyMock.expect(mockKafkaCruiseControl.executionState()).andReturn(ExecutorState.State.NO_TASK_IN_PROGRESS);
     replayCommonMocks(mockAnomalyNotifier, mockBrokerFailureDetector, mockGoalViolationDetector, mockMetricAnomalyDetector,
                       mockTopicAnomalyDetector, mockMaintenanceEventDetector, mockDiskFailureDetector, mockDetectorScheduler,
-                      mockKafkaCruiseControl);
+                      mockFailureDetectorScheduler, mockKafkaCruiseControl);
 
     AnomalyDetectorManager anomalyDetectorManager
         = new AnomalyDetectorManager(anomalies, MOCK_ANOMALY_DETECTION_INTERVAL_MS, mockKafkaCruiseControl,
                                      mockAnomalyNotifier, mockGoalViolationDetector, mockBrokerFailureDetector,
                                      mockMetricAnomalyDetector, mockDiskFailureDetector, mockTopicAnomalyDetector,
-                                     mockMaintenanceEventDetector, mockDetectorScheduler);
+                                     mockMaintenanceEventDetector, mockDetectorScheduler, mockFailureDetectorScheduler);
 
     try {
       anomalyDetectorManager.startDetection();
@@ -221,7 +233,7 @@ public class AnomalyDetectorManagerTest {
     } finally {
       executorService.shutdown();
     }
-    EasyMock.verify(mockAnomalyNotifier, mockDetectorScheduler, mockKafkaCruiseControl, mockBrokerFailureDetector,
+    EasyMock.verify(mockAnomalyNotifier, mockDetectorScheduler, mockFailureDetectorScheduler, mockKafkaCruiseControl, mockBrokerFailureDetector,
                     mockGoalViolationDetector, mockMetricAnomalyDetector, mockTopicAnomalyDetector, mockMaintenanceEventDetector,
                     mockDiskFailureDetector);
   }
@@ -262,6 +274,7 @@ public class AnomalyDetectorManagerTest {
     MaintenanceEventDetector mockMaintenanceEventDetector = EasyMock.createNiceMock(MaintenanceEventDetector.class);
     DiskFailureDetector mockDiskFailureDetector = EasyMock.createNiceMock(DiskFailureDetector.class);
     ScheduledExecutorService mockDetectorScheduler = EasyMock.mock(ScheduledExecutorService.class);
+    ScheduledExecutorService mockFailureDetectorScheduler = EasyMock.mock(ScheduledExecutorService.class);
     ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
     KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
     ModelCompletenessRequirements mockModelCompletenessRequirements = EasyMock.mock(ModelCompletenessRequirements.class);
@@ -280,9 +293,10 @@ public class AnomalyDetectorManagerTest {
     EasyMock.expect(mockKafkaCruiseControl.getLoadMonitorTaskRunnerState())
             .andReturn(LoadMonitorTaskRunner.LoadMonitorTaskRunnerState.RUNNING).times(1, 2);
 
-    startRunnableDetectors(mockDetectorScheduler, mockGoalViolationDetector, mockMetricAnomalyDetector, mockDiskFailureDetector,
-                           mockBrokerFailureDetector, mockTopicAnomalyDetector, mockMaintenanceEventDetector, executorService);
-    shutdownDetector(mockDetectorScheduler, executorService);
+    startRunnableDetectors(mockDetectorScheduler, mockFailureDetectorScheduler, mockGoalViolationDetector, mockMetricAnomalyDetector,
+                           mockDiskFailureDetector, mockBrokerFailureDetector, mockTopicAnomalyDetector, mockMaintenanceEventDetector,
+                           executorService);
+    shutdownDetector(mockDetectorScheduler, mockFailureDetectorScheduler, executorService);
 
     // The following state are used to test the delayed check when executor is idle.
     EasyMock.expect(mockKafkaCruiseControl.executionState()).andReturn(ExecutorState.State.NO_TASK_IN_PROGRESS);
@@ -422,9 +436,9 @@ public class AnomalyDetectorManagerTest {
       EasyMock.expect(mockAnomalyNotifier.onTopicAnomaly(EasyMock.isA(TopicAnomaly.class))).andReturn(AnomalyNotificationResult.fix());
     }
     EasyMock.expect(mockKafkaCruiseControl.meetCompletenessRequirements(Collections.emptyList())).andReturn(true);
-    EasyMock.expect(mockDetectorScheduler.schedule(EasyMock.isA(Runnable.class),
-                                                   EasyMock.eq(0L),
-                                                   EasyMock.eq(TimeUnit.MILLISECONDS)))
+    EasyMock.expect(mockFailureDetectorScheduler.schedule(EasyMock.isA(Runnable.class),
+                                                          EasyMock.eq(0L),
+                                                          EasyMock.eq(TimeUnit.MILLISECONDS)))
             .andReturn(null);
 
     // Set generating proposals for execution.
@@ -432,14 +446,14 @@ public class AnomalyDetectorManagerTest {
 
     replayCommonMocks(mockAnomalyNotifier, mockBrokerFailureDetector, mockGoalViolationDetector, mockMetricAnomalyDetector,
                       mockTopicAnomalyDetector, mockMaintenanceEventDetector, mockDiskFailureDetector, mockDetectorScheduler,
-                      mockKafkaCruiseControl);
+                      mockFailureDetectorScheduler, mockKafkaCruiseControl);
     expectAndReplayFixMocks(mockOptimizerResult, mockBrokerStats);
 
     AnomalyDetectorManager anomalyDetectorManager
         = new AnomalyDetectorManager(anomalies, MOCK_ANOMALY_DETECTION_INTERVAL_MS, mockKafkaCruiseControl,
                                      mockAnomalyNotifier, mockGoalViolationDetector, mockBrokerFailureDetector,
                                      mockMetricAnomalyDetector, mockDiskFailureDetector, mockTopicAnomalyDetector,
-                                     mockMaintenanceEventDetector, mockDetectorScheduler);
+                                     mockMaintenanceEventDetector, mockDetectorScheduler, mockFailureDetectorScheduler);
 
     try {
       Map<String, Object> parameterConfigOverrides = new HashMap<>();
@@ -504,13 +518,13 @@ public class AnomalyDetectorManagerTest {
                    anomalyType == KafkaAnomalyType.METRIC_ANOMALY ? 1 : 0);
       assertEquals(anomalyDetectorState.recentAnomaliesByType().get(KafkaAnomalyType.TOPIC_ANOMALY).size(),
                    anomalyType == KafkaAnomalyType.TOPIC_ANOMALY ? 1 : 0);
-      EasyMock.verify(mockAnomalyNotifier, mockDetectorScheduler, mockKafkaCruiseControl, mockBrokerFailureDetector,
+      EasyMock.verify(mockAnomalyNotifier, mockDetectorScheduler, mockFailureDetectorScheduler, mockKafkaCruiseControl, mockBrokerFailureDetector,
                       mockGoalViolationDetector, mockMetricAnomalyDetector, mockTopicAnomalyDetector, mockMaintenanceEventDetector,
                       mockDiskFailureDetector);
     } finally {
       executorService.shutdown();
     }
-    EasyMock.verify(mockAnomalyNotifier, mockDetectorScheduler, mockKafkaCruiseControl, mockBrokerFailureDetector,
+    EasyMock.verify(mockAnomalyNotifier, mockDetectorScheduler, mockFailureDetectorScheduler, mockKafkaCruiseControl, mockBrokerFailureDetector,
                     mockGoalViolationDetector, mockMetricAnomalyDetector, mockTopicAnomalyDetector, mockMaintenanceEventDetector,
                     mockDiskFailureDetector);
   }
@@ -527,15 +541,17 @@ public class AnomalyDetectorManagerTest {
     MaintenanceEventDetector mockMaintenanceEventDetector = EasyMock.createNiceMock(MaintenanceEventDetector.class);
     DiskFailureDetector mockDiskFailureDetector = EasyMock.createNiceMock(DiskFailureDetector.class);
     ScheduledExecutorService mockDetectorScheduler = EasyMock.mock(ScheduledExecutorService.class);
+    ScheduledExecutorService mockFailureDetectorScheduler = EasyMock.mock(ScheduledExecutorService.class);
     ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
     KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
     Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
     KafkaCruiseControlConfig kafkaCruiseControlConfig = new KafkaCruiseControlConfig(props);
     EasyMock.expect(mockKafkaCruiseControl.config()).andReturn(kafkaCruiseControlConfig).times(2);
 
-    startRunnableDetectors(mockDetectorScheduler, mockGoalViolationDetector, mockMetricAnomalyDetector, mockDiskFailureDetector,
-                           mockBrokerFailureDetector, mockTopicAnomalyDetector, mockMaintenanceEventDetector, executorService);
-    shutdownDetector(mockDetectorScheduler, executorService);
+    startRunnableDetectors(mockDetectorScheduler, mockFailureDetectorScheduler, mockGoalViolationDetector, mockMetricAnomalyDetector,
+                           mockDiskFailureDetector, mockBrokerFailureDetector, mockTopicAnomalyDetector, mockMaintenanceEventDetector,
+                           executorService);
+    shutdownDetector(mockDetectorScheduler, mockFailureDetectorScheduler, executorService);
     EasyMock.expect(mockAnomalyNotifier.selfHealingEnabledRatio()).andReturn(MOCK_SELF_HEALING_ENABLED_RATIO);
 
     // The following state are used to test the delayed check when executor is idle.
@@ -544,13 +560,13 @@ public class AnomalyDetectorManagerTest {
 
     replayCommonMocks(mockAnomalyNotifier, mockBrokerFailureDetector, mockGoalViolationDetector, mockMetricAnomalyDetector,
                       mockTopicAnomalyDetector, mockMaintenanceEventDetector, mockDiskFailureDetector, mockDetectorScheduler,
-                      mockKafkaCruiseControl);
+                      mockFailureDetectorScheduler, mockKafkaCruiseControl);
 
     AnomalyDetectorManager anomalyDetectorManager
         = new AnomalyDetectorManager(anomalies, MOCK_ANOMALY_DETECTION_INTERVAL_MS, mockKafkaCruiseControl,
                                      mockAnomalyNotifier, mockGoalViolationDetector, mockBrokerFailureDetector,
                                      mockMetricAnomalyDetector, mockDiskFailureDetector, mockTopicAnomalyDetector,
-                                     mockMaintenanceEventDetector, mockDetectorScheduler);
+                                     mockMaintenanceEventDetector, mockDetectorScheduler, mockFailureDetectorScheduler);
 
     try {
       anomalyDetectorManager.startDetection();
@@ -574,7 +590,7 @@ public class AnomalyDetectorManagerTest {
     } finally {
       executorService.shutdown();
     }
-    EasyMock.verify(mockAnomalyNotifier, mockDetectorScheduler, mockKafkaCruiseControl, mockBrokerFailureDetector,
+    EasyMock.verify(mockAnomalyNotifier, mockDetectorScheduler, mockFailureDetectorScheduler, mockKafkaCruiseControl, mockBrokerFailureDetector,
                     mockGoalViolationDetector, mockMetricAnomalyDetector, mockTopicAnomalyDetector, mockMaintenanceEventDetector,
                     mockDiskFailureDetector);
   }
@@ -593,12 +609,15 @@ public class AnomalyDetectorManagerTest {
     KafkaCruiseControl mockKafkaCruiseControl = EasyMock.createNiceMock(KafkaCruiseControl.class);
     ScheduledExecutorService detectorScheduler =
         Executors.newScheduledThreadPool(2, new KafkaCruiseControlThreadFactory("AnomalyDetector", false, null));
+    ScheduledExecutorService failureDetectorScheduler =
+        Executors.newScheduledThreadPool(2, new KafkaCruiseControlThreadFactory("FailureDetector", false, null));
 
     AnomalyDetectorManager anomalyDetectorManager
         = new AnomalyDetectorManager(anomalies, MOCK_ANOMALY_DETECTION_INTERVAL_MS,
                                      mockKafkaCruiseControl, mockAnomalyNotifier, mockGoalViolationDetector,
                                      mockBrokerFailureDetector, mockMetricAnomalyDetector, mockDiskFailureDetector,
-                                     mockTopicAnomalyDetector, mockMaintenanceEventDetector, detectorScheduler);
+                                     mockTopicAnomalyDetector, mockMaintenanceEventDetector, detectorScheduler,
+                                     failureDetectorScheduler);
 
     anomalyDetectorManager.shutdown();
     Thread t = new Thread(anomalyDetectorManager::shutdown);
@@ -607,5 +626,6 @@ public class AnomalyDetectorManagerTest {
     assertEquals(0, anomalyDetectorManager.numSelfHealingStarted());
     assertEquals(0, anomalyDetectorManager.numCheckedWithDelay());
     assertTrue(detectorScheduler.isTerminated());
+    assertTrue(failureDetectorScheduler.isTerminated());
   }
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.detector;
+
+import com.codahale.metrics.MetricRegistry;
+import com.linkedin.cruisecontrol.detector.Anomaly;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.analyzer.OptimizationOptions;
+import com.linkedin.kafka.cruisecontrol.analyzer.ProvisionResponse;
+import com.linkedin.kafka.cruisecontrol.analyzer.ProvisionStatus;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.Goal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.LeaderReplicaDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.RackAwareGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.ReplicaCapacityGoal;
+import com.linkedin.kafka.cruisecontrol.analyzer.goals.ReplicaDistributionGoal;
+import com.linkedin.kafka.cruisecontrol.async.progress.OperationProgress;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.AnomalyDetectorConfig;
+import com.linkedin.kafka.cruisecontrol.exception.OptimizationFailureException;
+import com.linkedin.kafka.cruisecontrol.executor.ExecutorState;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import com.linkedin.kafka.cruisecontrol.monitor.LoadMonitor;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelCompletenessRequirements;
+import com.linkedin.kafka.cruisecontrol.monitor.ModelGeneration;
+import com.linkedin.kafka.cruisecontrol.monitor.task.LoadMonitorTaskRunner;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.easymock.EasyMock;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils.MAX_BALANCEDNESS_SCORE;
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUtils.balancednessCostByGoal;
+import static com.linkedin.kafka.cruisecontrol.analyzer.goals.GoalUtils.MIN_NUM_VALID_WINDOWS_FOR_SELF_HEALING;
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.DETECTION_CONTEXT_OBJECT_CONFIG;
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.KAFKA_CRUISE_CONTROL_OBJECT_CONFIG;
+import static com.linkedin.kafka.cruisecontrol.detector.AnomalyDetectorUtils.anomalyComparator;
+import static com.linkedin.kafka.cruisecontrol.detector.PartitionSizeAnomalyFinder.SELF_HEALING_PARTITION_SIZE_THRESHOLD_MB_CONFIG;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link GoalViolationDetector}.
+ */
+public class GoalViolationDetectorTest {
+  private static final ModelGeneration MODEL_GENERATION = new ModelGeneration(0, 0L);
+  private static final ModelGeneration NEXT_MODEL_GENERATION = new ModelGeneration(1, 0L);
+  // The completeness requirements of the replica distribution goals and the partition size anomaly finder.
+  private static final ModelCompletenessRequirements REQUIREMENTS =
+      new ModelCompletenessRequirements(MIN_NUM_VALID_WINDOWS_FOR_SELF_HEALING, 0.0, true);
+  private static final double EPSILON = 1E-6;
+
+  @Test
+  public void testOneClusterModelPerModelGeneration() throws Exception {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(AnomalyDetectorConfig.ANOMALY_DETECTION_GOALS_CONFIG,
+                      ReplicaDistributionGoal.class.getName() + "," + LeaderReplicaDistributionGoal.class.getName());
+    KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(props);
+    AtomicReference<ModelGeneration> modelGeneration = new AtomicReference<>(MODEL_GENERATION);
+    KafkaCruiseControl mockKafkaCruiseControl = mockKafkaCruiseControl(config, modelGeneration);
+    // A single cluster model is expected to be generated for each model generation.
+    EasyMock.expect(mockKafkaCruiseControl.readOnlyClusterModel(EasyMock.eq(REQUIREMENTS), EasyMock.anyBoolean(),
+                                                                EasyMock.anyObject(OperationProgress.class)))
+            .andReturn(DeterministicCluster.unbalanced()).once()
+            .andReturn(new ClusterModel(NEXT_MODEL_GENERATION, 1.0)).once();
+    EasyMock.replay(mockKafkaCruiseControl);
+
+    DetectionContext detectionContext = new DetectionContext(mockKafkaCruiseControl);
+    Queue<Anomaly> anomalies = new PriorityBlockingQueue<>(1, anomalyComparator());
+    GoalViolationDetector goalViolationDetector = new GoalViolationDetector(anomalies, mockKafkaCruiseControl, detectionContext,
+                                                                            new MetricRegistry());
+    PartitionSizeAnomalyFinder partitionSizeAnomalyFinder = new PartitionSizeAnomalyFinder();
+    partitionSizeAnomalyFinder.configure(Map.of(KAFKA_CRUISE_CONTROL_OBJECT_CONFIG, mockKafkaCruiseControl,
+                                                DETECTION_CONTEXT_OBJECT_CONFIG, detectionContext,
+                                                SELF_HEALING_PARTITION_SIZE_THRESHOLD_MB_CONFIG, Integer.MAX_VALUE));
+
+    // Both detection goals and the partition size anomaly finder share the cluster model of the model generation.
+    goalViolationDetector.run();
+    assertTrue(partitionSizeAnomalyFinder.topicAnomalies().isEmpty());
+
+    // A new cluster model is generated once the model generation changes.
+    modelGeneration.set(NEXT_MODEL_GENERATION);
+    assertTrue(partitionSizeAnomalyFinder.topicAnomalies().isEmpty());
+    goalViolationDetector.run();
+    EasyMock.verify(mockKafkaCruiseControl);
+  }
+
+  @Test
+  public void testPrecheckSkipsOptimizationOfSatisfiedGoals() throws Exception {
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(AnomalyDetectorConfig.ANOMALY_DETECTION_GOALS_CONFIG,
+                      CountingRackAwareGoal.class.getName() + "," + CountingReplicaCapacityGoal.class.getName());
+    props.setProperty(AnomalyDetectorConfig.GOAL_VIOLATION_PRECHECK_ENABLED_CONFIG, "true");
+    KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(props);
+    KafkaCruiseControl mockKafkaCruiseControl = mockKafkaCruiseControl(config, new AtomicReference<>(MODEL_GENERATION));
+    // The rack awareness of the cluster is violated, but it satisfies the replica capacity.
+    EasyMock.expect(mockKafkaCruiseControl.readOnlyClusterModel(EasyMock.anyObject(ModelCompletenessRequirements.class),
+                                                                EasyMock.anyBoolean(), EasyMock.anyObject(OperationProgress.class)))
+            .andReturn(DeterministicCluster.rackAwareSatisfiable()).anyTimes();
+    EasyMock.replay(mockKafkaCruiseControl);
+    CountingRackAwareGoal.NUM_OPTIMIZATIONS.set(0);
+    CountingReplicaCapacityGoal.NUM_OPTIMIZATIONS.set(0);
+
+    Queue<Anomaly> anomalies = new PriorityBlockingQueue<>(1, anomalyComparator());
+    GoalViolationDetector goalViolationDetector = new GoalViolationDetector(anomalies, mockKafkaCruiseControl, new MetricRegistry());
+    goalViolationDetector.run();
+    EasyMock.verify(mockKafkaCruiseControl);
+
+    // Only the violated goal is optimized.
+    assertEquals(1, CountingRackAwareGoal.NUM_OPTIMIZATIONS.get());
+    assertEquals(0, CountingReplicaCapacityGoal.NUM_OPTIMIZATIONS.get());
+    // The violated goal is still reported as a fixable violation.
+    assertEquals(1, anomalies.size());
+    Map<Boolean, List<String>> violatedGoalsByFixability = ((GoalViolations) anomalies.peek()).violatedGoalsByFixability();
+    assertEquals(Map.of(true, List.of(CountingRackAwareGoal.class.getSimpleName())), violatedGoalsByFixability);
+    // The balancedness score accounts only for the violated goal.
+    List<Goal> detectionGoals = List.of(new CountingRackAwareGoal(), new CountingReplicaCapacityGoal());
+    Map<String, Double> balancednessCostByGoal = balancednessCostByGoal(detectionGoals,
+                                                                        config.getDouble(AnalyzerConfig.GOAL_BALANCEDNESS_PRIORITY_WEIGHT_CONFIG),
+                                                                        config.getDouble(AnalyzerConfig.GOAL_BALANCEDNESS_STRICTNESS_WEIGHT_CONFIG));
+    assertEquals(MAX_BALANCEDNESS_SCORE - balancednessCostByGoal.get(CountingRackAwareGoal.class.getSimpleName()),
+                 goalViolationDetector.balancednessScore(), EPSILON);
+    // The provision status is decided by the optimized goal alone -- i.e. the skipped goal reports an undecided status.
+    assertEquals(ProvisionStatus.RIGHT_SIZED, goalViolationDetector.provisionStatus());
+  }
+
+  /**
+   * A rack aware goal that counts its optimizations.
+   */
+  public static class CountingRackAwareGoal extends RackAwareGoal {
+    static final AtomicInteger NUM_OPTIMIZATIONS = new AtomicInteger(0);
+
+    @Override
+    public boolean optimize(ClusterModel clusterModel, Set<Goal> optimizedGoals, OptimizationOptions optimizationOptions)
+        throws OptimizationFailureException {
+      NUM_OPTIMIZATIONS.incrementAndGet();
+      return super.optimize(clusterModel, optimizedGoals, optimizationOptions);
+    }
+  }
+
+  /**
+   * A replica capacity goal that counts its optimizations, and reports an under-provisioned status as if it were left
+   * over from an earlier optimization.
+   */
+  public static class CountingReplicaCapacityGoal extends ReplicaCapacityGoal {
+    static final AtomicInteger NUM_OPTIMIZATIONS = new AtomicInteger(0);
+
+    @Override
+    public boolean optimize(ClusterModel clusterModel, Set<Goal> optimizedGoals, OptimizationOptions optimizationOptions)
+        throws OptimizationFailureException {
+      NUM_OPTIMIZATIONS.incrementAndGet();
+      return super.optimize(clusterModel, optimizedGoals, optimizationOptions);
+    }
+
+    @Override
+    public ProvisionResponse provisionResponse() {
+      return new ProvisionResponse(ProvisionStatus.UNDER_PROVISIONED, null, name());
+    }
+  }
+
+  /**
+   * Create a mock Kafka Cruise Control that is ready for anomaly detection. The caller is expected to set the expected
+   * cluster models and replay the returned mock.
+   *
+   * @param config The Kafka Cruise Control config.
+   * @param modelGeneration The current model generation.
+   * @return A mock Kafka Cruise Control.
+   */
+  private static KafkaCruiseControl mockKafkaCruiseControl(KafkaCruiseControlConfig config,
+                                                           AtomicReference<ModelGeneration> modelGeneration)
+      throws InterruptedException {
+    LoadMonitor mockLoadMonitor = EasyMock.mock(LoadMonitor.class);
+    EasyMock.expect(mockLoadMonitor.clusterModelGeneration()).andAnswer(modelGeneration::get).anyTimes();
+    EasyMock.expect(mockLoadMonitor.meetCompletenessRequirements(EasyMock.anyObject(ModelCompletenessRequirements.class)))
+            .andReturn(true).anyTimes();
+    EasyMock.expect(mockLoadMonitor.brokersWithOfflineReplicas(EasyMock.anyLong())).andReturn(Collections.emptySet()).anyTimes();
+    EasyMock.replay(mockLoadMonitor);
+
+    KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
+    EasyMock.expect(mockKafkaCruiseControl.config()).andReturn(config).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.adminClient()).andReturn(EasyMock.mock(AdminClient.class)).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.provisioner()).andReturn(new NoopProvisioner()).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.timeMs()).andReturn(System.currentTimeMillis()).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.loadMonitor()).andReturn(mockLoadMonitor).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.getLoadMonitorTaskRunnerState())
+            .andReturn(LoadMonitorTaskRunner.LoadMonitorTaskRunnerState.RUNNING).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.executionState()).andReturn(ExecutorState.State.NO_TASK_IN_PROGRESS).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.executorState())
+            .andReturn(ExecutorState.noTaskInProgress(Collections.emptySet(), Collections.emptySet())).anyTimes();
+    // The semaphore for the cluster model generation is not exercised by the tests.
+    EasyMock.expect(mockKafkaCruiseControl.acquireForModelGeneration(EasyMock.anyObject(OperationProgress.class)))
+            .andReturn(null).anyTimes();
+    return mockKafkaCruiseControl;
+  }
+}
@@ -5,6 +5,7 @@ package com.linkedin.kafka.cruisecontrol.detector;
 
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControl;
 import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.common.MetadataClient;
 import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import java.util.Arrays;
 import java.util.Collections;
@@ -30,6 +31,7 @@ import org.junit.Test;
 import static com.linkedin.kafka.cruisecontrol.detector.TopicReplicationFactorAnomalyFinder.DESCRIBE_TOPIC_CONFIG_TIMEOUT_MS;
 import static org.apache.kafka.common.config.TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 
 public class TopicReplicationFactorAnomalyFinderTest {
@@ -77,6 +79,58 @@ public class TopicReplicationFactorAnomalyFinderTest {
     EasyMock.verify(mockKafkaCruiseControl, mockAdminClient);
   }
 
+  @Test
+  public void testIncrementalAnomalyDetection() throws InterruptedException, ExecutionException, TimeoutException {
+    KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
+    Cluster badCluster = generateCluster();
+    Cluster fixedCluster = generateFixedCluster();
+    // The metadata does not change between the first two detections, and the last detection sees the fixed replication factor.
+    EasyMock.expect(mockKafkaCruiseControl.kafkaClusterAndGeneration()).andReturn(new MetadataClient.ClusterAndGeneration(badCluster, 0))
+            .times(2);
+    EasyMock.expect(mockKafkaCruiseControl.kafkaClusterAndGeneration()).andReturn(new MetadataClient.ClusterAndGeneration(fixedCluster, 1));
+    EasyMock.expect(mockKafkaCruiseControl.timeMs()).andReturn(System.currentTimeMillis()).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.config())
+            .andReturn(new KafkaCruiseControlConfig(KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties())).anyTimes();
+    EasyMock.replay(mockKafkaCruiseControl);
+    // The minISR config is retrieved only once, because the cached record does not expire.
+    AdminClient mockAdminClient = mockAdminClient((short) 1);
+    TopicReplicationFactorAnomalyFinder anomalyFinder = new TopicReplicationFactorAnomalyFinder(mockKafkaCruiseControl,
+                                                                                                TARGET_TOPIC_REPLICATION_FACTOR,
+                                                                                                TOPIC_REPLICATION_FACTOR_MARGIN,
+                                                                                                mockAdminClient);
+    assertEquals(1, anomalyFinder.topicAnomalies().size());
+    // The result of the last evaluation is reported while the metadata does not change.
+    assertEquals(1, anomalyFinder.topicAnomalies().size());
+    assertTrue(anomalyFinder.topicAnomalies().isEmpty());
+    EasyMock.verify(mockKafkaCruiseControl, mockAdminClient);
+  }
+
+  @Test
+  public void testAnomalyDetectionWithClusterAheadOfGeneration() throws InterruptedException, ExecutionException, TimeoutException {
+    KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
+    Cluster badCluster = generateCluster();
+    Cluster fixedCluster = generateFixedCluster();
+    // The second detection sees the fixed cluster before the metadata generation is bumped.
+    EasyMock.expect(mockKafkaCruiseControl.kafkaClusterAndGeneration()).andReturn(new MetadataClient.ClusterAndGeneration(badCluster, 0));
+    EasyMock.expect(mockKafkaCruiseControl.kafkaClusterAndGeneration()).andReturn(new MetadataClient.ClusterAndGeneration(fixedCluster, 0));
+    EasyMock.expect(mockKafkaCruiseControl.kafkaClusterAndGeneration()).andReturn(new MetadataClient.ClusterAndGeneration(fixedCluster, 1));
+    EasyMock.expect(mockKafkaCruiseControl.timeMs()).andReturn(System.currentTimeMillis()).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.config())
+            .andReturn(new KafkaCruiseControlConfig(KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties())).anyTimes();
+    EasyMock.replay(mockKafkaCruiseControl);
+    AdminClient mockAdminClient = mockAdminClient((short) 1);
+    TopicReplicationFactorAnomalyFinder anomalyFinder = new TopicReplicationFactorAnomalyFinder(mockKafkaCruiseControl,
+                                                                                                TARGET_TOPIC_REPLICATION_FACTOR,
+                                                                                                TOPIC_REPLICATION_FACTOR_MARGIN,
+                                                                                                mockAdminClient);
+    assertEquals(1, anomalyFinder.topicAnomalies().size());
+    // The fixed cluster is not compared against the bad cluster until its generation is bumped.
+    assertEquals(1, anomalyFinder.topicAnomalies().size());
+    // Once the generation is bumped, the fixed replication factor is found.
+    assertTrue(anomalyFinder.topicAnomalies().isEmpty());
+    EasyMock.verify(mockKafkaCruiseControl, mockAdminClient);
+  }
+
   private AdminClient mockAdminClient(short expectedMinISR) throws InterruptedException, ExecutionException, TimeoutException {
     AdminClient mockAdminClient = EasyMock.mock(AdminClient.class);
     DescribeConfigsResult mockDescribeConfigsResult = EasyMock.mock(DescribeConfigsResult.class);
@@ -96,7 +150,8 @@ public class TopicReplicationFactorAnomalyFinderTest {
   private KafkaCruiseControl mockKafkaCruiseControl() {
     KafkaCruiseControl mockKafkaCruiseControl = EasyMock.mock(KafkaCruiseControl.class);
     Cluster cluster = generateCluster();
-    EasyMock.expect(mockKafkaCruiseControl.kafkaCluster()).andReturn(cluster).anyTimes();
+    EasyMock.expect(mockKafkaCruiseControl.kafkaClusterAndGeneration()).andReturn(new MetadataClient.ClusterAndGeneration(cluster, 0))
+            .anyTimes();
     EasyMock.expect(mockKafkaCruiseControl.timeMs()).andReturn(System.currentTimeMillis()).anyTimes();
     Properties properties = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
     KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(properties);
@@ -116,4 +171,15 @@ public class TopicReplicationFactorAnomalyFinderTest {
     partitionInfo.add(new PartitionInfo(TOPIC, 1, allButFirstNode[0], allButFirstNode, allButFirstNode));
     return new Cluster(CLUSTER_ID, Arrays.asList(allNodes), partitionInfo, Collections.emptySet(), Collections.emptySet());
   }
+
+  private Cluster generateFixedCluster() {
+    Node [] allNodes = new Node [4];
+    IntStream.rangeClosed(0, 3).forEach(i -> allNodes[i] = new Node(i, HOST, 0));
+    Node [] targetNodes = Arrays.copyOfRange(allNodes, 0, TARGET_TOPIC_REPLICATION_FACTOR);
+    Set<PartitionInfo> partitionInfo = new HashSet<>();
+    // Partitions with RF=3
+    partitionInfo.add(new PartitionInfo(TOPIC, 0, targetNodes[0], targetNodes, targetNodes));
+    partitionInfo.add(new PartitionInfo(TOPIC, 1, targetNodes[1], targetNodes, targetNodes));
+    return new Cluster(CLUSTER_ID, Arrays.asList(allNodes), partitionInfo, Collections.emptySet(), Collections.emptySet());
+  }
 }
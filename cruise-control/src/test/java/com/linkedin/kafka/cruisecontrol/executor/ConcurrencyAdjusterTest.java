@@ -14,6 +14,7 @@ import com.linkedin.kafka.cruisecontrol.config.constants.AnalyzerConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
 import com.linkedin.kafka.cruisecontrol.executor.concurrency.ConcurrencyAdjustingRecommendation;
+import com.linkedin.kafka.cruisecontrol.executor.concurrency.ExecutionConcurrencyManager;
 import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.NoopSampler;
 import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerEntity;
@@ -300,6 +301,55 @@ public class ConcurrencyAdjusterTest {
     assertFalse(ExecutionUtils.withinConcurrencyAdjusterLimit(0, null, overLimitDetailsByMetricNameMap));
   }
 
+  @Test
+  public void testFeedbackConcurrencyController() {
+    KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(getExecutorProperties());
+    ExecutionConcurrencyManager concurrencyManager = new ExecutionConcurrencyManager(config);
+    int initialConcurrency = 4;
+    concurrencyManager.initialize(Set.of(0, 1, 2, 3, 4), initialConcurrency, null, null, null);
+    FeedbackConcurrencyController controller = new FeedbackConcurrencyController(config, concurrencyManager, null);
+
+    List<Map<Short, Double>> metricValueByIdPerBroker = new ArrayList<>(NUM_BROKERS);
+    // Broker 0 is far below the target utilization, broker 1 is over the limits, broker 2 is at the target utilization.
+    metricValueByIdPerBroker.add(uniformMetricValues(0.1 * MOCK_COMMON_CONCURRENCY_ADJUSTER_LIMIT));
+    metricValueByIdPerBroker.add(uniformMetricValues(1.5 * MOCK_COMMON_CONCURRENCY_ADJUSTER_LIMIT));
+    metricValueByIdPerBroker.add(uniformMetricValues(0.7 * MOCK_COMMON_CONCURRENCY_ADJUSTER_LIMIT));
+    // Broker 3 hosts (At/Under)MinISR partitions.
+    metricValueByIdPerBroker.add(uniformMetricValues(0.1 * MOCK_COMMON_CONCURRENCY_ADJUSTER_LIMIT));
+    Map<BrokerEntity, ValuesAndExtrapolations> currentMetrics = createCurrentMetrics(metricValueByIdPerBroker);
+    // Broker 4 has no metrics.
+    currentMetrics.put(new BrokerEntity("", 4), null);
+
+    assertEquals(0.1, FeedbackConcurrencyController.utilization(currentMetrics.get(new BrokerEntity("", 0))), 1E-6);
+    controller.refreshConcurrency(ConcurrencyType.INTER_BROKER_REPLICA, currentMetrics, Collections.singleton(3));
+
+    assertTrue(concurrencyManager.getExecutionBrokerConcurrency(0, ConcurrencyType.INTER_BROKER_REPLICA) > initialConcurrency);
+    assertTrue(concurrencyManager.getExecutionBrokerConcurrency(1, ConcurrencyType.INTER_BROKER_REPLICA) < initialConcurrency);
+    assertEquals(initialConcurrency, concurrencyManager.getExecutionBrokerConcurrency(2, ConcurrencyType.INTER_BROKER_REPLICA));
+    for (int brokerId : Arrays.asList(3, 4)) {
+      assertEquals(initialConcurrency / MOCK_MD_INTER_BROKER_REPLICA,
+                   concurrencyManager.getExecutionBrokerConcurrency(brokerId, ConcurrencyType.INTER_BROKER_REPLICA));
+    }
+
+    // The concurrency of a broker that stays far below the target utilization keeps increasing up to the max concurrency.
+    for (int i = 0; i < 10; i++) {
+      controller.refreshConcurrency(ConcurrencyType.INTER_BROKER_REPLICA, currentMetrics, Collections.singleton(3));
+    }
+    assertEquals(MOCK_MAX_PARTITION_MOVEMENTS_PER_BROKER, concurrencyManager.getExecutionBrokerConcurrency(0, ConcurrencyType.INTER_BROKER_REPLICA));
+    assertEquals(MOCK_MIN_PARTITION_MOVEMENTS_PER_BROKER,
+                 concurrencyManager.getExecutionBrokerConcurrency(1, ConcurrencyType.INTER_BROKER_REPLICA));
+    assertEquals(MOCK_MIN_PARTITION_MOVEMENTS_PER_BROKER,
+                 concurrencyManager.getExecutionBrokerConcurrency(3, ConcurrencyType.INTER_BROKER_REPLICA));
+  }
+
+  private static Map<Short, Double> uniformMetricValues(double value) {
+    Map<Short, Double> metricValueById = new HashMap<>();
+    for (String name : ExecutionUtils.CONCURRENCY_ADJUSTER_LIMIT_BY_METRIC_NAME.keySet()) {
+      metricValueById.put(KafkaMetricDef.brokerMetricDef().metricInfo(name).id(), value);
+    }
+    return metricValueById;
+  }
+
   private static Properties getExecutorProperties() {
     Properties props = new Properties();
     props.setProperty(MonitorConfig.BOOTSTRAP_SERVERS_CONFIG, "bootstrap.servers");
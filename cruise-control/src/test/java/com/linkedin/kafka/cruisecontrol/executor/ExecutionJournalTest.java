@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor;
+
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION;
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionTask.TaskType.LEADER_ACTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link ExecutionJournal}.
+ */
+public class ExecutionJournalTest {
+  private static final long ALERTING_THRESHOLD_MS = 100L;
+  private static final ReplicaPlacementInfo BROKER_0 = new ReplicaPlacementInfo(0);
+  private static final ReplicaPlacementInfo BROKER_1 = new ReplicaPlacementInfo(1);
+  private static final ReplicaPlacementInfo BROKER_2 = new ReplicaPlacementInfo(2, "/logdir");
+  private static final ExecutionProposal PROPOSAL_0 = new ExecutionProposal(new TopicPartition("topic0", 0), 10, BROKER_0,
+                                                                            Arrays.asList(BROKER_0, BROKER_1),
+                                                                            Arrays.asList(BROKER_2, BROKER_1));
+  private static final ExecutionProposal PROPOSAL_1 = new ExecutionProposal(new TopicPartition("topic1", 1), 20, BROKER_1,
+                                                                            Arrays.asList(BROKER_1, BROKER_0),
+                                                                            Arrays.asList(BROKER_0, BROKER_2));
+  private static final ExecutionProposal PROPOSAL_2 = new ExecutionProposal(new TopicPartition("topic2", 2), 30, BROKER_0,
+                                                                            Arrays.asList(BROKER_0, BROKER_1),
+                                                                            Arrays.asList(BROKER_1, BROKER_0));
+  private Path _journalDir;
+  private List<ExecutionTask> _tasks;
+
+  @Before
+  public void setUp() throws IOException {
+    _journalDir = Files.createTempDirectory("execution-journal");
+    _tasks = new ArrayList<>();
+    // Proposal 0 and 1 have an inter-broker replica movement and a leadership movement, proposal 2 has a leadership movement.
+    _tasks.add(new ExecutionTask(0, PROPOSAL_0, INTER_BROKER_REPLICA_ACTION, ALERTING_THRESHOLD_MS));
+    _tasks.add(new ExecutionTask(1, PROPOSAL_1, INTER_BROKER_REPLICA_ACTION, ALERTING_THRESHOLD_MS));
+    _tasks.add(new ExecutionTask(2, PROPOSAL_0, LEADER_ACTION, ALERTING_THRESHOLD_MS));
+    _tasks.add(new ExecutionTask(3, PROPOSAL_1, LEADER_ACTION, ALERTING_THRESHOLD_MS));
+    _tasks.add(new ExecutionTask(4, PROPOSAL_2, LEADER_ACTION, ALERTING_THRESHOLD_MS));
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Utils.delete(_journalDir.toFile());
+  }
+
+  @Test
+  public void testUnfinishedProposalsAfterRestart() {
+    ExecutionJournal journal = new ExecutionJournal(_journalDir);
+    journal.executionStarted(_tasks);
+    // All tasks of proposal 0 and 2 finish, the inter-broker replica movement of proposal 1 is interrupted in progress.
+    for (ExecutionTask task : _tasks) {
+      task.inProgress(0L);
+    }
+    journal.tasksStateChanged(_tasks);
+    _tasks.get(0).completed(1L);
+    _tasks.get(2).completed(1L);
+    _tasks.get(4).kill(1L);
+    journal.tasksStateChanged(Arrays.asList(_tasks.get(0), _tasks.get(2), _tasks.get(4)));
+
+    // A new journal on the same directory reads the journal of the interrupted execution.
+    List<ExecutionProposal> unfinishedProposals = new ExecutionJournal(_journalDir).unfinishedProposals();
+    assertEquals(1, unfinishedProposals.size());
+    assertSameProposal(PROPOSAL_1, unfinishedProposals.get(0));
+  }
+
+  @Test
+  public void testNoUnfinishedProposalsAfterExecutionFinished() {
+    ExecutionJournal journal = new ExecutionJournal(_journalDir);
+    journal.executionStarted(_tasks);
+    journal.executionFinished();
+
+    assertTrue(new ExecutionJournal(_journalDir).unfinishedProposals().isEmpty());
+    assertTrue(Files.notExists(_journalDir.resolve(ExecutionJournal.JOURNAL_FILE_NAME)));
+  }
+
+  @Test
+  public void testCloseRetainsJournal() {
+    ExecutionJournal journal = new ExecutionJournal(_journalDir);
+    journal.executionStarted(_tasks);
+    journal.close();
+    // State transitions and finishing the execution after closing the journal are not journaled.
+    _tasks.get(4).inProgress(0L);
+    _tasks.get(4).completed(1L);
+    journal.tasksStateChanged(Collections.singletonList(_tasks.get(4)));
+    journal.executionFinished();
+
+    List<ExecutionProposal> unfinishedProposals = new ExecutionJournal(_journalDir).unfinishedProposals();
+    assertEquals(3, unfinishedProposals.size());
+    assertSameProposal(PROPOSAL_0, unfinishedProposals.get(0));
+    assertSameProposal(PROPOSAL_1, unfinishedProposals.get(1));
+    assertSameProposal(PROPOSAL_2, unfinishedProposals.get(2));
+  }
+
+  @Test
+  public void testTornRecordEndsJournal() throws IOException {
+    ExecutionJournal journal = new ExecutionJournal(_journalDir);
+    journal.executionStarted(_tasks);
+    _tasks.get(4).inProgress(0L);
+    _tasks.get(4).completed(1L);
+    journal.tasksStateChanged(Collections.singletonList(_tasks.get(4)));
+    journal.close();
+
+    // Tear the state record of the completion of proposal 2, which is hence considered unfinished.
+    Path journalFile = _journalDir.resolve(ExecutionJournal.JOURNAL_FILE_NAME);
+    byte[] bytes = Files.readAllBytes(journalFile);
+    Files.write(journalFile, Arrays.copyOf(bytes, bytes.length - 1));
+
+    assertEquals(3, new ExecutionJournal(_journalDir).unfinishedProposals().size());
+  }
+
+  private static void assertSameProposal(ExecutionProposal expected, ExecutionProposal actual) {
+    assertEquals(expected.topicPartition(), actual.topicPartition());
+    assertEquals(expected.partitionSizeInMB(), actual.partitionSizeInMB());
+    assertEquals(expected.oldLeader(), actual.oldLeader());
+    assertEquals(expected.oldReplicas(), actual.oldReplicas());
+    assertEquals(expected.newReplicas(), actual.newReplicas());
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor;
+
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.common.TestConstants;
+import com.linkedin.kafka.cruisecontrol.config.BrokerCapacityInfo;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Unit test for {@link ExecutionSimulator}.
+ */
+public class ExecutionSimulatorTest {
+  private static final long PROGRESS_CHECK_INTERVAL_MS = 10000L;
+  // Network capacity of 1 MB/s, which moves a partition of 10 MB within one progress check interval.
+  private static final double NW_CAPACITY_IN_KB_PER_SEC = 1024.0;
+  private static final long PARTITION_SIZE_IN_MB = 10L;
+  private static final Node NODE_0 = new Node(0, "host0", 100);
+  private static final Node NODE_1 = new Node(1, "host1", 100);
+  private static final TopicPartition TP0 = new TopicPartition("topic", 0);
+  private static final TopicPartition TP1 = new TopicPartition("topic", 1);
+
+  private static ExecutionSimulator simulator() {
+    Properties properties = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    properties.put(ExecutorConfig.EXECUTION_PROGRESS_CHECK_INTERVAL_MS_CONFIG, Long.toString(PROGRESS_CHECK_INTERVAL_MS));
+    BrokerCapacityInfo capacity = new BrokerCapacityInfo(Map.of(Resource.CPU, TestConstants.TYPICAL_CPU_CAPACITY,
+                                                                Resource.DISK, TestConstants.LARGE_BROKER_CAPACITY,
+                                                                Resource.NW_IN, NW_CAPACITY_IN_KB_PER_SEC,
+                                                                Resource.NW_OUT, NW_CAPACITY_IN_KB_PER_SEC));
+    return new ExecutionSimulator(new KafkaCruiseControlConfig(properties), Map.of(0, capacity, 1, capacity));
+  }
+
+  private static Cluster cluster() {
+    Node[] replicas = {NODE_0};
+    Set<PartitionInfo> partitions = Set.of(new PartitionInfo(TP0.topic(), TP0.partition(), NODE_0, replicas, replicas),
+                                           new PartitionInfo(TP1.topic(), TP1.partition(), NODE_0, replicas, replicas));
+    return new Cluster(null, Arrays.asList(NODE_0, NODE_1), partitions, Collections.emptySet(), Collections.emptySet());
+  }
+
+  private static List<ExecutionProposal> proposals() {
+    // Move both partitions from broker 0 to broker 1.
+    List<ReplicaPlacementInfo> oldReplicas = Collections.singletonList(new ReplicaPlacementInfo(0));
+    List<ReplicaPlacementInfo> newReplicas = Collections.singletonList(new ReplicaPlacementInfo(1));
+    return Arrays.asList(new ExecutionProposal(TP0, PARTITION_SIZE_IN_MB, new ReplicaPlacementInfo(0), oldReplicas, newReplicas),
+                         new ExecutionProposal(TP1, PARTITION_SIZE_IN_MB, new ReplicaPlacementInfo(0), oldReplicas, newReplicas));
+  }
+
+  @Test
+  public void testSequentialMovements() {
+    ExecutionSimulator.ExecutionSimulationResult result = simulator().simulate(proposals(), cluster(), null, 1, null, null);
+    assertEquals(2, result.numInterBrokerReplicaMovements());
+    // Each movement takes one progress check interval, and the second movement starts once the first one is noticed to finish.
+    assertEquals(2 * PROGRESS_CHECK_INTERVAL_MS, result.makespanMs());
+    assertEquals(timeline(0L, 1, 2 * PROGRESS_CHECK_INTERVAL_MS, 0), result.concurrencyTimeline());
+    assertEquals(NW_CAPACITY_IN_KB_PER_SEC, result.peakInboundRateInKBPerSecByBrokerId().get(1), 1e-9);
+    assertEquals(NW_CAPACITY_IN_KB_PER_SEC, result.peakOutboundRateInKBPerSecByBrokerId().get(0), 1e-9);
+  }
+
+  @Test
+  public void testConcurrentMovementsShareBandwidth() {
+    ExecutionSimulator.ExecutionSimulationResult result = simulator().simulate(proposals(), cluster(), null, 2, null, null);
+    // Both movements share the network capacity, hence they finish at the same time as the sequential movements.
+    assertEquals(2 * PROGRESS_CHECK_INTERVAL_MS, result.makespanMs());
+    assertEquals(timeline(0L, 2, 2 * PROGRESS_CHECK_INTERVAL_MS, 0), result.concurrencyTimeline());
+    assertEquals(NW_CAPACITY_IN_KB_PER_SEC, result.peakInboundRateInKBPerSecByBrokerId().get(1), 1e-9);
+  }
+
+  @Test
+  public void testReplicationThrottle() {
+    // A replication throttle of half the network capacity doubles the makespan.
+    long replicationThrottle = (long) (NW_CAPACITY_IN_KB_PER_SEC / 2 * 1024);
+    ExecutionSimulator.ExecutionSimulationResult result = simulator().simulate(proposals(), cluster(), null, 2, null, replicationThrottle);
+    assertEquals(4 * PROGRESS_CHECK_INTERVAL_MS, result.makespanMs());
+    assertEquals(NW_CAPACITY_IN_KB_PER_SEC / 2, result.peakInboundRateInKBPerSecByBrokerId().get(1), 1e-9);
+  }
+
+  @Test
+  public void testProposalsWithIntraBrokerReplicaMovements() {
+    // TP1 has replicas on both brokers, one of which is removed while the other is moved to another disk.
+    Node[] replicas0 = {NODE_0};
+    Node[] replicas1 = {NODE_0, NODE_1};
+    Cluster cluster = new Cluster(null, Arrays.asList(NODE_0, NODE_1),
+                                  Set.of(new PartitionInfo(TP0.topic(), TP0.partition(), NODE_0, replicas0, replicas0),
+                                         new PartitionInfo(TP1.topic(), TP1.partition(), NODE_0, replicas1, replicas1)),
+                                  Collections.emptySet(), Collections.emptySet());
+    ExecutionProposal proposal1 = new ExecutionProposal(TP1, PARTITION_SIZE_IN_MB, new ReplicaPlacementInfo(0, "/d1"),
+                                                        Arrays.asList(new ReplicaPlacementInfo(0, "/d1"),
+                                                                      new ReplicaPlacementInfo(1, "/d1")),
+                                                        Collections.singletonList(new ReplicaPlacementInfo(0, "/d2")));
+    List<ExecutionProposal> proposals = Arrays.asList(proposals().get(0), proposal1);
+
+    // The inter-broker replica movement of TP1 is simulated, only its intra-broker replica movement is ignored.
+    ExecutionSimulator.ExecutionSimulationResult result = simulator().simulate(proposals, cluster, null, 1, null, null);
+    assertEquals(2, result.numInterBrokerReplicaMovements());
+    // Both movements involve broker 0, hence the replica removal of TP1 waits for the movement of TP0 or vice versa.
+    assertEquals(2 * PROGRESS_CHECK_INTERVAL_MS, result.makespanMs());
+  }
+
+  private static SortedMap<Long, Integer> timeline(long t0, int concurrency0, long t1, int concurrency1) {
+    SortedMap<Long, Integer> timeline = new TreeMap<>();
+    timeline.put(t0, concurrency0);
+    timeline.put(t1, concurrency1);
+    return timeline;
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.executor;
+
+import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
+import java.util.Arrays;
+import java.util.Collections;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION;
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionTask.TaskType.INTRA_BROKER_REPLICA_ACTION;
+import static com.linkedin.kafka.cruisecontrol.executor.ExecutionTask.TaskType.LEADER_ACTION;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link ExecutionTaskGraph}.
+ */
+public class ExecutionTaskGraphTest {
+  private static final long ALERTING_THRESHOLD_MS = 100L;
+  private static final TopicPartition TP0 = new TopicPartition("topic0", 0);
+  private static final TopicPartition TP1 = new TopicPartition("topic1", 0);
+  private static final TopicPartition TP2 = new TopicPartition("topic2", 0);
+
+  @Test
+  public void testPrerequisites() {
+    // Proposal 0 moves a replica of TP0 from broker 0 to broker 1 and changes its leader.
+    ExecutionProposal proposal0 = new ExecutionProposal(TP0, 10, new ReplicaPlacementInfo(0),
+                                                        Arrays.asList(new ReplicaPlacementInfo(0), new ReplicaPlacementInfo(2)),
+                                                        Arrays.asList(new ReplicaPlacementInfo(2), new ReplicaPlacementInfo(1)));
+    // Proposal 1 moves a replica of TP1 between the disks of broker 1 and changes its leader.
+    ExecutionProposal proposal1 = new ExecutionProposal(TP1, 10, new ReplicaPlacementInfo(3),
+                                                        Arrays.asList(new ReplicaPlacementInfo(3), new ReplicaPlacementInfo(1, "d0")),
+                                                        Arrays.asList(new ReplicaPlacementInfo(1, "d1"), new ReplicaPlacementInfo(3)));
+    // Proposal 2 moves a replica of TP2 between the disks of broker 4, which is not involved in inter-broker replica movements.
+    ExecutionProposal proposal2 = new ExecutionProposal(TP2, 10, new ReplicaPlacementInfo(4, "d0"),
+                                                        Collections.singletonList(new ReplicaPlacementInfo(4, "d0")),
+                                                        Collections.singletonList(new ReplicaPlacementInfo(4, "d1")));
+    ExecutionTask interBrokerTask0 = new ExecutionTask(0, proposal0, INTER_BROKER_REPLICA_ACTION, ALERTING_THRESHOLD_MS);
+    ExecutionTask intraBrokerTask1 = new ExecutionTask(1, proposal1, 1, INTRA_BROKER_REPLICA_ACTION, ALERTING_THRESHOLD_MS);
+    ExecutionTask intraBrokerTask2 = new ExecutionTask(2, proposal2, 4, INTRA_BROKER_REPLICA_ACTION, ALERTING_THRESHOLD_MS);
+    ExecutionTask leaderTask0 = new ExecutionTask(3, proposal0, LEADER_ACTION, ALERTING_THRESHOLD_MS);
+    ExecutionTask leaderTask1 = new ExecutionTask(4, proposal1, LEADER_ACTION, ALERTING_THRESHOLD_MS);
+
+    ExecutionTaskGraph graph = new ExecutionTaskGraph();
+    graph.addReplicaMovements(Collections.singleton(interBrokerTask0), Arrays.asList(intraBrokerTask1, intraBrokerTask2));
+    assertTrue(graph.isReady(interBrokerTask0));
+    // Broker 1 is the destination of an unfinished inter-broker replica movement.
+    assertFalse(graph.isReady(intraBrokerTask1));
+    assertTrue(graph.isReady(intraBrokerTask2));
+    assertFalse(graph.isReady(leaderTask0));
+    assertFalse(graph.isReady(leaderTask1));
+
+    graph.markTaskFinished(interBrokerTask0);
+    assertTrue(graph.isReady(intraBrokerTask1));
+    assertTrue(graph.isReady(leaderTask0));
+    // The intra-broker replica movement of TP1 is not finished.
+    assertFalse(graph.isReady(leaderTask1));
+
+    graph.markTaskFinished(intraBrokerTask1);
+    assertTrue(graph.isReady(leaderTask1));
+
+    graph.addReplicaMovements(Collections.singleton(interBrokerTask0), Collections.emptySet());
+    graph.clear();
+    assertTrue(graph.isReady(leaderTask0));
+  }
+}
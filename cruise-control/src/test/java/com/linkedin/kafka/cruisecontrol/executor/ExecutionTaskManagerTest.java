@@ -13,6 +13,7 @@ import com.linkedin.kafka.cruisecontrol.model.ReplicaPlacementInfo;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -21,11 +22,14 @@ import org.apache.kafka.common.Cluster;
 import org.apache.kafka.common.Node;
 import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.MockTime;
 import org.apache.kafka.common.utils.SystemTime;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 
 public class ExecutionTaskManagerTest {
@@ -123,6 +127,70 @@ public class ExecutionTaskManagerTest {
         taskManager.getExecutionConcurrencyManager().getExecutionClusterLeadershipConcurrency());
   }
 
+  @Test
+  public void testPredictedInterBrokerReplicaMovementCompletionTime() {
+    ReplicaPlacementInfo r0 = new ReplicaPlacementInfo(0);
+    ReplicaPlacementInfo r1 = new ReplicaPlacementInfo(1);
+    ReplicaPlacementInfo r2 = new ReplicaPlacementInfo(2);
+    ExecutionProposal smallProposal = new ExecutionProposal(new TopicPartition("topic", 0), 10, r2, Arrays.asList(r0, r2), Arrays.asList(r2, r1));
+    ExecutionProposal largeProposal = new ExecutionProposal(new TopicPartition("topic", 1), 30, r2, Arrays.asList(r0, r2), Arrays.asList(r2, r1));
+    Cluster cluster = generateExpectedCluster(smallProposal);
+    Node[] replicas = cluster.partition(smallProposal.topicPartition()).replicas();
+    cluster = cluster.withPartitions(Collections.singletonMap(largeProposal.topicPartition(),
+                                                              new PartitionInfo("topic", 1, replicas[1], replicas, replicas)));
+
+    MockTime time = new MockTime();
+    ExecutionTaskManager executionTaskManager = new ExecutionTaskManager(null, new MetricRegistry(), time, new KafkaCruiseControlConfig(
+        KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties()));
+    executionTaskManager.setExecutionModeForTaskTracker(false);
+    executionTaskManager.addExecutionProposals(Arrays.asList(smallProposal, largeProposal), Collections.emptySet(),
+                                               new StrategyOptions.Builder(cluster).build(), null);
+    List<ExecutionTask> tasks = executionTaskManager.getInterBrokerReplicaMovementTasks();
+    assertEquals(2, tasks.size());
+    executionTaskManager.markTasksInProgress(tasks);
+    // Nothing has been moved yet.
+    assertEquals(-1L, executionTaskManager.getExecutionTasksSummary(Collections.emptySet())
+                                          .predictedInterBrokerReplicaMovementCompletionTimeMs());
+
+    // 10 MB moved to broker 1 in 10 seconds, so the remaining 30 MB is expected to take 30 seconds.
+    time.sleep(10000L);
+    tasks.stream().filter(t -> t.proposal() == smallProposal).forEach(executionTaskManager::markTaskDone);
+    assertEquals(time.milliseconds() + 30000L, executionTaskManager.getExecutionTasksSummary(Collections.emptySet())
+                                                                   .predictedInterBrokerReplicaMovementCompletionTimeMs());
+  }
+
+  @Test
+  public void testTaskSnapshotsReflectStateTransitions() {
+    ReplicaPlacementInfo r0 = new ReplicaPlacementInfo(0);
+    ReplicaPlacementInfo r1 = new ReplicaPlacementInfo(1);
+    ReplicaPlacementInfo r2 = new ReplicaPlacementInfo(2);
+    ExecutionProposal proposal = new ExecutionProposal(new TopicPartition("topic", 0), 10, r2, Arrays.asList(r0, r2), Arrays.asList(r2, r1));
+    ExecutionTaskManager executionTaskManager = new ExecutionTaskManager(null, new MetricRegistry(), new MockTime(), new KafkaCruiseControlConfig(
+        KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties()));
+    executionTaskManager.setExecutionModeForTaskTracker(false);
+    executionTaskManager.addExecutionProposals(Collections.singletonList(proposal), Collections.emptySet(),
+                                               new StrategyOptions.Builder(generateExpectedCluster(proposal)).build(), null);
+    Set<ExecutionTask.TaskType> types = Collections.singleton(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION);
+    Map<ExecutionTaskState, Set<ExecutionTask>> before =
+        executionTaskManager.getExecutionTasksSummary(types).filteredTasksByState().get(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION);
+    assertEquals(1, before.get(ExecutionTaskState.PENDING).size());
+    // Unchanged states share the same snapshot across summaries.
+    assertSame(before.get(ExecutionTaskState.PENDING), executionTaskManager.getExecutionTasksSummary(types).filteredTasksByState()
+                                                                           .get(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION)
+                                                                           .get(ExecutionTaskState.PENDING));
+
+    List<ExecutionTask> tasks = executionTaskManager.getInterBrokerReplicaMovementTasks();
+    executionTaskManager.markTasksInProgress(tasks);
+    Map<ExecutionTaskState, Set<ExecutionTask>> after =
+        executionTaskManager.getExecutionTasksSummary(types).filteredTasksByState().get(ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION);
+    // Earlier snapshots are not affected by later state transitions.
+    assertEquals(1, before.get(ExecutionTaskState.PENDING).size());
+    assertTrue(before.get(ExecutionTaskState.IN_PROGRESS).isEmpty());
+    assertTrue(after.get(ExecutionTaskState.PENDING).isEmpty());
+    assertEquals(new HashSet<>(tasks), after.get(ExecutionTaskState.IN_PROGRESS));
+    assertSame(before.get(ExecutionTaskState.COMPLETED), after.get(ExecutionTaskState.COMPLETED));
+  }
+
   private void verifyStateChangeSequence(List<ExecutionTaskState> stateSequence,
                                          ExecutionTask task,
                                          ExecutionTaskManager taskManager) {
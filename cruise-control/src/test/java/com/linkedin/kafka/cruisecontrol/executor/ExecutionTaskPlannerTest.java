@@ -13,6 +13,7 @@ import com.linkedin.kafka.cruisecontrol.executor.strategy.BaseReplicaMovementStr
 import com.linkedin.kafka.cruisecontrol.executor.strategy.PostponeUrpReplicaMovementStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.PrioritizeLargeReplicaMovementStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.PrioritizeMinIsrWithOfflineReplicasStrategy;
+import com.linkedin.kafka.cruisecontrol.executor.strategy.PrioritizeMostLoadedBrokerReplicaMovementStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.PrioritizeOneAboveMinIsrWithOfflineReplicasStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.PrioritizeSmallReplicaMovementStrategy;
 import com.linkedin.kafka.cruisecontrol.executor.strategy.StrategyOptions;
@@ -21,9 +22,11 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.DescribeReplicaLogDirsResult;
 import org.apache.kafka.common.Cluster;
@@ -42,6 +45,8 @@ import org.junit.Test;
 import static org.apache.kafka.common.KafkaFuture.completedFuture;
 import static org.easymock.EasyMock.anyObject;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static com.linkedin.kafka.cruisecontrol.common.TestConstants.TOPIC1;
 import static com.linkedin.kafka.cruisecontrol.common.TestConstants.TOPIC2;
 import static com.linkedin.kafka.cruisecontrol.common.TestConstants.TOPIC3;
@@ -361,6 +366,80 @@ public class ExecutionTaskPlannerTest {
     assertEquals("Fourth task", _rf4PartitionMovement0, partitionMovementTasks.get(3).proposal());
   }
 
+  @Test
+  public void testGetInterBrokerPartitionMovementTasksWithinBudget() {
+    List<ExecutionProposal> proposals = List.of(_partitionMovement0, _partitionMovement1, _partitionMovement2, _partitionMovement3);
+    ExecutionTaskPlanner planner =
+        new ExecutionTaskPlanner(null, new KafkaCruiseControlConfig(KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties()));
+
+    Set<PartitionInfo> partitions = new HashSet<>();
+    for (ExecutionProposal proposal : proposals) {
+      partitions.add(generatePartitionInfo(proposal, false));
+    }
+    Cluster expectedCluster = new Cluster(null, _expectedNodes, partitions, Collections.emptySet(), Collections.emptySet());
+    StrategyOptions strategyOptions = new StrategyOptions.Builder(expectedCluster).build();
+    planner.addExecutionProposals(proposals, strategyOptions, null);
+
+    Map<Integer, Integer> readyBrokers = new HashMap<>();
+    for (int brokerId = 0; brokerId < _expectedNodes.size(); brokerId++) {
+      readyBrokers.put(brokerId, 8);
+    }
+    // Broker 1 has no inbound headroom, but no in-flight movement either. Broker 2 has an in-flight movement of 10 MB, and
+    // hence room for 15 MB more inbound data -- i.e. not enough room for the 30 MB partition of _partitionMovement1.
+    InterBrokerDataMovementBudget budget = new InterBrokerDataMovementBudget(Map.of(1, 0.0, 2, 25.0), Collections.emptyMap());
+    budget.reserve(new ExecutionProposal(new TopicPartition(TOPIC2, 4), 10, _r0, List.of(_r0), List.of(_r2)));
+    List<ExecutionProposal> proposalsToExecute = planner.getInterBrokerReplicaMovementTasks(readyBrokers, Collections.emptySet(),
+                                                                                            _defaultPartitionsMaxCap, budget)
+                                                        .stream().map(ExecutionTask::proposal).collect(Collectors.toList());
+    assertTrue(proposalsToExecute.contains(_partitionMovement0));
+    assertFalse(proposalsToExecute.contains(_partitionMovement1));
+    assertTrue(proposalsToExecute.contains(_partitionMovement2));
+    assertTrue(proposalsToExecute.contains(_partitionMovement3));
+    assertFalse(budget.canMove(_partitionMovement1));
+
+    // Once the in-flight movement to broker 2 finishes, the remaining movement fits into its budget.
+    budget.release(new ExecutionProposal(new TopicPartition(TOPIC2, 4), 10, _r0, List.of(_r0), List.of(_r2)));
+    proposalsToExecute = planner.getInterBrokerReplicaMovementTasks(readyBrokers, Collections.emptySet(), _defaultPartitionsMaxCap, budget)
+                                .stream().map(ExecutionTask::proposal).collect(Collectors.toList());
+    assertEquals(List.of(_partitionMovement1), proposalsToExecute);
+  }
+
+  @Test
+  public void testPrioritizeMostLoadedBrokerReplicaMovementStrategy() {
+    List<ExecutionProposal> proposals = List.of(_partitionMovement0, _partitionMovement1, _partitionMovement2, _partitionMovement3);
+    Set<PartitionInfo> partitions = new HashSet<>();
+    for (ExecutionProposal proposal : proposals) {
+      partitions.add(generatePartitionInfo(proposal, false));
+    }
+    Cluster expectedCluster = new Cluster(null, _expectedNodes, partitions, Collections.emptySet(), Collections.emptySet());
+    // Data to move: broker 0 -> 20 MB, broker 1 -> 40 MB, broker 2 -> 50 MB, broker 3 -> 30 MB.
+    StrategyOptions strategyOptions = new StrategyOptions.Builder(expectedCluster)
+        .interBrokerDataToMoveInMBByBrokerId(Map.of(0, 20L, 1, 40L, 2, 50L, 3, 30L)).build();
+    Comparator<ExecutionTask> taskComparator = new PrioritizeMostLoadedBrokerReplicaMovementStrategy().taskComparator(strategyOptions);
+    List<ExecutionTask> tasks = new ArrayList<>();
+    for (ExecutionProposal proposal : proposals) {
+      tasks.add(new ExecutionTask(tasks.size(), proposal, ExecutionTask.TaskType.INTER_BROKER_REPLICA_ACTION, 0L));
+    }
+    tasks.sort(taskComparator);
+    // Movements involving broker 2 go first -- the larger one first, followed by the movements of broker 1 and broker 3.
+    assertEquals(List.of(_partitionMovement1, _partitionMovement2, _partitionMovement0, _partitionMovement3),
+                 tasks.stream().map(ExecutionTask::proposal).collect(Collectors.toList()));
+
+    // The planner provides the strategy with the data to move of each broker.
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(ExecutorConfig.DEFAULT_REPLICA_MOVEMENT_STRATEGIES_CONFIG, PrioritizeMostLoadedBrokerReplicaMovementStrategy.class.getName());
+    ExecutionTaskPlanner planner = new ExecutionTaskPlanner(null, new KafkaCruiseControlConfig(props));
+    planner.addExecutionProposals(proposals, new StrategyOptions.Builder(expectedCluster).build(), null);
+    Map<Integer, Integer> readyBrokers = new HashMap<>();
+    for (int brokerId = 0; brokerId < _expectedNodes.size(); brokerId++) {
+      readyBrokers.put(brokerId, 8);
+    }
+    List<ExecutionTask> partitionMovementTasks = planner.getInterBrokerReplicaMovementTasks(readyBrokers, Collections.emptySet(),
+                                                                                            _defaultPartitionsMaxCap);
+    assertEquals(proposals.size(), partitionMovementTasks.size());
+    assertEquals("First task", _partitionMovement1, partitionMovementTasks.get(0).proposal());
+  }
+
   @Test
   public void testDynamicConfigReplicaMovementStrategy() {
     List<ExecutionProposal> proposals = new ArrayList<>();
@@ -16,8 +16,11 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import javax.annotation.Nullable;
+import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AlterPartitionReassignmentsResult;
 import org.apache.kafka.clients.admin.ElectLeadersResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
+import org.apache.kafka.clients.admin.PartitionReassignment;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.ElectionNotNeededException;
@@ -135,6 +138,24 @@ public class ExecutionUtilsTest {
     EasyMock.reset(result);
   }
 
+  @Test
+  public void testOngoingPartitionReassignmentsOfGivenPartitions() throws Exception {
+    Set<TopicPartition> partitions = Set.of(P0, P1);
+    Map<TopicPartition, PartitionReassignment> reassignments =
+        Collections.singletonMap(P0, new PartitionReassignment(List.of(0, 1), List.of(1), List.of(0)));
+    KafkaFuture<Map<TopicPartition, PartitionReassignment>> future = EasyMock.mock(KafkaFuture.class);
+    EasyMock.expect(future.get(EasyMock.anyLong(), EasyMock.anyObject())).andReturn(reassignments);
+    ListPartitionReassignmentsResult result = EasyMock.mock(ListPartitionReassignmentsResult.class);
+    EasyMock.expect(result.reassignments()).andReturn(future);
+    // Expect only the given partitions to be listed.
+    AdminClient adminClient = EasyMock.strictMock(AdminClient.class);
+    EasyMock.expect(adminClient.listPartitionReassignments(partitions)).andReturn(result);
+    EasyMock.replay(future, result, adminClient);
+
+    assertEquals(reassignments, ExecutionUtils.ongoingPartitionReassignments(adminClient, partitions));
+    EasyMock.verify(future, result, adminClient);
+  }
+
   @Test
   public void testGetInterBrokerReplicaTasksToReexecute() {
     Set<TopicPartition> partitionsInMovement = Set.of(P0, P1);
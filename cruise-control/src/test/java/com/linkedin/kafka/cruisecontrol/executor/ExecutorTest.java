@@ -37,6 +37,7 @@ import java.util.Set;
 import java.util.HashSet;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import kafka.zk.KafkaZkClient;
 import org.apache.kafka.clients.admin.AdminClient;
@@ -118,6 +119,29 @@ public class ExecutorTest extends CCKafkaClientsIntegrationTestHarness {
     }
   }
 
+  @Test
+  public void testReplicaReassignmentWithConcurrentLeaderMovementBatches() throws InterruptedException, OngoingExecutionException {
+    KafkaZkClient kafkaZkClient = KafkaCruiseControlUtils.createKafkaZkClient(zookeeper().connectionString(),
+                                                                              "ExecutorTestMetricGroup",
+                                                                              "ReplicaReassignmentWithConcurrentLeaderMovementBatches",
+                                                                              false,
+                                                                              _zkClientConfig);
+    try {
+      List<ExecutionProposal> proposalsToExecute = new ArrayList<>();
+      List<ExecutionProposal> proposalsToCheck = new ArrayList<>();
+      populateProposals(proposalsToExecute, proposalsToCheck, 0);
+      // Each batch moves a single leadership, hence the leadership movements are spread across concurrent batches.
+      Properties props = getExecutorProperties();
+      props.setProperty(ExecutorConfig.NUM_CONCURRENT_LEADER_MOVEMENTS_PER_BROKER_CONFIG, "1");
+      props.setProperty(ExecutorConfig.NUM_CONCURRENT_LEADER_MOVEMENT_BATCHES_CONFIG, "3");
+      props.setProperty(ExecutorConfig.EXECUTION_PROGRESS_POLL_INTERVAL_MS_CONFIG, "50");
+      executeAndVerifyProposals(kafkaZkClient, new KafkaCruiseControlConfig(props), proposalsToExecute, proposalsToCheck, false, null,
+                                false, true);
+    } finally {
+      KafkaCruiseControlUtils.closeKafkaZkClientWithTimeout(kafkaZkClient);
+    }
+  }
+
   @Test
   public void testReplicaReassignmentProgressWithThrottle() throws InterruptedException, OngoingExecutionException {
     KafkaZkClient kafkaZkClient = KafkaCruiseControlUtils.createKafkaZkClient(zookeeper().connectionString(),
@@ -136,6 +160,125 @@ public class ExecutorTest extends CCKafkaClientsIntegrationTestHarness {
     }
   }
 
+  @Test
+  public void testInterBrokerReplicaMovementProgressCheckBeforeCheckInterval() throws InterruptedException, OngoingExecutionException {
+    KafkaZkClient kafkaZkClient = KafkaCruiseControlUtils.createKafkaZkClient(zookeeper().connectionString(),
+                                                                              "ExecutorTestMetricGroup",
+                                                                              "InterBrokerReplicaMovementProgressCheckBeforeCheckInterval",
+                                                                              false,
+                                                                              _zkClientConfig);
+    try {
+      Map<String, TopicDescription> topicDescriptions = createTopics(0);
+      int initialLeader0 = topicDescriptions.get(TOPIC0).partitions().get(0).leader().id();
+      int newLeader0 = initialLeader0 == 0 ? 1 : 0;
+      ExecutionProposal proposal0 =
+          new ExecutionProposal(TP0, 0, new ReplicaPlacementInfo(initialLeader0),
+                                Collections.singletonList(new ReplicaPlacementInfo(initialLeader0)),
+                                Collections.singletonList(new ReplicaPlacementInfo(newLeader0)));
+      // The inter-broker replica movement would take at least the execution progress check interval, if the executor did
+      // not check the progress as soon as it observes the finished reassignment.
+      long executionProgressCheckIntervalMs = TimeUnit.SECONDS.toMillis(10);
+      Properties props = getExecutorProperties();
+      props.setProperty(ExecutorConfig.EXECUTION_PROGRESS_CHECK_INTERVAL_MS_CONFIG, Long.toString(executionProgressCheckIntervalMs));
+      props.setProperty(ExecutorConfig.EXECUTION_PROGRESS_POLL_INTERVAL_MS_CONFIG, "50");
+
+      ExecutorNotifier mockExecutorNotifier = EasyMock.mock(ExecutorNotifier.class);
+      mockExecutorNotifier.sendNotification(EasyMock.anyString());
+      expectLastCall().anyTimes();
+      LoadMonitor mockLoadMonitor = getMockLoadMonitor();
+      AnomalyDetectorManager mockAnomalyDetectorManager = getMockAnomalyDetector(RANDOM_UUID, false);
+      EasyMock.replay(mockExecutorNotifier, mockLoadMonitor, mockAnomalyDetectorManager);
+      Executor executor = new Executor(new KafkaCruiseControlConfig(props), new SystemTime(), new MetricRegistry(), null,
+                                       mockExecutorNotifier, mockAnomalyDetectorManager);
+      executor.setGeneratingProposalsForExecution(RANDOM_UUID, ExecutorTest.class::getSimpleName, false);
+      long startMs = System.currentTimeMillis();
+      executor.executeProposals(Collections.singletonList(proposal0), Collections.emptySet(), null, mockLoadMonitor, null, null,
+                                null, null, null, null, null, null, false, RANDOM_UUID, false, false);
+
+      // The leadership movement follows the inter-broker replica movement, which must finish before the check interval ends.
+      waitUntilTrue(() -> executor.state().state() == ExecutorState.State.LEADER_MOVEMENT_TASK_IN_PROGRESS
+                          || !executor.hasOngoingExecution(),
+                    "Inter-broker replica movement did not finish within the time limit",
+                    EXECUTION_DEADLINE_MS, EXECUTION_SHORT_CHECK_MS);
+      long interBrokerReplicaMovementMs = System.currentTimeMillis() - startMs;
+      assertTrue(String.format("Inter-broker replica movement took %d ms, which is not shorter than the check interval %d ms.",
+                               interBrokerReplicaMovementMs, executionProgressCheckIntervalMs),
+                 interBrokerReplicaMovementMs < executionProgressCheckIntervalMs);
+
+      waitUntilTrue(() -> (!executor.hasOngoingExecution() && executor.state().state() == ExecutorState.State.NO_TASK_IN_PROGRESS),
+                    "Proposal execution did not finish within the time limit",
+                    EXECUTION_DEADLINE_MS, EXECUTION_REGULAR_CHECK_MS);
+      assertEquals(1, kafkaZkClient.getReplicasForPartition(TP0).size());
+      assertTrue(kafkaZkClient.getReplicasForPartition(TP0).contains(newLeader0));
+      EasyMock.verify(mockExecutorNotifier, mockLoadMonitor, mockAnomalyDetectorManager);
+    } finally {
+      KafkaCruiseControlUtils.closeKafkaZkClientWithTimeout(kafkaZkClient);
+    }
+  }
+
+  @Test
+  public void testLeadershipMovementCoScheduledWithInterBrokerReplicaMovements()
+      throws InterruptedException, OngoingExecutionException, ExecutionException, TimeoutException {
+    KafkaZkClient kafkaZkClient = KafkaCruiseControlUtils.createKafkaZkClient(zookeeper().connectionString(),
+                                                                              "ExecutorTestMetricGroup",
+                                                                              "LeadershipMovementCoScheduledWithInterBrokerReplicaMovements",
+                                                                              false,
+                                                                              _zkClientConfig);
+    AdminClient adminClient = KafkaCruiseControlUtils.createAdminClient(Collections.singletonMap(
+        AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker(BROKER_ID_0).plaintextAddr()));
+    try {
+      Map<String, TopicDescription> topicDescriptions = createTopics((int) PRODUCE_SIZE_IN_BYTES);
+      adminClient.createTopics(Collections.singletonList(
+          new NewTopic(TOPIC2, Collections.singletonMap(0, Collections.singletonList(BROKER_ID_1))))).all().get();
+      waitUntilTrue(() -> kafkaZkClient.getLeaderForPartition(TP2).isDefined(), "Failed to create " + TOPIC2,
+                    EXECUTION_DEADLINE_MS, EXECUTION_SHORT_CHECK_MS);
+      // The throttled movement of TP0 is still in progress, when the unthrottled movement of the empty TP2 finishes.
+      int initialLeader0 = topicDescriptions.get(TOPIC0).partitions().get(0).leader().id();
+      ExecutionProposal proposal0 =
+          new ExecutionProposal(TP0, PRODUCE_SIZE_IN_BYTES, new ReplicaPlacementInfo(initialLeader0),
+                                Collections.singletonList(new ReplicaPlacementInfo(initialLeader0)),
+                                Collections.singletonList(new ReplicaPlacementInfo(initialLeader0 == 0 ? 1 : 0)));
+      // The leadership of TP2 moves only upon the leadership movement following its inter-broker replica movement.
+      ExecutionProposal proposal2 =
+          new ExecutionProposal(TP2, 0, new ReplicaPlacementInfo(BROKER_ID_1),
+                                Collections.singletonList(new ReplicaPlacementInfo(BROKER_ID_1)),
+                                Arrays.asList(new ReplicaPlacementInfo(BROKER_ID_0), new ReplicaPlacementInfo(BROKER_ID_1)));
+      Properties props = getExecutorProperties();
+      props.setProperty(ExecutorConfig.EXECUTION_PHASE_CO_SCHEDULING_ENABLED_CONFIG, "true");
+      props.setProperty(ExecutorConfig.EXECUTION_PROGRESS_POLL_INTERVAL_MS_CONFIG, "50");
+
+      ExecutorNotifier mockExecutorNotifier = EasyMock.mock(ExecutorNotifier.class);
+      mockExecutorNotifier.sendNotification(EasyMock.anyString());
+      expectLastCall().anyTimes();
+      LoadMonitor mockLoadMonitor = getMockLoadMonitor();
+      AnomalyDetectorManager mockAnomalyDetectorManager = getMockAnomalyDetector(RANDOM_UUID, false);
+      EasyMock.replay(mockExecutorNotifier, mockLoadMonitor, mockAnomalyDetectorManager);
+      Executor executor = new Executor(new KafkaCruiseControlConfig(props), new SystemTime(), new MetricRegistry(), null,
+                                       mockExecutorNotifier, mockAnomalyDetectorManager);
+      executor.setGeneratingProposalsForExecution(RANDOM_UUID, ExecutorTest.class::getSimpleName, false);
+      executor.executeProposals(Arrays.asList(proposal0, proposal2), Collections.emptySet(), null, mockLoadMonitor, null, null,
+                                null, null, null, null, null, PRODUCE_SIZE_IN_BYTES / 2, false, RANDOM_UUID, false, false);
+
+      waitUntilTrue(() -> kafkaZkClient.getLeaderForPartition(TP2).contains(BROKER_ID_0),
+                    "Leadership movement of " + TP2 + " did not finish within the time limit",
+                    EXECUTION_DEADLINE_MS, EXECUTION_SHORT_CHECK_MS);
+      assertEquals(ExecutorState.State.INTER_BROKER_REPLICA_MOVEMENT_TASK_IN_PROGRESS, executor.state().state());
+      assertTrue(ExecutionUtils.partitionsBeingReassigned(adminClient).contains(TP0));
+
+      waitUntilTrue(() -> (!executor.hasOngoingExecution() && executor.state().state() == ExecutorState.State.NO_TASK_IN_PROGRESS),
+                    "Proposal execution did not finish within the time limit",
+                    EXECUTION_DEADLINE_MS, EXECUTION_REGULAR_CHECK_MS);
+      assertEquals(1, kafkaZkClient.getReplicasForPartition(TP0).size());
+      assertTrue(kafkaZkClient.getReplicasForPartition(TP0).contains(proposal0.newLeader().brokerId()));
+      assertEquals(2, kafkaZkClient.getReplicasForPartition(TP2).size());
+      assertEquals(BROKER_ID_0, kafkaZkClient.getLeaderForPartition(TP2).get());
+      EasyMock.verify(mockExecutorNotifier, mockLoadMonitor, mockAnomalyDetectorManager);
+    } finally {
+      KafkaCruiseControlUtils.closeAdminClientWithTimeout(adminClient);
+      KafkaCruiseControlUtils.closeKafkaZkClientWithTimeout(kafkaZkClient);
+    }
+  }
+
   @Test
   public void testBrokerDiesBeforeMovingPartition() throws Exception {
     KafkaZkClient kafkaZkClient = KafkaCruiseControlUtils.createKafkaZkClient(zookeeper().connectionString(),
@@ -757,7 +900,19 @@ public class ExecutorTest extends CCKafkaClientsIntegrationTestHarness {
                                          boolean verifyProgress,
                                          boolean isTriggeredByUserRequest)
       throws OngoingExecutionException {
-    KafkaCruiseControlConfig configs = new KafkaCruiseControlConfig(getExecutorProperties());
+    executeAndVerifyProposals(kafkaZkClient, new KafkaCruiseControlConfig(getExecutorProperties()), proposalsToExecute, proposalsToCheck,
+                              completeWithError, replicationThrottle, verifyProgress, isTriggeredByUserRequest);
+  }
+
+  private void executeAndVerifyProposals(KafkaZkClient kafkaZkClient,
+                                         KafkaCruiseControlConfig configs,
+                                         Collection<ExecutionProposal> proposalsToExecute,
+                                         Collection<ExecutionProposal> proposalsToCheck,
+                                         boolean completeWithError,
+                                         Long replicationThrottle,
+                                         boolean verifyProgress,
+                                         boolean isTriggeredByUserRequest)
+      throws OngoingExecutionException {
     UserTaskManager.UserTaskInfo mockUserTaskInfo = getMockUserTaskInfo();
     UserTaskManager mockUserTaskManager = isTriggeredByUserRequest ? getMockUserTaskManager(RANDOM_UUID, mockUserTaskInfo,
                                                                                             Collections.singletonList(completeWithError))
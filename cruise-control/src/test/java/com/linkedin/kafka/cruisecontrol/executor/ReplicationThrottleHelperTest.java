@@ -30,6 +30,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -212,10 +213,8 @@ public class ReplicationThrottleHelperTest extends CCKafkaIntegrationTestHarness
     expectDescribeBrokerConfigs(mockAdminClient, brokers);
     expectDescribeTopicConfigs(mockAdminClient, TOPIC0, EMPTY_CONFIG, false);
     expectListTopics(mockAdminClient, Collections.emptySet());
-    expectIncrementalTopicConfigs(mockAdminClient, TOPIC0, false);
-    expectListTopics(mockAdminClient, Collections.emptySet());
     EasyMock.replay(mockAdminClient);
-    // Expect no exception
+    // Expect no exception and no attempt to change the configs of the nonexistent topic
     throttleHelper.setThrottles(Collections.singletonList(proposal));
     EasyMock.verify(mockAdminClient);
 
@@ -475,6 +474,55 @@ public class ReplicationThrottleHelperTest extends CCKafkaIntegrationTestHarness
     assertEquals(result, "qux,qaz");
   }
 
+  @Test
+  public void testSetThrottlesBatchesConfigChangesAndSkipsUnchangedTopics() throws Exception {
+    final long throttleRate = 100L;
+    final int brokerId0 = 0;
+    final int brokerId1 = 1;
+    final int brokerId2 = 2;
+    final List<Integer> brokers = Arrays.asList(brokerId0, brokerId1, brokerId2);
+    final int partitionId = 0;
+    // Proposals to move a partition of each topic with 2 replicas from broker 0 and 1 to broker 0 and 2
+    List<ExecutionProposal> proposals = new ArrayList<>();
+    for (String topic : Arrays.asList(TOPIC0, TOPIC1)) {
+      proposals.add(new ExecutionProposal(new TopicPartition(topic, partitionId),
+                                          100,
+                                          new ReplicaPlacementInfo(brokerId0),
+                                          Arrays.asList(new ReplicaPlacementInfo(brokerId0), new ReplicaPlacementInfo(brokerId1)),
+                                          Arrays.asList(new ReplicaPlacementInfo(brokerId0), new ReplicaPlacementInfo(brokerId2))));
+    }
+    String throttledReplicas = String.join(",", partitionId + ":" + brokerId0, partitionId + ":" + brokerId1,
+                                           partitionId + ":" + brokerId2);
+    Config throttledTopicConfig = new Config(Arrays.asList(
+        new ConfigEntry(ReplicationThrottleHelper.LEADER_THROTTLED_REPLICAS, throttledReplicas),
+        new ConfigEntry(ReplicationThrottleHelper.FOLLOWER_THROTTLED_REPLICAS, throttledReplicas)));
+    Map<String, Config> topicConfigs = new LinkedHashMap<>();
+    topicConfigs.put(TOPIC0, EMPTY_CONFIG);
+    topicConfigs.put(TOPIC1, EMPTY_CONFIG);
+    Map<String, Config> throttledTopicConfigs = new LinkedHashMap<>();
+    throttledTopicConfigs.put(TOPIC0, throttledTopicConfig);
+    throttledTopicConfigs.put(TOPIC1, throttledTopicConfig);
+
+    AdminClient mockAdminClient = EasyMock.strictMock(AdminClient.class);
+    ReplicationThrottleHelper throttleHelper = new ReplicationThrottleHelper(mockAdminClient, throttleRate);
+
+    // Case 1: the configs of all topics are read, changed, and verified in a single request each.
+    expectDescribeBrokerConfigs(mockAdminClient, brokers);
+    expectDescribeTopicConfigs(mockAdminClient, topicConfigs);
+    expectIncrementalTopicConfigs(mockAdminClient, TOPIC0, true);
+    expectDescribeTopicConfigs(mockAdminClient, throttledTopicConfigs);
+    EasyMock.replay(mockAdminClient);
+    throttleHelper.setThrottles(proposals);
+    EasyMock.verify(mockAdminClient);
+
+    // Case 2: the throttled replicas applied to the topics are known, so the configs of the topics are not read again.
+    EasyMock.reset(mockAdminClient);
+    expectDescribeBrokerConfigs(mockAdminClient, brokers);
+    EasyMock.replay(mockAdminClient);
+    throttleHelper.setThrottles(proposals);
+    EasyMock.verify(mockAdminClient);
+  }
+
   @Test
   public void testWaitForConfigs() throws Exception {
     AdminClient mockAdminClient = EasyMock.strictMock(AdminClient.class);
@@ -565,6 +613,18 @@ public class ReplicationThrottleHelperTest extends CCKafkaIntegrationTestHarness
     EasyMock.replay(mockDescribeConfigsResult, mockFuture);
   }
 
+  private void expectDescribeTopicConfigs(AdminClient adminClient, Map<String, Config> configByTopic)
+  throws ExecutionException, InterruptedException, TimeoutException {
+    Map<ConfigResource, Config> topicConfigs = new LinkedHashMap<>();
+    configByTopic.forEach((topic, config) -> topicConfigs.put(new ConfigResource(ConfigResource.Type.TOPIC, topic), config));
+    DescribeConfigsResult mockDescribeConfigsResult = EasyMock.mock(DescribeConfigsResult.class);
+    KafkaFuture<Map<ConfigResource, Config>> mockFuture = EasyMock.mock(KafkaFuture.class);
+    EasyMock.expect(mockFuture.get(EasyMock.anyLong(), EasyMock.anyObject())).andReturn(topicConfigs);
+    EasyMock.expect(mockDescribeConfigsResult.all()).andReturn(mockFuture);
+    EasyMock.expect(adminClient.describeConfigs(new ArrayList<>(topicConfigs.keySet()))).andReturn(mockDescribeConfigsResult);
+    EasyMock.replay(mockDescribeConfigsResult, mockFuture);
+  }
+
   private void expectIncrementalTopicConfigs(AdminClient adminClient, String topic, boolean topicExists)
   throws ExecutionException, InterruptedException, TimeoutException {
     ConfigResource cf = new ConfigResource(ConfigResource.Type.TOPIC, topic);
@@ -602,29 +662,27 @@ public class ReplicationThrottleHelperTest extends CCKafkaIntegrationTestHarness
 
   private void expectDescribeBrokerConfigs(AdminClient adminClient, List<Integer> brokers, Config brokerConfig)
   throws ExecutionException, InterruptedException, TimeoutException {
+    Map<ConfigResource, Config> brokerConfigs = new LinkedHashMap<>();
     for (int i : brokers) {
-      ConfigResource cf = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(i));
-      Map<ConfigResource, Config> brokerConfigs = Collections.singletonMap(cf, brokerConfig);
-      DescribeConfigsResult mockDescribeConfigsResult = EasyMock.mock(DescribeConfigsResult.class);
-      KafkaFuture<Map<ConfigResource, Config>> mockFuture = EasyMock.mock(KafkaFuture.class);
-      EasyMock.expect(mockFuture.get(EasyMock.anyLong(), EasyMock.anyObject())).andReturn(brokerConfigs);
-      EasyMock.expect(mockDescribeConfigsResult.all()).andReturn(mockFuture);
-      EasyMock.expect(adminClient.describeConfigs(Collections.singletonList(cf))).andReturn(mockDescribeConfigsResult);
-      EasyMock.replay(mockDescribeConfigsResult, mockFuture);
+      brokerConfigs.put(new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(i)), brokerConfig);
     }
+    DescribeConfigsResult mockDescribeConfigsResult = EasyMock.mock(DescribeConfigsResult.class);
+    KafkaFuture<Map<ConfigResource, Config>> mockFuture = EasyMock.mock(KafkaFuture.class);
+    EasyMock.expect(mockFuture.get(EasyMock.anyLong(), EasyMock.anyObject())).andReturn(brokerConfigs);
+    EasyMock.expect(mockDescribeConfigsResult.all()).andReturn(mockFuture);
+    EasyMock.expect(adminClient.describeConfigs(new ArrayList<>(brokerConfigs.keySet()))).andReturn(mockDescribeConfigsResult);
+    EasyMock.replay(mockDescribeConfigsResult, mockFuture);
   }
 
   private void expectIncrementalBrokerConfigs(AdminClient adminClient, List<Integer> brokers)
   throws ExecutionException, InterruptedException, TimeoutException {
-    for (int brokerId : brokers) {
-      ConfigResource cf = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(brokerId));
-      AlterConfigsResult mockAlterConfigsResult = EasyMock.mock(AlterConfigsResult.class);
-      KafkaFuture<Void> mockFuture = EasyMock.mock(KafkaFuture.class);
-      EasyMock.expect(mockAlterConfigsResult.all()).andReturn(mockFuture);
-      EasyMock.expect(mockFuture.get(EasyMock.anyLong(), EasyMock.anyObject())).andReturn(null);
-      EasyMock.expect(adminClient.incrementalAlterConfigs(Collections.singletonMap(cf, EasyMock.anyObject()))).andReturn(mockAlterConfigsResult);
-      EasyMock.replay(mockAlterConfigsResult, mockFuture);
-    }
+    // The configs of all brokers are changed in a single request
+    AlterConfigsResult mockAlterConfigsResult = EasyMock.mock(AlterConfigsResult.class);
+    KafkaFuture<Void> mockFuture = EasyMock.mock(KafkaFuture.class);
+    EasyMock.expect(mockAlterConfigsResult.all()).andReturn(mockFuture);
+    EasyMock.expect(mockFuture.get(EasyMock.anyLong(), EasyMock.anyObject())).andReturn(null);
+    EasyMock.expect(adminClient.incrementalAlterConfigs(EasyMock.anyObject())).andReturn(mockAlterConfigsResult);
+    EasyMock.replay(mockAlterConfigsResult, mockFuture);
   }
 
   private void assertExpectedThrottledRateForBroker(int brokerId, Long expectedRate) throws ExecutionException, InterruptedException {
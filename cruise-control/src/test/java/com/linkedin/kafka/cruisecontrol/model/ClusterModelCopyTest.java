@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.model;
+
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.common.TestConstants;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+
+/**
+ * Unit test for {@link ClusterModel#copy()}.
+ */
+public class ClusterModelCopyTest {
+  private static final double DELTA = 1E-6;
+  private static final TopicPartition T1_P0 = new TopicPartition(DeterministicCluster.T1, 0);
+
+  @Test
+  public void testCopyClusterModelWithDeadBroker() {
+    ClusterModel clusterModel = DeterministicCluster.deadBroker(TestConstants.BROKER_CAPACITY);
+    ClusterModel copy = clusterModel.copy();
+    copy.sanityCheck();
+    assertSameClusterModel(clusterModel, copy);
+    assertEquals(Set.of(0), copy.deadBrokers().stream().map(Broker::id).collect(Collectors.toSet()));
+  }
+
+  @Test
+  public void testCopyClusterModelWithDeadDisk() {
+    ClusterModel clusterModel = DeterministicCluster.unbalanced4();
+    clusterModel.markDiskDead(0, TestConstants.LOGDIR0);
+    clusterModel.setBrokerState(0, Broker.State.BAD_DISKS);
+    ClusterModel copy = clusterModel.copy();
+    copy.sanityCheck();
+    assertSameClusterModel(clusterModel, copy);
+    assertEquals(Set.of(0), copy.brokersWithBadDisks().stream().map(Broker::id).collect(Collectors.toSet()));
+    for (Broker broker : clusterModel.brokers()) {
+      for (Disk disk : broker.disks()) {
+        Disk diskCopy = copy.broker(broker.id()).disk(disk.logDir());
+        assertEquals(disk.state(), diskCopy.state());
+        assertEquals(disk.capacity(), diskCopy.capacity(), DELTA);
+        assertEquals(disk.utilization(), diskCopy.utilization(), DELTA);
+        assertEquals(disk.replicas().stream().map(Replica::topicPartition).collect(Collectors.toSet()),
+                     diskCopy.replicas().stream().map(Replica::topicPartition).collect(Collectors.toSet()));
+      }
+    }
+  }
+
+  @Test
+  public void testCopyIsIndependentOfClusterModel() {
+    ClusterModel clusterModel = DeterministicCluster.smallClusterModel(TestConstants.BROKER_CAPACITY);
+    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+    ClusterModel copy = clusterModel.copy();
+    assertNotSame(clusterModel.partition(T1_P0), copy.partition(T1_P0));
+
+    // T1_P0: B0 (leader), B2 -> B1 (leader), B2
+    copy.relocateReplica(T1_P0, 0, 1);
+    assertEquals(initReplicaDistribution, clusterModel.getReplicaDistribution());
+    assertSame(clusterModel.broker(0), clusterModel.partition(T1_P0).leader().broker());
+    assertEquals(1, copy.partition(T1_P0).leader().broker().id());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testCopyRelocatedClusterModel() {
+    ClusterModel clusterModel = DeterministicCluster.smallClusterModel(TestConstants.BROKER_CAPACITY);
+    clusterModel.relocateReplica(T1_P0, 0, 1);
+    clusterModel.copy();
+  }
+
+  private static void assertSameClusterModel(ClusterModel expected, ClusterModel actual) {
+    assertEquals(expected.getReplicaDistribution(), actual.getReplicaDistribution());
+    assertEquals(expected.getLeaderDistribution(), actual.getLeaderDistribution());
+    assertEquals(expected.replicationFactorByTopic(), actual.replicationFactorByTopic());
+    assertEquals(expected.maxReplicationFactor(), actual.maxReplicationFactor());
+    assertEquals(topicPartitionsByBrokerId(expected.selfHealingEligibleReplicas()),
+                 topicPartitionsByBrokerId(actual.selfHealingEligibleReplicas()));
+    for (Resource resource : Resource.cachedValues()) {
+      assertEquals(expected.capacityFor(resource), actual.capacityFor(resource), DELTA);
+      assertEquals(expected.load().expectedUtilizationFor(resource), actual.load().expectedUtilizationFor(resource), DELTA);
+      for (Broker broker : expected.brokers()) {
+        Broker brokerCopy = actual.broker(broker.id());
+        assertEquals(broker.state(), brokerCopy.state());
+        assertEquals(broker.host().name(), brokerCopy.host().name());
+        assertEquals(broker.rack().id(), brokerCopy.rack().id());
+        assertEquals(broker.capacityFor(resource), brokerCopy.capacityFor(resource), DELTA);
+        assertEquals(broker.load().expectedUtilizationFor(resource), brokerCopy.load().expectedUtilizationFor(resource), DELTA);
+        assertEquals(expected.potentialLeadershipLoadFor(broker.id()).expectedUtilizationFor(resource),
+                     actual.potentialLeadershipLoadFor(broker.id()).expectedUtilizationFor(resource), DELTA);
+      }
+    }
+  }
+
+  private static Map<Integer, Set<TopicPartition>> topicPartitionsByBrokerId(Set<Replica> replicas) {
+    return replicas.stream().collect(Collectors.groupingBy(r -> r.broker().id(), Collectors.mapping(Replica::topicPartition,
+                                                                                                     Collectors.toSet())));
+  }
+}
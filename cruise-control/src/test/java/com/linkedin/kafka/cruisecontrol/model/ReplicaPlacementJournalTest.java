@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.model;
+
+import com.linkedin.kafka.cruisecontrol.analyzer.AnalyzerUtils;
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.common.TestConstants;
+import com.linkedin.kafka.cruisecontrol.executor.ExecutionProposal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link ReplicaPlacementJournal}.
+ */
+public class ReplicaPlacementJournalTest {
+  private static final TopicPartition T1_P0 = new TopicPartition(DeterministicCluster.T1, 0);
+  private static final TopicPartition T2_P0 = new TopicPartition(DeterministicCluster.T2, 0);
+  private static final TopicPartition T2_P2 = new TopicPartition(DeterministicCluster.T2, 2);
+
+  @Test
+  public void testRecordsOnlyTouchedPartitions() {
+    ClusterModel clusterModel = DeterministicCluster.smallClusterModel(TestConstants.BROKER_CAPACITY);
+    Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+    Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+    ReplicaPlacementJournal journal = clusterModel.openReplicaPlacementJournal();
+    assertTrue(journal.isEmpty());
+
+    // T1_P0: B0 (leader), B2 -> B1 (leader), B2
+    clusterModel.relocateReplica(T1_P0, 0, 1);
+    // T2_P0: B1 (leader), B2 -> B2 (leader), B1
+    clusterModel.relocateLeadership(T2_P0, 1, 2);
+    clusterModel.closeReplicaPlacementJournal(journal);
+    // Changes after the journal is closed are not recorded.
+    clusterModel.relocateLeadership(T2_P2, 0, 1);
+
+    assertEquals(Set.of(T1_P0, T2_P0), journal.initialReplicaDistribution().keySet());
+    assertEquals(initReplicaDistribution.get(T1_P0), journal.initialReplicaDistribution().get(T1_P0));
+    assertEquals(initLeaderDistribution.get(T2_P0), journal.initialLeaderDistribution().get(T2_P0));
+    assertFalse(journal.initialReplicaDistribution().containsKey(T2_P2));
+  }
+
+  @Test
+  public void testNoDiffIfTouchedPartitionsAreRestored() {
+    ClusterModel clusterModel = DeterministicCluster.smallClusterModel(TestConstants.BROKER_CAPACITY);
+    ReplicaPlacementJournal journal = clusterModel.openReplicaPlacementJournal();
+    clusterModel.relocateLeadership(T2_P0, 1, 2);
+    clusterModel.relocateReplica(T1_P0, 2, 1);
+    assertTrue(AnalyzerUtils.hasDiff(journal, clusterModel));
+
+    clusterModel.relocateLeadership(T2_P0, 2, 1);
+    clusterModel.relocateReplica(T1_P0, 1, 2);
+    clusterModel.closeReplicaPlacementJournal(journal);
+
+    assertFalse(journal.isEmpty());
+    assertFalse(AnalyzerUtils.hasDiff(journal, clusterModel));
+    assertTrue(AnalyzerUtils.getDiff(journal, clusterModel, false).isEmpty());
+  }
+
+  @Test
+  public void testDiffMatchesFullDistributionDiff() {
+    Random random = new Random(0xC0FFEE);
+    for (int round = 0; round < 20; round++) {
+      ClusterModel clusterModel = DeterministicCluster.smallClusterModel(TestConstants.BROKER_CAPACITY);
+      Map<TopicPartition, List<ReplicaPlacementInfo>> initReplicaDistribution = clusterModel.getReplicaDistribution();
+      Map<TopicPartition, ReplicaPlacementInfo> initLeaderDistribution = clusterModel.getLeaderDistribution();
+      ReplicaPlacementJournal journal = clusterModel.openReplicaPlacementJournal();
+      List<Partition> partitions = new ArrayList<>();
+      clusterModel.topics().forEach(topic -> partitions.addAll(clusterModel.getPartitionsByTopic().get(topic)));
+
+      int numChanges = 1 + random.nextInt(10);
+      for (int i = 0; i < numChanges; i++) {
+        applyRandomChange(clusterModel, partitions.get(random.nextInt(partitions.size())), random);
+      }
+      clusterModel.closeReplicaPlacementJournal(journal);
+
+      assertEquals(AnalyzerUtils.hasDiff(initReplicaDistribution, initLeaderDistribution, clusterModel),
+                   AnalyzerUtils.hasDiff(journal, clusterModel));
+      Set<ExecutionProposal> expected = AnalyzerUtils.getDiff(initReplicaDistribution, initLeaderDistribution, clusterModel);
+      assertEquals(expected, AnalyzerUtils.getDiff(journal, clusterModel, false));
+    }
+  }
+
+  private static void applyRandomChange(ClusterModel clusterModel, Partition partition, Random random) {
+    TopicPartition tp = partition.topicPartition();
+    Replica follower = partition.followers().get(0);
+    switch (random.nextInt(3)) {
+      case 0:
+        clusterModel.relocateLeadership(tp, partition.leader().broker().id(), follower.broker().id());
+        break;
+      case 1:
+        for (Broker broker : clusterModel.aliveBrokers()) {
+          if (!partition.partitionBrokers().contains(broker)) {
+            clusterModel.relocateReplica(tp, follower.broker().id(), broker.id());
+            break;
+          }
+        }
+        break;
+      default:
+        partition.moveReplicaToEnd(partition.leader());
+        clusterModel.relocateLeadership(tp, partition.leader().broker().id(), partition.replicas().get(0).broker().id());
+        break;
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.monitor;
+
+import com.linkedin.kafka.cruisecontrol.common.DeterministicCluster;
+import com.linkedin.kafka.cruisecontrol.common.Resource;
+import com.linkedin.kafka.cruisecontrol.common.TestConstants;
+import com.linkedin.kafka.cruisecontrol.config.BrokerCapacityInfo;
+import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.common.Node;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+
+public class ClusterModelCacheTest {
+  private static final long WINDOW_MS = 1000L;
+  private static final ModelCompletenessRequirements REQUIREMENTS = new ModelCompletenessRequirements(1, 0.0, false);
+  private static final Node NODE = new Node(0, "host0", 9092, "rack0");
+
+  @Test
+  public void testBrokerCapacityChangeInvalidatesCachedClusterModel() {
+    ClusterModelCache clusterModelCache = new ClusterModelCache(1, WINDOW_MS);
+    ClusterModel clusterModel = DeterministicCluster.unbalanced();
+    ModelGeneration generation = clusterModel.generation();
+    Map<Node, BrokerCapacityInfo> capacityByBroker = Map.of(NODE, new BrokerCapacityInfo(TestConstants.BROKER_CAPACITY));
+    clusterModelCache.put(clusterModel, -1L, WINDOW_MS, REQUIREMENTS, false, capacityByBroker);
+
+    // Same capacities resolved again.
+    Map<Node, BrokerCapacityInfo> sameCapacityByBroker = Map.of(NODE, new BrokerCapacityInfo(new HashMap<>(TestConstants.BROKER_CAPACITY)));
+    assertNotNull(clusterModelCache.clusterModel(generation, -1L, WINDOW_MS, REQUIREMENTS, false, sameCapacityByBroker));
+
+    // A broker capacity change within the same model generation.
+    Map<Resource, Double> changedCapacity = new HashMap<>(TestConstants.BROKER_CAPACITY);
+    changedCapacity.put(Resource.DISK, TestConstants.LARGE_BROKER_CAPACITY * 2);
+    Map<Node, BrokerCapacityInfo> changedCapacityByBroker = Map.of(NODE, new BrokerCapacityInfo(changedCapacity));
+    assertNull(clusterModelCache.clusterModel(generation, -1L, WINDOW_MS, REQUIREMENTS, false, changedCapacityByBroker));
+    assertEquals(0, clusterModelCache.size());
+  }
+
+  @Test
+  public void testDisabledCache() {
+    ClusterModelCache clusterModelCache = new ClusterModelCache(0, WINDOW_MS);
+    ClusterModel clusterModel = DeterministicCluster.unbalanced();
+    Map<Node, BrokerCapacityInfo> capacityByBroker = Map.of(NODE, new BrokerCapacityInfo(TestConstants.BROKER_CAPACITY));
+    clusterModelCache.put(clusterModel, -1L, WINDOW_MS, REQUIREMENTS, false, capacityByBroker);
+    assertEquals(0, clusterModelCache.size());
+    assertNull(clusterModelCache.clusterModel(clusterModel.generation(), -1L, WINDOW_MS, REQUIREMENTS, false, capacityByBroker));
+  }
+}
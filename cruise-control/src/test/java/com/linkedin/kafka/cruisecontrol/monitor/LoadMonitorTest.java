@@ -17,6 +17,7 @@ import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.ExecutorConfig;
 import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
 import com.linkedin.kafka.cruisecontrol.exception.BrokerCapacityResolutionException;
+import com.linkedin.kafka.cruisecontrol.model.Broker;
 import com.linkedin.kafka.cruisecontrol.model.ClusterModel;
 import com.linkedin.kafka.cruisecontrol.model.ModelParameters;
 import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
@@ -61,7 +62,9 @@ import static org.easymock.EasyMock.*;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 /**
@@ -309,6 +312,63 @@ public class LoadMonitorTest {
     assertEquals(13, clusterModel.partition(T0P0).leader().load().expectedUtilizationFor(Resource.DISK), 0.0);
   }
 
+  // Test serving cluster models of the same model generation from the cluster model cache.
+  @Test
+  public void testCachedClusterModel() throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
+    Properties props = new Properties();
+    props.setProperty(MonitorConfig.NUM_CACHED_CLUSTER_MODELS_CONFIG, "1");
+    TestContext context = prepareContext(NUM_WINDOWS, false, props);
+    LoadMonitor loadMonitor = context.loadmonitor();
+    KafkaPartitionMetricSampleAggregator aggregator = context.aggregator();
+
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T0P0, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T0P1, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T1P0, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T1P1, 0, WINDOW_MS, METRIC_DEF);
+
+    ModelCompletenessRequirements requirements = new ModelCompletenessRequirements(2, 1.0, false);
+    ClusterModel clusterModel = loadMonitor.clusterModel(-1, Long.MAX_VALUE, requirements, true, new OperationProgress());
+    // Modifying a cluster model must not affect the cluster models served from the cache.
+    clusterModel.setBrokerState(0, Broker.State.DEAD);
+
+    ClusterModel cachedClusterModel = loadMonitor.clusterModel(-1, Long.MAX_VALUE, requirements, true, new OperationProgress());
+    assertNotSame(clusterModel, cachedClusterModel);
+    assertEquals(clusterModel.generation(), cachedClusterModel.generation());
+    assertTrue(cachedClusterModel.broker(0).isAlive());
+    assertEquals(6.5, cachedClusterModel.partition(T0P0).leader().load().expectedUtilizationFor(Resource.CPU), 0.0);
+    assertEquals(13, cachedClusterModel.partition(T0P0).leader().load().expectedUtilizationFor(Resource.NW_IN), 0.0);
+
+    // Adding samples to a stable window bumps up the load generation, which invalidates the cached cluster model.
+    CruiseControlUnitTestUtils.populateSampleAggregator(1, 4, aggregator, PE_T0P0, 1, WINDOW_MS, METRIC_DEF);
+    ClusterModel regeneratedClusterModel = loadMonitor.clusterModel(-1, Long.MAX_VALUE, requirements, true, new OperationProgress());
+    assertTrue(regeneratedClusterModel.generation().loadGeneration() > clusterModel.generation().loadGeneration());
+    assertTrue(regeneratedClusterModel.broker(0).isAlive());
+  }
+
+  // Test serving read-only cluster models from the cluster model cache without copying them.
+  @Test
+  public void testReadOnlyCachedClusterModel() throws NotEnoughValidWindowsException, TimeoutException, BrokerCapacityResolutionException {
+    Properties props = new Properties();
+    props.setProperty(MonitorConfig.NUM_CACHED_CLUSTER_MODELS_CONFIG, "1");
+    TestContext context = prepareContext(NUM_WINDOWS, false, props);
+    LoadMonitor loadMonitor = context.loadmonitor();
+    KafkaPartitionMetricSampleAggregator aggregator = context.aggregator();
+
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T0P0, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T0P1, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T1P0, 0, WINDOW_MS, METRIC_DEF);
+    CruiseControlUnitTestUtils.populateSampleAggregator(3, 4, aggregator, PE_T1P1, 0, WINDOW_MS, METRIC_DEF);
+
+    ModelCompletenessRequirements requirements = new ModelCompletenessRequirements(2, 1.0, false);
+    ClusterModel readOnlyClusterModel = loadMonitor.readOnlyClusterModel(Long.MAX_VALUE, requirements, true, new OperationProgress());
+    // Read-only callers share the cached cluster model, whereas the other callers get a copy of it.
+    assertSame(readOnlyClusterModel, loadMonitor.readOnlyClusterModel(Long.MAX_VALUE, requirements, true, new OperationProgress()));
+    ClusterModel clusterModel = loadMonitor.clusterModel(Long.MAX_VALUE, requirements, true, new OperationProgress());
+    assertNotSame(readOnlyClusterModel, clusterModel);
+    assertEquals(readOnlyClusterModel.generation(), clusterModel.generation());
+    assertEquals(6.5, readOnlyClusterModel.partition(T0P0).leader().load().expectedUtilizationFor(Resource.CPU), 0.0);
+  }
+
   // Not enough snapshot windows and some partitions are missing from all snapshot windows.
   @Test
   public void testClusterModelWithInvalidPartitionAndInsufficientSnapshotWindows()
@@ -513,6 +573,10 @@ public class LoadMonitorTest {
   }
 
   private TestContext prepareContext(int numWindowToPreserve, boolean isClusterJBOD) {
+    return prepareContext(numWindowToPreserve, isClusterJBOD, new Properties());
+  }
+
+  private TestContext prepareContext(int numWindowToPreserve, boolean isClusterJBOD, Properties overrideProps) {
     // Create mock metadata client.
     Metadata metadata = getMetadata(Arrays.asList(T0P0, T0P1, T1P0, T1P1));
     MetadataClient mockMetadataClient = EasyMock.mock(MetadataClient.class);
@@ -574,6 +638,7 @@ public class LoadMonitorTest {
           KafkaCruiseControlUnitTestUtils.class.getClassLoader().getResource("testCapacityConfigJBOD.json").getFile();
       props.setProperty(BrokerCapacityConfigFileResolver.CAPACITY_CONFIG_FILE, capacityConfigFileJBOD);
     }
+    props.putAll(overrideProps);
     KafkaCruiseControlConfig config = new KafkaCruiseControlConfig(props);
     _time = new MockTime(0, START_TIME_MS, TimeUnit.NANOSECONDS.convert(START_TIME_MS, TimeUnit.MILLISECONDS));
     LoadMonitor loadMonitor = new LoadMonitor(config, mockMetadataClient, mockAdminClient, _time, new MetricRegistry(), METRIC_DEF);
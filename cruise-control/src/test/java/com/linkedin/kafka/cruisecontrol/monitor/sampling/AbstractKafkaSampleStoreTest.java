@@ -5,10 +5,18 @@
 package com.linkedin.kafka.cruisecontrol.monitor.sampling;
 
 import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
+import com.linkedin.kafka.cruisecontrol.metricsreporter.exception.UnknownVersionException;
+import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.PartitionMetricSample;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.PartitionMetricSampleBatch;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.easymock.EasyMock;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -16,11 +24,14 @@ import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
+import org.slf4j.LoggerFactory;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -97,6 +108,38 @@ public class AbstractKafkaSampleStoreTest {
         EasyMock.verify(adminClient, kafkaSampleStore, nodesFuture);
     }
 
+    @Test
+    public void testStorePartitionMetricSampleBatches() throws UnknownVersionException {
+        Set<PartitionMetricSample> partitionMetricSamples = new HashSet<>();
+        Set<TopicPartition> topicPartitions = new HashSet<>();
+        for (int i = 0; i < 7; i++) {
+            // Five samples from broker 0 and two samples from broker 1.
+            PartitionMetricSample sample = new PartitionMetricSample(i < 5 ? 0 : 1, new TopicPartition("topic", i));
+            for (KafkaMetricDef metricDef : KafkaMetricDef.cachedCommonDefValues()) {
+                sample.record(KafkaMetricDef.commonMetricDefInfo(metricDef), i);
+            }
+            sample.close(1000L + i);
+            partitionMetricSamples.add(sample);
+            topicPartitions.add(sample.entity().tp());
+        }
+        MockProducer<byte[], byte[]> producer = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+
+        int numStoredSamples = AbstractKafkaSampleStore.storePartitionMetricSampleBatches(
+            new MetricSampler.Samples(partitionMetricSamples, Collections.emptySet()), producer, "topic", 2,
+            LoggerFactory.getLogger(AbstractKafkaSampleStoreTest.class)).get();
+
+        assertEquals(7, numStoredSamples);
+        // Broker 0 has batches of 2, 2 and 1 samples, broker 1 has a single batch of 2 samples.
+        assertEquals(4, producer.history().size());
+        Set<TopicPartition> storedTopicPartitions = new HashSet<>();
+        for (ProducerRecord<byte[], byte[]> record : producer.history()) {
+            for (PartitionMetricSample sample : PartitionMetricSampleBatch.fromBytes(record.value())) {
+                storedTopicPartitions.add(sample.entity().tp());
+            }
+        }
+        assertEquals(topicPartitions, storedTopicPartitions);
+    }
+
     private Map<String, Object> createFilledConfigMap() {
         Map<String, Object> config = new HashMap<>();
         config.put(MonitorConfig.FETCH_METRIC_SAMPLES_MAX_RETRY_COUNT_CONFIG, 2);
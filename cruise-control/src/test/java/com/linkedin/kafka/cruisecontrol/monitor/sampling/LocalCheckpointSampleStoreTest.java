@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.monitor.sampling;
+
+import com.linkedin.cruisecontrol.metricdef.MetricDef;
+import com.linkedin.cruisecontrol.metricdef.MetricInfo;
+import com.linkedin.cruisecontrol.monitor.sampling.MetricSample;
+import com.linkedin.cruisecontrol.monitor.sampling.aggregator.MetricSampleAggregator;
+import com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils;
+import com.linkedin.kafka.cruisecontrol.config.KafkaCruiseControlConfig;
+import com.linkedin.kafka.cruisecontrol.config.constants.MonitorConfig;
+import com.linkedin.kafka.cruisecontrol.metricsreporter.exception.UnknownVersionException;
+import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.aggregator.KafkaBrokerMetricSampleAggregator;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.aggregator.KafkaPartitionMetricSampleAggregator;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.BrokerMetricSample;
+import com.linkedin.kafka.cruisecontrol.monitor.sampling.holder.PartitionMetricSample;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.MockTime;
+import org.apache.kafka.common.utils.Utils;
+import org.easymock.EasyMock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.KafkaCruiseControlUnitTestUtils.waitUntilTrue;
+import static com.linkedin.kafka.cruisecontrol.monitor.MonitorUnitTestUtils.getMetadata;
+import static com.linkedin.kafka.cruisecontrol.monitor.sampling.SamplingUtils.SAMPLE_STORE_TIME_OBJECT_CONFIG;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit test for {@link LocalCheckpointSampleStore}.
+ */
+public class LocalCheckpointSampleStoreTest {
+  private static final long WINDOW_MS = 60000L;
+  private static final int NUM_WINDOWS = 5;
+  private static final int NUM_SAMPLES_PER_ENTITY = 3;
+  private static final List<TopicPartition> PARTITIONS = List.of(new TopicPartition("topic0", 0), new TopicPartition("topic1", 0));
+  private static final List<Integer> BROKERS = List.of(0, 1);
+  // The restored raw values of a metric may differ in the least significant bits.
+  private static final float DELTA = 1e-4f;
+  private static final long CHECKPOINT_INTERVAL_MS = 10000L;
+  private static final long CHECKPOINT_WAIT_MS = 10000L;
+  private static final long CHECKPOINT_PAUSE_MS = 10L;
+  private Path _checkpointDir;
+  private KafkaCruiseControlConfig _config;
+
+  @Before
+  public void setUp() throws IOException {
+    _checkpointDir = Files.createTempDirectory("local-checkpoint-sample-store");
+    Properties props = KafkaCruiseControlUnitTestUtils.getKafkaCruiseControlProperties();
+    props.setProperty(LocalCheckpointSampleStore.CHECKPOINT_DIR_CONFIG, _checkpointDir.toString());
+    props.setProperty(LocalCheckpointSampleStore.CHECKPOINT_INTERVAL_MS_CONFIG, "0");
+    props.setProperty(LocalCheckpointSampleStore.DELEGATE_SAMPLE_STORE_CLASS_CONFIG, NoopSampleStore.class.getName());
+    props.setProperty(MonitorConfig.PARTITION_METRICS_WINDOW_MS_CONFIG, Long.toString(WINDOW_MS));
+    props.setProperty(MonitorConfig.NUM_PARTITION_METRICS_WINDOWS_CONFIG, Integer.toString(NUM_WINDOWS));
+    props.setProperty(MonitorConfig.BROKER_METRICS_WINDOW_MS_CONFIG, Long.toString(WINDOW_MS));
+    props.setProperty(MonitorConfig.NUM_BROKER_METRICS_WINDOWS_CONFIG, Integer.toString(NUM_WINDOWS));
+    _config = new KafkaCruiseControlConfig(props);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Utils.delete(_checkpointDir.toFile());
+  }
+
+  @Test
+  public void testRestoreFromCheckpoint() throws UnknownVersionException {
+    SampleStore.SampleLoader storedSampleLoader = sampleLoader();
+    storeSamples(storedSampleLoader);
+
+    SampleStore.SampleLoader restoredSampleLoader = sampleLoader();
+    LocalCheckpointSampleStore sampleStore = sampleStore();
+    sampleStore.loadSamples(restoredSampleLoader);
+    sampleStore.close();
+
+    assertEquals(1.0, sampleStore.sampleLoadingProgress(), 0.0);
+    assertEquals(PARTITIONS.size() * NUM_SAMPLES_PER_ENTITY, restoredSampleLoader.partitionSampleCount());
+    assertEquals(BROKERS.size() * NUM_SAMPLES_PER_ENTITY, restoredSampleLoader.brokerSampleCount());
+    assertRawValuesEqual(storedSampleLoader.partitionMetricSampleAggregator(), restoredSampleLoader.partitionMetricSampleAggregator());
+    assertRawValuesEqual(storedSampleLoader.brokerMetricSampleAggregator(), restoredSampleLoader.brokerMetricSampleAggregator());
+  }
+
+  @Test
+  public void testLoadFromDelegateWithoutCheckpoint() {
+    SampleStore.SampleLoader sampleLoader = sampleLoader();
+    LocalCheckpointSampleStore sampleStore = sampleStore();
+    sampleStore.loadSamples(sampleLoader);
+
+    // The progress of the delegate NoopSampleStore.
+    assertEquals(0.0, sampleStore.sampleLoadingProgress(), 0.0);
+    assertEquals(0, sampleLoader.partitionSampleCount());
+    assertTrue(Files.notExists(_checkpointDir.resolve(LocalCheckpointSampleStore.CHECKPOINT_FILE_NAME)));
+  }
+
+  @Test
+  public void testLoadFromDelegateWithCorruptCheckpoint() throws UnknownVersionException, IOException {
+    storeSamples(sampleLoader());
+    Path checkpointFile = _checkpointDir.resolve(LocalCheckpointSampleStore.CHECKPOINT_FILE_NAME);
+    byte[] bytes = Files.readAllBytes(checkpointFile);
+    bytes[bytes.length / 2] ^= 1;
+    Files.write(checkpointFile, bytes);
+
+    SampleStore.SampleLoader sampleLoader = sampleLoader();
+    LocalCheckpointSampleStore sampleStore = sampleStore();
+    sampleStore.loadSamples(sampleLoader);
+
+    assertEquals(0.0, sampleStore.sampleLoadingProgress(), 0.0);
+    assertEquals(0, sampleLoader.partitionSampleCount());
+    assertEquals(0, sampleLoader.brokerSampleCount());
+  }
+
+  @Test
+  public void testNoCheckpointBeforeSamplesAreLoaded() throws UnknownVersionException {
+    LocalCheckpointSampleStore sampleStore = sampleStore();
+    SampleStore.SampleLoader sampleLoader = sampleLoader();
+    sampleStore.storeSamples(samples(sampleLoader, 0));
+    sampleStore.close();
+
+    assertTrue(Files.notExists(_checkpointDir.resolve(LocalCheckpointSampleStore.CHECKPOINT_FILE_NAME)));
+  }
+
+  @Test
+  public void testCheckpointFailureIsNotFatal() throws UnknownVersionException, IOException {
+    KafkaPartitionMetricSampleAggregator partitionMetricSampleAggregator = EasyMock.mock(KafkaPartitionMetricSampleAggregator.class);
+    EasyMock.expect(partitionMetricSampleAggregator.allWindows()).andThrow(new IllegalStateException("Checkpoint failure")).anyTimes();
+    EasyMock.replay(partitionMetricSampleAggregator);
+    SampleStore.SampleLoader sampleLoader = new SampleStore.SampleLoader(partitionMetricSampleAggregator,
+                                                                         new KafkaBrokerMetricSampleAggregator(_config));
+    LocalCheckpointSampleStore sampleStore = sampleStore();
+    sampleStore.loadSamples(sampleLoader);
+
+    // Neither a runtime exception nor an I/O exception fails storing the samples or closing the store.
+    MetricSampler.Samples samples = new MetricSampler.Samples(new HashSet<>(), new HashSet<>());
+    sampleStore.storeSamples(samples);
+    Utils.delete(_checkpointDir.toFile());
+    sampleStore.storeSamples(samples);
+    sampleStore.close();
+
+    assertFalse(Files.exists(_checkpointDir.resolve(LocalCheckpointSampleStore.CHECKPOINT_FILE_NAME)));
+    Files.createDirectories(_checkpointDir);
+  }
+
+  @Test
+  public void testPeriodicCheckpointInBackground() throws UnknownVersionException {
+    MockTime time = new MockTime();
+    Map<String, Object> config = _config.mergedConfigValues();
+    config.put(LocalCheckpointSampleStore.CHECKPOINT_INTERVAL_MS_CONFIG, Long.toString(CHECKPOINT_INTERVAL_MS));
+    config.put(SAMPLE_STORE_TIME_OBJECT_CONFIG, time);
+    LocalCheckpointSampleStore sampleStore = new LocalCheckpointSampleStore();
+    sampleStore.configure(config);
+    SampleStore.SampleLoader sampleLoader = sampleLoader();
+    sampleStore.loadSamples(sampleLoader);
+    Path checkpointFile = _checkpointDir.resolve(LocalCheckpointSampleStore.CHECKPOINT_FILE_NAME);
+
+    // No checkpoint is written before the checkpoint interval elapses.
+    sampleStore.storeSamples(samples(sampleLoader, 0));
+    assertTrue(Files.notExists(checkpointFile));
+
+    // Once the checkpoint interval elapses, the checkpoint is written by the checkpoint thread.
+    time.sleep(CHECKPOINT_INTERVAL_MS);
+    sampleStore.storeSamples(samples(sampleLoader, 1));
+    waitUntilTrue(() -> Files.exists(checkpointFile), "Failed to write the periodic checkpoint.", CHECKPOINT_WAIT_MS, CHECKPOINT_PAUSE_MS);
+    sampleStore.close();
+  }
+
+  /**
+   * Add the samples to the metric sample aggregators of the given sample loader as the sampling task does, while storing
+   * them to the sample store.
+   */
+  private void storeSamples(SampleStore.SampleLoader sampleLoader) throws UnknownVersionException {
+    LocalCheckpointSampleStore sampleStore = sampleStore();
+    sampleStore.loadSamples(sampleLoader);
+    for (int i = 0; i < NUM_SAMPLES_PER_ENTITY; i++) {
+      sampleStore.storeSamples(samples(sampleLoader, i));
+    }
+    sampleStore.close();
+  }
+
+  private MetricSampler.Samples samples(SampleStore.SampleLoader sampleLoader, int i) throws UnknownVersionException {
+    long sampleTimeMs = System.currentTimeMillis() / WINDOW_MS * WINDOW_MS;
+    Set<PartitionMetricSample> partitionMetricSamples = new HashSet<>();
+    for (TopicPartition tp : PARTITIONS) {
+      PartitionMetricSample sample = new PartitionMetricSample(0, tp);
+      record(sample, KafkaMetricDef.commonMetricDef(), i + tp.topic().length(), sampleTimeMs + i);
+      sampleLoader.partitionMetricSampleAggregator().addSample(sample, false);
+      partitionMetricSamples.add(sample);
+    }
+    Set<BrokerMetricSample> brokerMetricSamples = new HashSet<>();
+    for (int brokerId : BROKERS) {
+      BrokerMetricSample sample = new BrokerMetricSample("host" + brokerId, brokerId, BrokerMetricSample.LATEST_SUPPORTED_VERSION);
+      record(sample, KafkaMetricDef.brokerMetricDef(), (i + 1) * (brokerId + 2), sampleTimeMs + i);
+      sampleLoader.brokerMetricSampleAggregator().addSample(sample);
+      brokerMetricSamples.add(sample);
+    }
+    return new MetricSampler.Samples(partitionMetricSamples, brokerMetricSamples);
+  }
+
+  private SampleStore.SampleLoader sampleLoader() {
+    return new SampleStore.SampleLoader(new KafkaPartitionMetricSampleAggregator(_config, getMetadata(PARTITIONS)),
+                                        new KafkaBrokerMetricSampleAggregator(_config));
+  }
+
+  private LocalCheckpointSampleStore sampleStore() {
+    LocalCheckpointSampleStore sampleStore = new LocalCheckpointSampleStore();
+    sampleStore.configure(_config.mergedConfigValues());
+    return sampleStore;
+  }
+
+  private static void record(MetricSample<?, ?> sample, MetricDef metricDef, double value, long sampleTimeMs) {
+    for (MetricInfo info : metricDef.all()) {
+      sample.record(info, value + info.id());
+    }
+    sample.close(sampleTimeMs);
+  }
+
+  private static void assertRawValuesEqual(MetricSampleAggregator<?, ?> expected, MetricSampleAggregator<?, ?> actual) {
+    Map<List<Object>, float[]> expectedRawValues = rawValues(expected);
+    Map<List<Object>, float[]> actualRawValues = rawValues(actual);
+    assertEquals(expectedRawValues.keySet(), actualRawValues.keySet());
+    expectedRawValues.forEach((key, values) -> assertArrayEquals(key.toString(), values, actualRawValues.get(key), DELTA));
+  }
+
+  /**
+   * @return The raw values of the given metric sample aggregator by the window index, entity, and number of samples.
+   */
+  private static Map<List<Object>, float[]> rawValues(MetricSampleAggregator<?, ?> aggregator) {
+    Map<List<Object>, float[]> rawValues = new HashMap<>();
+    aggregator.forEachRawValues((windowIndex, entity, numSamples, values) -> rawValues.put(List.of(windowIndex, entity, numSamples),
+                                                                                           values.clone()));
+    assertFalse(rawValues.isEmpty());
+    return rawValues;
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 LinkedIn Corp. Licensed under the BSD 2-Clause License (the "License"). See License in the project root for license information.
+ */
+
+package com.linkedin.kafka.cruisecontrol.monitor.sampling.holder;
+
+import com.linkedin.cruisecontrol.metricdef.MetricDef;
+import com.linkedin.cruisecontrol.metricdef.MetricInfo;
+import com.linkedin.kafka.cruisecontrol.metricsreporter.exception.UnknownVersionException;
+import com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.Test;
+
+import static com.linkedin.kafka.cruisecontrol.monitor.metricdefinition.KafkaMetricDef.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * The unit test for {@link PartitionMetricSampleBatch}
+ */
+public class PartitionMetricSampleBatchTest {
+  private static final List<KafkaMetricDef> METRICS = List.of(CPU_USAGE, DISK_USAGE, LEADER_BYTES_IN, LEADER_BYTES_OUT, PRODUCE_RATE,
+                                                              FETCH_RATE, MESSAGE_IN_RATE, REPLICATION_BYTES_IN_RATE,
+                                                              REPLICATION_BYTES_OUT_RATE);
+
+  @Test
+  public void testSerde() throws UnknownVersionException {
+    List<PartitionMetricSample> samples = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      samples.add(sample(1, new TopicPartition("topic" + (i % 3), i), 1000L + i * 7, i));
+    }
+    byte[] bytes = PartitionMetricSampleBatch.toBytes(1, samples);
+    assertTrue(PartitionMetricSampleBatch.isBatch(bytes));
+    List<PartitionMetricSample> deserializedSamples = PartitionMetricSampleBatch.fromBytes(bytes);
+
+    assertEquals(samples.size(), deserializedSamples.size());
+    for (int i = 0; i < samples.size(); i++) {
+      PartitionMetricSample sample = samples.get(i);
+      PartitionMetricSample deserializedSample = deserializedSamples.get(i);
+      assertEquals(sample.brokerId(), deserializedSample.brokerId());
+      assertEquals(sample.entity().tp(), deserializedSample.entity().tp());
+      assertEquals(sample.sampleTime(), deserializedSample.sampleTime());
+      assertEquals(sample.allMetricValues(), deserializedSample.allMetricValues());
+    }
+  }
+
+  @Test
+  public void testSerdeEmptyBatch() throws UnknownVersionException {
+    byte[] bytes = PartitionMetricSampleBatch.toBytes(1, List.of());
+    assertTrue(PartitionMetricSampleBatch.fromBytes(bytes).isEmpty());
+  }
+
+  @Test
+  public void testSingleSampleIsNotBatch() {
+    byte[] bytes = sample(1, new TopicPartition("topic", 0), 1000L, 0).toBytes();
+    assertFalse(PartitionMetricSampleBatch.isBatch(bytes));
+  }
+
+  @Test(expected = UnknownVersionException.class)
+  public void testBatchIsUnknownVersionOfSingleSample() throws UnknownVersionException {
+    byte[] bytes = PartitionMetricSampleBatch.toBytes(1, List.of(sample(1, new TopicPartition("topic", 0), 1000L, 0)));
+    PartitionMetricSample.fromBytes(bytes);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSampleOfOtherBroker() {
+    PartitionMetricSampleBatch.toBytes(1, List.of(sample(2, new TopicPartition("topic", 0), 1000L, 0)));
+  }
+
+  private static PartitionMetricSample sample(int brokerId, TopicPartition tp, long sampleTime, double value) {
+    MetricDef metricDef = KafkaMetricDef.commonMetricDef();
+    PartitionMetricSample sample = new PartitionMetricSample(brokerId, tp);
+    for (int i = 0; i < METRICS.size(); i++) {
+      MetricInfo metricInfo = metricDef.metricInfo(METRICS.get(i).name());
+      sample.record(metricInfo, value + i * 0.5);
+    }
+    sample.close(sampleTime);
+    return sample;
+  }
+}